@@ -22,14 +22,20 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.health.actuate.endpoint.StatusAggregator;
@@ -37,10 +43,17 @@ import org.springframework.boot.health.contributor.AbstractHealthIndicator;
 import org.springframework.boot.health.contributor.Health;
 import org.springframework.boot.health.contributor.Status;
 import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
  * Base class that abstracts the common health indicator details for the various Kafka binder flavors.
+ * <p>
+ * By default, the metadata of the topics in use is retrieved from the cluster on each
+ * health check. When a {@link #setMetadataRefreshInterval(Duration) metadata refresh
+ * interval} is set, health checks instead read a {@link KafkaTopicMetadataSnapshot}
+ * refreshed in the background, and report the binder as down when that snapshot is older
+ * than the {@link #setMetadataMaxStaleness(Duration) maximum staleness}.
  *
  * @author Soby Chacko
  * @since 4.1.0
@@ -61,8 +74,35 @@ public abstract class AbstractKafkaBinderHealthIndicator extends AbstractHealthI
 
 	private final ConsumerFactory<?, ?> consumerFactory;
 
+	@Nullable
+	private final Supplier<Admin> adminSupplier;
+
+	@Nullable
+	private Duration metadataRefreshInterval;
+
+	@Nullable
+	private Duration metadataMaxStaleness;
+
+	@Nullable
+	private volatile KafkaTopicMetadataSnapshot metadataSnapshot;
+
 	public AbstractKafkaBinderHealthIndicator(ConsumerFactory<?, ?> consumerFactory) {
+		this(consumerFactory, null);
+	}
+
+	/**
+	 * Create an instance which can also read the metadata of the topics in use from a
+	 * snapshot, when a {@link #setMetadataRefreshInterval(Duration) metadata refresh
+	 * interval} is set.
+	 * @param consumerFactory the factory of the consumer querying the metadata on each health check
+	 * @param adminSupplier creates the {@link Admin} the snapshot is refreshed with (closed
+	 * with this health indicator), or null if snapshots are not supported
+	 * @since 5.0.1
+	 */
+	public AbstractKafkaBinderHealthIndicator(ConsumerFactory<?, ?> consumerFactory,
+			@Nullable Supplier<Admin> adminSupplier) {
 		this.consumerFactory = consumerFactory;
+		this.adminSupplier = adminSupplier;
 		this.executor = createHealthBinderExecutorService();
 		Assert.notNull(this.executor, "The health indicator executor service must not be null");
 	}
@@ -85,11 +125,17 @@ public abstract class AbstractKafkaBinderHealthIndicator extends AbstractHealthI
 		if (this.metadataConsumer != null) {
 			this.metadataConsumer.close();
 		}
+		KafkaTopicMetadataSnapshot snapshot = this.metadataSnapshot;
+		if (snapshot != null) {
+			snapshot.close();
+		}
 	}
 
 	@Override
 	protected void doHealthCheck(Health.Builder builder) throws Exception {
-		Health topicsHealth = safelyBuildTopicsHealth();
+		Health topicsHealth = this.metadataRefreshInterval != null
+				? buildTopicsHealth(getMetadataSnapshot())
+				: safelyBuildTopicsHealth();
 		Health listenerContainersHealth = buildBinderSpecificHealthDetails();
 		merge(topicsHealth, listenerContainersHealth, builder);
 	}
@@ -183,6 +229,97 @@ public abstract class AbstractKafkaBinderHealthIndicator extends AbstractHealthI
 		}
 	}
 
+	private KafkaTopicMetadataSnapshot getMetadataSnapshot() throws InterruptedException {
+		KafkaTopicMetadataSnapshot snapshot = this.metadataSnapshot;
+		if (snapshot == null) {
+			synchronized (this) {
+				snapshot = this.metadataSnapshot;
+				if (snapshot == null) {
+					snapshot = new KafkaTopicMetadataSnapshot(this.adminSupplier, this::getTopicsInUse,
+							this.metadataRefreshInterval, Duration.ofSeconds(this.timeout));
+					snapshot.start();
+					try {
+						// only the first health check waits for the metadata to be retrieved
+						snapshot.awaitInitialRefresh(Duration.ofSeconds(this.timeout));
+					}
+					finally {
+						this.metadataSnapshot = snapshot;
+					}
+				}
+			}
+		}
+		return snapshot;
+	}
+
+	private Health buildTopicsHealth(KafkaTopicMetadataSnapshot snapshot) {
+		KafkaTopicMetadataSnapshot.Metadata metadata = snapshot.getMetadata();
+		if (metadata == null) {
+			Exception failure = snapshot.getLastFailure();
+			Health.Builder builder = failure != null ? Health.down(failure) : Health.down();
+			return builder.withDetail("No topic information available", "Kafka broker is not reachable").build();
+		}
+		Duration maxStaleness = this.metadataMaxStaleness != null
+				? this.metadataMaxStaleness
+				: this.metadataRefreshInterval.multipliedBy(3);
+		if (metadata.age().compareTo(maxStaleness) > 0) {
+			Exception failure = snapshot.getLastFailure();
+			Health.Builder builder = failure != null ? Health.down(failure) : Health.down();
+			return builder.withDetail("Topic metadata is stale", "Last refreshed at " + metadata.refreshedAt())
+				.build();
+		}
+		Map<String, TopicInformation> topicsInUse = getTopicsInUse();
+		if (topicsInUse.isEmpty()) {
+			return Health.unknown().withDetail("No bindings found",
+				"Kafka binder may not be bound to destinations on the broker").build();
+		}
+		Set<String> downMessages = new TreeSet<>();
+		Set<String> underReplicated = new TreeSet<>();
+		Set<String> checkedTopics = new HashSet<>();
+		for (Map.Entry<String, TopicInformation> topicInUse : topicsInUse.entrySet()) {
+			String topic = topicInUse.getKey();
+			TopicInformation topicInformation = topicInUse.getValue();
+			if (topicInformation.isTopicPattern()) {
+				// the cluster could be reached on the last refresh, which is all that can be verified
+				continue;
+			}
+			String missing = metadata.missingTopics().get(topic);
+			if (missing != null) {
+				downMessages.add(topic + ": " + missing);
+				continue;
+			}
+			TopicDescription description = metadata.topics().get(topic);
+			if (description == null) {
+				// bound after the last refresh; checked on the next one
+				continue;
+			}
+			Set<Integer> partitionsInUse = new HashSet<>();
+			if (topicInformation.partitionInfos() != null) {
+				for (PartitionInfo partitionInfo : topicInformation.partitionInfos()) {
+					partitionsInUse.add(partitionInfo.partition());
+				}
+			}
+			for (TopicPartitionInfo partition : description.partitions()) {
+				String name = new TopicPartition(topic, partition.partition()).toString();
+				boolean hasLeader = partition.leader() != null && !partition.leader().isEmpty();
+				if (!hasLeader && (this.considerDownWhenAnyPartitionHasNoLeader
+						|| partitionsInUse.contains(partition.partition()))) {
+					downMessages.add(name);
+				}
+				else if (partition.isr().size() < partition.replicas().size()) {
+					underReplicated.add(name);
+				}
+			}
+			checkedTopics.add(topic);
+		}
+		Health.Builder builder = downMessages.isEmpty()
+				? Health.up().withDetail("topicsInUse", checkedTopics)
+				: Health.down().withDetail("Following partitions in use have no leaders: ", downMessages.toString());
+		if (!underReplicated.isEmpty()) {
+			builder.withDetail("underReplicatedPartitions", underReplicated);
+		}
+		return builder.build();
+	}
+
 	private void merge(Health topicsHealth, Health listenerContainersHealth, Health.Builder builder) {
 		Status aggregatedStatus = StatusAggregator.getDefault()
 			.getAggregateStatus(topicsHealth.getStatus(), listenerContainersHealth.getStatus());
@@ -204,4 +341,32 @@ public abstract class AbstractKafkaBinderHealthIndicator extends AbstractHealthI
 	public void setConsiderDownWhenAnyPartitionHasNoLeader(boolean considerDownWhenAnyPartitionHasNoLeader) {
 		this.considerDownWhenAnyPartitionHasNoLeader = considerDownWhenAnyPartitionHasNoLeader;
 	}
+
+	/**
+	 * Set the interval at which the metadata of the topics in use is refreshed in the
+	 * background, health checks reading the last refreshed metadata rather than querying
+	 * the cluster; {@code null} (default) to query the cluster on each health check.
+	 * Requires this health indicator to be created with an {@link Admin} supplier.
+	 * @param metadataRefreshInterval the refresh interval
+	 * @throws IllegalStateException if set while this health indicator has no
+	 * {@link Admin} supplier
+	 * @since 5.0.1
+	 */
+	public void setMetadataRefreshInterval(@Nullable Duration metadataRefreshInterval) {
+		Assert.state(metadataRefreshInterval == null || this.adminSupplier != null,
+				() -> getClass().getSimpleName() + " does not support reading the topic metadata from a snapshot,"
+						+ " since it was not created with an Admin supplier");
+		this.metadataRefreshInterval = metadataRefreshInterval;
+	}
+
+	/**
+	 * Set the age beyond which the metadata of the topics in use is considered stale,
+	 * reporting the binder as down, when a
+	 * {@link #setMetadataRefreshInterval(Duration) metadata refresh interval} is set.
+	 * @param metadataMaxStaleness the maximum staleness - default three times the refresh interval.
+	 * @since 5.0.1
+	 */
+	public void setMetadataMaxStaleness(@Nullable Duration metadataMaxStaleness) {
+		this.metadataMaxStaleness = metadataMaxStaleness;
+	}
 }
@@ -20,7 +20,9 @@ import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.springframework.cloud.stream.binder.BinderHeaders;
+import org.springframework.cloud.stream.converter.MessageConverterUtils;
 import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.kafka.support.KafkaIntegrationHeaders;
 import org.springframework.kafka.support.AbstractKafkaHeaderMapper;
 import org.springframework.kafka.support.JacksonMapperUtils;
 import org.springframework.lang.Nullable;
@@ -76,6 +78,8 @@ public class BinderHeaderMapper extends AbstractKafkaHeaderMapper {
 
 	private static final String NEVER_NATIVE_HEADERS_PRESENT = NEGATE + BinderHeaders.NATIVE_HEADERS_PRESENT;
 
+	private static final String NEVER_FUTURE_TOKEN = NEGATE + KafkaIntegrationHeaders.FUTURE_TOKEN;
+
 	private static final String JAVA_LANG_STRING = "java.lang.String";
 
 	private static final List<String> DEFAULT_TRUSTED_PACKAGES =
@@ -136,6 +140,7 @@ public class BinderHeaderMapper extends AbstractKafkaHeaderMapper {
 				NEVER_TIMESTAMP,
 				NEVER_DELIVERY_ATTEMPT,
 				NEVER_NATIVE_HEADERS_PRESENT,
+				NEVER_FUTURE_TOKEN,
 				"*");
 	}
 
@@ -406,6 +411,7 @@ public class BinderHeaderMapper extends AbstractKafkaHeaderMapper {
 	 */
 	public static String[] addNeverHeaderPatterns(List<String> patterns) {
 		List<String> patternsToUse = new LinkedList<>(patterns);
+		patternsToUse.add(0, NEVER_FUTURE_TOKEN);
 		patternsToUse.add(0, NEVER_NATIVE_HEADERS_PRESENT);
 		patternsToUse.add(0, NEVER_DELIVERY_ATTEMPT);
 		patternsToUse.add(0, NEVER_TIMESTAMP);
@@ -423,6 +429,7 @@ public class BinderHeaderMapper extends AbstractKafkaHeaderMapper {
 		headers.remove(MessageHeaders.TIMESTAMP);
 		headers.remove(IntegrationMessageHeaderAccessor.DELIVERY_ATTEMPT);
 		headers.remove(BinderHeaders.NATIVE_HEADERS_PRESENT);
+		headers.remove(KafkaIntegrationHeaders.FUTURE_TOKEN);
 	}
 
 	/**
@@ -441,7 +448,7 @@ public class BinderHeaderMapper extends AbstractKafkaHeaderMapper {
 		@Override
 		public MimeType convert(JsonNode root, DeserializationContext ctxt)  {
 			if (root instanceof StringNode	) {
-				return MimeType.valueOf(root.asText());
+				return MessageConverterUtils.parseMimeType(root.asText());
 			}
 			else {
 				JsonNode type = root.get("type");
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.common;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Snapshot of the metadata of the topics a binder uses, refreshed periodically in the
+ * background so that health probes can read it without querying the cluster.
+ * <p>
+ * Each refresh describes the topics in use at that time with a single batched
+ * {@link Admin#describeTopics(java.util.Collection)} call; topic patterns are not
+ * described, and when no topic other than a pattern is in use, the refresh only makes
+ * sure that the cluster can be reached. The cost of a refresh therefore depends on the
+ * number of topics the binder uses, not on the size of the cluster.
+ *
+ * @since 5.0.1
+ */
+public class KafkaTopicMetadataSnapshot implements AutoCloseable {
+
+	private static final Log LOG = LogFactory.getLog(KafkaTopicMetadataSnapshot.class);
+
+	private final Supplier<Admin> adminFactory;
+
+	private final Supplier<Map<String, TopicInformation>> topicsInUse;
+
+	private final Duration refreshInterval;
+
+	private final Duration timeout;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final AtomicBoolean started = new AtomicBoolean();
+
+	private final CountDownLatch initialRefresh = new CountDownLatch(1);
+
+	@Nullable
+	private volatile Admin admin;
+
+	@Nullable
+	private volatile Metadata metadata;
+
+	@Nullable
+	private volatile Exception lastFailure;
+
+	/**
+	 * Create an instance; the snapshot is only refreshed once {@link #start() started}.
+	 * @param adminFactory creates the {@link Admin} the topics are described with; the
+	 * admin is created on the first refresh and closed with this instance
+	 * @param topicsInUse the topics to describe, queried on each refresh
+	 * @param refreshInterval the time between the end of a refresh and the start of the next one
+	 * @param timeout the time to wait for the metadata of the topics on each refresh
+	 */
+	public KafkaTopicMetadataSnapshot(Supplier<Admin> adminFactory,
+			Supplier<Map<String, TopicInformation>> topicsInUse, Duration refreshInterval, Duration timeout) {
+
+		Assert.notNull(adminFactory, "'adminFactory' must not be null");
+		Assert.notNull(topicsInUse, "'topicsInUse' must not be null");
+		Assert.isTrue(refreshInterval != null && refreshInterval.toMillis() > 0,
+				"'refreshInterval' must be at least one millisecond");
+		Assert.isTrue(timeout != null && !timeout.isNegative(), "'timeout' must not be negative");
+		this.adminFactory = adminFactory;
+		this.topicsInUse = topicsInUse;
+		this.refreshInterval = refreshInterval;
+		this.timeout = timeout;
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("kafka-binder-health-metadata-");
+		threadFactory.setDaemon(true);
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+	}
+
+	/**
+	 * Refresh the snapshot right away and then periodically; subsequent calls have no effect.
+	 */
+	public void start() {
+		if (this.started.compareAndSet(false, true)) {
+			this.scheduler.scheduleWithFixedDelay(this::refresh, 0, this.refreshInterval.toMillis(),
+					TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Wait for the first refresh to complete, whether it succeeded or not.
+	 * @param timeout the maximum time to wait
+	 * @return whether the first refresh completed in time
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public boolean awaitInitialRefresh(Duration timeout) throws InterruptedException {
+		return this.initialRefresh.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * @return the metadata of the last successful refresh, or {@code null} if no refresh
+	 * succeeded yet
+	 */
+	@Nullable
+	public Metadata getMetadata() {
+		return this.metadata;
+	}
+
+	/**
+	 * @return the reason the last refresh failed, or {@code null} if it succeeded
+	 */
+	@Nullable
+	public Exception getLastFailure() {
+		return this.lastFailure;
+	}
+
+	void refresh() {
+		try {
+			Admin admin = this.admin;
+			if (admin == null) {
+				admin = this.adminFactory.get();
+				this.admin = admin;
+			}
+			Set<String> topics = new TreeSet<>();
+			this.topicsInUse.get().forEach((topic, information) -> {
+				if (!information.isTopicPattern()) {
+					topics.add(topic);
+				}
+			});
+			long deadline = System.nanoTime() + this.timeout.toNanos();
+			Map<String, TopicDescription> descriptions = new HashMap<>();
+			Map<String, String> missingTopics = new HashMap<>();
+			if (topics.isEmpty()) {
+				// nothing to describe, only make sure that the cluster can be reached
+				admin.describeCluster().nodes().get(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+			}
+			else {
+				Map<String, KafkaFuture<TopicDescription>> futures = admin.describeTopics(topics).topicNameValues();
+				for (Map.Entry<String, KafkaFuture<TopicDescription>> future : futures.entrySet()) {
+					try {
+						descriptions.put(future.getKey(), future.getValue()
+							.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+					}
+					catch (ExecutionException ex) {
+						if (!(ex.getCause() instanceof UnknownTopicOrPartitionException)) {
+							throw ex;
+						}
+						missingTopics.put(future.getKey(), ex.getCause().getMessage());
+					}
+				}
+			}
+			this.metadata = new Metadata(Instant.now(), Map.copyOf(descriptions), Map.copyOf(missingTopics));
+			this.lastFailure = null;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		catch (Exception ex) {
+			this.lastFailure = ex;
+			LOG.debug("Failed to refresh the metadata of the topics in use", ex);
+		}
+		finally {
+			this.initialRefresh.countDown();
+		}
+	}
+
+	@Override
+	public void close() {
+		this.scheduler.shutdownNow();
+		try {
+			this.scheduler.awaitTermination(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		Admin admin = this.admin;
+		if (admin != null) {
+			admin.close(Duration.ZERO);
+			this.admin = null;
+		}
+	}
+
+	/**
+	 * The metadata of the topics in use as of a refresh.
+	 *
+	 * @param refreshedAt when the metadata was retrieved
+	 * @param topics the description of the topics in use, by name
+	 * @param missingTopics the reason the topics in use which do not exist on the cluster
+	 * could not be described, by name
+	 */
+	public record Metadata(Instant refreshedAt, Map<String, TopicDescription> topics,
+			Map<String, String> missingTopics) {
+
+		/**
+		 * @return the time elapsed since the metadata was retrieved
+		 */
+		public Duration age() {
+			return Duration.between(this.refreshedAt, Instant.now());
+		}
+
+	}
+
+}
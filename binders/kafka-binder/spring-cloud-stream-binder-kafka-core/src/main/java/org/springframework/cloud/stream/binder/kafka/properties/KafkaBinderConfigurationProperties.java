@@ -121,6 +121,19 @@ public class KafkaBinderConfigurationProperties {
 	 */
 	private int healthTimeout = 60;
 
+	/**
+	 * Interval at which the metadata of the topics in use is refreshed in the background for
+	 * the health indicator, which then reads the last refreshed metadata instead of querying
+	 * the broker on each health check; default is null, which queries the broker on each check.
+	 */
+	private Duration healthMetadataRefreshInterval;
+
+	/**
+	 * Age beyond which the metadata refreshed for the health indicator is considered stale,
+	 * reporting the binder as down; default is three times the health metadata refresh interval.
+	 */
+	private Duration healthMetadataMaxStaleness;
+
 	private JaasLoginModuleConfiguration jaas;
 
 	/**
@@ -150,6 +163,12 @@ public class KafkaBinderConfigurationProperties {
 	 */
 	private boolean enableObservation;
 
+	/**
+	 * Share one producer between the non-transactional output bindings whose effective
+	 * producer configurations are the same, instead of creating a producer per binding.
+	 */
+	private boolean shareProducers;
+
 
 	/**
 	 * Schema registry ssl configuration properties.
@@ -343,6 +362,22 @@ public class KafkaBinderConfigurationProperties {
 		this.healthTimeout = healthTimeout;
 	}
 
+	public Duration getHealthMetadataRefreshInterval() {
+		return this.healthMetadataRefreshInterval;
+	}
+
+	public void setHealthMetadataRefreshInterval(Duration healthMetadataRefreshInterval) {
+		this.healthMetadataRefreshInterval = healthMetadataRefreshInterval;
+	}
+
+	public Duration getHealthMetadataMaxStaleness() {
+		return this.healthMetadataMaxStaleness;
+	}
+
+	public void setHealthMetadataMaxStaleness(Duration healthMetadataMaxStaleness) {
+		this.healthMetadataMaxStaleness = healthMetadataMaxStaleness;
+	}
+
 	public boolean isAutoCreateTopics() {
 		return this.autoCreateTopics;
 	}
@@ -526,6 +561,14 @@ public class KafkaBinderConfigurationProperties {
 		this.enableObservation = enableObservation;
 	}
 
+	public boolean isShareProducers() {
+		return this.shareProducers;
+	}
+
+	public void setShareProducers(boolean shareProducers) {
+		this.shareProducers = shareProducers;
+	}
+
 	public String getHealthIndicatorConsumerGroup() {
 		return healthIndicatorConsumerGroup;
 	}
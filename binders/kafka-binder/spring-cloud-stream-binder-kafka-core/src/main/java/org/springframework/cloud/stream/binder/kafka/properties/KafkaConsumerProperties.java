@@ -138,6 +138,14 @@ public class KafkaConsumerProperties {
 	 */
 	private KafkaProducerProperties dlqProducerProperties = new KafkaProducerProperties();
 
+	/**
+	 * Maximum number of records being sent to the DLQ without waiting for their acknowledgement.
+	 * When greater than zero, records are sent to the DLQ asynchronously and the offsets are
+	 * only committed once the DLQ has acknowledged the records sent so far.
+	 * By default, the consumer thread waits for the acknowledgement of each record sent to the DLQ.
+	 */
+	private int dlqMaxInFlight;
+
 	/**
 	 * List of trusted packages to provide the header mapper.
 	 */
@@ -364,6 +372,21 @@ public class KafkaConsumerProperties {
 		this.dlqProducerProperties = dlqProducerProperties;
 	}
 
+	/**
+	 * @return maximum number of records being sent to the DLQ without waiting for their acknowledgement
+	 *
+	 * When greater than zero, records are sent to the DLQ asynchronously and the offsets are
+	 * only committed once the DLQ has acknowledged the records sent so far.
+	 * @since 5.0.1
+	 */
+	public int getDlqMaxInFlight() {
+		return this.dlqMaxInFlight;
+	}
+
+	public void setDlqMaxInFlight(int dlqMaxInFlight) {
+		this.dlqMaxInFlight = dlqMaxInFlight;
+	}
+
 	/**
 	 * @return standard headers
 	 *
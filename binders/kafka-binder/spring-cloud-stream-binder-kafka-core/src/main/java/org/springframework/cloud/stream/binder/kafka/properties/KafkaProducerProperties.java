@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.stream.binder.kafka.properties;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -109,6 +110,12 @@ public class KafkaProducerProperties {
 	 */
 	private int closeTimeout;
 
+	/**
+	 * Interval at which the partition count of the topic is checked in the background,
+	 * when dynamic partition updates are enabled.
+	 */
+	private Duration partitionCountRefreshInterval = Duration.ofSeconds(10);
+
 	/**
 	 * Set to true to disable transactions.
 	 */
@@ -296,6 +303,21 @@ public class KafkaProducerProperties {
 		this.closeTimeout = closeTimeout;
 	}
 
+	/**
+	 * @return interval at which the partition count of the topic is checked
+	 *
+	 * Interval at which the partition count of the topic is checked in the background,
+	 * when dynamic partition updates are enabled.
+	 * @since 5.0.1
+	 */
+	public Duration getPartitionCountRefreshInterval() {
+		return this.partitionCountRefreshInterval;
+	}
+
+	public void setPartitionCountRefreshInterval(Duration partitionCountRefreshInterval) {
+		this.partitionCountRefreshInterval = partitionCountRefreshInterval;
+	}
+
 	public boolean isAllowNonTransactional() {
 		return this.allowNonTransactional;
 	}
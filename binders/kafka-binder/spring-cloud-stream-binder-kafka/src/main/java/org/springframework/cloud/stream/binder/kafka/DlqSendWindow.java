@@ -0,0 +1,320 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.integration.support.management.metrics.MeterFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.support.management.metrics.TimerFacade;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded window of the records of a consumer binding being sent to its DLQ, letting the
+ * consumer threads go on with the next records rather than waiting for each send to be
+ * acknowledged.
+ * <p>
+ * The consumers of the binding are {@link #gate(Consumer) gated} so that committing
+ * offsets first waits for the sends in flight; offsets are thus only committed once the
+ * records sent to the DLQ up to them are acknowledged, preserving at-least-once delivery.
+ * When one of these sends fails, or is not acknowledged in time, the commit fails instead
+ * and the consumer is rewound to the committed offsets, so that the records are
+ * redelivered.
+ * <p>
+ * The sends are tracked per sending thread: the records are sent to the DLQ by the
+ * consumer thread of the listener container, which also commits the offsets, so that a
+ * commit only waits for the sends of its own consumer, not for those of the other
+ * consumers (concurrency) of the binding.
+ * <p>
+ * The window is {@link #close() closed}, removing its meters, when the consumer binding
+ * is unbound.
+ *
+ * @since 5.0.1
+ */
+final class DlqSendWindow {
+
+	/**
+	 * Name of the gauge of the number of records sent to the DLQ and not yet acknowledged.
+	 */
+	static final String IN_FLIGHT_METRIC_NAME = "spring.cloud.stream.binder.kafka.dlq.in.flight";
+
+	/**
+	 * Name of the timer of the time to send records to the DLQ, until their acknowledgement.
+	 */
+	static final String SEND_METRIC_NAME = "spring.cloud.stream.binder.kafka.dlq.send";
+
+	private static final Set<String> COMMIT_METHODS = Set.of("commitSync", "commitAsync");
+
+	private static final Log LOGGER = LogFactory.getLog(DlqSendWindow.class);
+
+	private final String topic;
+
+	private final String group;
+
+	private final Semaphore permits;
+
+	private final Map<Thread, ThreadSends> inFlight = new ConcurrentHashMap<>();
+
+	private final List<MeterFacade> meters = new CopyOnWriteArrayList<>();
+
+	private volatile long sendTimeout = Long.MAX_VALUE;
+
+	@Nullable
+	private volatile TimerFacade successTimer;
+
+	@Nullable
+	private volatile TimerFacade failureTimer;
+
+	DlqSendWindow(String topic, String group, int maxInFlight) {
+		Assert.isTrue(maxInFlight > 0, "'maxInFlight' must be greater than zero");
+		this.topic = topic;
+		this.group = group;
+		this.permits = new Semaphore(maxInFlight);
+	}
+
+	/**
+	 * Set the time to wait for a send to be acknowledged, for room in the window or before
+	 * committing offsets.
+	 * @param sendTimeout the timeout in milliseconds
+	 */
+	void setSendTimeout(long sendTimeout) {
+		this.sendTimeout = sendTimeout;
+	}
+
+	void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		this.meters.add(metricsCaptor.gaugeBuilder(IN_FLIGHT_METRIC_NAME, this,
+				window -> ((DlqSendWindow) window).getInFlight())
+			.tag("topic", this.topic)
+			.tag("group", this.group)
+			.description("Number of records sent to the DLQ and not yet acknowledged")
+			.build());
+		TimerFacade successTimer = sendTimer(metricsCaptor, "success");
+		TimerFacade failureTimer = sendTimer(metricsCaptor, "failure");
+		this.meters.add(successTimer);
+		this.meters.add(failureTimer);
+		this.successTimer = successTimer;
+		this.failureTimer = failureTimer;
+	}
+
+	/**
+	 * Remove the meters of this window, once its consumer binding is unbound.
+	 */
+	void close() {
+		this.successTimer = null;
+		this.failureTimer = null;
+		for (MeterFacade meter : this.meters) {
+			meter.remove();
+		}
+		this.meters.clear();
+	}
+
+	private TimerFacade sendTimer(MetricsCaptor metricsCaptor, String result) {
+		return metricsCaptor.timerBuilder(SEND_METRIC_NAME)
+			.tag("topic", this.topic)
+			.tag("group", this.group)
+			.tag("result", result)
+			.description("Time to send records to the DLQ, until their acknowledgement")
+			.build();
+	}
+
+	int getInFlight() {
+		int inFlight = 0;
+		for (ThreadSends sends : this.inFlight.values()) {
+			inFlight += sends.pending.size();
+		}
+		return inFlight;
+	}
+
+	/**
+	 * Send a record to the DLQ, first waiting for room in the window if it is full.
+	 * @param sender sends the record
+	 * @param <T> the type of the result of the send
+	 * @return the result of the send
+	 * @throws InterruptedException if interrupted while waiting for room in the window
+	 * @throws org.apache.kafka.common.errors.TimeoutException if there is still no room in
+	 * the window after the send timeout, in which case the record is not sent
+	 */
+	<T> CompletableFuture<T> send(Supplier<CompletableFuture<T>> sender) throws InterruptedException {
+		if (!this.permits.tryAcquire(this.sendTimeout, TimeUnit.MILLISECONDS)) {
+			// the sends in flight are not acknowledged: sending more would only exceed the limit
+			throw new org.apache.kafka.common.errors.TimeoutException("No record sent to the DLQ of " + this.topic
+					+ " was acknowledged in " + this.sendTimeout + "ms; the window of " + getInFlight()
+					+ " records in flight is full");
+		}
+		long start = System.nanoTime();
+		CompletableFuture<T> future;
+		try {
+			future = sender.get();
+		}
+		catch (RuntimeException ex) {
+			this.permits.release();
+			throw ex;
+		}
+		// tracked before the callback is added, which runs right away if already completed
+		ThreadSends sends = this.inFlight.computeIfAbsent(Thread.currentThread(), thread -> new ThreadSends());
+		sends.pending.add(future);
+		future.whenComplete((result, ex) -> {
+			sends.completed(future, ex);
+			this.permits.release();
+			TimerFacade timer = ex == null ? this.successTimer : this.failureTimer;
+			if (timer != null) {
+				timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Wait for the records sent to the DLQ so far by the current thread to be acknowledged.
+	 * @throws KafkaException if one of the sends failed
+	 * @throws org.apache.kafka.common.errors.TimeoutException if the sends are not
+	 * acknowledged within the send timeout
+	 * @throws InterruptException if interrupted while waiting
+	 */
+	void drain() {
+		Thread thread = Thread.currentThread();
+		ThreadSends sends = this.inFlight.get(thread);
+		if (sends == null) {
+			return;
+		}
+		CompletableFuture<?>[] pending = sends.pending.toArray(new CompletableFuture<?>[0]);
+		try {
+			// failures are collected below, including those of the sends completed before
+			CompletableFuture.allOf(pending).handle((result, ex) -> null).get(this.sendTimeout, TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException ex) {
+			throw new InterruptException(ex);
+		}
+		catch (ExecutionException | TimeoutException ex) {
+			throw new org.apache.kafka.common.errors.TimeoutException(sends.pending.size()
+					+ " records sent to the DLQ of " + this.topic + " were not acknowledged in " + this.sendTimeout
+					+ "ms; the offsets are not committed");
+		}
+		Throwable failure = sends.takeFailure(pending);
+		// only the current thread adds to its sends, so they cannot be added to concurrently
+		this.inFlight.computeIfPresent(thread, (key, remaining) -> remaining.pending.isEmpty() ? null : remaining);
+		if (failure != null) {
+			throw new KafkaException("A record sent to the DLQ of " + this.topic
+					+ " was not acknowledged; the offsets are not committed", failure);
+		}
+	}
+
+	/**
+	 * Wrap a consumer so that committing offsets first {@link #drain() drains} the window.
+	 * If draining fails, the offsets are not committed and the consumer is rewound to the
+	 * committed offsets of its partitions, so that the records are redelivered.
+	 * @param consumer the consumer
+	 * @param <K> the key type
+	 * @param <V> the value type
+	 * @return the wrapped consumer
+	 */
+	@SuppressWarnings("unchecked")
+	<K, V> Consumer<K, V> gate(Consumer<K, V> consumer) {
+		ProxyFactory proxyFactory = new ProxyFactory(consumer);
+		proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+			if (COMMIT_METHODS.contains(invocation.getMethod().getName())) {
+				try {
+					drain();
+				}
+				catch (InterruptException ex) {
+					throw ex;
+				}
+				catch (KafkaException ex) {
+					rewind(consumer);
+					throw ex;
+				}
+			}
+			return invocation.proceed();
+		});
+		return (Consumer<K, V>) proxyFactory.getProxy();
+	}
+
+	/*
+	 * Partitions with no committed offset cannot be rewound and are left as they are.
+	 */
+	private void rewind(Consumer<?, ?> consumer) {
+		Set<TopicPartition> assignment = consumer.assignment();
+		if (assignment.isEmpty()) {
+			return;
+		}
+		Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(assignment);
+		committed.forEach((partition, offset) -> {
+			if (offset != null) {
+				consumer.seek(partition, offset);
+			}
+		});
+		LOGGER.warn("Rewound " + committed.keySet() + " to their committed offsets for the records sent to the DLQ of "
+				+ this.topic + " to be redelivered");
+	}
+
+	/**
+	 * The sends of a thread not yet acknowledged, and the first failure of its sends since
+	 * it last drained them.
+	 */
+	private static final class ThreadSends {
+
+		private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+
+		@Nullable
+		private Throwable failure;
+
+		synchronized void completed(CompletableFuture<?> send, @Nullable Throwable ex) {
+			if (this.pending.remove(send) && ex != null && this.failure == null) {
+				this.failure = ex;
+			}
+		}
+
+		/*
+		 * The given sends are completed: they are also collected here, in case their own
+		 * completion callback has not run yet.
+		 */
+		@Nullable
+		synchronized Throwable takeFailure(CompletableFuture<?>[] completed) {
+			Throwable failure = this.failure;
+			this.failure = null;
+			for (CompletableFuture<?> send : completed) {
+				if (this.pending.remove(send) && failure == null && send.isCompletedExceptionally()) {
+					failure = send.handle((result, ex) -> ex).join();
+				}
+			}
+			return failure;
+		}
+
+	}
+
+}
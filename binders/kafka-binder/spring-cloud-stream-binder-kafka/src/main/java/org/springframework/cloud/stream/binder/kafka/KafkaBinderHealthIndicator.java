@@ -22,6 +22,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.apache.kafka.clients.admin.Admin;
 
 import org.springframework.boot.health.contributor.Health;
 import org.springframework.boot.health.contributor.Status;
@@ -51,7 +54,12 @@ public class KafkaBinderHealthIndicator extends AbstractKafkaBinderHealthIndicat
 
 	public KafkaBinderHealthIndicator(KafkaMessageChannelBinder binder,
 									ConsumerFactory<?, ?> consumerFactory) {
-		super(consumerFactory);
+		this(binder, consumerFactory, () -> Admin.create(new HashMap<>(binder.getAdminClientProperties())));
+	}
+
+	KafkaBinderHealthIndicator(KafkaMessageChannelBinder binder, ConsumerFactory<?, ?> consumerFactory,
+			Supplier<Admin> adminSupplier) {
+		super(consumerFactory, adminSupplier);
 		this.binder = binder;
 	}
 
@@ -16,34 +16,41 @@
 
 package org.springframework.cloud.stream.binder.kafka;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.ToDoubleFunction;
 
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.core.instrument.noop.NoopGauge;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.kafka.clients.consumer.Consumer;
-import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsSpec;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.TopicPartition;
-import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.TopicPartitionInfo;
 
 import org.springframework.cloud.stream.binder.BindingCreatedEvent;
 import org.springframework.cloud.stream.binder.kafka.common.TopicInformation;
@@ -51,13 +58,19 @@ import org.springframework.cloud.stream.binder.kafka.properties.KafkaBinderConfi
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.Lifecycle;
 import org.springframework.kafka.core.ConsumerFactory;
-import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.lang.Nullable;
-import org.springframework.util.ObjectUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.ReflectionUtils;
 
 /**
  * Metrics for Kafka binder.
+ * <p>
+ * The offset lag of all the consumer groups and topics in use is collected by a single
+ * scheduled sweep, reading the committed offsets of all the groups and the end offsets of
+ * all the partitions with one batched {@link Admin} call each, rather than by a
+ * metadata consumer and a scheduled task per group and topic. The partitions of the
+ * topics are cached between sweeps and described again every few sweeps only, to pick up
+ * added partitions.
  *
  * @author Henryk Konsek
  * @author Soby Chacko
@@ -77,6 +90,17 @@ public class KafkaBinderMetrics
 
 	private static final int DEFAULT_TIMEOUT = 5;
 
+	/*
+	 * Number of sweeps after which the partitions of the topics are described again.
+	 */
+	private static final int METADATA_REFRESH_SWEEPS = 10;
+
+	/*
+	 * When the offset lag is computed whenever queried, a sweep more recent than this is
+	 * reused, so that reading the gauges of all the groups and topics triggers one sweep.
+	 */
+	private static final long ON_DEMAND_SWEEP_INTERVAL_MILLIS = 1000;
+
 	private static final Log LOG = LogFactory.getLog(KafkaBinderMetrics.class);
 
 	/**
@@ -84,42 +108,84 @@ public class KafkaBinderMetrics
 	 */
 	public static final String OFFSET_LAG_METRIC_NAME = "spring.cloud.stream.binder.kafka.offset";
 
+	/**
+	 * Name of the offset lag metric of each partition of a topic.
+	 * @since 5.0.1
+	 */
+	public static final String PARTITION_OFFSET_LAG_METRIC_NAME = OFFSET_LAG_METRIC_NAME + ".partition";
+
+	/**
+	 * Name of the timer of the sweeps collecting the offset lag.
+	 * @since 5.0.1
+	 */
+	public static final String OFFSET_LAG_SWEEP_METRIC_NAME = OFFSET_LAG_METRIC_NAME + ".sweep";
+
 	private final KafkaMessageChannelBinder binder;
 
 	private final KafkaBinderConfigurationProperties binderConfigurationProperties;
 
-	private ConsumerFactory<?, ?> defaultConsumerFactory;
-
 	private final MeterRegistry meterRegistry;
 
-	private Map<String, Consumer<?, ?>> metadataConsumers;
-
 	private int timeout = DEFAULT_TIMEOUT;
 
-	private final Map<String, Long> lastUnconsumedMessagesValues = new ConcurrentHashMap<>();
+	private final Map<GroupTopic, TopicLag> lags = new ConcurrentHashMap<>();
+
+	private final Map<String, List<TopicPartition>> partitionsByTopic = new ConcurrentHashMap<>();
 
 	ScheduledExecutorService scheduler;
 
-	private final ReentrantLock consumerFactoryLock = new ReentrantLock();
+	@Nullable
+	private ScheduledFuture<?> sweepTask;
+
+	@Nullable
+	private Duration sweepInterval;
+
+	@Nullable
+	private volatile Future<?> onDemandSweep;
+
+	@Nullable
+	private volatile MeterRegistry boundRegistry;
+
+	@Nullable
+	private volatile Admin admin;
+
+	private volatile long lastSweepMillis;
+
+	private int sweeps;
 
 	private final AtomicBoolean running = new AtomicBoolean();
 
 	public KafkaBinderMetrics(KafkaMessageChannelBinder binder,
 							KafkaBinderConfigurationProperties binderConfigurationProperties,
-							ConsumerFactory<?, ?> defaultConsumerFactory,
 							@Nullable MeterRegistry meterRegistry) {
 
 		this.binder = binder;
 		this.binderConfigurationProperties = binderConfigurationProperties;
-		this.defaultConsumerFactory = defaultConsumerFactory;
 		this.meterRegistry = meterRegistry;
-		this.metadataConsumers = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Create an instance.
+	 * @param binder the binder
+	 * @param binderConfigurationProperties the binder configuration properties
+	 * @param defaultConsumerFactory no longer used, the offsets being read with an {@link Admin}
+	 * @param meterRegistry the meter registry
+	 * @deprecated since 5.0.1 in favor of
+	 * {@link #KafkaBinderMetrics(KafkaMessageChannelBinder, KafkaBinderConfigurationProperties, MeterRegistry)}
+	 */
+	@Deprecated(since = "5.0.1", forRemoval = true)
+	public KafkaBinderMetrics(KafkaMessageChannelBinder binder,
+							KafkaBinderConfigurationProperties binderConfigurationProperties,
+							ConsumerFactory<?, ?> defaultConsumerFactory,
+							@Nullable MeterRegistry meterRegistry) {
+
+		this(binder, binderConfigurationProperties, meterRegistry);
 	}
 
 	public KafkaBinderMetrics(KafkaMessageChannelBinder binder,
 							KafkaBinderConfigurationProperties binderConfigurationProperties) {
 
-		this(binder, binderConfigurationProperties, null, null);
+		this(binder, binderConfigurationProperties, null);
 	}
 
 	public void setTimeout(int timeout) {
@@ -128,169 +194,265 @@ public class KafkaBinderMetrics
 
 	@Override
 	public void bindTo(MeterRegistry registry) {
-		/*
-		 * We can't just replace one scheduler with another.
-		 * Before and even after the old one is gathered by GC, it's threads still exist, consume memory and CPU resources to switch contexts.
-		 * Theoretically, as a result of processing n topics, there will be about (1+n)*n/2 threads simultaneously at the same time.
-		 */
-		if (this.scheduler != null) {
-			LOG.info("Try to shutdown the old scheduler with " + ((ScheduledThreadPoolExecutor) scheduler).getPoolSize() + " threads");
-			this.scheduler.shutdownNow();
-		}
-
-		this.scheduler = Executors.newScheduledThreadPool(this.binder.getTopicsInUse().size());
-
+		this.boundRegistry = registry;
 		for (Map.Entry<String, TopicInformation> topicInfo : this.binder
 				.getTopicsInUse().entrySet()) {
 
-			if (!topicInfo.getValue().isConsumerTopic()) {
+			// the lag of the topics matching a pattern cannot be described by name
+			if (!topicInfo.getValue().isConsumerTopic() || topicInfo.getValue().isTopicPattern()) {
 				continue;
 			}
 
 			String topic = topicInfo.getKey();
 			String group = topicInfo.getValue().consumerGroup();
+			GroupTopic groupTopic = new GroupTopic(group, topic);
+			if (this.lags.containsKey(groupTopic)) {
+				continue;
+			}
 
-			ToDoubleFunction<KafkaBinderMetrics> offsetComputation = computeOffsetComputationFunction(topic, group);
-			final Gauge register = Gauge.builder(OFFSET_LAG_METRIC_NAME, this, offsetComputation)
+			TopicLag topicLag = new TopicLag(groupTopic);
+			final Gauge register = Gauge.builder(OFFSET_LAG_METRIC_NAME, topicLag, this::totalLag)
 				.tag("group", group)
 				.tag("topic", topic)
 				.description("Unconsumed messages for a particular group and topic")
 				.register(registry);
 
 			if (!(register instanceof NoopGauge)) {
-				lastUnconsumedMessagesValues.put(topic + "-" + group, 0L);
-				this.scheduler.scheduleWithFixedDelay(
-					() -> computeUnconsumedMessages(topic, group),
-			1,
-					binderConfigurationProperties.getMetrics().getOffsetLagMetricsInterval().toSeconds(),
-					TimeUnit.SECONDS
-				);
+				this.lags.put(groupTopic, topicLag);
+				seedPartitions(topic, topicInfo.getValue().partitionInfos());
 			}
 		}
+		scheduleSweeps();
 	}
 
-	private ToDoubleFunction<KafkaBinderMetrics> computeOffsetComputationFunction(String topic, String group) {
-		if (this.binderConfigurationProperties.getMetrics().isDefaultOffsetLagMetricsEnabled()) {
-			return (o) -> computeAndGetUnconsumedMessagesWithTimeout(topic, group);
+	/**
+	 * Create the {@link Admin} the offsets are read with; closed with this instance.
+	 * @return the admin client
+	 * @since 5.0.1
+	 */
+	protected Admin createAdmin() {
+		return Admin.create(new HashMap<>(this.binder.getAdminClientProperties()));
+	}
+
+	private void seedPartitions(String topic, @Nullable Collection<PartitionInfo> partitionInfos) {
+		if (partitionInfos != null && !partitionInfos.isEmpty()) {
+			this.partitionsByTopic.computeIfAbsent(topic, t -> partitionInfos.stream()
+				.map(partitionInfo -> new TopicPartition(t, partitionInfo.partition()))
+				.toList());
 		}
-		else {
-			return (o) -> lastUnconsumedMessagesValues.get(topic + "-" + group);
+	}
+
+	/*
+	 * A single thread runs all the sweeps, scheduled or on demand, which therefore never
+	 * overlap.
+	 */
+	private synchronized void scheduleSweeps() {
+		if (this.scheduler == null) {
+			this.scheduler = Executors.newSingleThreadScheduledExecutor(
+					new CustomizableThreadFactory("kafka-binder-offset-lag-"));
+		}
+		Duration interval = this.binderConfigurationProperties.getMetrics().getOffsetLagMetricsInterval();
+		if (this.sweepTask == null || !interval.equals(this.sweepInterval)) {
+			if (this.sweepTask != null) {
+				this.sweepTask.cancel(false);
+			}
+			this.sweepInterval = interval;
+			this.sweepTask = this.scheduler.scheduleWithFixedDelay(this::sweep, 1, interval.toSeconds(),
+					TimeUnit.SECONDS);
+		}
+	}
+
+	private double totalLag(TopicLag topicLag) {
+		if (this.binderConfigurationProperties.getMetrics().isDefaultOffsetLagMetricsEnabled()) {
+			sweepWithTimeoutIfStale();
 		}
+		return topicLag.total;
 	}
 
-	private long computeAndGetUnconsumedMessagesWithTimeout(String topic, String group) {
-		Future<Long> future = scheduler.submit(() -> computeUnconsumedMessages(topic, group));
+	private void sweepWithTimeoutIfStale() {
+		if (System.currentTimeMillis() - this.lastSweepMillis < ON_DEMAND_SWEEP_INTERVAL_MILLIS) {
+			return;
+		}
+		Future<?> future;
+		synchronized (this) {
+			if (this.scheduler == null) {
+				return;
+			}
+			future = this.onDemandSweep;
+			if (future == null || future.isDone()) {
+				future = this.scheduler.submit(this::sweep);
+				this.onDemandSweep = future;
+			}
+		}
 		try {
-			return future.get(this.timeout, TimeUnit.SECONDS);
+			future.get(this.timeout, TimeUnit.SECONDS);
 		}
 		catch (InterruptedException ex) {
 			Thread.currentThread().interrupt();
-			return lastUnconsumedMessagesValues.get(topic + "-" + group);
 		}
 		catch (ExecutionException | TimeoutException ex) {
-			return lastUnconsumedMessagesValues.get(topic + "-" + group);
+			// the last computed values are reported
 		}
 	}
 
-	private long computeUnconsumedMessages(String topic, String group) {
-		long lag = 0;
+	private void sweep() {
+		if (this.lags.isEmpty()
+				|| System.currentTimeMillis() - this.lastSweepMillis < ON_DEMAND_SWEEP_INTERVAL_MILLIS) {
+			return;
+		}
+		long start = System.nanoTime();
+		boolean success = false;
 		try {
-			lag = findTotalTopicGroupLag(topic, group, this.metadataConsumers);
-			this.lastUnconsumedMessagesValues.put(topic + "-" + group, lag);
+			Admin admin = this.admin;
+			if (admin == null) {
+				admin = createAdmin();
+				this.admin = admin;
+			}
+			Map<String, List<TopicPartition>> partitions = partitionsFor(admin);
+			Map<TopicPartition, OffsetSpec> latest = new HashMap<>();
+			partitions.values().forEach(topicPartitions -> topicPartitions
+				.forEach(topicPartition -> latest.put(topicPartition, OffsetSpec.latest())));
+			Map<TopicPartition, ListOffsetsResultInfo> endOffsets = admin.listOffsets(latest)
+				.all()
+				.get(this.timeout, TimeUnit.SECONDS);
+
+			Map<String, Map<TopicPartition, OffsetAndMetadata>> committedOffsets = committedOffsets(admin, partitions);
+			Map<TopicPartition, OffsetSpec> earliest = new HashMap<>();
+			committedOffsets.forEach((group, offsets) -> offsets.forEach((topicPartition, offset) -> {
+				if (offset == null) {
+					earliest.put(topicPartition, OffsetSpec.earliest());
+				}
+			}));
+			Map<TopicPartition, ListOffsetsResultInfo> beginningOffsets = earliest.isEmpty() ? Map.of()
+					: admin.listOffsets(earliest).all().get(this.timeout, TimeUnit.SECONDS);
+
+			for (TopicLag topicLag : this.lags.values()) {
+				Map<TopicPartition, OffsetAndMetadata> groupOffsets = committedOffsets.get(topicLag.groupTopic.group());
+				if (groupOffsets != null) {
+					topicLag.update(partitions.get(topicLag.groupTopic.topic()), endOffsets, groupOffsets,
+							beginningOffsets);
+				}
+			}
+			this.lastSweepMillis = System.currentTimeMillis();
+			success = true;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
 		}
 		catch (Exception ex) {
-			LOG.debug("Cannot generate metric for topic: " + topic, ex);
+			LOG.debug("Cannot compute the offset lag of the consumer groups", ex);
+		}
+		finally {
+			MeterRegistry registry = this.boundRegistry;
+			if (registry != null) {
+				Timer.builder(OFFSET_LAG_SWEEP_METRIC_NAME)
+					.tag("result", success ? "success" : "failure")
+					.description("Time spent collecting the offset lag of all the consumer groups and topics")
+					.register(registry)
+					.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
 		}
-		return lag;
 	}
 
-	private long findTotalTopicGroupLag(String topic, String group, Map<String, Consumer<?, ?>> metadataConsumers) {
-		long lag = 0;
-		Consumer<?, ?> metadataConsumer = metadataConsumers.computeIfAbsent(
-				group,
-				(g) -> createConsumerFactory().createConsumer(g, "monitoring"));
-		List<PartitionInfo> partitionInfos = metadataConsumer
-				.partitionsFor(topic);
-		List<TopicPartition> topicPartitions = new LinkedList<>();
-		for (PartitionInfo partitionInfo : partitionInfos) {
-			topicPartitions.add(new TopicPartition(partitionInfo.topic(),
-					partitionInfo.partition()));
+	private Map<String, List<TopicPartition>> partitionsFor(Admin admin) throws Exception {
+		Set<String> topics = new HashSet<>();
+		this.lags.keySet().forEach(groupTopic -> topics.add(groupTopic.topic()));
+		Set<String> toDescribe = new HashSet<>(topics);
+		if (++this.sweeps % METADATA_REFRESH_SWEEPS != 0) {
+			toDescribe.removeAll(this.partitionsByTopic.keySet());
 		}
-
-		Map<TopicPartition, Long> endOffsets = metadataConsumer
-				.endOffsets(topicPartitions);
-
-		final Map<TopicPartition, OffsetAndMetadata> committedOffsets = metadataConsumer.committed(endOffsets.keySet());
-		final Map<TopicPartition, Long> beginningOffsets = metadataConsumer.beginningOffsets(endOffsets.keySet());
-
-		for (Map.Entry<TopicPartition, Long> endOffset : endOffsets
-				.entrySet()) {
-			OffsetAndMetadata current = committedOffsets.get(endOffset.getKey());
-			Long beginningOffset = beginningOffsets.get(endOffset.getKey());
-			lag += endOffset.getValue();
-			if (current != null) {
-				lag -= current.offset();
-			}
-			else if (beginningOffset != null) {
-				lag -= beginningOffset;
+		if (!toDescribe.isEmpty()) {
+			Map<String, TopicDescription> descriptions = admin.describeTopics(toDescribe)
+				.allTopicNames()
+				.get(this.timeout, TimeUnit.SECONDS);
+			descriptions.forEach((topic, description) -> {
+				List<TopicPartition> topicPartitions = new ArrayList<>();
+				for (TopicPartitionInfo partitionInfo : description.partitions()) {
+					topicPartitions.add(new TopicPartition(topic, partitionInfo.partition()));
+				}
+				this.partitionsByTopic.put(topic, topicPartitions);
+			});
+		}
+		Map<String, List<TopicPartition>> partitions = new HashMap<>();
+		for (String topic : topics) {
+			List<TopicPartition> topicPartitions = this.partitionsByTopic.get(topic);
+			if (topicPartitions != null) {
+				partitions.put(topic, topicPartitions);
 			}
 		}
-		return lag;
+		return partitions;
 	}
 
-	/**
-	 * Double-Checked Locking Optimization was used to avoid unnecessary locking overhead.
+	/*
+	 * The committed offsets of all the groups, with a null offset for the partitions a
+	 * group has not committed any offset for; a group whose offsets cannot be read is
+	 * omitted, so that the lag of the other groups is still updated.
 	 */
-	private ConsumerFactory<?, ?> createConsumerFactory() {
-		if (this.defaultConsumerFactory == null) {
+	private Map<String, Map<TopicPartition, OffsetAndMetadata>> committedOffsets(Admin admin,
+			Map<String, List<TopicPartition>> partitions) throws InterruptedException {
+
+		Map<String, ListConsumerGroupOffsetsSpec> specs = new HashMap<>();
+		Map<String, List<TopicPartition>> partitionsByGroup = new HashMap<>();
+		for (GroupTopic groupTopic : this.lags.keySet()) {
+			List<TopicPartition> topicPartitions = partitions.get(groupTopic.topic());
+			if (topicPartitions != null) {
+				partitionsByGroup.computeIfAbsent(groupTopic.group(), g -> new ArrayList<>()).addAll(topicPartitions);
+			}
+		}
+		partitionsByGroup.forEach((group, topicPartitions) ->
+				specs.put(group, new ListConsumerGroupOffsetsSpec().topicPartitions(topicPartitions)));
+		if (specs.isEmpty()) {
+			return Map.of();
+		}
+		ListConsumerGroupOffsetsResult result = admin.listConsumerGroupOffsets(specs);
+		Map<String, Map<TopicPartition, OffsetAndMetadata>> committedOffsets = new HashMap<>();
+		for (Map.Entry<String, List<TopicPartition>> group : partitionsByGroup.entrySet()) {
 			try {
-				this.consumerFactoryLock.lock();
-				if (this.defaultConsumerFactory == null) {
-					Map<String, Object> props = new HashMap<>();
-					props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG,
-						ByteArrayDeserializer.class);
-					props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG,
-						ByteArrayDeserializer.class);
-					Map<String, Object> mergedConfig = this.binderConfigurationProperties
-						.mergedConsumerConfiguration();
-					if (!ObjectUtils.isEmpty(mergedConfig)) {
-						props.putAll(mergedConfig);
-					}
-					if (!props.containsKey(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG)) {
-						props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG,
-							this.binderConfigurationProperties
-								.getKafkaConnectionString());
-					}
-					this.defaultConsumerFactory = new DefaultKafkaConsumerFactory<>(
-						props);
+				Map<TopicPartition, OffsetAndMetadata> offsets = result.partitionsToOffsetAndMetadata(group.getKey())
+					.get(this.timeout, TimeUnit.SECONDS);
+				Map<TopicPartition, OffsetAndMetadata> groupOffsets = new HashMap<>();
+				for (TopicPartition topicPartition : group.getValue()) {
+					groupOffsets.put(topicPartition, offsets != null ? offsets.get(topicPartition) : null);
 				}
+				committedOffsets.put(group.getKey(), groupOffsets);
 			}
-			finally {
-				this.consumerFactoryLock.unlock();
+			catch (ExecutionException | TimeoutException ex) {
+				LOG.debug("Cannot read the committed offsets of group: " + group.getKey(), ex);
 			}
 		}
-		return this.defaultConsumerFactory;
+		return committedOffsets;
 	}
 
 	@Override
 	public void onApplicationEvent(BindingCreatedEvent event) {
 		if (this.meterRegistry != null) {
-			// It is safe to call bindTo multiple times, since meters are idempotent when called with the same arguments
+			// It is safe to call bindTo multiple times, since only the new groups and topics are registered
 			this.bindTo(this.meterRegistry);
 		}
 	}
 
 	@Override
 	public void close() {
-		if (this.scheduler != null) {
-			this.consumerFactoryLock.lock();
+		ScheduledExecutorService scheduler;
+		synchronized (this) {
+			scheduler = this.scheduler;
+			this.scheduler = null;
+			this.sweepTask = null;
+			this.sweepInterval = null;
+			this.onDemandSweep = null;
+		}
+		if (scheduler != null) {
 			try {
-				if (this.meterRegistry != null) {
-					this.meterRegistry.find(OFFSET_LAG_METRIC_NAME).meters().forEach(this.meterRegistry::remove);
+				MeterRegistry registry = this.meterRegistry != null ? this.meterRegistry : this.boundRegistry;
+				if (registry != null) {
+					for (String name : List.of(OFFSET_LAG_METRIC_NAME, PARTITION_OFFSET_LAG_METRIC_NAME,
+							OFFSET_LAG_SWEEP_METRIC_NAME)) {
+						registry.find(name).meters().forEach(registry::remove);
+					}
 				}
-				this.scheduler.shutdownNow();
+				scheduler.shutdownNow();
 				try {
-					this.scheduler.awaitTermination(
+					scheduler.awaitTermination(
 						binderConfigurationProperties.getMetrics().getOffsetLagMetricsInterval().toSeconds(),
 						TimeUnit.SECONDS);
 				}
@@ -300,10 +462,14 @@ public class KafkaBinderMetrics
 				}
 			}
 			finally {
-				this.scheduler = null;
-				this.metadataConsumers.values().forEach(Consumer::close);
-				this.metadataConsumers.clear();
-				this.consumerFactoryLock.unlock();
+				Admin admin = this.admin;
+				this.admin = null;
+				if (admin != null) {
+					admin.close(Duration.ofSeconds(this.timeout));
+				}
+				this.lags.clear();
+				this.partitionsByTopic.clear();
+				this.lastSweepMillis = 0;
 			}
 		}
 	}
@@ -327,4 +493,69 @@ public class KafkaBinderMetrics
 		return this.running.get();
 	}
 
+	private record GroupTopic(String group, String topic) {
+	}
+
+	/**
+	 * The offset lag of a group on a topic, in total and per partition, as of the last
+	 * sweep.
+	 */
+	private final class TopicLag {
+
+		private final GroupTopic groupTopic;
+
+		private final Map<Integer, Long> partitionLags = new ConcurrentHashMap<>();
+
+		private volatile long total;
+
+		TopicLag(GroupTopic groupTopic) {
+			this.groupTopic = groupTopic;
+		}
+
+		void update(@Nullable List<TopicPartition> topicPartitions,
+				Map<TopicPartition, ListOffsetsResultInfo> endOffsets,
+				Map<TopicPartition, OffsetAndMetadata> committedOffsets,
+				Map<TopicPartition, ListOffsetsResultInfo> beginningOffsets) {
+
+			if (topicPartitions == null) {
+				return;
+			}
+			long total = 0;
+			for (TopicPartition topicPartition : topicPartitions) {
+				ListOffsetsResultInfo endOffset = endOffsets.get(topicPartition);
+				if (endOffset == null) {
+					continue;
+				}
+				long lag = endOffset.offset();
+				OffsetAndMetadata current = committedOffsets.get(topicPartition);
+				ListOffsetsResultInfo beginningOffset = beginningOffsets.get(topicPartition);
+				if (current != null) {
+					lag -= current.offset();
+				}
+				else if (beginningOffset != null) {
+					lag -= beginningOffset.offset();
+				}
+				if (this.partitionLags.put(topicPartition.partition(), lag) == null) {
+					registerPartitionGauge(topicPartition.partition());
+				}
+				total += lag;
+			}
+			this.total = total;
+		}
+
+		private void registerPartitionGauge(int partition) {
+			MeterRegistry registry = KafkaBinderMetrics.this.boundRegistry;
+			if (registry != null) {
+				Gauge.builder(PARTITION_OFFSET_LAG_METRIC_NAME, this,
+						topicLag -> topicLag.partitionLags.getOrDefault(partition, 0L))
+					.tag("group", this.groupTopic.group())
+					.tag("topic", this.groupTopic.topic())
+					.tag("partition", String.valueOf(partition))
+					.description("Unconsumed messages for a particular group and partition of a topic")
+					.register(registry);
+			}
+		}
+
+	}
+
 }
@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.stream.binder.kafka;
 
+import org.springframework.cloud.stream.binder.OutboundMessage;
+import org.springframework.cloud.stream.binder.OutboundMessageStage;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.integration.support.MessageBuilder;
@@ -31,7 +33,7 @@ import org.springframework.util.Assert;
  * @since 3.0
  *
  */
-public class KafkaExpressionEvaluatingInterceptor implements ChannelInterceptor {
+public class KafkaExpressionEvaluatingInterceptor implements ChannelInterceptor, OutboundMessageStage {
 
 	/**
 	 * Name for the evaluated message key header.
@@ -65,4 +67,20 @@ public class KafkaExpressionEvaluatingInterceptor implements ChannelInterceptor
 		return builder.build();
 	}
 
+	@Override
+	public void process(OutboundMessage message) {
+		if (this.messageKeyExpression != null) {
+			setHeader(message, MESSAGE_KEY_HEADER, this.messageKeyExpression.getValue(this.evaluationContext, message));
+		}
+	}
+
+	private void setHeader(OutboundMessage message, String name, Object value) {
+		if (value != null) {
+			message.getHeaders().put(name, value);
+		}
+		else {
+			message.getHeaders().remove(name);
+		}
+	}
+
 }
@@ -20,6 +20,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -33,7 +34,12 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -48,6 +54,7 @@ import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.header.Headers;
@@ -61,6 +68,8 @@ import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
 import org.springframework.cloud.stream.binder.AbstractMessageChannelBinder;
 import org.springframework.cloud.stream.binder.BinderHeaders;
 import org.springframework.cloud.stream.binder.BinderSpecificPropertiesProvider;
+import org.springframework.cloud.stream.binder.BulkMessageHandler;
+import org.springframework.cloud.stream.binder.ConfirmingMessageHandler;
 import org.springframework.cloud.stream.binder.DefaultPollableMessageSource;
 import org.springframework.cloud.stream.binder.EmbeddedHeaderUtils;
 import org.springframework.cloud.stream.binder.ExtendedConsumerProperties;
@@ -97,15 +106,18 @@ import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.StaticMessageHeaderAccessor;
 import org.springframework.integration.acks.AcknowledgmentCallback;
 import org.springframework.integration.channel.AbstractMessageChannel;
+import org.springframework.integration.channel.FixedSubscriberChannel;
 import org.springframework.integration.core.MessageProducer;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.kafka.inbound.KafkaMessageDrivenChannelAdapter;
 import org.springframework.integration.kafka.inbound.KafkaMessageDrivenChannelAdapter.ListenerMode;
 import org.springframework.integration.kafka.inbound.KafkaMessageSource;
 import org.springframework.integration.kafka.outbound.KafkaProducerMessageHandler;
+import org.springframework.integration.kafka.support.KafkaIntegrationHeaders;
 import org.springframework.integration.kafka.support.RawRecordHeaderErrorMessageStrategy;
 import org.springframework.integration.support.ErrorMessageStrategy;
 import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
@@ -142,6 +154,7 @@ import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.ErrorMessage;
 import org.springframework.messaging.support.InterceptableChannel;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -178,7 +191,7 @@ public class KafkaMessageChannelBinder extends
 		AbstractMessageChannelBinder<ExtendedConsumerProperties<KafkaConsumerProperties>, ExtendedProducerProperties<KafkaProducerProperties>, KafkaTopicProvisioner>
 		// @checkstyle:on
 		implements
-		ExtendedPropertiesBinder<MessageChannel, KafkaConsumerProperties, KafkaProducerProperties> {
+		ExtendedPropertiesBinder<MessageChannel, KafkaConsumerProperties, KafkaProducerProperties>, DisposableBean {
 
 	/**
 	 * Kafka header for x-exception-fqcn.
@@ -222,8 +235,6 @@ public class KafkaMessageChannelBinder extends
 
 	private static final Pattern interceptorNeededPattern = Pattern.compile("(payload|#root|#this)");
 
-	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
-
 	private final KafkaBinderConfigurationProperties configurationProperties;
 
 	private final Map<String, TopicInformation> topicsInUse = new ConcurrentHashMap<>();
@@ -240,6 +251,15 @@ public class KafkaMessageChannelBinder extends
 
 	private final Map<ConsumerDestination, ContainerProperties.AckMode> ackModeInfo = new ConcurrentHashMap<>();
 
+	private final Map<String, DlqSendWindow> dlqSendWindows = new ConcurrentHashMap<>();
+
+	private final SharedProducerFactories sharedProducerFactories = new SharedProducerFactories();
+
+	private final AtomicLong sharedProducerFactoryCounter = new AtomicLong();
+
+	@Nullable
+	private ScheduledExecutorService partitionCountRefresher;
+
 	private ProducerListener<byte[], byte[]> producerListener;
 
 	private KafkaExtendedBindingProperties extendedBindingProperties = new KafkaExtendedBindingProperties();
@@ -359,6 +379,10 @@ public class KafkaMessageChannelBinder extends
 		return this.topicsInUse;
 	}
 
+	Map<String, Object> getAdminClientProperties() {
+		return this.provisioningProvider.getAdminClientProperties();
+	}
+
 	@Override
 	public KafkaConsumerProperties getExtendedConsumerProperties(String channelName) {
 		return this.extendedBindingProperties.getExtendedConsumerProperties(channelName);
@@ -419,10 +443,17 @@ public class KafkaMessageChannelBinder extends
 		 */
 		KafkaAwareTransactionManager<byte[], byte[]> transMan = transactionManager(
 				producerProperties.getExtension().getTransactionManager());
-		final ProducerFactory<byte[], byte[]> producerFB = transMan != null
-				? transMan.getProducerFactory()
-				: getProducerFactory(null, producerProperties, destination.getName() + ".producer",
-				destination.getName());
+		final ProducerFactory<byte[], byte[]> producerFB;
+		if (transMan != null) {
+			producerFB = transMan.getProducerFactory();
+		}
+		else if (this.configurationProperties.isShareProducers()) {
+			producerFB = getSharedProducerFactory(producerProperties, destination.getName());
+		}
+		else {
+			producerFB = getProducerFactory(null, producerProperties, destination.getName() + ".producer",
+					destination.getName());
+		}
 		Collection<PartitionInfo> partitions = provisioningProvider.getPartitionInfoForProducer(
 				destination.getName(), producerFB, producerProperties);
 		this.topicsInUse.put(destination.getName(),
@@ -515,10 +546,41 @@ public class KafkaMessageChannelBinder extends
 		kafkaTemplate.setObservationEnabled(this.configurationProperties.isEnableObservation());
 		kafkaTemplate.setKafkaAdmin(this.kafkaAdmin);
 		kafkaTemplate.setApplicationContext(getApplicationContext());
+		if (this.sharedProducerFactories.isShared(producerFB) && StringUtils.hasText(producerProperties.getBindingName())) {
+			// the template metrics tell apart the bindings sharing the producer
+			kafkaTemplate.setMicrometerTags(Map.of("binding", producerProperties.getBindingName()));
+		}
 
 		return handler;
 	}
 
+	/*
+	 * Checks the partition count of the topics of the producers with dynamic partition updates.
+	 */
+	private synchronized ScheduledExecutorService getPartitionCountRefresher() {
+		if (this.partitionCountRefresher == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("kafka-binder-partition-count-");
+			threadFactory.setDaemon(true);
+			this.partitionCountRefresher = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		}
+		return this.partitionCountRefresher;
+	}
+
+	/**
+	 * Shut down the scheduler of the partition count refreshes, if any.
+	 */
+	@Override
+	public void destroy() {
+		ScheduledExecutorService refresher;
+		synchronized (this) {
+			refresher = this.partitionCountRefresher;
+			this.partitionCountRefresher = null;
+		}
+		if (refresher != null) {
+			refresher.shutdownNow();
+		}
+	}
+
 	@Override
 	@SuppressWarnings("rawtypes")
 	protected void customizeProducerMessageHandler(MessageHandler producerMessageHandler, String destinationName) {
@@ -552,11 +614,36 @@ public class KafkaMessageChannelBinder extends
 			String transactionIdPrefix,
 			ExtendedProducerProperties<KafkaProducerProperties> producerProperties, String beanName, String destination) {
 
+		return createProducerFactory(transactionIdPrefix, createProducerConfigs(producerProperties, destination),
+				producerProperties.getExtension(), beanName);
+	}
+
+	/*
+	 * Bindings with the same effective configuration share a producer factory, hence a producer.
+	 */
+	private ProducerFactory<byte[], byte[]> getSharedProducerFactory(
+			ExtendedProducerProperties<KafkaProducerProperties> producerProperties, String destination) {
+
+		Map<String, Object> props = createProducerConfigs(producerProperties, destination);
+		KafkaProducerProperties kafkaProducerProperties = producerProperties.getExtension();
+		return this.sharedProducerFactories.acquire(props, kafkaProducerProperties.getCloseTimeout(),
+				() -> createProducerFactory(null, props, kafkaProducerProperties,
+						"kafkaSharedProducerFactory-" + this.sharedProducerFactoryCounter.incrementAndGet()));
+	}
+
+	private Map<String, Object> createProducerConfigs(
+			ExtendedProducerProperties<KafkaProducerProperties> producerProperties, String destination) {
+
 		Map<String, Object> props = BindingUtils.createProducerConfigs(producerProperties,
 				this.configurationProperties);
-		final KafkaProducerProperties kafkaProducerProperties = producerProperties.getExtension();
 		this.producerConfigCustomizers
 			.forEach(customizer -> customizer.configure(props, producerProperties.getBindingName(), destination));
+		return props;
+	}
+
+	private DefaultKafkaProducerFactory<byte[], byte[]> createProducerFactory(String transactionIdPrefix,
+			Map<String, Object> props, KafkaProducerProperties kafkaProducerProperties, String beanName) {
+
 		DefaultKafkaProducerFactory<byte[], byte[]> producerFactory = new DefaultKafkaProducerFactory<>(
 				props);
 		if (transactionIdPrefix != null) {
@@ -600,6 +687,11 @@ public class KafkaMessageChannelBinder extends
 				: group;
 		final ConsumerFactory<K, V> consumerFactory = (ConsumerFactory<K, V>) createKafkaConsumerFactory(
 				anonymous, consumerGroup, extendedConsumerProperties, destination.getName() + ".consumer", destination.getName());
+		DlqSendWindow dlqSendWindow = createDlqSendWindow(destination, consumerGroup, extendedConsumerProperties);
+		if (dlqSendWindow != null) {
+			// offsets are committed once the records sent to the DLQ up to them are acknowledged
+			consumerFactory.addPostProcessor(dlqSendWindow::gate);
+		}
 		int partitionCount = extendedConsumerProperties.getInstanceCount()
 				* extendedConsumerProperties.getConcurrency();
 
@@ -862,6 +954,29 @@ public class KafkaMessageChannelBinder extends
 		containerProperties.setStopImmediate(listener.isImmediateStop());
 	}
 
+	/**
+	 * Acknowledge, with the {@link Acknowledgment} the container provides in the manual
+	 * ack modes, a record dropped by the filter expression of the binding; otherwise, the
+	 * offsets of the dropped records would not be committed.
+	 */
+	@Override
+	protected void acknowledgeFilteredMessage(Message<?> message,
+			ExtendedConsumerProperties<KafkaConsumerProperties> properties) {
+		Acknowledgment acknowledgment = message.getHeaders().get(KafkaHeaders.ACKNOWLEDGMENT, Acknowledgment.class);
+		if (acknowledgment != null) {
+			acknowledgment.acknowledge();
+		}
+	}
+
+	/**
+	 * The headers of each record of a batch, so that the payload of each record is decoded
+	 * according to its own content encoding.
+	 */
+	@Override
+	protected String getBatchHeadersName() {
+		return KafkaHeaders.BATCH_CONVERTED_HEADERS;
+	}
+
 	/**
 	 * Returns an unmodifiable copy of {@link ContainerProperties} associated with the destination name
 	 * which corresponds to a particular binding which could be accessed under 'containerProperties' key.
@@ -1165,6 +1280,39 @@ public class KafkaMessageChannelBinder extends
 		return new RawRecordHeaderErrorMessageStrategy();
 	}
 
+	@Nullable
+	private DlqSendWindow createDlqSendWindow(ConsumerDestination destination, String group,
+			ExtendedConsumerProperties<KafkaConsumerProperties> properties) {
+
+		KafkaConsumerProperties kafkaConsumerProperties = properties.getExtension();
+		if (!kafkaConsumerProperties.isEnableDlq() || kafkaConsumerProperties.getDlqMaxInFlight() <= 0
+				|| isBatchAndListenerContainerWithDlqAndRetryCustomizer(properties)
+				|| this.transactionTemplate != null
+				|| transactionManager(kafkaConsumerProperties.getTransactionManager()) != null) {
+			return null;
+		}
+		DlqSendWindow dlqSendWindow = new DlqSendWindow(destination.getName(), group,
+				kafkaConsumerProperties.getDlqMaxInFlight());
+		DlqSendWindow previous = this.dlqSendWindows.put(dlqSendWindowKey(destination, group), dlqSendWindow);
+		if (previous != null) {
+			previous.close();
+		}
+		return dlqSendWindow;
+	}
+
+	private static String dlqSendWindowKey(ConsumerDestination destination, String group) {
+		return destination.getName() + "." + group;
+	}
+
+	@Override
+	protected void afterUnbindConsumer(ConsumerDestination destination, String group,
+			ExtendedConsumerProperties<KafkaConsumerProperties> consumerProperties) {
+		DlqSendWindow dlqSendWindow = this.dlqSendWindows.remove(dlqSendWindowKey(destination, group));
+		if (dlqSendWindow != null) {
+			dlqSendWindow.close();
+		}
+	}
+
 	private Boolean isBatchAndListenerContainerWithDlqAndRetryCustomizer(ExtendedConsumerProperties<KafkaConsumerProperties> properties) {
 		ListenerContainerCustomizer<?> customizer = getContainerCustomizer();
 		return properties.isBatchMode() && customizer instanceof ListenerContainerWithDlqAndRetryCustomizer;
@@ -1206,8 +1354,18 @@ public class KafkaMessageChannelBinder extends
 						.defaultValues()
 						.get(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG)).longValue() + 2000L;
 			}
+			DlqSendWindow dlqSendWindow = this.dlqSendWindows.get(dlqSendWindowKey(destination, group));
+			if (dlqSendWindow != null) {
+				dlqSendWindow.setSendTimeout(sendTimeout);
+				AbstractApplicationContext applicationContext = getApplicationContext();
+				MetricsCaptor metricsCaptor = applicationContext != null
+						? applicationContext.getBeanProvider(MetricsCaptor.class).getIfUnique() : null;
+				if (metricsCaptor != null) {
+					dlqSendWindow.registerMetricsCaptor(metricsCaptor);
+				}
+			}
 			@SuppressWarnings("rawtypes")
-			DlqSender<?, ?> dlqSender = new DlqSender(kafkaTemplate, sendTimeout);
+			DlqSender<?, ?> dlqSender = new DlqSender(kafkaTemplate, sendTimeout, dlqSendWindow);
 
 			return (message) -> {
 				List<ConsumerRecord<Object, Object>> records;
@@ -1323,8 +1481,10 @@ public class KafkaMessageChannelBinder extends
 
 					final String[] headersToEmbed = new ArrayList<>(
 							messageValues.keySet()).toArray(new String[0]);
+					// keep the format of the failed record, which the DLQ consumers understand
 					byte[] payload = EmbeddedHeaderUtils.embedHeaders(
 							messageValues,
+							EmbeddedHeaderUtils.isJsonFormat((byte[]) record.value()),
 							EmbeddedHeaderUtils.headersToEmbed(headersToEmbed));
 					recordToSend.set(new ConsumerRecord<Object, Object>(
 							record.topic(), record.partition(), record.offset(),
@@ -1534,16 +1694,32 @@ public class KafkaMessageChannelBinder extends
 	}
 
 	final class ProducerConfigurationMessageHandler
-			extends KafkaProducerMessageHandler<byte[], byte[]> {
+			extends KafkaProducerMessageHandler<byte[], byte[]> implements BulkMessageHandler, ConfirmingMessageHandler {
 
 		private boolean running = true;
 
+		private final boolean sync;
+
+		private final Map<Object, CompletableFuture<RecordMetadata>> pendingConfirms = new ConcurrentHashMap<>();
+
+		private final AtomicLong futureTokens = new AtomicLong();
+
 		private final ProducerFactory<byte[], byte[]> producerFactory;
 
 		PartitionHandler kafkaPartitionHandler = null;
 
 		private String topic;
 
+		private Duration partitionCountRefreshInterval;
+
+		private int partitionCount;
+
+		@Nullable
+		private ScheduledFuture<?> partitionCountRefresh;
+
+		// only accessed by the (single) thread of the partition count refresher
+		private boolean partitionCountRefreshFailing;
+
 		ProducerConfigurationMessageHandler(KafkaTemplate<byte[], byte[]> kafkaTemplate,
 				String topic,
 				ExtendedProducerProperties<KafkaProducerProperties> producerProperties,
@@ -1551,28 +1727,31 @@ public class KafkaMessageChannelBinder extends
 
 			super(kafkaTemplate);
 			this.topic = topic;
+			SpelExpressionParser parser = KafkaMessageChannelBinder.this.getExpressionParser();
 
 			if (producerProperties.getExtension().isUseTopicHeader()) {
-				setTopicExpression(PARSER.parseExpression("headers['" + KafkaHeaders.TOPIC + "'] ?: '" + topic + "'"));
+				setTopicExpression(parser.parseExpression("headers['" + KafkaHeaders.TOPIC + "'] ?: '" + topic + "'"));
 			}
 			else {
 				setTopicExpression(new LiteralExpression(topic));
 			}
 			Expression messageKeyExpression = producerProperties.getExtension().getMessageKeyExpression();
 			if (expressionInterceptorNeeded(producerProperties)) {
-				messageKeyExpression = PARSER.parseExpression("headers['"
+				messageKeyExpression = parser.parseExpression("headers['"
 						+ KafkaExpressionEvaluatingInterceptor.MESSAGE_KEY_HEADER
 						+ "']");
 			}
 			setMessageKeyExpression(messageKeyExpression);
 			setBeanFactory(KafkaMessageChannelBinder.this.getBeanFactory());
 			if (producerProperties.isPartitioned()) {
-				setPartitionIdExpression(PARSER.parseExpression(
+				setPartitionIdExpression(parser.parseExpression(
 						"headers['" + BinderHeaders.PARTITION_HEADER + "']"));
 			}
-			if (producerProperties.getExtension().isSync()) {
+			this.sync = producerProperties.getExtension().isSync();
+			if (this.sync) {
 				setSync(true);
 			}
+			setFuturesChannel(new FixedSubscriberChannel(this::confirm));
 			if (producerProperties.getExtension().getSendTimeoutExpression() != null) {
 				setSendTimeoutExpression(producerProperties.getExtension().getSendTimeoutExpression());
 			}
@@ -1593,6 +1772,12 @@ public class KafkaMessageChannelBinder extends
 				kafkaPartitionHandler =
 					new PartitionHandler(ExpressionUtils.createStandardEvaluationContext(beanFactory),
 						producerProperties, beanFactory);
+				this.partitionCount = producerProperties.getPartitionCount();
+				this.partitionCountRefreshInterval = producerProperties.getExtension().getPartitionCountRefreshInterval();
+				// the partition is set on the record, with the partition count refreshed in the background
+				setProducerRecordCreator((message, recordTopic, partition, timestamp, key, value, headers) ->
+					new ProducerRecord<>(recordTopic, this.kafkaPartitionHandler.determinePartition(message),
+						timestamp, key, value, headers));
 			}
 		}
 
@@ -1605,11 +1790,58 @@ public class KafkaMessageChannelBinder extends
 				this.logger.error(ex, "Initialization errors: ");
 				throw new RuntimeException(ex);
 			}
+			if (!this.running) {
+				KafkaMessageChannelBinder.this.sharedProducerFactories.reacquire(this.producerFactory);
+				this.running = true;
+			}
+			if (this.kafkaPartitionHandler != null && this.partitionCountRefresh == null) {
+				long interval = this.partitionCountRefreshInterval.toMillis();
+				this.partitionCountRefresh = getPartitionCountRefresher().scheduleWithFixedDelay(
+						this::refreshPartitionCount, interval, interval, TimeUnit.MILLISECONDS);
+			}
+		}
+
+		private void refreshPartitionCount() {
+			try {
+				int partitionCount = getKafkaTemplate().partitionsFor(this.topic).size();
+				if (partitionCount != this.partitionCount) {
+					this.kafkaPartitionHandler.setPartitionCount(partitionCount);
+					this.partitionCount = partitionCount;
+					this.logger.info(() -> "The partition count of topic " + this.topic + " changed to "
+							+ partitionCount);
+				}
+				if (this.partitionCountRefreshFailing) {
+					this.partitionCountRefreshFailing = false;
+					this.logger.info(() -> "Refreshed the partition count of topic " + this.topic + " again");
+				}
+			}
+			catch (Exception ex) {
+				// warn once per run of consecutive failures, the following ones are only logged at debug level
+				if (this.partitionCountRefreshFailing) {
+					this.logger.debug(ex, () -> "Failed to refresh the partition count of topic " + this.topic);
+				}
+				else {
+					this.partitionCountRefreshFailing = true;
+					this.logger.warn(ex, () -> "Failed to refresh the partition count of topic " + this.topic
+							+ "; further failures are logged at debug level until a refresh succeeds");
+				}
+			}
 		}
 
 		@Override
 		public void stop() {
-			if (this.producerFactory instanceof DisposableBean disposableProducerFactory) {
+			if (this.partitionCountRefresh != null) {
+				this.partitionCountRefresh.cancel(false);
+				this.partitionCountRefresh = null;
+			}
+			SharedProducerFactories sharedProducerFactories = KafkaMessageChannelBinder.this.sharedProducerFactories;
+			if (sharedProducerFactories.isShared(this.producerFactory)) {
+				// destroyed along with the last binding using it
+				if (this.running) {
+					sharedProducerFactories.release(this.producerFactory);
+				}
+			}
+			else if (this.producerFactory instanceof DisposableBean disposableProducerFactory) {
 				try {
 					disposableProducerFactory.destroy();
 				}
@@ -1626,22 +1858,74 @@ public class KafkaMessageChannelBinder extends
 			return this.running;
 		}
 
+		/*
+		 * All records of the batch are handed over to the producer, which batches them as per
+		 * 'linger.ms' and 'batch.size', before waiting for the acknowledgement of these records only
+		 * (flushing the producer would block on the records of the other bindings sharing it).
+		 * For 'sync' producers each record is already acknowledged as it is sent.
+		 */
 		@Override
-		public void handleMessage(Message<?> message) {
-
-			// if we use our own partition handler to update the partition count, we recalculate the partition
-			if (kafkaPartitionHandler != null) {
-				kafkaPartitionHandler.setPartitionCount(getKafkaTemplate().partitionsFor(this.topic).size());
-				int partitionId = kafkaPartitionHandler.determinePartition(message);
-
-				Message<?> newMessage = MessageBuilder
-					.fromMessage(message)
-					.setHeader(BinderHeaders.PARTITION_HEADER, partitionId).build();
+		public void handleMessages(List<? extends Message<?>> messages) {
+			if (this.sync) {
+				for (Message<?> message : messages) {
+					handleMessage(message);
+				}
+				return;
+			}
+			List<CompletableFuture<?>> sends = new ArrayList<>(messages.size());
+			for (Message<?> message : messages) {
+				sends.add(handleMessageAsync(message));
+			}
+			try {
+				CompletableFuture.allOf(sends.toArray(new CompletableFuture<?>[0])).get();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new MessagingException("Interrupted while waiting for the records sent to " + this.topic
+						+ " to be acknowledged", ex);
+			}
+			catch (ExecutionException ex) {
+				throw new MessagingException("Failed to send records to " + this.topic, ex.getCause());
+			}
+		}
 
-				super.handleMessage(newMessage);
+		/*
+		 * The send future of the template is correlated with the message via the future token header;
+		 * the futures channel is invoked on the calling thread before 'handleMessage' returns.
+		 */
+		@Override
+		public CompletableFuture<org.springframework.cloud.stream.binder.SendResult> handleMessageAsync(Message<?> message) {
+			Long futureToken = this.futureTokens.incrementAndGet();
+			CompletableFuture<RecordMetadata> confirm = new CompletableFuture<>();
+			this.pendingConfirms.put(futureToken, confirm);
+			try {
+				handleMessage(MessageBuilder.fromMessage(message)
+						.setHeader(KafkaIntegrationHeaders.FUTURE_TOKEN, futureToken)
+						.build());
 			}
-			else {
-				super.handleMessage(message);
+			finally {
+				if (this.pendingConfirms.remove(futureToken) != null) {
+					confirm.completeExceptionally(new MessagingException(message,
+							"No send future was produced for the message sent to " + this.topic));
+				}
+			}
+			return confirm.thenApply(metadata -> new org.springframework.cloud.stream.binder.SendResult(message, metadata));
+		}
+
+		@SuppressWarnings("unchecked")
+		private void confirm(Message<?> futureMessage) {
+			CompletableFuture<RecordMetadata> confirm = this.pendingConfirms
+					.remove(futureMessage.getHeaders().get(KafkaIntegrationHeaders.FUTURE_TOKEN));
+			if (confirm != null) {
+				((CompletableFuture<SendResult<byte[], byte[]>>) futureMessage.getPayload())
+						.whenComplete((sendResult, ex) -> {
+							if (ex != null) {
+								confirm.completeExceptionally(ex);
+							}
+							else {
+								confirm.complete(sendResult.getRecordMetadata());
+							}
+						});
 			}
 		}
 	}
@@ -1658,9 +1942,13 @@ public class KafkaMessageChannelBinder extends
 
 		private final long sendTimeout;
 
-		DlqSender(KafkaTemplate<K, V> kafkaTemplate, long timeout) {
+		@Nullable
+		private final DlqSendWindow window;
+
+		DlqSender(KafkaTemplate<K, V> kafkaTemplate, long timeout, @Nullable DlqSendWindow window) {
 			this.kafkaTemplate = kafkaTemplate;
 			this.sendTimeout = timeout;
+			this.window = window;
 		}
 
 		@SuppressWarnings("unchecked")
@@ -1681,7 +1969,9 @@ public class KafkaMessageChannelBinder extends
 					.append(consumerRecord.partition());
 			CompletableFuture<SendResult<K, V>> sentDlq = null;
 			try {
-				sentDlq = this.kafkaTemplate.send(producerRecord);
+				sentDlq = this.window != null
+						? this.window.send(() -> this.kafkaTemplate.send(producerRecord))
+						: this.kafkaTemplate.send(producerRecord);
 				sentDlq.whenComplete((result, ex) -> {
 					if (ex != null) {
 						KafkaMessageChannelBinder.this.logger.error("Error sending to DLQ " + sb, ex);
@@ -1692,13 +1982,14 @@ public class KafkaMessageChannelBinder extends
 						}
 					}
 				});
-				try {
+				if (this.window == null) {
 					sentDlq.get(this.sendTimeout, TimeUnit.MILLISECONDS);
 				}
-				catch (InterruptedException ex) {
-					Thread.currentThread().interrupt();
-					throw ex;
-				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				KafkaMessageChannelBinder.this.logger
+						.error("Error sending to DLQ " + sb.toString(), ex);
 			}
 			catch (Exception ex) {
 				KafkaMessageChannelBinder.this.logger
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.target.HotSwappableTargetSource;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.lang.Nullable;
+
+/**
+ * Producer factories shared by the non-transactional output bindings of a binder whose
+ * effective producer configurations are the same, so that these bindings share one
+ * {@link org.apache.kafka.clients.producer.KafkaProducer} (and its I/O thread, buffer
+ * memory and broker connections) rather than each having its own.
+ * <p>
+ * The factories are reference counted: a factory is destroyed, closing its producer,
+ * when the last binding using it releases it, and is then forgotten. Each binding is
+ * handed its own {@link ProducerFactory} delegating to the shared factory, so that a
+ * binding restarted after the factory it used was destroyed is switched over to a fresh
+ * factory for its configuration.
+ *
+ * @since 5.0.1
+ */
+final class SharedProducerFactories {
+
+	private final Map<Key, SharedProducerFactory> factories = new HashMap<>();
+
+	/**
+	 * Acquire the factory for the given effective configuration, creating it if there is
+	 * none yet.
+	 * @param configs the effective producer configuration of the binding
+	 * @param closeTimeout the close timeout of the producer of the binding
+	 * @param factorySupplier creates the factory, if needed
+	 * @return the factory of the binding, delegating to the shared factory
+	 */
+	@SuppressWarnings("unchecked")
+	synchronized ProducerFactory<byte[], byte[]> acquire(Map<String, Object> configs, int closeTimeout,
+			Supplier<DefaultKafkaProducerFactory<byte[], byte[]>> factorySupplier) {
+
+		Key key = new Key(Collections.unmodifiableMap(new HashMap<>(configs)), closeTimeout);
+		BindingTargetSource targetSource = new BindingTargetSource(key, factorySupplier,
+				acquire(key, factorySupplier));
+		return (ProducerFactory<byte[], byte[]>) new ProxyFactory(ProducerFactory.class, targetSource).getProxy();
+	}
+
+	private DefaultKafkaProducerFactory<byte[], byte[]> acquire(Key key,
+			Supplier<DefaultKafkaProducerFactory<byte[], byte[]>> factorySupplier) {
+
+		SharedProducerFactory shared = this.factories.computeIfAbsent(key,
+				k -> new SharedProducerFactory(factorySupplier.get()));
+		shared.references++;
+		return shared.factory;
+	}
+
+	/**
+	 * @param factory a producer factory
+	 * @return whether the factory is the factory of a binding sharing its producer
+	 */
+	boolean isShared(ProducerFactory<?, ?> factory) {
+		return targetSource(factory) != null;
+	}
+
+	/**
+	 * @param factory the factory of a binding
+	 * @return the shared factory the factory of the binding currently delegates to
+	 */
+	@Nullable
+	DefaultKafkaProducerFactory<?, ?> getSharedFactory(ProducerFactory<?, ?> factory) {
+		BindingTargetSource targetSource = targetSource(factory);
+		return targetSource != null ? (DefaultKafkaProducerFactory<?, ?>) targetSource.getTarget() : null;
+	}
+
+	/**
+	 * Acquire again the shared factory previously {@link #release(ProducerFactory)
+	 * released} by a binding, e.g. when restarting the binding; if it was destroyed since,
+	 * a fresh factory is acquired for the configuration of the binding. Has no effect for
+	 * other factories.
+	 * @param factory the factory of the binding
+	 */
+	synchronized void reacquire(ProducerFactory<?, ?> factory) {
+		BindingTargetSource targetSource = targetSource(factory);
+		if (targetSource != null && !targetSource.acquired) {
+			targetSource.swap(acquire(targetSource.key, targetSource.factorySupplier));
+			targetSource.acquired = true;
+		}
+	}
+
+	/**
+	 * Release the shared factory of a binding, destroying it when no binding uses it
+	 * anymore; has no effect for other factories.
+	 * @param factory the factory of the binding
+	 */
+	void release(ProducerFactory<?, ?> factory) {
+		DefaultKafkaProducerFactory<byte[], byte[]> unused = null;
+		synchronized (this) {
+			BindingTargetSource targetSource = targetSource(factory);
+			if (targetSource != null && targetSource.acquired) {
+				targetSource.acquired = false;
+				SharedProducerFactory shared = this.factories.get(targetSource.key);
+				if (shared != null && --shared.references == 0) {
+					this.factories.remove(targetSource.key);
+					unused = shared.factory;
+				}
+			}
+		}
+		if (unused != null) {
+			unused.destroy();
+		}
+	}
+
+	synchronized int size() {
+		return this.factories.size();
+	}
+
+	@Nullable
+	private static BindingTargetSource targetSource(ProducerFactory<?, ?> factory) {
+		return factory instanceof Advised advised && advised.getTargetSource() instanceof BindingTargetSource targetSource
+				? targetSource : null;
+	}
+
+	private record Key(Map<String, Object> configs, int closeTimeout) {
+	}
+
+	private static final class SharedProducerFactory {
+
+		private final DefaultKafkaProducerFactory<byte[], byte[]> factory;
+
+		private int references;
+
+		SharedProducerFactory(DefaultKafkaProducerFactory<byte[], byte[]> factory) {
+			this.factory = factory;
+		}
+
+	}
+
+	/**
+	 * The shared factory a binding delegates to, along with what it takes to acquire a
+	 * fresh one; guarded by the {@link SharedProducerFactories} instance.
+	 */
+	@SuppressWarnings("serial")
+	private static final class BindingTargetSource extends HotSwappableTargetSource {
+
+		private final Key key;
+
+		private final Supplier<DefaultKafkaProducerFactory<byte[], byte[]>> factorySupplier;
+
+		private boolean acquired = true;
+
+		BindingTargetSource(Key key, Supplier<DefaultKafkaProducerFactory<byte[], byte[]>> factorySupplier,
+				DefaultKafkaProducerFactory<byte[], byte[]> factory) {
+
+			super(factory);
+			this.key = key;
+			this.factorySupplier = factorySupplier;
+		}
+
+	}
+
+}
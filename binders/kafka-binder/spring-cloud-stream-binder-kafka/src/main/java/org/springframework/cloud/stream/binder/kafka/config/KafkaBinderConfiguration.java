@@ -204,7 +204,7 @@ public class KafkaBinderConfiguration {
 				MeterRegistry meterRegistry) {
 
 			return new KafkaBinderMetrics(kafkaMessageChannelBinder,
-					configurationProperties, null, meterRegistry);
+					configurationProperties, meterRegistry);
 		}
 
 		@ConditionalOnClass(name = "org.springframework.kafka.core.MicrometerConsumerListener")
@@ -254,7 +254,7 @@ public class KafkaBinderConfiguration {
 			MeterRegistry meterRegistry = context.getBean("outerContext", ApplicationContext.class)
 					.getBean(MeterRegistry.class);
 			return new KafkaBinderMetrics(kafkaMessageChannelBinder,
-					configurationProperties, null, meterRegistry);
+					configurationProperties, meterRegistry);
 		}
 
 		@ConditionalOnClass(name = "org.springframework.kafka.core.MicrometerConsumerListener")
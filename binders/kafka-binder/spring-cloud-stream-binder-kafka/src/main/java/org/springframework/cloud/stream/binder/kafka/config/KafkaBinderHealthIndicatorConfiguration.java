@@ -77,6 +77,8 @@ public class KafkaBinderHealthIndicatorConfiguration {
 				kafkaMessageChannelBinder, consumerFactory);
 		indicator.setTimeout(configurationProperties.getHealthTimeout());
 		indicator.setConsiderDownWhenAnyPartitionHasNoLeader(configurationProperties.isConsiderDownWhenAnyPartitionHasNoLeader());
+		indicator.setMetadataRefreshInterval(configurationProperties.getHealthMetadataRefreshInterval());
+		indicator.setMetadataMaxStaleness(configurationProperties.getHealthMetadataMaxStaleness());
 		return indicator;
 	}
 
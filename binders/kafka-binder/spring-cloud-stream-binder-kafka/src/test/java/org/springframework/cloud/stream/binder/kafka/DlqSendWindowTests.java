@@ -0,0 +1,203 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.support.management.micrometer.MicrometerMetricsCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class DlqSendWindowTests {
+
+	@Test
+	void sendsWaitForRoomInTheWindow() throws Exception {
+		DlqSendWindow window = new DlqSendWindow("topic", "group", 1);
+		window.setSendTimeout(10_000);
+		CompletableFuture<String> first = new CompletableFuture<>();
+		window.send(() -> first);
+
+		AtomicBoolean secondSent = new AtomicBoolean();
+		CountDownLatch done = new CountDownLatch(1);
+		new Thread(() -> {
+			try {
+				window.send(() -> {
+					secondSent.set(true);
+					return CompletableFuture.completedFuture("second");
+				});
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			done.countDown();
+		}).start();
+
+		assertThat(done.await(200, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(secondSent).isFalse();
+		first.complete("first");
+		assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(secondSent).isTrue();
+		assertThat(window.getInFlight()).isZero();
+	}
+
+	@Test
+	void sendsFailWhenTheWindowStaysFull() throws Exception {
+		DlqSendWindow window = new DlqSendWindow("topic", "group", 1);
+		window.setSendTimeout(100);
+		window.send(CompletableFuture::new);
+
+		AtomicBoolean secondSent = new AtomicBoolean();
+		assertThatExceptionOfType(TimeoutException.class).isThrownBy(() -> window.send(() -> {
+			secondSent.set(true);
+			return CompletableFuture.completedFuture("second");
+		})).withMessageContaining("topic");
+		assertThat(secondSent).isFalse();
+		assertThat(window.getInFlight()).isEqualTo(1);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void commitsWaitForTheSendsInFlight() throws Exception {
+		DlqSendWindow window = new DlqSendWindow("topic", "group", 10);
+		window.setSendTimeout(10_000);
+		Consumer<byte[], byte[]> consumer = mock(Consumer.class);
+		Consumer<byte[], byte[]> gated = window.gate(consumer);
+		CompletableFuture<String> sent = new CompletableFuture<>();
+
+		new Thread(() -> {
+			try {
+				window.send(() -> sent);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			gated.commitSync();
+		}).start();
+
+		verify(consumer, after(200).never()).commitSync();
+		sent.complete("sent");
+		verify(consumer, timeout(10_000)).commitSync();
+		assertThat(window.getInFlight()).isZero();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void commitsDoNotWaitForTheSendsOfOtherConsumers() throws Exception {
+		DlqSendWindow window = new DlqSendWindow("topic", "group", 10);
+		window.setSendTimeout(10_000);
+		Consumer<byte[], byte[]> consumer = mock(Consumer.class);
+		Consumer<byte[], byte[]> gated = window.gate(consumer);
+		CountDownLatch sent = new CountDownLatch(1);
+
+		new Thread(() -> {
+			try {
+				window.send(CompletableFuture::new);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			sent.countDown();
+		}).start();
+		assertThat(sent.await(10, TimeUnit.SECONDS)).isTrue();
+
+		gated.commitSync();
+		verify(consumer).commitSync();
+		assertThat(window.getInFlight()).isEqualTo(1);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void commitsFailAndConsumerIsRewoundWhenASendFails() throws Exception {
+		DlqSendWindow window = new DlqSendWindow("topic", "group", 10);
+		window.setSendTimeout(10_000);
+		Consumer<byte[], byte[]> consumer = mock(Consumer.class);
+		TopicPartition partition = new TopicPartition("topic", 0);
+		given(consumer.assignment()).willReturn(Set.of(partition));
+		given(consumer.committed(Set.of(partition))).willReturn(Map.of(partition, new OffsetAndMetadata(42)));
+		Consumer<byte[], byte[]> gated = window.gate(consumer);
+
+		window.send(() -> CompletableFuture.failedFuture(new IllegalStateException("DLQ not available")));
+
+		assertThatExceptionOfType(KafkaException.class).isThrownBy(gated::commitSync)
+			.withMessageContaining("topic")
+			.withRootCauseInstanceOf(IllegalStateException.class);
+		verify(consumer, never()).commitSync();
+		verify(consumer).seek(partition, new OffsetAndMetadata(42));
+
+		gated.commitSync();
+		verify(consumer).commitSync();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void commitsFailWhenSendsAreNotAcknowledgedInTime() throws Exception {
+		DlqSendWindow window = new DlqSendWindow("topic", "group", 10);
+		window.setSendTimeout(100);
+		Consumer<byte[], byte[]> consumer = mock(Consumer.class);
+		Consumer<byte[], byte[]> gated = window.gate(consumer);
+
+		window.send(CompletableFuture::new);
+
+		assertThatExceptionOfType(TimeoutException.class).isThrownBy(() -> gated.commitAsync())
+			.withMessageContaining("topic");
+		verify(consumer, never()).commitAsync();
+	}
+
+	@Test
+	void metricsAreRecorded() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		DlqSendWindow window = new DlqSendWindow("topic", "group", 10);
+		window.registerMetricsCaptor(new MicrometerMetricsCaptor(registry));
+
+		CompletableFuture<String> pending = new CompletableFuture<>();
+		window.send(() -> pending);
+		window.send(() -> CompletableFuture.completedFuture("sent"));
+
+		assertThat(registry.get(DlqSendWindow.IN_FLIGHT_METRIC_NAME).tag("topic", "topic").gauge().value())
+			.isEqualTo(1);
+		pending.complete("sent");
+		assertThat(registry.get(DlqSendWindow.IN_FLIGHT_METRIC_NAME).tag("topic", "topic").gauge().value())
+			.isZero();
+		assertThat(registry.get(DlqSendWindow.SEND_METRIC_NAME).tag("result", "success").timer().count())
+			.isEqualTo(2);
+
+		window.close();
+		assertThat(registry.find(DlqSendWindow.IN_FLIGHT_METRIC_NAME).meters()).isEmpty();
+		assertThat(registry.find(DlqSendWindow.SEND_METRIC_NAME).meters()).isEmpty();
+	}
+
+}
@@ -23,11 +23,18 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
 import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartitionInfo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -38,13 +45,16 @@ import org.mockito.MockitoAnnotations;
 
 import org.springframework.boot.health.contributor.Health;
 import org.springframework.boot.health.contributor.Status;
+import org.springframework.cloud.stream.binder.kafka.common.AbstractKafkaBinderHealthIndicator;
 import org.springframework.cloud.stream.binder.kafka.common.TopicInformation;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.AbstractMessageListenerContainer;
 
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 
 /**
  * @author Barry Commins
@@ -297,6 +307,118 @@ class KafkaBinderHealthIndicatorTest {
 		assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
 	}
 
+	@Test
+	void snapshotIsReadWithoutQueryingTheBroker() {
+		Node node0 = new Node(0, "host0", 9092);
+		Node node1 = new Node(1, "host1", 9092);
+		topicsInUse.put(TEST_TOPIC, new TopicInformation(
+				"group1-healthIndicator", partitions(node0), false));
+		Admin admin = mockAdmin(new TopicPartitionInfo(0, node0, List.of(node0, node1), List.of(node0)));
+		KafkaBinderHealthIndicator indicator = snapshotIndicator(admin, Duration.ofHours(1), null);
+
+		indicator.health();
+		Health health = indicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(health.getDetails()).containsEntry("topicsInUse", singleton(TEST_TOPIC));
+		assertThat(health.getDetails()).containsEntry("underReplicatedPartitions", singleton("test-0"));
+		Mockito.verify(admin).describeTopics(anyCollection());
+		Mockito.verify(this.consumerFactory, Mockito.never()).createConsumer();
+		indicator.destroy();
+	}
+
+	@Test
+	void snapshotReportsPartitionsWithoutLeader() {
+		Node node0 = new Node(0, "host0", 9092);
+		topicsInUse.put(TEST_TOPIC, new TopicInformation(
+				"group1-healthIndicator", partitions(node0), false));
+		Admin admin = mockAdmin(new TopicPartitionInfo(0, Node.noNode(), List.of(node0), List.of()));
+		KafkaBinderHealthIndicator indicator = snapshotIndicator(admin, Duration.ofHours(1), null);
+
+		Health health = indicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsEntry("Following partitions in use have no leaders: ", "[test-0]");
+		indicator.destroy();
+	}
+
+	@Test
+	void staleSnapshotReportsDown() throws InterruptedException {
+		Node node0 = new Node(0, "host0", 9092);
+		topicsInUse.put(TEST_TOPIC, new TopicInformation(
+				"group1-healthIndicator", partitions(node0), false));
+		Admin admin = mockAdmin(new TopicPartitionInfo(0, node0, List.of(node0), List.of(node0)));
+		KafkaBinderHealthIndicator indicator = snapshotIndicator(admin, Duration.ofHours(1), Duration.ofMillis(1));
+
+		indicator.health();
+		Thread.sleep(50);
+		Health health = indicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsKey("Topic metadata is stale");
+		indicator.destroy();
+	}
+
+	@Test
+	void snapshotReportsUnreachableBroker() {
+		Admin admin = Mockito.mock(Admin.class);
+		org.mockito.BDDMockito.given(admin.describeCluster()).willThrow(new KafkaException("not reachable"));
+		KafkaBinderHealthIndicator indicator = snapshotIndicator(admin, Duration.ofHours(1), null);
+
+		Health health = indicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsEntry("No topic information available",
+				"Kafka broker is not reachable");
+		indicator.destroy();
+	}
+
+	@Test
+	void snapshotRequiresAdminSupplier() {
+		AbstractKafkaBinderHealthIndicator indicator = new AbstractKafkaBinderHealthIndicator(consumerFactory) {
+
+			@Override
+			protected Map<String, TopicInformation> getTopicsInUse() {
+				return topicsInUse;
+			}
+
+			@Override
+			protected Health buildBinderSpecificHealthDetails() {
+				return Health.unknown().build();
+			}
+
+			@Override
+			protected ExecutorService createHealthBinderExecutorService() {
+				return Executors.newSingleThreadExecutor();
+			}
+
+		};
+
+		indicator.setMetadataRefreshInterval(null);
+		assertThatIllegalStateException().isThrownBy(() -> indicator.setMetadataRefreshInterval(Duration.ofSeconds(1)))
+				.withMessageContaining("Admin supplier");
+		indicator.destroy();
+	}
+
+	private KafkaBinderHealthIndicator snapshotIndicator(Admin admin, Duration refreshInterval,
+			Duration maxStaleness) {
+
+		KafkaBinderHealthIndicator indicator = new KafkaBinderHealthIndicator(binder, consumerFactory, () -> admin);
+		indicator.setTimeout(10);
+		indicator.setMetadataRefreshInterval(refreshInterval);
+		indicator.setMetadataMaxStaleness(maxStaleness);
+		return indicator;
+	}
+
+	private Admin mockAdmin(TopicPartitionInfo partition) {
+		Admin admin = Mockito.mock(Admin.class);
+		DescribeTopicsResult result = Mockito.mock(DescribeTopicsResult.class);
+		org.mockito.BDDMockito.given(result.topicNameValues()).willReturn(Map.of(TEST_TOPIC,
+				KafkaFuture.completedFuture(new TopicDescription(TEST_TOPIC, false, List.of(partition)))));
+		org.mockito.BDDMockito.given(admin.describeTopics(anyCollection())).willReturn(result);
+		return admin;
+	}
+
 	private List<PartitionInfo> partitions(Node leader) {
 		List<PartitionInfo> partitions = new ArrayList<>();
 		partitions.add(new PartitionInfo(TEST_TOPIC, 0, leader, null, null));
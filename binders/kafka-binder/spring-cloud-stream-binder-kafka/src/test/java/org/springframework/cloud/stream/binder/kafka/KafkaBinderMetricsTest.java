@@ -18,36 +18,49 @@ package org.springframework.cloud.stream.binder.kafka;
 
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.config.MeterFilter;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsSpec;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
 import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
 import org.springframework.cloud.stream.binder.kafka.common.TopicInformation;
 import org.springframework.cloud.stream.binder.kafka.properties.KafkaBinderConfigurationProperties;
-import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Henryk Konsek
@@ -66,10 +79,7 @@ class KafkaBinderMetricsTest {
 	private KafkaBinderMetrics metrics;
 
 	@Mock
-	private DefaultKafkaConsumerFactory consumerFactory;
-
-	@Mock
-	private KafkaConsumer consumer;
+	private Admin admin;
 
 	@Mock
 	private KafkaMessageChannelBinder binder;
@@ -78,75 +88,80 @@ class KafkaBinderMetricsTest {
 
 	private Map<String, TopicInformation> topicsInUse = new HashMap<>();
 
+	private final Map<TopicPartition, Long> endOffsets = new HashMap<>();
+
+	private final Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+
+	private final Map<String, Map<TopicPartition, OffsetAndMetadata>> committedOffsets = new HashMap<>();
+
+	private final Map<String, TopicDescription> topicDescriptions = new HashMap<>();
+
+	private final AtomicInteger adminCreations = new AtomicInteger();
+
+	private RuntimeException adminCreationFailure;
+
 	@Mock(answer = Answers.RETURNS_DEEP_STUBS)
 	private KafkaBinderConfigurationProperties kafkaBinderConfigurationProperties;
 
 	@BeforeEach
 	public void setup() {
 		MockitoAnnotations.openMocks(this);
-		org.mockito.BDDMockito.given(consumerFactory
-				.createConsumer(ArgumentMatchers.any(), ArgumentMatchers.any()))
-			.willReturn(consumer);
-		org.mockito.BDDMockito.given(binder.getTopicsInUse()).willReturn(topicsInUse);
-		org.mockito.BDDMockito.given(kafkaBinderConfigurationProperties.getMetrics().isDefaultOffsetLagMetricsEnabled())
+		given(binder.getTopicsInUse()).willReturn(topicsInUse);
+		given(kafkaBinderConfigurationProperties.getMetrics().isDefaultOffsetLagMetricsEnabled())
 			.willReturn(true);
-		org.mockito.BDDMockito.given(kafkaBinderConfigurationProperties.getMetrics().getOffsetLagMetricsInterval())
+		given(kafkaBinderConfigurationProperties.getMetrics().getOffsetLagMetricsInterval())
 			.willReturn(Duration.ofSeconds(60));
-		metrics = new KafkaBinderMetrics(binder, kafkaBinderConfigurationProperties,
-			consumerFactory, meterRegistry
-		);
-		org.mockito.BDDMockito
-			.given(consumer.endOffsets(ArgumentMatchers.anyCollection()))
-			.willReturn(java.util.Collections
-				.singletonMap(new TopicPartition(TEST_TOPIC, 0), 1000L));
+		metrics = new KafkaBinderMetrics(binder, kafkaBinderConfigurationProperties, meterRegistry) {
+
+			@Override
+			protected Admin createAdmin() {
+				adminCreations.incrementAndGet();
+				RuntimeException failure = adminCreationFailure;
+				if (failure != null) {
+					adminCreationFailure = null;
+					throw failure;
+				}
+				return admin;
+			}
+
+		};
+		endOffsets.put(new TopicPartition(TEST_TOPIC, 0), 1000L);
+		stubAdmin();
 	}
 
 	@Test
 	void shouldIndicateLag() {
-		final Map<TopicPartition, OffsetAndMetadata> committed = new HashMap<>();
-		TopicPartition topicPartition = new TopicPartition(TEST_TOPIC, 0);
-		committed.put(topicPartition, new OffsetAndMetadata(500));
-		org.mockito.BDDMockito
-			.given(consumer.committed(ArgumentMatchers.anySet()))
-			.willReturn(committed);
-		List<PartitionInfo> partitions = partitions(new Node(0, null, 0));
+		committedOffsets.put("group1-metrics", Map.of(new TopicPartition(TEST_TOPIC, 0), new OffsetAndMetadata(500)));
 		topicsInUse.put(
 			TEST_TOPIC,
-			new TopicInformation("group1-metrics", partitions, false)
+			new TopicInformation("group1-metrics", partitions(new Node(0, null, 0)), false)
 		);
-		org.mockito.BDDMockito.given(consumer.partitionsFor(TEST_TOPIC))
-			.willReturn(partitions);
 		metrics.bindTo(meterRegistry);
-		assertThat(meterRegistry.getMeters()).hasSize(1);
+		assertThat(meterRegistry.find(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME).meters()).hasSize(1);
 		assertThat(meterRegistry.get(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME)
 			.tag("group", "group1-metrics").tag("topic", TEST_TOPIC).gauge().value())
 			.isEqualTo(500.0);
+		assertThat(meterRegistry.get(KafkaBinderMetrics.PARTITION_OFFSET_LAG_METRIC_NAME)
+			.tag("group", "group1-metrics").tag("topic", TEST_TOPIC).tag("partition", "0").gauge().value())
+			.isEqualTo(500.0);
 	}
 
 	@Test
 	void shouldFallbackToScheduledOffsetLagComputationWhenRealtimeOffsetLagIsDisabled() {
-		final Map<TopicPartition, OffsetAndMetadata> committed = new HashMap<>();
-		TopicPartition topicPartition = new TopicPartition(TEST_TOPIC, 0);
-		committed.put(topicPartition, new OffsetAndMetadata(500));
-		org.mockito.BDDMockito
-			.given(consumer.committed(ArgumentMatchers.anySet()))
-			.willReturn(committed);
-		List<PartitionInfo> partitions = partitions(new Node(0, null, 0));
+		committedOffsets.put("group1-metrics", Map.of(new TopicPartition(TEST_TOPIC, 0), new OffsetAndMetadata(500)));
 		topicsInUse.put(
 			TEST_TOPIC,
-			new TopicInformation("group1-metrics", partitions, false)
+			new TopicInformation("group1-metrics", partitions(new Node(0, null, 0)), false)
 		);
-		org.mockito.BDDMockito.given(consumer.partitionsFor(TEST_TOPIC))
-			.willReturn(partitions);
-		org.mockito.BDDMockito.given(kafkaBinderConfigurationProperties.getMetrics().isDefaultOffsetLagMetricsEnabled())
+		given(kafkaBinderConfigurationProperties.getMetrics().isDefaultOffsetLagMetricsEnabled())
 			.willReturn(false);
 		metrics.bindTo(meterRegistry);
-		assertThat(meterRegistry.getMeters()).hasSize(1);
+		assertThat(meterRegistry.find(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME).meters()).hasSize(1);
 		assertThat(meterRegistry.get(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME)
 			.tag("group", "group1-metrics").tag("topic", TEST_TOPIC).gauge().value())
 			.isEqualTo(0);
 
-		org.mockito.BDDMockito.given(kafkaBinderConfigurationProperties.getMetrics().getOffsetLagMetricsInterval())
+		given(kafkaBinderConfigurationProperties.getMetrics().getOffsetLagMetricsInterval())
 			.willReturn(Duration.ofSeconds(1));
 		metrics.bindTo(meterRegistry);
 		Awaitility.waitAtMost(Duration.ofSeconds(5)).untilAsserted(() -> {
@@ -163,16 +178,11 @@ class KafkaBinderMetricsTest {
 			MeterFilter.denyNameStartsWith("spring.cloud.stream.binder.kafka.offset"));
 
 		// Because we have NoopGauge for the offset metric in the meter registry, none of these expectations matter.
-		org.mockito.BDDMockito
-			.given(consumer.committed(ArgumentMatchers.anySet()))
-			.willReturn(java.util.Map.of(new TopicPartition(TEST_TOPIC, 0), new OffsetAndMetadata(500)));
-		List<PartitionInfo> partitions = partitions(new Node(0, null, 0));
+		committedOffsets.put("group1-metrics", Map.of(new TopicPartition(TEST_TOPIC, 0), new OffsetAndMetadata(500)));
 		topicsInUse.put(
 			TEST_TOPIC,
-			new TopicInformation("group1-metrics", partitions, false)
+			new TopicInformation("group1-metrics", partitions(new Node(0, null, 0)), false)
 		);
-		org.mockito.BDDMockito.given(consumer.partitionsFor(TEST_TOPIC))
-			.willReturn(partitions);
 		metrics.bindTo(meterRegistry);
 
 		// Because of the NoopGauge, the meterRegistry should contain no metric.
@@ -181,48 +191,32 @@ class KafkaBinderMetricsTest {
 
 	@Test
 	void shouldSumUpPartitionsLags() {
-		Map<TopicPartition, Long> endOffsets = new HashMap<>();
-		endOffsets.put(new TopicPartition(TEST_TOPIC, 0), 1000L);
 		endOffsets.put(new TopicPartition(TEST_TOPIC, 1), 1000L);
-		org.mockito.BDDMockito
-			.given(consumer.endOffsets(ArgumentMatchers.anyCollection()))
-			.willReturn(endOffsets);
-		final Map<TopicPartition, OffsetAndMetadata> committed = new HashMap<>();
-		TopicPartition topicPartition1 = new TopicPartition(TEST_TOPIC, 0);
-		TopicPartition topicPartition2 = new TopicPartition(TEST_TOPIC, 1);
-		committed.put(topicPartition1, new OffsetAndMetadata(500));
-		committed.put(topicPartition2, new OffsetAndMetadata(500));
-		org.mockito.BDDMockito
-			.given(consumer.committed(ArgumentMatchers.anySet()))
-			.willReturn(committed);
-		List<PartitionInfo> partitions = partitions(
-			new Node(0, null, 0),
-			new Node(0, null, 0)
-		);
+		committedOffsets.put("group2-metrics", Map.of(
+			new TopicPartition(TEST_TOPIC, 0), new OffsetAndMetadata(500),
+			new TopicPartition(TEST_TOPIC, 1), new OffsetAndMetadata(500)));
 		topicsInUse.put(
 			TEST_TOPIC,
-			new TopicInformation("group2-metrics", partitions, false)
+			new TopicInformation("group2-metrics", partitions(new Node(0, null, 0), new Node(0, null, 0)), false)
 		);
-		org.mockito.BDDMockito.given(consumer.partitionsFor(TEST_TOPIC))
-			.willReturn(partitions);
 		metrics.bindTo(meterRegistry);
-		assertThat(meterRegistry.getMeters()).hasSize(1);
+		assertThat(meterRegistry.find(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME).meters()).hasSize(1);
 		assertThat(meterRegistry.get(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME)
 			.tag("group", "group2-metrics").tag("topic", TEST_TOPIC).gauge().value())
 			.isEqualTo(1000.0);
+		assertThat(meterRegistry.find(KafkaBinderMetrics.PARTITION_OFFSET_LAG_METRIC_NAME).gauges())
+			.hasSize(2)
+			.allSatisfy(gauge -> assertThat(gauge.value()).isEqualTo(500.0));
 	}
 
 	@Test
 	void shouldIndicateFullLagForNotCommittedGroups() {
-		List<PartitionInfo> partitions = partitions(new Node(0, null, 0));
 		topicsInUse.put(
 			TEST_TOPIC,
-			new TopicInformation("group3-metrics", partitions, false)
+			new TopicInformation("group3-metrics", partitions(new Node(0, null, 0)), false)
 		);
-		org.mockito.BDDMockito.given(consumer.partitionsFor(TEST_TOPIC))
-			.willReturn(partitions);
 		metrics.bindTo(meterRegistry);
-		assertThat(meterRegistry.getMeters()).hasSize(1);
+		assertThat(meterRegistry.find(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME).meters()).hasSize(1);
 		assertThat(meterRegistry.get(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME)
 			.tag("group", "group3-metrics").tag("topic", TEST_TOPIC).gauge().value())
 			.isEqualTo(1000.0);
@@ -230,20 +224,19 @@ class KafkaBinderMetricsTest {
 
 	@Test
 	void shouldNotCalculateLagForProducerTopics() {
-		List<PartitionInfo> partitions = partitions(new Node(0, null, 0));
-		topicsInUse.put(TEST_TOPIC, new TopicInformation(null, partitions, false));
+		topicsInUse.put(TEST_TOPIC, new TopicInformation(null, partitions(new Node(0, null, 0)), false));
 		metrics.bindTo(meterRegistry);
 		assertThat(meterRegistry.getMeters()).isEmpty();
 	}
 
 	@Test
-	void createsConsumerOnceWhenInvokedMultipleTimes() {
-		final List<PartitionInfo> partitions = partitions(new Node(0, null, 0));
+	void createsAdminOnceWhenInvokedMultipleTimes() {
 		topicsInUse.put(
 			TEST_TOPIC,
-			new TopicInformation("group4-metrics", partitions, false)
+			new TopicInformation("group4-metrics", partitions(new Node(0, null, 0)), false)
 		);
 
+		metrics.bindTo(meterRegistry);
 		metrics.bindTo(meterRegistry);
 
 		Gauge gauge = meterRegistry.get(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME)
@@ -251,23 +244,15 @@ class KafkaBinderMetricsTest {
 		gauge.value();
 		assertThat(gauge.value()).isEqualTo(1000.0);
 
-		org.mockito.Mockito.verify(this.consumerFactory)
-			.createConsumer(ArgumentMatchers.any(), ArgumentMatchers.any());
+		assertThat(adminCreations).hasValue(1);
 	}
 
 	@Test
-	void consumerCreationFailsFirstTime() {
-		org.mockito.BDDMockito
-			.given(consumerFactory.createConsumer(
-				ArgumentMatchers.any(),
-				ArgumentMatchers.any()
-			))
-			.willThrow(KafkaException.class).willReturn(consumer);
-
-		final List<PartitionInfo> partitions = partitions(new Node(0, null, 0));
+	void adminCreationFailsFirstTime() {
+		adminCreationFailure = new KafkaException();
 		topicsInUse.put(
 			TEST_TOPIC,
-			new TopicInformation("group5-metrics", partitions, false)
+			new TopicInformation("group5-metrics", partitions(new Node(0, null, 0)), false)
 		);
 
 		metrics.bindTo(meterRegistry);
@@ -277,70 +262,69 @@ class KafkaBinderMetricsTest {
 		assertThat(gauge.value()).isEqualTo(0);
 		assertThat(gauge.value()).isEqualTo(1000.0);
 
-		org.mockito.Mockito.verify(this.consumerFactory, Mockito.times(2))
-			.createConsumer(ArgumentMatchers.any(), ArgumentMatchers.any());
+		assertThat(adminCreations).hasValue(2);
+		assertThat(meterRegistry.get(KafkaBinderMetrics.OFFSET_LAG_SWEEP_METRIC_NAME)
+			.tag("result", "failure").timer().count()).isEqualTo(1);
 	}
 
+	@SuppressWarnings("unchecked")
 	@Test
-	void createOneConsumerPerGroup() {
-		final List<PartitionInfo> partitions1 = partitions(new Node(0, null, 0));
-		final List<PartitionInfo> partitions2 = partitions(new Node(0, null, 0));
+	void collectsAllGroupsAndTopicsInOneSweep() {
 		topicsInUse.put(
 			TEST_TOPIC,
-			new TopicInformation("group1-metrics", partitions1, false)
+			new TopicInformation("group1-metrics", partitions(new Node(0, null, 0)), false)
 		);
 		topicsInUse.put(
 			"test2",
-			new TopicInformation("group2-metrics", partitions2, false)
+			new TopicInformation("group2-metrics", List.of(new PartitionInfo("test2", 0, null, null, null)), false)
 		);
+		endOffsets.put(new TopicPartition("test2", 0), 50L);
 
 		metrics.bindTo(meterRegistry);
 
-		KafkaConsumer consumer2 = mock(KafkaConsumer.class);
-		org.mockito.BDDMockito
-			.given(consumerFactory.createConsumer(
-				ArgumentMatchers.eq("group2-metrics"), ArgumentMatchers.any()))
-			.willReturn(consumer2);
-		org.mockito.BDDMockito
-			.given(consumer2.endOffsets(ArgumentMatchers.anyCollection()))
-			.willReturn(java.util.Collections
-				.singletonMap(new TopicPartition("test2", 0), 50L));
-
 		Gauge gauge1 = meterRegistry.get(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME)
 			.tag("group", "group1-metrics").tag("topic", TEST_TOPIC).gauge();
 		Gauge gauge2 = meterRegistry.get(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME)
 			.tag("group", "group2-metrics").tag("topic", "test2").gauge();
-		gauge1.value();
-		gauge2.value();
 		assertThat(gauge1.value()).isEqualTo(1000.0);
 		assertThat(gauge2.value()).isEqualTo(50.0);
 
-		org.mockito.Mockito.verify(this.consumerFactory).createConsumer(
-			ArgumentMatchers.eq("group1-metrics"), ArgumentMatchers.any());
-		org.mockito.Mockito.verify(this.consumerFactory).createConsumer(
-			ArgumentMatchers.eq("group2-metrics"), ArgumentMatchers.any());
+		ArgumentCaptor<Map<String, ListConsumerGroupOffsetsSpec>> specs = ArgumentCaptor.forClass(Map.class);
+		verify(this.admin).listConsumerGroupOffsets(specs.capture());
+		assertThat(specs.getValue()).containsOnlyKeys("group1-metrics", "group2-metrics");
+		// end offsets of all the topics, then beginning offsets of the partitions without committed offsets
+		verify(this.admin, times(2)).listOffsets(ArgumentMatchers.anyMap());
+		verify(this.admin, times(0)).describeTopics(ArgumentMatchers.anyCollection());
+		assertThat(meterRegistry.get(KafkaBinderMetrics.OFFSET_LAG_SWEEP_METRIC_NAME)
+			.tag("result", "success").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void describesTopicsWithoutKnownPartitions() {
+		endOffsets.put(new TopicPartition(TEST_TOPIC, 1), 1000L);
+		topicDescriptions.put(TEST_TOPIC, new TopicDescription(TEST_TOPIC, false, List.of(
+			new TopicPartitionInfo(0, null, List.of(), List.of()),
+			new TopicPartitionInfo(1, null, List.of(), List.of()))));
+		topicsInUse.put(TEST_TOPIC, new TopicInformation("group6-metrics", List.of(), false));
+
+		metrics.bindTo(meterRegistry);
+
+		assertThat(meterRegistry.get(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME)
+			.tag("group", "group6-metrics").tag("topic", TEST_TOPIC).gauge().value())
+			.isEqualTo(2000.0);
+		verify(this.admin).describeTopics(ArgumentMatchers.anyCollection());
 	}
 
 	@Test
 	public void usesBeginningOffsetIfNoCommittedOffsetFound() {
-		org.mockito.BDDMockito
-			.given(consumer.committed(ArgumentMatchers.anySet()))
-			.willReturn(Collections.emptyMap());
-		final Map<TopicPartition, Long> beginnings = new HashMap<>();
-		TopicPartition topicPartition = new TopicPartition(TEST_TOPIC, 0);
-		beginnings.put(topicPartition, 500L);
-		org.mockito.BDDMockito
-			.given(consumer.beginningOffsets(ArgumentMatchers.anySet()))
-			.willReturn(beginnings);
-		List<PartitionInfo> partitions = partitions(new Node(0, null, 0));
+		committedOffsets.put("group1-metrics", Map.of());
+		beginningOffsets.put(new TopicPartition(TEST_TOPIC, 0), 500L);
 		topicsInUse.put(
 			TEST_TOPIC,
-			new TopicInformation("group1-metrics", partitions, false)
+			new TopicInformation("group1-metrics", partitions(new Node(0, null, 0)), false)
 		);
-		org.mockito.BDDMockito.given(consumer.partitionsFor(TEST_TOPIC))
-			.willReturn(partitions);
 		metrics.bindTo(meterRegistry);
-		assertThat(meterRegistry.getMeters()).hasSize(1);
+		assertThat(meterRegistry.find(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME).meters()).hasSize(1);
 		assertThat(meterRegistry.get(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME)
 			.tag("group", "group1-metrics").tag("topic", TEST_TOPIC).gauge().value())
 			.isEqualTo(500.0);
@@ -354,17 +338,56 @@ class KafkaBinderMetricsTest {
 		assertThat(metrics.scheduler).isNull();
 	}
 
+	@Test
+	public void shouldReuseSchedulerWhenBindingsAreCreated() {
+		metrics.bindTo(meterRegistry);
+		Object scheduler = metrics.scheduler;
+		metrics.bindTo(meterRegistry);
+		assertThat(metrics.scheduler).isSameAs(scheduler);
+	}
+
 	@Test
 	public void shouldUnregisterMetersOnClose() throws Exception {
-		final List<PartitionInfo> partitions = partitions(new Node(0, null, 0));
 		topicsInUse.put(
 			TEST_TOPIC,
-			new TopicInformation("group4-metrics", partitions, false)
+			new TopicInformation("group4-metrics", partitions(new Node(0, null, 0)), false)
 		);
 		metrics.bindTo(meterRegistry);
-		assertThat(meterRegistry.find(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME).meters()).hasSize(1);
+		assertThat(meterRegistry.find(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME).gauge().value()).isEqualTo(1000.0);
 		metrics.close();
 		assertThat(meterRegistry.find(KafkaBinderMetrics.OFFSET_LAG_METRIC_NAME).meters()).isEmpty();
+		assertThat(meterRegistry.find(KafkaBinderMetrics.PARTITION_OFFSET_LAG_METRIC_NAME).meters()).isEmpty();
+		verify(this.admin).close(ArgumentMatchers.any(Duration.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void stubAdmin() {
+		willAnswer(invocation -> {
+			Map<TopicPartition, OffsetSpec> specs = invocation.getArgument(0);
+			Map<TopicPartition, ListOffsetsResultInfo> offsets = new HashMap<>();
+			specs.forEach((topicPartition, spec) -> {
+				Long offset = (spec instanceof OffsetSpec.EarliestSpec ? beginningOffsets : endOffsets)
+					.get(topicPartition);
+				if (offset != null) {
+					offsets.put(topicPartition, new ListOffsetsResultInfo(offset, -1, Optional.empty()));
+				}
+			});
+			ListOffsetsResult result = mock(ListOffsetsResult.class);
+			given(result.all()).willReturn(KafkaFuture.completedFuture(offsets));
+			return result;
+		}).given(admin).listOffsets(ArgumentMatchers.anyMap());
+		willAnswer(invocation -> {
+			ListConsumerGroupOffsetsResult result = mock(ListConsumerGroupOffsetsResult.class);
+			given(result.partitionsToOffsetAndMetadata(ArgumentMatchers.anyString())).willAnswer(
+				groupInvocation -> KafkaFuture.completedFuture(
+					committedOffsets.getOrDefault(groupInvocation.<String>getArgument(0), Map.of())));
+			return result;
+		}).given(admin).listConsumerGroupOffsets(ArgumentMatchers.anyMap());
+		willAnswer(invocation -> {
+			DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+			given(result.allTopicNames()).willReturn(KafkaFuture.completedFuture(topicDescriptions));
+			return result;
+		}).given(admin).describeTopics(ArgumentMatchers.anyCollection());
 	}
 
 	private List<PartitionInfo> partitions(Node... nodes) {
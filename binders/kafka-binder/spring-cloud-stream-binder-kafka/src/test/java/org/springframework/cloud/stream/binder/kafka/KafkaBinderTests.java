@@ -32,6 +32,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -53,6 +54,7 @@ import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
@@ -165,6 +167,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -1973,6 +1976,51 @@ class KafkaBinderTests extends
 		}
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void recordsRejectedByTheFilterAreAcknowledgedInManualAckMode() throws Exception {
+		Binder binder = getBinder();
+
+		DirectChannel moduleOutputChannel = createBindableChannel("output",
+				createProducerBindingProperties(createProducerProperties()));
+		var moduleInputChannel = new QueueChannel();
+
+		Binding<MessageChannel> producerBinding = binder.bindProducer(
+				"testFilteredRecordsAreAcknowledged", moduleOutputChannel, createProducerProperties());
+
+		ExtendedConsumerProperties<KafkaConsumerProperties> consumerProperties = createConsumerProperties();
+		consumerProperties.getExtension().setAckMode(ContainerProperties.AckMode.MANUAL);
+		consumerProperties.setFilterExpression(
+				new SpelExpressionParser().parseExpression("new String(payload) != 'rejected'"));
+
+		Binding<MessageChannel> consumerBinding = binder.bindConsumer(
+				"testFilteredRecordsAreAcknowledged", "filtered", moduleInputChannel, consumerProperties);
+
+		// Let the consumer actually bind to the producer before sending a msg
+		binderBindUnbindLatency();
+		moduleOutputChannel.send(MessageBuilder.withPayload("rejected".getBytes()).build());
+		moduleOutputChannel.send(MessageBuilder.withPayload("accepted".getBytes()).build());
+
+		Message<?> receivedMessage = receive(moduleInputChannel);
+		assertThat(receivedMessage).isNotNull();
+		assertThat(receivedMessage.getPayload()).isEqualTo("accepted".getBytes());
+
+		try {
+			// only the rejected record is acknowledged, the accepted one is left to the application
+			Awaitility.await().atMost(Duration.ofSeconds(30)).untilAsserted(() ->
+				assertThat(adminClient.listConsumerGroupOffsets("filtered").partitionsToOffsetAndMetadata()
+						.get(DEFAULT_OPERATION_TIMEOUT, TimeUnit.SECONDS)
+						.get(new TopicPartition("testFilteredRecordsAreAcknowledged", 0)))
+					.isNotNull()
+					.extracting(OffsetAndMetadata::offset)
+					.isEqualTo(1L));
+		}
+		finally {
+			producerBinding.unbind();
+			consumerBinding.unbind();
+		}
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void manualAckIsNotPossibleWhenAutoCommitOffsetIsEnabledOnTheBinder()
@@ -4056,6 +4104,7 @@ class KafkaBinderTests extends
 			spelExpressionParser.parseExpression("headers['partitionKey']"));
 		properties.setDynamicPartitionUpdatesEnabled(true);
 		properties.getExtension().getConfiguration().put(ProducerConfig.METADATA_MAX_AGE_CONFIG, "1000");
+		properties.getExtension().setPartitionCountRefreshInterval(Duration.ofMillis(500));
 
 		DirectChannel outputChannel = createBindableChannel("output",
 			createProducerBindingProperties(createProducerProperties()));
@@ -4098,9 +4147,17 @@ class KafkaBinderTests extends
 			.withPayload("partitionTopic").setHeader("partitionKey", "456").build();
 		outputChannel.send(message2);
 
-		verify(kafkaPartitionHandlerSpy).setPartitionCount(7);
+		// only updated in the background, when the partition count changes
+		verify(kafkaPartitionHandlerSpy, never()).setPartitionCount(7);
 		verify(kafkaPartitionHandlerSpy).setPartitionCount(11);
 		verify(kafkaPartitionHandlerSpy, times(2)).determinePartition(ArgumentMatchers.any());
+
+		producerBinding.unbind();
+		KafkaMessageChannelBinder kafkaBinder = ((KafkaTestBinder) binder).getCoreBinder();
+		ScheduledExecutorService refresher = TestUtils.getPropertyValue(kafkaBinder, "partitionCountRefresher",
+			ScheduledExecutorService.class);
+		kafkaBinder.destroy();
+		assertThat(refresher.isShutdown()).isTrue();
 	}
 
 	private void setupBindingAndAssert(String bindingName, AbstractKafkaTestBinder binder) throws Exception {
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.ProducerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class SharedProducerFactoriesTests {
+
+	private final SharedProducerFactories factories = new SharedProducerFactories();
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void bindingsWithTheSameConfigurationShareAFactory() {
+		DefaultKafkaProducerFactory<byte[], byte[]> first = mock(DefaultKafkaProducerFactory.class);
+		DefaultKafkaProducerFactory<byte[], byte[]> second = mock(DefaultKafkaProducerFactory.class);
+
+		ProducerFactory<byte[], byte[]> binding = this.factories.acquire(configs("all"), 0, () -> first);
+		assertThat(this.factories.getSharedFactory(binding)).isSameAs(first);
+		assertThat(this.factories.getSharedFactory(this.factories.acquire(configs("all"), 0, () -> second)))
+			.isSameAs(first);
+		assertThat(this.factories.getSharedFactory(this.factories.acquire(configs("1"), 0, () -> second)))
+			.isSameAs(second);
+		assertThat(this.factories.getSharedFactory(this.factories.acquire(configs("all"), 10, () -> second)))
+			.isSameAs(second);
+		assertThat(this.factories.size()).isEqualTo(3);
+		assertThat(this.factories.isShared(binding)).isTrue();
+		assertThat(this.factories.isShared(first)).isFalse();
+
+		binding.createProducer();
+		verify(first).createProducer();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void factoryIsDestroyedWhenReleasedByTheLastBinding() {
+		DefaultKafkaProducerFactory<byte[], byte[]> factory = mock(DefaultKafkaProducerFactory.class);
+		ProducerFactory<byte[], byte[]> first = this.factories.acquire(configs("all"), 0, () -> factory);
+		ProducerFactory<byte[], byte[]> second = this.factories.acquire(configs("all"), 0, () -> factory);
+
+		this.factories.release(first);
+		verify(factory, never()).destroy();
+		this.factories.release(first);
+		verify(factory, never()).destroy();
+		this.factories.release(second);
+		verify(factory).destroy();
+		assertThat(this.factories.size()).isZero();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void bindingRestartedAfterItsFactoryWasDestroyedUsesAFreshFactory() {
+		DefaultKafkaProducerFactory<byte[], byte[]> destroyed = mock(DefaultKafkaProducerFactory.class);
+		DefaultKafkaProducerFactory<byte[], byte[]> fresh = mock(DefaultKafkaProducerFactory.class);
+		Deque<DefaultKafkaProducerFactory<byte[], byte[]>> created = new ArrayDeque<>(List.of(destroyed, fresh));
+		ProducerFactory<byte[], byte[]> binding = this.factories.acquire(configs("all"), 0, created::poll);
+
+		this.factories.release(binding);
+		verify(destroyed).destroy();
+		this.factories.reacquire(binding);
+
+		assertThat(this.factories.getSharedFactory(binding)).isSameAs(fresh);
+		assertThat(this.factories.getSharedFactory(this.factories.acquire(configs("all"), 0, () -> null)))
+			.isSameAs(fresh);
+		binding.createProducer();
+		verify(fresh).createProducer();
+		verify(destroyed, never()).createProducer();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void bindingRestartedBeforeItsFactoryWasDestroyedKeepsSharingIt() {
+		DefaultKafkaProducerFactory<byte[], byte[]> factory = mock(DefaultKafkaProducerFactory.class);
+		ProducerFactory<byte[], byte[]> first = this.factories.acquire(configs("all"), 0, () -> factory);
+		ProducerFactory<byte[], byte[]> second = this.factories.acquire(configs("all"), 0, () -> null);
+
+		this.factories.release(first);
+		this.factories.reacquire(first);
+		this.factories.reacquire(first);
+		this.factories.release(second);
+		verify(factory, never()).destroy();
+		assertThat(this.factories.getSharedFactory(first)).isSameAs(factory);
+
+		this.factories.release(first);
+		verify(factory).destroy();
+	}
+
+	private static Map<String, Object> configs(String acks) {
+		Map<String, Object> configs = new HashMap<>();
+		configs.put("bootstrap.servers", "localhost:9092");
+		configs.put("acks", acks);
+		return configs;
+	}
+
+}
@@ -137,7 +137,7 @@ class KafkaMultiBinderCustomConfigurationTests {
 		CustomKafkaBinderMetrics(KafkaMessageChannelBinder binder,
 				KafkaBinderConfigurationProperties binderConfigurationProperties,
 				MeterRegistry meterRegistry) {
-			super(binder, binderConfigurationProperties, null, meterRegistry);
+			super(binder, binderConfigurationProperties, meterRegistry);
 		}
 
 	}
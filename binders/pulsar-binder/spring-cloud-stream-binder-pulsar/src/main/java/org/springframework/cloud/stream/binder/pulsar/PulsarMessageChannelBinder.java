@@ -18,17 +18,22 @@ package org.springframework.cloud.stream.binder.pulsar;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.PulsarClientException;
 import org.apache.pulsar.client.api.Schema;
 import org.apache.pulsar.common.schema.SchemaType;
 
 import org.springframework.cloud.stream.binder.AbstractMessageChannelBinder;
 import org.springframework.cloud.stream.binder.Binder;
 import org.springframework.cloud.stream.binder.BinderSpecificPropertiesProvider;
+import org.springframework.cloud.stream.binder.ConfirmingMessageHandler;
 import org.springframework.cloud.stream.binder.ExtendedConsumerProperties;
 import org.springframework.cloud.stream.binder.ExtendedProducerProperties;
 import org.springframework.cloud.stream.binder.ExtendedPropertiesBinder;
 import org.springframework.cloud.stream.binder.HeaderMode;
+import org.springframework.cloud.stream.binder.SendResult;
 import org.springframework.cloud.stream.binder.pulsar.properties.PulsarBinderConfigurationProperties;
 import org.springframework.cloud.stream.binder.pulsar.properties.PulsarConsumerProperties;
 import org.springframework.cloud.stream.binder.pulsar.properties.PulsarExtendedBindingProperties;
@@ -231,7 +236,7 @@ public class PulsarMessageChannelBinder extends
 	}
 
 	static class PulsarProducerConfigurationMessageHandler extends AbstractMessageProducingHandler
-			implements ManageableLifecycle {
+			implements ManageableLifecycle, ConfirmingMessageHandler {
 
 		private final PulsarTemplate<Object> pulsarTemplate;
 
@@ -280,20 +285,34 @@ public class PulsarMessageChannelBinder extends
 		@Override
 		protected void handleMessageInternal(Message<?> message) {
 			try {
-				// @formatter:off
-				this.pulsarTemplate.newMessage(message.getPayload())
-						.withTopic(this.destination)
-						.withSchema(this.schema)
-						.withProducerCustomizer(this.layeredProducerPropsCustomizer)
-						.withMessageCustomizer(this.applySpringHeadersAsPulsarProperties(message.getHeaders()))
-						.sendAsync();
-				// @formatter:on
+				sendAsync(message);
 			}
 			catch (Exception ex) {
 				logger.trace(ex, "Failed to send message to destination: " + this.destination);
 			}
 		}
 
+		@Override
+		public CompletableFuture<SendResult> handleMessageAsync(Message<?> message) {
+			try {
+				return sendAsync(message).thenApply((messageId) -> new SendResult(message, messageId));
+			}
+			catch (Exception ex) {
+				return CompletableFuture.failedFuture(ex);
+			}
+		}
+
+		private CompletableFuture<MessageId> sendAsync(Message<?> message) throws PulsarClientException {
+			// @formatter:off
+			return this.pulsarTemplate.newMessage(message.getPayload())
+					.withTopic(this.destination)
+					.withSchema(this.schema)
+					.withProducerCustomizer(this.layeredProducerPropsCustomizer)
+					.withMessageCustomizer(this.applySpringHeadersAsPulsarProperties(message.getHeaders()))
+					.sendAsync();
+			// @formatter:on
+		}
+
 		private TypedMessageBuilderCustomizer<Object> applySpringHeadersAsPulsarProperties(MessageHeaders headers) {
 			return (mb) -> {
 				if (this.headerMapper != null) {
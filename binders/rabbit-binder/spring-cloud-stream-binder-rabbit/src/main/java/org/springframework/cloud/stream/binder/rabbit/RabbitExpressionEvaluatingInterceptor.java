@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.stream.binder.rabbit;
 
+import org.springframework.cloud.stream.binder.OutboundMessage;
+import org.springframework.cloud.stream.binder.OutboundMessageStage;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
@@ -34,7 +36,7 @@ import org.springframework.util.Assert;
  * @since 2.0
  *
  */
-public class RabbitExpressionEvaluatingInterceptor implements ChannelInterceptor {
+public class RabbitExpressionEvaluatingInterceptor implements ChannelInterceptor, OutboundMessageStage {
 
 	/**
 	 * Instance of ExpressionParser.
@@ -98,4 +100,23 @@ public class RabbitExpressionEvaluatingInterceptor implements ChannelInterceptor
 		return builder.build();
 	}
 
+	@Override
+	public void process(OutboundMessage message) {
+		if (this.routingKeyExpression != null) {
+			setHeader(message, ROUTING_KEY_HEADER, this.routingKeyExpression.getValue(this.evaluationContext, message));
+		}
+		if (this.delayExpression != null) {
+			setHeader(message, DELAY_HEADER, this.delayExpression.getValue(this.evaluationContext, message));
+		}
+	}
+
+	private void setHeader(OutboundMessage message, String name, Object value) {
+		if (value != null) {
+			message.getHeaders().put(name, value);
+		}
+		else {
+			message.getHeaders().remove(name);
+		}
+	}
+
 }
@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -73,11 +74,14 @@ import org.springframework.boot.amqp.autoconfigure.RabbitProperties.Retry;
 import org.springframework.cloud.stream.binder.AbstractMessageChannelBinder;
 import org.springframework.cloud.stream.binder.BinderHeaders;
 import org.springframework.cloud.stream.binder.BinderSpecificPropertiesProvider;
+import org.springframework.cloud.stream.binder.BulkMessageHandler;
+import org.springframework.cloud.stream.binder.ConfirmingMessageHandler;
 import org.springframework.cloud.stream.binder.DefaultPollableMessageSource;
 import org.springframework.cloud.stream.binder.ExtendedConsumerProperties;
 import org.springframework.cloud.stream.binder.ExtendedProducerProperties;
 import org.springframework.cloud.stream.binder.ExtendedPropertiesBinder;
 import org.springframework.cloud.stream.binder.HeaderMode;
+import org.springframework.cloud.stream.binder.SendResult;
 import org.springframework.cloud.stream.binder.rabbit.properties.RabbitCommonProperties;
 import org.springframework.cloud.stream.binder.rabbit.properties.RabbitConsumerProperties;
 import org.springframework.cloud.stream.binder.rabbit.properties.RabbitConsumerProperties.ContainerType;
@@ -95,7 +99,6 @@ import org.springframework.core.retry.RetryPolicy;
 import org.springframework.core.retry.RetryTemplate;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.expression.Expression;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.StaticMessageHeaderAccessor;
 import org.springframework.integration.acks.AcknowledgmentCallback;
@@ -113,6 +116,7 @@ import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.integration.core.MessageProducer;
 import org.springframework.integration.support.DefaultErrorMessageStrategy;
 import org.springframework.integration.support.ErrorMessageStrategy;
+import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
 import org.springframework.messaging.MessagingException;
@@ -340,9 +344,11 @@ public class RabbitMessageChannelBinder extends
 	private AmqpOutboundEndpoint amqpHandler(final ProducerDestination producerDestination,
 			ExtendedProducerProperties<RabbitProducerProperties> producerProperties, MessageChannel errorChannel,
 			String destination, RabbitProducerProperties extendedProperties) {
-		final AmqpOutboundEndpoint endpoint = new AmqpOutboundEndpoint(
+		final AmqpOutboundEndpoint endpoint = new ProducerAmqpOutboundEndpoint(
 				buildRabbitTemplate(extendedProperties,
-						errorChannel != null || extendedProperties.isUseConfirmHeader()));
+						errorChannel != null || extendedProperties.isUseConfirmHeader()),
+				this.connectionFactory.isPublisherConfirms()
+						&& (errorChannel == null || extendedProperties.isUseConfirmHeader()));
 		endpoint.setExchangeName(producerDestination.getName());
 		boolean expressionInterceptorNeeded = expressionInterceptorNeeded(
 				extendedProperties);
@@ -490,7 +496,7 @@ public class RabbitMessageChannelBinder extends
 				+ "']"
 				: "'" + expressionRoot + "-' + headers['" + BinderHeaders.PARTITION_HEADER
 				+ "']";
-		return new SpelExpressionParser().parseExpression(partitionRoutingExpression);
+		return getExpressionParser().parseExpression(partitionRoutingExpression);
 	}
 
 	@Override
@@ -688,6 +694,11 @@ public class RabbitMessageChannelBinder extends
 		return errorMessageStrategy;
 	}
 
+	@Override
+	protected String getBatchHeadersName() {
+		return AmqpInboundChannelAdapter.CONSOLIDATED_HEADERS;
+	}
+
 	@Override
 	protected MessageHandler getErrorMessageHandler(ConsumerDestination destination,
 			String group,
@@ -1093,6 +1104,70 @@ public class RabbitMessageChannelBinder extends
 		return stringWriter.getBuffer().toString();
 	}
 
+	/**
+	 * {@link AmqpOutboundEndpoint} sending a batch of messages on a single channel
+	 * (scoped to the current thread for the duration of the batch) instead of checking
+	 * a channel out of the connection factory for each message, and reporting publisher
+	 * confirms for asynchronous sends.
+	 */
+	private static final class ProducerAmqpOutboundEndpoint extends AmqpOutboundEndpoint
+			implements BulkMessageHandler, ConfirmingMessageHandler {
+
+		private final RabbitTemplate rabbitTemplate;
+
+		private final boolean confirmsSupported;
+
+		ProducerAmqpOutboundEndpoint(RabbitTemplate rabbitTemplate, boolean confirmsSupported) {
+			super(rabbitTemplate);
+			this.rabbitTemplate = rabbitTemplate;
+			this.confirmsSupported = confirmsSupported;
+		}
+
+		@Override
+		public void handleMessages(List<? extends org.springframework.messaging.Message<?>> messages) {
+			this.rabbitTemplate.invoke(operations -> {
+				for (org.springframework.messaging.Message<?> message : messages) {
+					handleMessage(message);
+				}
+				return null;
+			});
+		}
+
+		/*
+		 * Requires a connection factory with correlated publisher confirms; the confirm is correlated
+		 * via the 'PUBLISH_CONFIRM_CORRELATION' header, which is why it is not supported when the
+		 * producer error channel is enabled without 'useConfirmHeader'.
+		 */
+		@Override
+		public CompletableFuture<SendResult> handleMessageAsync(org.springframework.messaging.Message<?> message) {
+			Assert.state(this.confirmsSupported, "Asynchronous sends require publisher confirms to be enabled on the "
+					+ "connection factory (and 'useConfirmHeader' when the producer error channel is enabled)");
+			CorrelationData correlationData = new CorrelationData();
+			handleMessage(MessageBuilder.fromMessage(message)
+					.setHeader(AmqpHeaders.PUBLISH_CONFIRM_CORRELATION, correlationData)
+					.build());
+			CompletableFuture<SendResult> result = new CompletableFuture<>();
+			correlationData.getFuture().whenComplete((confirm, ex) -> {
+				if (ex != null) {
+					result.completeExceptionally(ex);
+				}
+				else if (!confirm.isAck()) {
+					result.completeExceptionally(new MessagingException(message,
+							"Negative acknowledgement received: " + confirm.getReason()));
+				}
+				else if (correlationData.getReturned() != null) {
+					result.completeExceptionally(new MessagingException(message,
+							"Message was returned: " + correlationData.getReturned().getReplyText()));
+				}
+				else {
+					result.complete(new SendResult(message, confirm));
+				}
+			});
+			return result;
+		}
+
+	}
+
 	private static final class SimplePassthroughMessageConverter
 			extends AbstractMessageConverter {
 
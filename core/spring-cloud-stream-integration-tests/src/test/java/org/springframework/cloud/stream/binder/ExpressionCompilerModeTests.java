@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.stream.binder.test.TestChannelBinder;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.integration.test.util.TestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the compiler mode of the expressions created by the binders.
+ */
+class ExpressionCompilerModeTests {
+
+	@Test
+	void configuredCompilerModeReachesTheBinderExpressionParser() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration())
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false",
+				"--spring.cloud.stream.expression-compiler-mode=mixed")) {
+			TestChannelBinder binder = context.getBean(TestChannelBinder.class);
+
+			assertThat(binder.getExpressionCompilerMode()).isEqualTo(SpelCompilerMode.MIXED);
+			assertThat(TestUtils.getPropertyValue(binder.getExpressionParser(), "configuration.compilerMode"))
+				.isEqualTo(SpelCompilerMode.MIXED);
+		}
+	}
+
+	@Test
+	void binderExpressionsAreInterpretedByDefault() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration())
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false")) {
+			TestChannelBinder binder = context.getBean(TestChannelBinder.class);
+
+			assertThat(binder.getExpressionCompilerMode()).isEqualTo(SpelCompilerMode.OFF);
+			assertThat(TestUtils.getPropertyValue(binder.getExpressionParser(), "configuration.compilerMode"))
+				.isEqualTo(SpelCompilerMode.OFF);
+		}
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.stream.binder;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -315,6 +316,27 @@ class PollableConsumerTests {
 		})).isTrue();
 	}
 
+	@Test
+	void embeddedPayloadIsNotCopied() {
+		TestChannelBinder binder = createBinder();
+		binder.setMessageSourceDelegate(() -> new GenericMessage<>(EmbeddedHeaderUtils.embedHeaders(
+				MessageBuilder.withPayload("foo".getBytes()).setHeader("bar", "baz").build(), "bar")));
+		ExtendedConsumerProperties<Object> properties = new ExtendedConsumerProperties<>(
+			null);
+		properties.setHeaderMode(HeaderMode.embeddedHeaders);
+		DefaultPollableMessageSource pollableSource = new DefaultPollableMessageSource(
+			this.messageConverter);
+		binder.bindPollableConsumer("foo", "bar", pollableSource, properties);
+
+		final AtomicReference<Message<?>> received = new AtomicReference<>();
+		assertThat(pollableSource.poll(received::set)).isTrue();
+		assertThat(received.get()).isInstanceOf(PayloadRegionMessage.class);
+		PayloadRegionMessage message = (PayloadRegionMessage) received.get();
+		assertThat(message.getHeaders().get("bar")).isEqualTo("baz");
+		assertThat(StandardCharsets.UTF_8.decode(message.getPayloadAsByteBuffer()).toString()).isEqualTo("foo");
+		assertThat(message.isPayloadCopied()).isFalse();
+	}
+
 	@Test
 	void errors() {
 		TestChannelBinder binder = createBinder();
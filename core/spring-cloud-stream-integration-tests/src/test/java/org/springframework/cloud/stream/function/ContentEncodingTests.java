@@ -0,0 +1,179 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.function;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.stream.binder.BinderHeaders;
+import org.springframework.cloud.stream.binder.PayloadCodecs;
+import org.springframework.cloud.stream.binder.test.InputDestination;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the encoding of the payload of outbound messages with a codec.
+ */
+public class ContentEncodingTests {
+
+	@BeforeAll
+	public static void before() {
+		System.clearProperty("spring.cloud.function.definition");
+	}
+
+	@Test
+	void outboundPayloadIsEncodedAndInboundPayloadDecoded() throws IOException {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(EncodingConfiguration.class))
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false",
+				"--spring.cloud.function.definition=uppercase",
+				"--spring.cloud.stream.bindings.uppercase-in-0.consumer.content-decoding=true",
+				"--spring.cloud.stream.bindings.uppercase-out-0.producer.content-encoding=gzip",
+				"--spring.cloud.stream.bindings.uppercase-out-0.producer.content-encoding-threshold=0")) {
+			InputDestination input = context.getBean(InputDestination.class);
+			OutputDestination output = context.getBean(OutputDestination.class);
+
+			input.send(MessageBuilder.withPayload(PayloadCodecs.GZIP.encode("hello".getBytes()))
+				.setHeader(BinderHeaders.CONTENT_ENCODING, "gzip")
+				.build(), "uppercase-in-0");
+
+			Message<byte[]> result = output.receive(1000, "uppercase-out-0");
+			assertThat(result.getHeaders().get(BinderHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+			assertThat(new String(PayloadCodecs.GZIP.decode(result.getPayload()))).isEqualTo("HELLO");
+		}
+	}
+
+	@Test
+	void payloadsBelowThresholdAreNotEncoded() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(EncodingConfiguration.class))
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false",
+				"--spring.cloud.function.definition=uppercase",
+				"--spring.cloud.stream.bindings.uppercase-out-0.producer.content-encoding=gzip")) {
+			InputDestination input = context.getBean(InputDestination.class);
+			OutputDestination output = context.getBean(OutputDestination.class);
+
+			input.send(MessageBuilder.withPayload("hello".getBytes()).build(), "uppercase-in-0");
+
+			Message<byte[]> result = output.receive(1000, "uppercase-out-0");
+			assertThat(result.getHeaders()).doesNotContainKey(BinderHeaders.CONTENT_ENCODING);
+			assertThat(new String(result.getPayload())).isEqualTo("HELLO");
+		}
+	}
+
+	@Test
+	void inboundPayloadIsNotDecodedUnlessEnabled() throws IOException {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(EncodingConfiguration.class))
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false",
+				"--spring.cloud.function.definition=batch")) {
+			InputDestination input = context.getBean(InputDestination.class);
+			byte[] encoded = PayloadCodecs.GZIP.encode("hello".getBytes());
+
+			input.send(MessageBuilder.withPayload(encoded)
+				.setHeader(BinderHeaders.CONTENT_ENCODING, "gzip")
+				.build(), "batch-in-0");
+
+			EncodingConfiguration configuration = context.getBean(EncodingConfiguration.class);
+			Message<?> received = configuration.batches.get(0);
+			assertThat(received.getHeaders().get(BinderHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+			assertThat(received.getPayload()).isEqualTo(encoded);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void unencodedBatchIsPassedAsIs() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(EncodingConfiguration.class))
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false",
+				"--spring.cloud.function.definition=batch",
+				"--spring.cloud.stream.bindings.batch-in-0.consumer.batch-mode=true",
+				"--spring.cloud.stream.bindings.batch-in-0.consumer.content-decoding=true")) {
+			InputDestination input = context.getBean(InputDestination.class);
+			List<byte[]> batch = List.of("hello".getBytes(), "world".getBytes());
+
+			input.send(MessageBuilder.withPayload(batch).build(), "batch-in-0");
+
+			EncodingConfiguration configuration = context.getBean(EncodingConfiguration.class);
+			assertThat(((List<byte[]>) configuration.batches.get(0).getPayload()).stream().map(String::new).toList())
+				.containsExactly("hello", "world");
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void inboundBatchPayloadsAreDecoded() throws IOException {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(EncodingConfiguration.class))
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false",
+				"--spring.cloud.function.definition=batch",
+				"--spring.cloud.stream.bindings.batch-in-0.consumer.batch-mode=true",
+				"--spring.cloud.stream.bindings.batch-in-0.consumer.content-decoding=true")) {
+			InputDestination input = context.getBean(InputDestination.class);
+
+			input.send(MessageBuilder.withPayload(List.of(PayloadCodecs.GZIP.encode("hello".getBytes()),
+					PayloadCodecs.GZIP.encode("world".getBytes())))
+				.setHeader(BinderHeaders.CONTENT_ENCODING, "gzip")
+				.build(), "batch-in-0");
+
+			EncodingConfiguration configuration = context.getBean(EncodingConfiguration.class);
+			Message<?> batch = configuration.batches.get(0);
+			assertThat(batch.getHeaders()).doesNotContainKey(BinderHeaders.CONTENT_ENCODING);
+			assertThat(((List<byte[]>) batch.getPayload()).stream().map(String::new).toList())
+				.containsExactly("hello", "world");
+		}
+	}
+
+	@EnableAutoConfiguration
+	public static class EncodingConfiguration {
+
+		final List<Message<?>> batches = new CopyOnWriteArrayList<>();
+
+		@Bean
+		public Consumer<Message<?>> batch() {
+			return this.batches::add;
+		}
+
+		@Bean
+		public Function<String, String> uppercase() {
+			return String::toUpperCase;
+		}
+
+	}
+
+}
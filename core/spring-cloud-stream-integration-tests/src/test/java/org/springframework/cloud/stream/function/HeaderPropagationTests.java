@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.function;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.stream.binder.test.InputDestination;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the propagation of the headers of inbound messages to the output of functions.
+ */
+public class HeaderPropagationTests {
+
+	@BeforeAll
+	public static void before() {
+		System.clearProperty("spring.cloud.function.definition");
+	}
+
+	@Test
+	void onlyMatchingHeadersArePropagated() {
+		try (ConfigurableApplicationContext context = runWith("uppercase", "traceparent,X-B3-*")) {
+			Message<byte[]> result = sendAndReceive(context, "uppercase");
+
+			assertThat(new String(result.getPayload())).isEqualTo("HELLO");
+			assertThat(result.getHeaders()).containsEntry("traceparent", "00-abc-def-01")
+				.containsEntry("X-B3-TraceId", "abc")
+				.doesNotContainKeys("kafka_offset", "custom")
+				.containsKey("contentType");
+		}
+	}
+
+	@Test
+	void negatedPatternsExcludeHeaders() {
+		try (ConfigurableApplicationContext context = runWith("uppercase", "!kafka_*,*")) {
+			Message<byte[]> result = sendAndReceive(context, "uppercase");
+
+			assertThat(result.getHeaders()).containsKeys("traceparent", "X-B3-TraceId", "custom")
+				.doesNotContainKey("kafka_offset");
+		}
+	}
+
+	@Test
+	void tracingPresetPropagatesOnlyTracingHeaders() {
+		try (ConfigurableApplicationContext context = runWith("uppercase", "@tracing")) {
+			Message<byte[]> result = sendAndReceive(context, "uppercase");
+
+			assertThat(result.getHeaders()).containsEntry("traceparent", "00-abc-def-01")
+				.containsEntry("X-B3-TraceId", "abc")
+				.doesNotContainKeys("kafka_offset", "custom");
+		}
+	}
+
+	@Test
+	void headersSetByFunctionAreKept() {
+		try (ConfigurableApplicationContext context = runWith("enrich", "traceparent")) {
+			Message<byte[]> result = sendAndReceive(context, "enrich");
+
+			assertThat(result.getHeaders()).containsEntry("custom", "replaced")
+				.containsEntry("added", "yes")
+				.containsKey("traceparent")
+				.doesNotContainKeys("kafka_offset", "X-B3-TraceId");
+		}
+	}
+
+	private static Message<byte[]> sendAndReceive(ConfigurableApplicationContext context, String definition) {
+		context.getBean(InputDestination.class).send(MessageBuilder.withPayload("hello".getBytes())
+			.setHeader("traceparent", "00-abc-def-01")
+			.setHeader("X-B3-TraceId", "abc")
+			.setHeader("kafka_offset", 42L)
+			.setHeader("custom", "value")
+			.build(), definition + "-in-0");
+		return context.getBean(OutputDestination.class).receive(1000, definition + "-out-0");
+	}
+
+	private static ConfigurableApplicationContext runWith(String definition, String propagatedHeaders) {
+		return new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(PropagationConfiguration.class))
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false",
+				"--spring.cloud.function.definition=" + definition,
+				"--spring.cloud.stream.bindings." + definition + "-out-0.producer.propagated-headers=" + propagatedHeaders);
+	}
+
+	@EnableAutoConfiguration
+	public static class PropagationConfiguration {
+
+		@Bean
+		public Function<String, String> uppercase() {
+			return String::toUpperCase;
+		}
+
+		@Bean
+		public Function<Message<String>, Message<String>> enrich() {
+			return message -> MessageBuilder.withPayload(message.getPayload())
+				.copyHeaders(message.getHeaders())
+				.setHeader("custom", "replaced")
+				.setHeader("added", "yes")
+				.build();
+		}
+
+	}
+
+}
@@ -52,6 +52,7 @@ import org.springframework.cloud.function.context.FunctionRegistration;
 import org.springframework.cloud.function.context.catalog.FunctionAroundWrapper;
 import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
 import org.springframework.cloud.function.context.config.ContextFunctionCatalogAutoConfiguration;
+import org.springframework.cloud.stream.binder.BinderHeaders;
 import org.springframework.cloud.stream.binder.Binding;
 import org.springframework.cloud.stream.binder.BindingCreatedEvent;
 import org.springframework.cloud.stream.binder.test.FunctionBindingTestUtils;
@@ -60,7 +61,6 @@ import org.springframework.cloud.stream.binder.test.OutputDestination;
 import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
 import org.springframework.cloud.stream.binding.BindingsLifecycleController;
 import org.springframework.cloud.stream.binding.BindingsLifecycleController.State;
-import org.springframework.cloud.stream.binding.DefaultPartitioningInterceptor;
 import org.springframework.cloud.stream.messaging.DirectWithAttributesChannel;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -76,7 +76,6 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.SubscribableChannel;
-import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.GenericMessage;
 import org.springframework.scheduling.support.PeriodicTrigger;
 
@@ -984,32 +983,31 @@ class ImplicitFunctionBindingTests {
 
 			InputDestination inputDestination = context.getBean(InputDestination.class);
 			OutputDestination outputDestination = context.getBean(OutputDestination.class);
-			Message<byte[]> inputMessage = MessageBuilder.withPayload("aa".getBytes()).build();
-			inputDestination.send(inputMessage, "echo-in-0");
-			Message<byte[]> receivedMessage = outputDestination.receive(1000, "aa");
-
 			StreamBridge streamBridge = context.getBean(StreamBridge.class);
-			MessageChannel aa = streamBridge.resolveDestination("aa", null, null);
-			List<ChannelInterceptor> interceptors1 = ((AbstractMessageChannel) aa).getInterceptors();
-
-			assertThat(interceptors1.size()).isEqualTo(1);
-			assertThat(interceptors1.get(0)).isInstanceOf(DefaultPartitioningInterceptor.class);
+			for (int i = 0; i < 3; i++) {
+				Message<byte[]> inputMessage = MessageBuilder.withPayload("aa".getBytes()).build();
+				inputDestination.send(inputMessage, "echo-in-0");
+				Message<byte[]> receivedMessage = outputDestination.receive(1000, "aa");
+
+				assertThat(receivedMessage.getPayload()).isEqualTo("aa".getBytes());
+				assertThat(receivedMessage.getHeaders().get("spring.cloud.stream.sendto.destination")).isNotNull();
+				assertThat(receivedMessage.getHeaders().get(BinderHeaders.PARTITION_HEADER)).isEqualTo(0);
+			}
 
-			assertThat(receivedMessage.getPayload()).isEqualTo("aa".getBytes());
-			assertThat(receivedMessage.getHeaders().get("spring.cloud.stream.sendto.destination")).isNotNull();
+			// partitioning is performed by the routing table of StreamBridge, so interceptors never accumulate
+			MessageChannel aa = streamBridge.resolveDestination("aa", null, null);
+			assertThat(((AbstractMessageChannel) aa).getInterceptors()).isEmpty();
 
-			inputMessage = MessageBuilder.withPayload("bb".getBytes()).build();
+			Message<byte[]> inputMessage = MessageBuilder.withPayload("bb".getBytes()).build();
 			inputDestination.send(inputMessage, "echo-in-0");
-			receivedMessage = outputDestination.receive(1000, "bb");
+			Message<byte[]> receivedMessage = outputDestination.receive(1000, "bb");
 
 			MessageChannel bb = streamBridge.resolveDestination("bb", null, null);
-			List<ChannelInterceptor> interceptors2 = ((AbstractMessageChannel) bb).getInterceptors();
-
-			assertThat(interceptors2.size()).isEqualTo(1);
-			assertThat(interceptors2.get(0)).isInstanceOf(DefaultPartitioningInterceptor.class);
+			assertThat(((AbstractMessageChannel) bb).getInterceptors()).isEmpty();
 
 			assertThat(receivedMessage.getPayload()).isEqualTo("bb".getBytes());
 			assertThat(receivedMessage.getHeaders().get("spring.cloud.stream.sendto.destination")).isNotNull();
+			assertThat(receivedMessage.getHeaders().get(BinderHeaders.PARTITION_HEADER)).isEqualTo(0);
 		}
 	}
 
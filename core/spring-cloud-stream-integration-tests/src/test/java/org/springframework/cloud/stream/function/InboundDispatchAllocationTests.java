@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.function;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.stream.binder.test.InputDestination;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budget of the inbound dispatch path of imperative functions, measured as
+ * the bytes allocated by the sending thread (the test binder dispatches synchronously).
+ * The budgets cover the whole path (binder, Spring Integration, function invocation and
+ * conversion) and leave a small margin over its current allocations, so that bringing
+ * back per-message header copies or reflective lookups exceeds them.
+ */
+class InboundDispatchAllocationTests {
+
+	private static final int WARMUP_MESSAGES = 5_000;
+
+	private static final int MEASURED_MESSAGES = 20_000;
+
+	private static final long CONSUMER_BYTES_PER_MESSAGE = 4 * 1024;
+
+	private static final long FUNCTION_BYTES_PER_MESSAGE = 8 * 1024;
+
+	@BeforeAll
+	static void before() {
+		System.clearProperty("spring.cloud.function.definition");
+	}
+
+	@Test
+	void consumerDispatchStaysWithinAllocationBudget() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(AllocationConfiguration.class))
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false", "--spring.cloud.function.definition=sink")) {
+			InputDestination input = context.getBean(InputDestination.class);
+			Message<byte[]> message = MessageBuilder.withPayload("hello".getBytes()).build();
+
+			long bytesPerMessage = measureBytesPerMessage(() -> input.send(message, "sink-in-0"));
+
+			assertThat(context.getBean(AllocationConfiguration.class).consumed.get())
+				.isEqualTo(WARMUP_MESSAGES + MEASURED_MESSAGES);
+			assertThat(bytesPerMessage).isLessThan(CONSUMER_BYTES_PER_MESSAGE);
+		}
+	}
+
+	@Test
+	void functionDispatchStaysWithinAllocationBudget() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(AllocationConfiguration.class))
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false", "--spring.cloud.function.definition=echo")) {
+			InputDestination input = context.getBean(InputDestination.class);
+			OutputDestination output = context.getBean(OutputDestination.class);
+			Message<byte[]> message = MessageBuilder.withPayload("hello".getBytes()).build();
+
+			long bytesPerMessage = measureBytesPerMessage(() -> {
+				input.send(message, "echo-in-0");
+				output.receive(0, "echo-out-0");
+			});
+
+			assertThat(bytesPerMessage).isLessThan(FUNCTION_BYTES_PER_MESSAGE);
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	private static long measureBytesPerMessage(Runnable send) {
+		ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "Thread allocation measurement is not supported");
+		threadMXBean.setThreadAllocatedMemoryEnabled(true);
+		for (int i = 0; i < WARMUP_MESSAGES; i++) {
+			send.run();
+		}
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < MEASURED_MESSAGES; i++) {
+			send.run();
+		}
+		return (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / MEASURED_MESSAGES;
+	}
+
+	@EnableAutoConfiguration
+	public static class AllocationConfiguration {
+
+		final AtomicLong consumed = new AtomicLong();
+
+		@Bean
+		public Consumer<Message<byte[]>> sink() {
+			return message -> this.consumed.incrementAndGet();
+		}
+
+		@Bean
+		public Function<Message<byte[]>, Message<byte[]>> echo() {
+			return message -> message;
+		}
+
+	}
+
+}
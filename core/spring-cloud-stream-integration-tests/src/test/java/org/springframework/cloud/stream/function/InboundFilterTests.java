@@ -0,0 +1,212 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.function;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.stream.binder.Binding;
+import org.springframework.cloud.stream.binder.EmbeddedHeaderUtils;
+import org.springframework.cloud.stream.binder.test.InputDestination;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.cloud.stream.binding.BindingService;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.acks.AcknowledgmentCallback;
+import org.springframework.integration.acks.AcknowledgmentCallback.Status;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the filter expression of consumer bindings.
+ */
+public class InboundFilterTests {
+
+	@BeforeAll
+	public static void before() {
+		System.clearProperty("spring.cloud.function.definition");
+	}
+
+	@Test
+	void rejectedMessagesAreDroppedBeforeConversion() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(FilterConfiguration.class))
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false",
+				"--spring.cloud.function.definition=greet",
+				"--spring.cloud.stream.bindings.greet-in-0.consumer.filter-expression=headers['tenant'] == 'acme'")) {
+			InputDestination input = context.getBean(InputDestination.class);
+			OutputDestination output = context.getBean(OutputDestination.class);
+
+			// not JSON, so that the function fails should the payload be converted
+			input.send(MessageBuilder.withPayload("not json".getBytes()).setHeader("tenant", "other").build(),
+				"greet-in-0");
+			input.send(MessageBuilder.withPayload("not json".getBytes()).build(), "greet-in-0");
+			input.send(MessageBuilder.withPayload("{\"name\":\"Bob\"}".getBytes()).setHeader("tenant", "acme").build(),
+				"greet-in-0");
+
+			Message<byte[]> result = output.receive(1000, "greet-out-0");
+			assertThat(new String(result.getPayload())).isEqualTo("Hello Bob");
+			assertThat(output.receive(100, "greet-out-0")).isNull();
+			assertThat(context.getBean(FilterConfiguration.class).invocations.get()).isEqualTo(1);
+
+			List<Binding<?>> bindings = context.getBean(BindingService.class).getConsumerBindings("greet-in-0");
+			assertThat(bindings.get(0).getExtendedInfo()).containsEntry("filteredMessages", 2L);
+		}
+	}
+
+	@Test
+	void predicateBeanCanBeReferenced() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(FilterConfiguration.class))
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false",
+				"--spring.cloud.function.definition=greet",
+				"--spring.cloud.stream.bindings.greet-in-0.consumer.filter-expression=@tenantFilter.test(headers)")) {
+			InputDestination input = context.getBean(InputDestination.class);
+			OutputDestination output = context.getBean(OutputDestination.class);
+
+			input.send(MessageBuilder.withPayload("{\"name\":\"Ann\"}".getBytes()).setHeader("tenant", "other").build(),
+				"greet-in-0");
+			input.send(MessageBuilder.withPayload("{\"name\":\"Bob\"}".getBytes()).setHeader("tenant", "acme").build(),
+				"greet-in-0");
+
+			assertThat(new String(output.receive(1000, "greet-out-0").getPayload())).isEqualTo("Hello Bob");
+			assertThat(output.receive(100, "greet-out-0")).isNull();
+		}
+	}
+
+	@Test
+	void rejectedMessagesAreAcknowledgedWhenAcknowledgmentIsManual() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(FilterConfiguration.class))
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false",
+				"--spring.cloud.function.definition=greet",
+				"--spring.cloud.stream.bindings.greet-in-0.consumer.filter-expression=headers['tenant'] == 'acme'")) {
+			InputDestination input = context.getBean(InputDestination.class);
+			OutputDestination output = context.getBean(OutputDestination.class);
+			ManualAcknowledgmentCallback rejected = new ManualAcknowledgmentCallback();
+			ManualAcknowledgmentCallback accepted = new ManualAcknowledgmentCallback();
+
+			input.send(MessageBuilder.withPayload("{\"name\":\"Ann\"}".getBytes()).setHeader("tenant", "other")
+				.setHeader(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK, rejected).build(), "greet-in-0");
+			input.send(MessageBuilder.withPayload("{\"name\":\"Bob\"}".getBytes()).setHeader("tenant", "acme")
+				.setHeader(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK, accepted).build(), "greet-in-0");
+
+			assertThat(new String(output.receive(1000, "greet-out-0").getPayload())).isEqualTo("Hello Bob");
+			assertThat(rejected.status).isEqualTo(Status.ACCEPT);
+			// left to the application
+			assertThat(accepted.status).isNull();
+		}
+	}
+
+	@Test
+	void filterExpressionSeesEmbeddedHeaders() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(FilterConfiguration.class))
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false",
+				"--spring.cloud.function.definition=greet",
+				"--spring.cloud.stream.bindings.greet-in-0.consumer.header-mode=embeddedHeaders",
+				"--spring.cloud.stream.bindings.greet-in-0.consumer.filter-expression=headers['tenant'] == 'acme'")) {
+			InputDestination input = context.getBean(InputDestination.class);
+			OutputDestination output = context.getBean(OutputDestination.class);
+
+			input.send(new GenericMessage<>(EmbeddedHeaderUtils.embedHeaders(MessageBuilder
+				.withPayload("{\"name\":\"Ann\"}".getBytes()).setHeader("tenant", "other").build(), "tenant")),
+				"greet-in-0");
+			input.send(new GenericMessage<>(EmbeddedHeaderUtils.embedHeaders(MessageBuilder
+				.withPayload("{\"name\":\"Bob\"}".getBytes()).setHeader("tenant", "acme").build(), "tenant")),
+				"greet-in-0");
+
+			assertThat(new String(output.receive(1000, "greet-out-0").getPayload())).isEqualTo("Hello Bob");
+			assertThat(output.receive(100, "greet-out-0")).isNull();
+			assertThat(context.getBean(FilterConfiguration.class).invocations.get()).isEqualTo(1);
+		}
+	}
+
+	@EnableAutoConfiguration
+	public static class FilterConfiguration {
+
+		final AtomicInteger invocations = new AtomicInteger();
+
+		@Bean
+		public Function<Person, String> greet() {
+			return person -> {
+				this.invocations.incrementAndGet();
+				return "Hello " + person.getName();
+			};
+		}
+
+		@Bean
+		public Predicate<MessageHeaders> tenantFilter() {
+			return headers -> "acme".equals(headers.get("tenant"));
+		}
+
+	}
+
+	private static final class ManualAcknowledgmentCallback implements AcknowledgmentCallback {
+
+		private volatile Status status;
+
+		@Override
+		public void acknowledge(Status status) {
+			this.status = status;
+		}
+
+		@Override
+		public boolean isAcknowledged() {
+			return this.status != null;
+		}
+
+		@Override
+		public boolean isAutoAck() {
+			return false;
+		}
+
+	}
+
+	public static class Person {
+
+		private String name;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+	}
+
+}
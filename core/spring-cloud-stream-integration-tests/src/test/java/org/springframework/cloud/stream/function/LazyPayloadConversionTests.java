@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.function;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.stream.binder.test.InputDestination;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the lazy conversion of the payload of inbound messages.
+ */
+public class LazyPayloadConversionTests {
+
+	@BeforeAll
+	public static void before() {
+		System.clearProperty("spring.cloud.function.definition");
+	}
+
+	@Test
+	void payloadIsNotConvertedWhenOnlyHeadersAreRead() {
+		try (ConfigurableApplicationContext context = runWith("tenants")) {
+			InputDestination input = context.getBean(InputDestination.class);
+
+			// not JSON, so that the conversion fails should it happen
+			input.send(MessageBuilder.withPayload("not json".getBytes()).setHeader("tenant", "acme").build(),
+				"tenants-in-0");
+
+			LazyConfiguration configuration = context.getBean(LazyConfiguration.class);
+			assertThat(configuration.tenants).containsExactly("acme");
+			assertThat(configuration.messages.get(0)).isInstanceOf(LazyPayloadMessage.class);
+			assertThat(((LazyPayloadMessage) configuration.messages.get(0)).isPayloadConverted()).isFalse();
+		}
+	}
+
+	@Test
+	void payloadIsConvertedWhenAccessed() {
+		try (ConfigurableApplicationContext context = runWith("greet")) {
+			InputDestination input = context.getBean(InputDestination.class);
+			OutputDestination output = context.getBean(OutputDestination.class);
+
+			input.send(MessageBuilder.withPayload("{\"name\":\"Bob\"}".getBytes()).build(), "greet-in-0");
+
+			assertThat(new String(output.receive(1000, "greet-out-0").getPayload())).isEqualTo("Hello Bob");
+		}
+	}
+
+	@Test
+	void messageReturnedAsIsIsSentAsReceived() {
+		try (ConfigurableApplicationContext context = runWith("passThrough")) {
+			InputDestination input = context.getBean(InputDestination.class);
+			OutputDestination output = context.getBean(OutputDestination.class);
+
+			input.send(MessageBuilder.withPayload("{\"name\":\"Bob\"}".getBytes()).setHeader("tenant", "acme").build(),
+				"passThrough-in-0");
+
+			Message<byte[]> result = output.receive(1000, "passThrough-out-0");
+			assertThat(new String(result.getPayload())).isEqualTo("{\"name\":\"Bob\"}");
+			assertThat(result.getHeaders().get("tenant")).isEqualTo("acme");
+		}
+	}
+
+	@Test
+	void typedMessageReturnedAsIsIsSentWithoutConversion() {
+		try (ConfigurableApplicationContext context = runWith("forward")) {
+			InputDestination input = context.getBean(InputDestination.class);
+			OutputDestination output = context.getBean(OutputDestination.class);
+
+			// not JSON, so that the conversion fails should it happen (on input or output)
+			input.send(MessageBuilder.withPayload("not json".getBytes()).setHeader("tenant", "acme").build(),
+				"forward-in-0");
+
+			Message<byte[]> result = output.receive(1000, "forward-out-0");
+			assertThat(new String(result.getPayload())).isEqualTo("not json");
+			assertThat(result.getHeaders().get("tenant")).isEqualTo("acme");
+			LazyConfiguration configuration = context.getBean(LazyConfiguration.class);
+			assertThat(((LazyPayloadMessage) configuration.messages.get(0)).isPayloadConverted()).isFalse();
+		}
+	}
+
+	private static ConfigurableApplicationContext runWith(String definition) {
+		return new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(LazyConfiguration.class))
+			.web(WebApplicationType.NONE)
+			.run("--spring.jmx.enabled=false",
+				"--spring.cloud.function.definition=" + definition,
+				"--spring.cloud.stream.bindings." + definition + "-in-0.consumer.lazy-payload-conversion=true");
+	}
+
+	@EnableAutoConfiguration
+	public static class LazyConfiguration {
+
+		final List<String> tenants = new CopyOnWriteArrayList<>();
+
+		final List<Message<?>> messages = new CopyOnWriteArrayList<>();
+
+		@Bean
+		public Consumer<Message<Person>> tenants() {
+			return message -> {
+				this.messages.add(message);
+				this.tenants.add((String) message.getHeaders().get("tenant"));
+			};
+		}
+
+		@Bean
+		public Function<Message<Person>, String> greet() {
+			return message -> "Hello " + message.getPayload().getName();
+		}
+
+		@Bean
+		public Function<Message<Person>, Message<Person>> forward() {
+			return message -> {
+				this.messages.add(message);
+				return message;
+			};
+		}
+
+		@Bean
+		public Function<Message<byte[]>, Message<byte[]>> passThrough() {
+			return message -> message;
+		}
+
+	}
+
+	public static class Person {
+
+		private String name;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+	}
+
+}
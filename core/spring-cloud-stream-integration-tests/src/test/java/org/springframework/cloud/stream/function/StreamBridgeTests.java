@@ -18,27 +18,37 @@ package org.springframework.cloud.stream.function;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import reactor.core.publisher.Flux;
 
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.boot.WebApplicationType;
@@ -47,6 +57,9 @@ import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.cloud.function.cloudevent.CloudEventMessageBuilder;
 import org.springframework.cloud.function.cloudevent.CloudEventMessageUtils;
 import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
+import org.springframework.cloud.stream.binder.ConfirmingMessageHandler;
+import org.springframework.cloud.stream.binder.OutboundMessageStage;
+import org.springframework.cloud.stream.binder.SendResult;
 import org.springframework.cloud.stream.binder.test.InputDestination;
 import org.springframework.cloud.stream.binder.test.OutputDestination;
 import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
@@ -62,6 +75,8 @@ import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.config.GlobalChannelInterceptor;
 import org.springframework.integration.dsl.IntegrationFlow;
 import org.springframework.integration.handler.LoggingHandler;
+import org.springframework.integration.support.management.micrometer.MicrometerMetricsCaptor;
+import org.springframework.integration.test.util.TestUtils;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
@@ -79,6 +94,8 @@ import org.springframework.util.ReflectionUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
 /**
  *
@@ -273,6 +290,93 @@ class StreamBridgeTests {
 		}
 	}
 
+	@Test
+	void fusedOutboundPipelineRecordsSendTimer() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(
+				EmptyConfiguration.class)).web(WebApplicationType.NONE).run(
+			"--spring.jmx.enabled=false")) {
+			StreamBridge streamBridge = context.getBean(StreamBridge.class);
+			OutputDestination output = context.getBean(OutputDestination.class);
+			DirectWithAttributesChannel channel = (DirectWithAttributesChannel) streamBridge.resolveDestination("metered",
+				context.getBean(BindingServiceProperties.class).getProducerProperties("metered"), null);
+			SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+			channel.registerMetricsCaptor(new MicrometerMetricsCaptor(meterRegistry));
+
+			streamBridge.send("metered", "A");
+			streamBridge.sendAll("metered", List.of("B", "C"));
+
+			assertThat(channel.getOutboundPipeline()).isNotNull();
+			assertThat(output.receive(1000, "metered").getPayload()).isEqualTo("A".getBytes());
+			assertThat(meterRegistry.get("spring.integration.send").tag("name", "metered").tag("result", "success")
+				.timer().count()).isEqualTo(3);
+		}
+	}
+
+	@Test
+	void interceptorsWhichAcceptedARejectedMessageAreNotifiedOfTheCompletion() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(
+				EmptyConfiguration.class)).web(WebApplicationType.NONE).run(
+			"--spring.jmx.enabled=false")) {
+			StreamBridge streamBridge = context.getBean(StreamBridge.class);
+			DirectWithAttributesChannel channel = (DirectWithAttributesChannel) streamBridge.resolveDestination("filtered",
+				context.getBean(BindingServiceProperties.class).getProducerProperties("filtered"), null);
+			List<Boolean> completions = new CopyOnWriteArrayList<>();
+			channel.addInterceptor(new ChannelInterceptor() {
+				@Override
+				public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+					completions.add(sent);
+				}
+			});
+			channel.addInterceptor(new ChannelInterceptor() {
+				@Override
+				public Message<?> preSend(Message<?> message, MessageChannel channel) {
+					return "reject".equals(new String((byte[]) message.getPayload())) ? null : message;
+				}
+			});
+
+			assertThat(streamBridge.sendAll("filtered", List.of("accept", "reject"))).isFalse();
+			assertThat(completions).containsExactly(true, false);
+		}
+	}
+
+	@Test
+	void outboundInterceptorsAreFusedUnlessUserInterceptorIsPresent() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			TestChannelBinderConfiguration.getCompleteConfiguration(
+				EmptyConfiguration.class)).web(WebApplicationType.NONE).run(
+			"--spring.cloud.stream.bindings.outputA-out-0.producer.partition-count=3",
+			"--spring.cloud.stream.bindings.outputA-out-0.producer.use-native-encoding=true",
+			"--spring.cloud.stream.bindings.outputA-out-0.producer.partition-key-expression=headers['partitionKey']",
+			"--spring.jmx.enabled=false")) {
+			StreamBridge streamBridge = context.getBean(StreamBridge.class);
+			OutputDestination output = context.getBean(OutputDestination.class);
+			Message<String> message = MessageBuilder.withPayload("A").setHeader("partitionKey", 2).build();
+			streamBridge.send("outputA-out-0", message);
+
+			assertThat(output.receive(1000, "outputA-out-0").getHeaders().get("scst_partition")).isEqualTo(2);
+			assertThat(message.getHeaders()).doesNotContainKey("scst_partition");
+			DirectWithAttributesChannel channel = (DirectWithAttributesChannel) streamBridge.resolveDestination("outputA-out-0",
+				context.getBean(BindingServiceProperties.class).getProducerProperties("outputA-out-0"), null);
+			assertThat(channel.getOutboundPipeline()).isNotNull();
+			assertThat(channel.getInterceptors()).isNotEmpty().allMatch(OutboundMessageStage.class::isInstance);
+
+			channel.addInterceptor(new ChannelInterceptor() {
+				@Override
+				public Message<?> preSend(Message<?> message, MessageChannel channel) {
+					return MessageBuilder.fromMessage(message).setHeader("intercepted", "true").build();
+				}
+			});
+			assertThat(channel.getOutboundPipeline()).isNull();
+			streamBridge.send("outputA-out-0", MessageBuilder.withPayload("B").setHeader("partitionKey", 1).build());
+
+			Message<byte[]> intercepted = output.receive(1000, "outputA-out-0");
+			assertThat(intercepted.getHeaders().get("scst_partition")).isEqualTo(1);
+			assertThat(intercepted.getHeaders().get("intercepted")).isEqualTo("true");
+		}
+	}
+
 	@SuppressWarnings("rawtypes")
 	@Test
 	void test_2783() throws Exception {
@@ -407,6 +511,164 @@ class StreamBridgeTests {
 		}
 	}
 
+	/*
+	 * This test verifies that concurrent senders are not serialized by StreamBridge: while a send is blocked
+	 * in the conversion of its message, sends to another destination, as well as to the same one, complete.
+	 */
+	@Test
+	void blockedSendDoesNotBlockOtherSends() throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestChannelBinderConfiguration
+			.getCompleteConfiguration(BlockingConverterConfiguration.class))
+			.web(WebApplicationType.NONE).run(
+				"--spring.cloud.stream.bindings.blocking.content-type=application/x-blocking",
+				"--spring.cloud.stream.bindings.other.content-type=application/x-blocking",
+				"--spring.jmx.enabled=false")) {
+			StreamBridge streamBridge = context.getBean(StreamBridge.class);
+			OutputDestination output = context.getBean(OutputDestination.class);
+			BlockingConverterConfiguration configuration = context.getBean(BlockingConverterConfiguration.class);
+
+			// resolve both bindings first so that the sends below only use their cached send plans
+			streamBridge.send("blocking", "warm-up");
+			streamBridge.send("other", "warm-up");
+			assertThat(output.receive(1000, "blocking")).isNotNull();
+			assertThat(output.receive(1000, "other")).isNotNull();
+
+			CompletableFuture<Boolean> blockedSend = CompletableFuture.supplyAsync(() -> streamBridge.send("blocking", "block"));
+			try {
+				assertThat(configuration.blocked.await(10, TimeUnit.SECONDS)).isTrue();
+
+				assertThat(CompletableFuture.supplyAsync(() -> streamBridge.send("other", "A")).get(10, TimeUnit.SECONDS))
+					.isTrue();
+				assertThat(CompletableFuture.supplyAsync(() -> streamBridge.send("blocking", "B")).get(10, TimeUnit.SECONDS))
+					.isTrue();
+				assertThat(blockedSend).isNotDone();
+			}
+			finally {
+				configuration.release.countDown();
+			}
+
+			assertThat(blockedSend.get(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(output.receive(1000, "other").getPayload()).isEqualTo("A".getBytes());
+			assertThat(output.receive(1000, "blocking").getPayload()).isEqualTo("B".getBytes());
+			assertThat(output.receive(1000, "blocking").getPayload()).isEqualTo("block".getBytes());
+		}
+	}
+
+	@Test
+	void sendAllPayloadsAndMessages() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestChannelBinderConfiguration
+			.getCompleteConfiguration(EmptyConfiguration.class))
+			.web(WebApplicationType.NONE).run(
+				"--spring.cloud.stream.bindings.bar.content-type=text/plain",
+				"--spring.jmx.enabled=false")) {
+			StreamBridge streamBridge = context.getBean(StreamBridge.class);
+			OutputDestination output = context.getBean(OutputDestination.class);
+
+			assertThat(streamBridge.sendAll("foo", List.of("a", "b", "c"))).isTrue();
+			assertThat(streamBridge.sendAll("bar", List.of(
+				MessageBuilder.withPayload("d").setHeader("index", 0).build(),
+				MessageBuilder.withPayload("e").setHeader("index", 1).build()))).isTrue();
+
+			assertThat(new String(output.receive(1000, "foo").getPayload())).isEqualTo("a");
+			assertThat(new String(output.receive(1000, "foo").getPayload())).isEqualTo("b");
+			assertThat(new String(output.receive(1000, "foo").getPayload())).isEqualTo("c");
+			Message<byte[]> message = output.receive(1000, "bar");
+			assertThat(new String(message.getPayload())).isEqualTo("d");
+			assertThat(message.getHeaders().get("index")).isEqualTo(0);
+			assertThat(message.getHeaders().get(MessageHeaders.CONTENT_TYPE).toString()).isEqualTo("text/plain");
+			message = output.receive(1000, "bar");
+			assertThat(new String(message.getPayload())).isEqualTo("e");
+			assertThat(message.getHeaders().get("index")).isEqualTo(1);
+			assertThat(output.receive(100, "foo")).isNull();
+		}
+	}
+
+	@Test
+	void sendAsyncFailsFastWhenBinderDoesNotSupportConfirms() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestChannelBinderConfiguration
+			.getCompleteConfiguration(EmptyConfiguration.class))
+			.web(WebApplicationType.NONE).run("--spring.jmx.enabled=false")) {
+			StreamBridge streamBridge = context.getBean(StreamBridge.class);
+			assertThatExceptionOfType(IllegalStateException.class)
+				.isThrownBy(() -> streamBridge.sendAsync("foo", "hello"))
+				.withMessageContaining("does not support send confirmations");
+		}
+	}
+
+	@Test
+	void sendAsyncCompletesWithConfirmAndBoundsInFlightSends() throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestChannelBinderConfiguration
+			.getCompleteConfiguration(ConfirmingChannelConfiguration.class))
+			.web(WebApplicationType.NONE).run(
+				"--spring.cloud.stream.bindings.confirming.producer.max-in-flight-async-sends=2",
+				"--spring.jmx.enabled=false")) {
+			StreamBridge streamBridge = context.getBean(StreamBridge.class);
+			ConfirmingChannelConfiguration configuration = context.getBean(ConfirmingChannelConfiguration.class);
+
+			CompletableFuture<SendResult> first = streamBridge.sendAsync("confirming", "a");
+			CompletableFuture<SendResult> second = streamBridge.sendAsync("confirming", "b");
+			assertThat(configuration.pendingConfirms).hasSize(2);
+			assertThat(first).isNotDone();
+
+			CountDownLatch thirdSent = new CountDownLatch(1);
+			Thread thread = new Thread(() -> {
+				streamBridge.sendAsync("confirming", "c");
+				thirdSent.countDown();
+			});
+			thread.start();
+			assertThat(thirdSent.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+			Message<?> firstMessage = configuration.pendingConfirms.get(0).getKey();
+			configuration.pendingConfirms.get(0).getValue().complete(new SendResult(firstMessage, "ack-a"));
+			assertThat(thirdSent.await(10, TimeUnit.SECONDS)).isTrue();
+			thread.join();
+
+			SendResult sendResult = first.get(10, TimeUnit.SECONDS);
+			assertThat(new String((byte[]) sendResult.message().getPayload())).isEqualTo("a");
+			assertThat(sendResult.metadata(String.class)).isEqualTo("ack-a");
+			assertThat(second).isNotDone();
+
+			configuration.pendingConfirms.get(1).getValue().completeExceptionally(new RuntimeException("nack"));
+			assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> second.get(10, TimeUnit.SECONDS));
+			assertThat(configuration.pendingConfirms).hasSize(3);
+		}
+	}
+
+	@Test
+	void sendPublisherRequestsOnlyAsFastAsSendsAreConfirmed() throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestChannelBinderConfiguration
+			.getCompleteConfiguration(ConfirmingChannelConfiguration.class))
+			.web(WebApplicationType.NONE).run(
+				"--spring.cloud.stream.bindings.confirming.producer.max-in-flight-async-sends=2",
+				"--spring.jmx.enabled=false")) {
+			StreamBridge streamBridge = context.getBean(StreamBridge.class);
+			ConfirmingChannelConfiguration configuration = context.getBean(ConfirmingChannelConfiguration.class);
+
+			AtomicLong requested = new AtomicLong();
+			Flux<String> data = Flux.just("a", "b", "c", "d").doOnRequest(requested::addAndGet);
+			List<SendResult> sendResults = new CopyOnWriteArrayList<>();
+			CountDownLatch completed = new CountDownLatch(1);
+			streamBridge.sendPublisher("confirming", data).subscribe(sendResults::add, e -> { }, completed::countDown);
+
+			assertThat(requested.get()).isEqualTo(2);
+			assertThat(configuration.pendingConfirms).hasSize(2);
+
+			// results are emitted in order, even if confirmed out of order
+			configuration.pendingConfirms.get(1).getValue().complete(new SendResult(configuration.pendingConfirms.get(1).getKey(), "ack-b"));
+			assertThat(sendResults).isEmpty();
+			assertThat(configuration.pendingConfirms).hasSize(2);
+			configuration.pendingConfirms.get(0).getValue().complete(new SendResult(configuration.pendingConfirms.get(0).getKey(), "ack-a"));
+			assertThat(sendResults).extracting(sendResult -> sendResult.metadata(String.class)).containsExactly("ack-a", "ack-b");
+			assertThat(configuration.pendingConfirms).hasSize(4);
+
+			configuration.pendingConfirms.get(2).getValue().complete(new SendResult(configuration.pendingConfirms.get(2).getKey(), "ack-c"));
+			configuration.pendingConfirms.get(3).getValue().complete(new SendResult(configuration.pendingConfirms.get(3).getKey(), "ack-d"));
+			assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(sendResults).extracting(sendResult -> new String((byte[]) sendResult.message().getPayload()))
+				.containsExactly("a", "b", "c", "d");
+		}
+	}
+
 	@Test
 	void withOutputContentTypeWildCardBindings() {
 		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestChannelBinderConfiguration
@@ -517,7 +779,6 @@ class StreamBridgeTests {
 	}
 
 	// See https://github.com/spring-cloud/spring-cloud-stream/issues/2885 for more context on the following test
-	@SuppressWarnings("unchecked")
 	@Test
 	void ensureDirectWithAttributesChannelIsPopulatedWithName() throws Exception {
 		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestChannelBinderConfiguration
@@ -529,8 +790,8 @@ class StreamBridgeTests {
 
 			Field field = ReflectionUtils.findField(StreamBridge.class, "channelCache");
 			Objects.requireNonNull(field).setAccessible(true);
-			Map<String, MessageChannel> map = (Map<String, MessageChannel>) field.get(bridge);
-			final MessageChannel messageChannel = map.get("test-channel");
+			DynamicDestinationCache cache = (DynamicDestinationCache) field.get(bridge);
+			final MessageChannel messageChannel = cache.get("test-channel");
 			assertThat(((DirectWithAttributesChannel) messageChannel).getFullChannelName()).isEqualTo("application.test-channel");
 		}
 	}
@@ -572,9 +833,165 @@ class StreamBridgeTests {
 			bridge.send("c", "hello foo");
 			bridge.send("d", "hello foo");
 
+			// evicted destinations are unbound asynchronously
 			BindingService bindingService = context.getBean(BindingService.class);
-			assertThat(bindingService.getProducerBindingNames().length).isEqualTo(1);
-			assertThat(bindingService.getProducerBindingNames()[0]).isEqualTo("d");
+			await().untilAsserted(() -> assertThat(bindingService.getProducerBindingNames()).containsExactly("d"));
+			assertThat(TestUtils.getPropertyValue(bridge, "sendPlans", Map.class)).containsOnlyKeys("d");
+			assertThat(TestUtils.getPropertyValue(bridge, "sendPlanLocks", Map.class)).containsOnlyKeys("d");
+		}
+	}
+
+	@Test
+	void leastRecentlyUsedDynamicDestinationIsEvicted() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestChannelBinderConfiguration
+			.getCompleteConfiguration(EmptyConfiguration.class))
+			.web(WebApplicationType.NONE).run(
+				"--spring.jmx.enabled=false",
+				"--spring.cloud.stream.dynamic-destination-cache-size=2"
+			)) {
+			StreamBridge bridge = context.getBean(StreamBridge.class);
+			SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+			new StreamBridgeMetrics(bridge).bindTo(meterRegistry);
+
+			bridge.send("a", "hello foo");
+			bridge.send("b", "hello foo");
+			bridge.send("a", "hello foo");
+			bridge.send("c", "hello foo");
+
+			BindingService bindingService = context.getBean(BindingService.class);
+			await().untilAsserted(() -> assertThat(bindingService.getProducerBindingNames()).containsExactlyInAnyOrder("a", "c"));
+
+			bridge.send("b", "hello foo");
+			OutputDestination outputDestination = context.getBean(OutputDestination.class);
+			assertThat(new String(outputDestination.receive(1000, "b").getPayload())).isEqualTo("hello foo");
+
+			assertThat(meterRegistry.get(StreamBridgeMetrics.METRIC_PREFIX + ".cache.gets").tag("result", "hit")
+				.functionCounter().count()).isEqualTo(1);
+			assertThat(meterRegistry.get(StreamBridgeMetrics.METRIC_PREFIX + ".cache.gets").tag("result", "miss")
+				.functionCounter().count()).isEqualTo(4);
+			assertThat(meterRegistry.get(StreamBridgeMetrics.METRIC_PREFIX + ".cache.evictions").tag("cause", "size")
+				.functionCounter().count()).isEqualTo(2);
+			assertThat(meterRegistry.get(StreamBridgeMetrics.METRIC_PREFIX + ".bind").functionTimer().count())
+				.isEqualTo(4);
+			assertThat(meterRegistry.get(StreamBridgeMetrics.METRIC_PREFIX + ".cache.size").gauge().value())
+				.isEqualTo(2);
+		}
+	}
+
+	@Test
+	void asyncSendsUseBoundedExecutorOfBinding() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestChannelBinderConfiguration
+			.getCompleteConfiguration(EmptyConfiguration.class))
+			.web(WebApplicationType.NONE).run(
+				"--spring.jmx.enabled=false",
+				"--spring.cloud.stream.bindings.foo.producer.async.executor=bounded",
+				"--spring.cloud.stream.bindings.foo.producer.async.pool-size=1",
+				"--spring.cloud.stream.bindings.foo.producer.async.queue-capacity=1",
+				"--spring.cloud.stream.bindings.foo.producer.async.rejection-policy=block"
+			)) {
+			StreamBridge bridge = context.getBean(StreamBridge.class);
+			bridge.setAsync(true);
+			SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+			new StreamBridgeMetrics(bridge).bindTo(meterRegistry);
+
+			for (int i = 0; i < 5; i++) {
+				bridge.send("foo", "hello " + i);
+			}
+
+			OutputDestination outputDestination = context.getBean(OutputDestination.class);
+			for (int i = 0; i < 5; i++) {
+				assertThat(new String(outputDestination.receive(1000, "foo").getPayload())).isEqualTo("hello " + i);
+			}
+			assertThat(meterRegistry.get(StreamBridgeMetrics.ASYNC_METRIC_PREFIX + ".wait").tag("binding", "foo")
+				.functionTimer().count()).isEqualTo(5);
+			assertThat(meterRegistry.get(StreamBridgeMetrics.ASYNC_METRIC_PREFIX + ".queued").tag("binding", "foo")
+				.gauge().value()).isEqualTo(0);
+		}
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void asyncSendsUseVirtualThreadsOfBinding() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestChannelBinderConfiguration
+			.getCompleteConfiguration(EmptyConfiguration.class))
+			.web(WebApplicationType.NONE).run(
+				"--spring.jmx.enabled=false",
+				"--spring.cloud.stream.bindings.foo.producer.async.executor=virtual"
+			)) {
+			StreamBridge bridge = context.getBean(StreamBridge.class);
+			bridge.setAsync(true);
+
+			bridge.send("foo", "hello");
+
+			OutputDestination outputDestination = context.getBean(OutputDestination.class);
+			assertThat(new String(outputDestination.receive(1000, "foo").getPayload())).isEqualTo("hello");
+		}
+	}
+
+	@Test
+	@EnabledForJreRange(max = JRE.JAVA_20)
+	void virtualAsyncExecutorFailsStartupBeforeJava21() {
+		SpringApplicationBuilder builder = new SpringApplicationBuilder(TestChannelBinderConfiguration
+			.getCompleteConfiguration(EmptyConfiguration.class))
+			.web(WebApplicationType.NONE);
+
+		assertThatThrownBy(() -> builder.run("--spring.jmx.enabled=false",
+				"--spring.cloud.stream.bindings.foo.producer.async.executor=virtual"))
+			.hasStackTraceContaining("The 'virtual' async executor of binding 'foo' requires Java 21 or later");
+	}
+
+	@Test
+	void asyncExecutorIsShutDownWhenDynamicDestinationIsEvicted() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestChannelBinderConfiguration
+			.getCompleteConfiguration(EmptyConfiguration.class))
+			.web(WebApplicationType.NONE).run(
+				"--spring.jmx.enabled=false",
+				"--spring.cloud.stream.dynamic-destination-cache-size=1",
+				"--spring.cloud.stream.default.producer.async.executor=bounded"
+			)) {
+			StreamBridge bridge = context.getBean(StreamBridge.class);
+			bridge.setAsync(true);
+			SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+			new StreamBridgeMetrics(bridge).bindTo(meterRegistry);
+
+			bridge.send("a", "hello foo");
+			Map<?, ?> asyncExecutors = TestUtils.getPropertyValue(bridge, "asyncExecutors", Map.class);
+			ExecutorService executorOfA = TestUtils.getPropertyValue(asyncExecutors.get("a"), "ownedExecutorService",
+					ExecutorService.class);
+			bridge.send("b", "hello foo");
+
+			assertThat(asyncExecutors).containsOnlyKeys("b");
+			assertThat(executorOfA.isShutdown()).isTrue();
+			assertThat(meterRegistry.find(StreamBridgeMetrics.ASYNC_METRIC_PREFIX + ".queued").tag("binding", "a")
+				.gauge()).isNull();
+			assertThat(meterRegistry.find(StreamBridgeMetrics.ASYNC_METRIC_PREFIX + ".queued").tag("binding", "b")
+				.gauge()).isNotNull();
+		}
+	}
+
+	@Test
+	void idleDynamicDestinationIsEvicted() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestChannelBinderConfiguration
+			.getCompleteConfiguration(EmptyConfiguration.class))
+			.web(WebApplicationType.NONE).run(
+				"--spring.jmx.enabled=false",
+				"--spring.cloud.stream.dynamic-destination-cache-ttl=200ms"
+			)) {
+			StreamBridge bridge = context.getBean(StreamBridge.class);
+			SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+			new StreamBridgeMetrics(bridge).bindTo(meterRegistry);
+
+			bridge.send("a", "hello foo");
+			OutputDestination outputDestination = context.getBean(OutputDestination.class);
+			assertThat(new String(outputDestination.receive(1000, "a").getPayload())).isEqualTo("hello foo");
+
+			BindingService bindingService = context.getBean(BindingService.class);
+			await().untilAsserted(() -> assertThat(bindingService.getProducerBindingNames()).isEmpty());
+			assertThat(meterRegistry.get(StreamBridgeMetrics.METRIC_PREFIX + ".cache.evictions").tag("cause", "expired")
+				.functionCounter().count()).isEqualTo(1);
+
+			bridge.send("a", "hello bar");
+			assertThat(new String(outputDestination.receive(1000, "a").getPayload())).isEqualTo("hello bar");
 		}
 	}
 
@@ -847,8 +1264,7 @@ class StreamBridgeTests {
 			bridge.send("binding2", "anotherKafka", "Omer Celik");
 
 			BindingService bindingService = context.getBean(BindingService.class);
-			assertThat(bindingService.getProducerBindingNames().length).isEqualTo(1);
-			assertThat(bindingService.getProducerBindingNames()[0]).isEqualTo("anotherKafka:binding2");
+			await().untilAsserted(() -> assertThat(bindingService.getProducerBindingNames()).containsExactly("anotherKafka:binding2"));
 		}
 	}
 
@@ -985,6 +1401,64 @@ class StreamBridgeTests {
 		}
 	}
 
+	@EnableAutoConfiguration
+	public static class ConfirmingChannelConfiguration {
+
+		final List<Map.Entry<Message<?>, CompletableFuture<SendResult>>> pendingConfirms = new CopyOnWriteArrayList<>();
+
+		@Bean
+		public DirectWithAttributesChannel confirming() {
+			DirectWithAttributesChannel channel = new DirectWithAttributesChannel();
+			channel.subscribe(new ConfirmingMessageHandler() {
+
+				@Override
+				public void handleMessage(Message<?> message) {
+				}
+
+				@Override
+				public CompletableFuture<SendResult> handleMessageAsync(Message<?> message) {
+					CompletableFuture<SendResult> confirm = new CompletableFuture<>();
+					pendingConfirms.add(Map.entry(message, confirm));
+					return confirm;
+				}
+			});
+			return channel;
+		}
+	}
+
+	@EnableAutoConfiguration
+	public static class BlockingConverterConfiguration {
+
+		final CountDownLatch blocked = new CountDownLatch(1);
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		@Bean
+		public MessageConverter blockingConverter() {
+			return new AbstractMessageConverter(MimeType.valueOf("application/x-blocking")) {
+				@Override
+				protected boolean supports(@NonNull Class<?> clazz) {
+					return true;
+				}
+
+				@Override
+				@Nullable
+				protected Object convertToInternal(@NonNull Object payload, @Nullable MessageHeaders headers, @Nullable Object conversionHint) {
+					if ("block".equals(payload)) {
+						blocked.countDown();
+						try {
+							release.await(10, TimeUnit.SECONDS);
+						}
+						catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					}
+					return payload instanceof byte[] ? payload : payload.toString().getBytes();
+				}
+			};
+		}
+	}
+
 	@EnableAutoConfiguration
 	public static class ConsumerConfiguration {
 		@Bean
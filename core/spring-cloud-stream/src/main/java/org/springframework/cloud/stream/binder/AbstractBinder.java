@@ -30,12 +30,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.cloud.stream.annotation.StreamRetryTemplate;
 import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.cloud.stream.config.SpelExpressionConverterConfiguration;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.support.AbstractApplicationContext;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.retry.RetryPolicy;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.core.retry.RetryTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -72,6 +75,8 @@ public abstract class AbstractBinder<T, C extends ConsumerProperties, P extends
 
 	private volatile EvaluationContext evaluationContext;
 
+	private volatile SpelExpressionParser expressionParser;
+
 	@Autowired(required = false)
 	@StreamRetryTemplate
 	private Map<String, RetryTemplate> consumerBindingRetryTemplates;
@@ -120,6 +125,35 @@ public abstract class AbstractBinder<T, C extends ConsumerProperties, P extends
 		return this.evaluationContext;
 	}
 
+	/**
+	 * Return the parser to use for the expressions created by the binder itself, configured
+	 * with the compiler mode of the expressions of bindings.
+	 * @return the expression parser
+	 * @since 5.0.1
+	 * @see #getExpressionCompilerMode()
+	 */
+	protected SpelExpressionParser getExpressionParser() {
+		SpelExpressionParser parser = this.expressionParser;
+		if (parser == null) {
+			parser = SpelExpressionConverterConfiguration.createExpressionParser(getExpressionCompilerMode(),
+					this.applicationContext != null ? this.applicationContext.getClassLoader() : null);
+			this.expressionParser = parser;
+		}
+		return parser;
+	}
+
+	/**
+	 * Return the compiler mode of the expressions of bindings.
+	 * @return the compiler mode, off if the binder has no {@link BindingServiceProperties}
+	 * @since 5.0.1
+	 * @see BindingServiceProperties#getExpressionCompilerMode()
+	 */
+	protected SpelCompilerMode getExpressionCompilerMode() {
+		BindingServiceProperties bindingServiceProperties = getBindingServiceProperties();
+		return bindingServiceProperties != null
+				? bindingServiceProperties.getExpressionCompilerMode() : SpelCompilerMode.OFF;
+	}
+
 	@Override
 	public final void afterPropertiesSet() throws Exception {
 		Assert.notNull(this.applicationContext,
@@ -16,9 +16,14 @@
 
 package org.springframework.cloud.stream.binder;
 
+import java.beans.PropertyDescriptor;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -31,6 +36,8 @@ import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.module.SimpleModule;
 import tools.jackson.databind.ser.std.StdSerializer;
 
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
@@ -43,6 +50,7 @@ import org.springframework.cloud.stream.config.ConsumerEndpointCustomizer;
 import org.springframework.cloud.stream.config.ListenerContainerCustomizer;
 import org.springframework.cloud.stream.config.MessageSourceCustomizer;
 import org.springframework.cloud.stream.config.ProducerMessageHandlerCustomizer;
+import org.springframework.cloud.stream.messaging.DirectWithAttributesChannel;
 import org.springframework.cloud.stream.provisioning.ConsumerDestination;
 import org.springframework.cloud.stream.provisioning.ProducerDestination;
 import org.springframework.cloud.stream.provisioning.ProvisioningException;
@@ -51,8 +59,12 @@ import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.Lifecycle;
+import org.springframework.context.support.AbstractApplicationContext;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.integration.channel.AbstractMessageChannel;
 import org.springframework.integration.channel.AbstractSubscribableChannel;
 import org.springframework.integration.channel.DirectChannel;
@@ -62,11 +74,14 @@ import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.integration.core.MessageProducer;
 import org.springframework.integration.core.MessageSource;
 import org.springframework.integration.endpoint.ReactiveStreamsConsumer;
+import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.handler.AbstractMessageHandler;
 import org.springframework.integration.handler.BridgeHandler;
 import org.springframework.integration.handler.advice.ErrorMessageSendingRecoverer;
 import org.springframework.integration.support.DefaultErrorMessageStrategy;
 import org.springframework.integration.support.ErrorMessageStrategy;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -115,6 +130,10 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 	private final EmbeddedHeadersChannelInterceptor embeddedHeadersChannelInterceptor = new EmbeddedHeadersChannelInterceptor(
 			this.logger);
 
+
+	@Nullable
+	private volatile PayloadCodecs payloadCodecs;
+
 	private volatile ObjectMapper objectMapper;
 
 	/**
@@ -322,6 +341,11 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 			String errorChannelName = errorsBaseName(producerDestination, producerProperties.getBindingName());
 			this.subscribeFunctionErrorHandler(errorChannelName, producerProperties.getBindingName());
 
+			if (StringUtils.hasText(producerProperties.getContentEncoding())) {
+				Assert.isTrue(getPayloadCodecs().hasCodec(producerProperties.getContentEncoding()),
+						() -> "Unknown content encoding '" + producerProperties.getContentEncoding() + "'");
+			}
+
 			producerMessageHandler = createProducerMessageHandler(producerDestination,
 					producerProperties, outputChannel, errorChannel);
 			customizeProducerMessageHandler(producerMessageHandler, producerDestination.getName());
@@ -355,7 +379,14 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 				.subscribe(new SendingHandler(producerMessageHandler,
 					HeaderMode.embeddedHeaders
 						.equals(producerProperties.getHeaderMode()),
-					this.headersToEmbed, useNativeEncoding(producerProperties)));
+					producerProperties.isJsonEmbeddedHeaders(),
+					this.headersToEmbed, useNativeEncoding(producerProperties),
+					StringUtils.hasText(producerProperties.getContentEncoding())
+							? producerProperties.getContentEncoding() : null,
+					producerProperties.getContentEncodingThreshold()));
+			if (outputChannel instanceof DirectWithAttributesChannel directWithAttributesChannel) {
+				directWithAttributesChannel.enableOutboundPipeline();
+			}
 		}
 		else if (outputChannel instanceof FluxMessageChannel) {
 			final ReactiveStreamsConsumer reactiveStreamsConsumer = new ReactiveStreamsConsumer(outputChannel, producerMessageHandler);
@@ -545,11 +576,29 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 			ConsumerDestination destination = this.provisioningProvider
 					.provisionConsumerDestination(name, group, properties);
 
-			if (HeaderMode.embeddedHeaders.equals(properties.getHeaderMode())) {
-				enhanceMessageChannel(inputChannel);
+			InboundMessageFilter filter = createInboundMessageFilter(name, inputChannel, properties);
+			if (filter != null) {
+				// the filter expression must see the messages as the input channel would
+				if (HeaderMode.embeddedHeaders.equals(properties.getHeaderMode())) {
+					filter.addInterceptor(this.embeddedHeadersChannelInterceptor);
+				}
+				if (properties.isContentDecoding()) {
+					filter.addInterceptor(new ContentDecodingChannelInterceptor(properties.getMaxDecodedSize()));
+				}
+				filter.setDiscardCallback(message -> acknowledgeFilteredMessage(message, properties));
+			}
+			else {
+				if (properties.isContentDecoding() && inputChannel instanceof AbstractMessageChannel abstractInputChannel) {
+					// after the extraction of embedded headers, since the payload is encoded before they are embedded
+					abstractInputChannel.addInterceptor(0,
+							new ContentDecodingChannelInterceptor(properties.getMaxDecodedSize()));
+				}
+				if (HeaderMode.embeddedHeaders.equals(properties.getHeaderMode())) {
+					enhanceMessageChannel(inputChannel);
+				}
 			}
 			consumerEndpoint = createConsumerEndpoint(destination, group, properties);
-			consumerEndpoint.setOutputChannel(inputChannel);
+			consumerEndpoint.setOutputChannel(filter != null ? filter : inputChannel);
 			this.consumerCustomizer.configure(consumerEndpoint, name, group);
 			if (consumerEndpoint instanceof InitializingBean initializingConsumerEndpoint) {
 				initializingConsumerEndpoint.afterPropertiesSet();
@@ -565,7 +614,11 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 
 				@Override
 				public Map<String, Object> getExtendedInfo() {
-					return doGetExtendedInfo(destination, properties);
+					Map<String, Object> extendedInfo = doGetExtendedInfo(destination, properties);
+					if (filter != null) {
+						extendedInfo.put("filteredMessages", filter.getFilteredCount());
+					}
+					return extendedInfo;
 				}
 
 				@SuppressWarnings({ "unchecked", "hiding" })
@@ -607,6 +660,9 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 						AbstractMessageChannelBinder.this.logger.error(
 								"Exception thrown while unbinding " + toString(), e);
 					}
+					if (filter != null) {
+						filter.destroy();
+					}
 					afterUnbindConsumer(destination, this.group, properties);
 					destroyErrorInfrastructure(destination, this.group, properties);
 				}
@@ -631,6 +687,62 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 		}
 	}
 
+	/**
+	 * Create the filter dropping the inbound messages the filter expression of the binding
+	 * does not accept, before they reach the input channel.
+	 * @return the filter or null if the binding has no filter expression
+	 */
+	@Nullable
+	private InboundMessageFilter createInboundMessageFilter(String name, MessageChannel inputChannel,
+			C properties) {
+		if (properties.getFilterExpression() == null) {
+			return null;
+		}
+		AbstractApplicationContext applicationContext = getApplicationContext();
+		EvaluationContext evaluationContext = getEvaluationContext();
+		if (evaluationContext == null) {
+			evaluationContext = ExpressionUtils.createStandardEvaluationContext(
+					applicationContext != null ? applicationContext.getBeanFactory() : null);
+		}
+		InboundMessageFilter filter = new InboundMessageFilter(
+				properties.getBindingName() != null ? properties.getBindingName() : name,
+				properties.getFilterExpression(), evaluationContext, inputChannel);
+		MetricsCaptor metricsCaptor = applicationContext != null
+				? applicationContext.getBeanProvider(MetricsCaptor.class).getIfUnique() : null;
+		if (metricsCaptor != null) {
+			filter.registerMetricsCaptor(metricsCaptor);
+		}
+		return filter;
+	}
+
+	/**
+	 * Acknowledge a message dropped by the filter expression of a binding, when the
+	 * acknowledgment is left to the application. Messages carrying an
+	 * {@link org.springframework.integration.acks.AcknowledgmentCallback} are already
+	 * acknowledged through it; binders with their own acknowledgment mechanism override
+	 * this method. The default implementation does nothing.
+	 * @param message the dropped message
+	 * @param properties the consumer properties of the binding
+	 * @since 5.0.1
+	 */
+	protected void acknowledgeFilteredMessage(Message<?> message, C properties) {
+	}
+
+	/**
+	 * Return the name of the header holding the headers of each message of a batch, for
+	 * binders delivering a batch as a single message with a {@code List} payload, so that
+	 * the payload of each message of the batch is decoded according to its own
+	 * {@link BinderHeaders#CONTENT_ENCODING} header. The default implementation returns
+	 * null, in which case the payloads of a batch are decoded according to the header of
+	 * the batch message only.
+	 * @return the name of the header, or null
+	 * @since 5.0.1
+	 */
+	@Nullable
+	protected String getBatchHeadersName() {
+		return null;
+	}
+
 	/**
 	 * This method must be implemented by an individual binders to produce an
 	 * immutable version of additional configuration properties primarily for testing and diagnosing/debugging issues.
@@ -650,6 +762,9 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 		DefaultPollableMessageSource bindingTarget = (DefaultPollableMessageSource) inboundBindTarget;
 		ConsumerDestination destination = this.provisioningProvider
 				.provisionConsumerDestination(name, group, properties);
+		if (properties.isContentDecoding()) {
+			bindingTarget.addInterceptor(0, new ContentDecodingChannelInterceptor(properties.getMaxDecodedSize()));
+		}
 		if (HeaderMode.embeddedHeaders.equals(properties.getHeaderMode())) {
 			bindingTarget.addInterceptor(0, this.embeddedHeadersChannelInterceptor);
 		}
@@ -738,6 +853,33 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 				"This binder does not support pollable consumers");
 	}
 
+	/**
+	 * Return the codecs the payloads are encoded and decoded with: the built-in ones and
+	 * the {@link PayloadCodec} beans.
+	 * @return the codecs
+	 */
+	protected PayloadCodecs getPayloadCodecs() {
+		PayloadCodecs payloadCodecs = this.payloadCodecs;
+		if (payloadCodecs == null) {
+			synchronized (this) {
+				payloadCodecs = this.payloadCodecs;
+				if (payloadCodecs == null) {
+					AbstractApplicationContext applicationContext = getApplicationContext();
+					payloadCodecs = new PayloadCodecs(applicationContext != null
+							? applicationContext.getBeanProvider(PayloadCodec.class).orderedStream().toList()
+							: List.of());
+					MetricsCaptor metricsCaptor = applicationContext != null
+							? applicationContext.getBeanProvider(MetricsCaptor.class).getIfUnique() : null;
+					if (metricsCaptor != null) {
+						payloadCodecs.registerMetricsCaptor(metricsCaptor);
+					}
+					this.payloadCodecs = payloadCodecs;
+				}
+			}
+		}
+		return payloadCodecs;
+	}
+
 	private void enhanceMessageChannel(MessageChannel inputChannel) {
 		((AbstractMessageChannel) inputChannel).addInterceptor(0,
 				this.embeddedHeadersChannelInterceptor);
@@ -1110,9 +1252,56 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 		extendedInfo.put("bindingDestination", destination.toString());
 		extendedInfo.put(properties.getClass().getSimpleName(),
 				this.objectMapper.convertValue(properties, Map.class));
+		Map<String, String> expressions = new LinkedHashMap<>();
+		collectExpressions("", properties, expressions);
+		if (properties instanceof ExtendedConsumerProperties<?> extendedProperties) {
+			collectExpressions("extension.", extendedProperties.getExtension(), expressions);
+		}
+		else if (properties instanceof ExtendedProducerProperties<?> extendedProperties) {
+			collectExpressions("extension.", extendedProperties.getExtension(), expressions);
+		}
+		if (!expressions.isEmpty()) {
+			extendedInfo.put("expressions", expressions);
+		}
 		return extendedInfo;
 	}
 
+	/**
+	 * Report, for each expression property of the given properties, whether the expression
+	 * can be compiled or is (still) interpreted.
+	 */
+	private void collectExpressions(String prefix, @Nullable Object properties, Map<String, String> expressions) {
+		if (properties == null) {
+			return;
+		}
+		try {
+			BeanWrapper beanWrapper = new BeanWrapperImpl(properties);
+			for (PropertyDescriptor descriptor : beanWrapper.getPropertyDescriptors()) {
+				if (descriptor.getReadMethod() != null
+						&& Expression.class.isAssignableFrom(descriptor.getPropertyType())
+						&& beanWrapper.getPropertyValue(descriptor.getName()) instanceof Expression expression) {
+					expressions.put(prefix + descriptor.getName(), expressionStatus(expression));
+				}
+			}
+		}
+		catch (Exception ex) {
+			this.logger.debug("Failed to collect the expressions of " + properties, ex);
+		}
+	}
+
+	/**
+	 * The status is derived from the AST of the expression, without compiling it: an
+	 * expression is "compilable" once it has been evaluated enough for its types to be
+	 * known, in which case it is compiled (or about to be) unless compilation is off.
+	 */
+	private String expressionStatus(Expression expression) {
+		if (!(expression instanceof SpelExpression spelExpression)) {
+			return "literal";
+		}
+		return getExpressionCompilerMode() != SpelCompilerMode.OFF && spelExpression.getAST().isCompilable()
+				? "compilable" : "interpreted";
+	}
+
 	private void doPublishEvent(ApplicationEvent event) {
 		if (this.applicationEventPublisher != null) {
 			try {
@@ -1198,6 +1387,115 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 
 	}
 
+	/**
+	 * Decodes the payload of the messages encoded by a {@link PayloadCodec}, as indicated
+	 * by their {@link BinderHeaders#CONTENT_ENCODING} header.
+	 */
+	private final class ContentDecodingChannelInterceptor implements ChannelInterceptor {
+
+		private final int maxDecodedSize;
+
+		ContentDecodingChannelInterceptor(int maxDecodedSize) {
+			this.maxDecodedSize = maxDecodedSize;
+		}
+
+		@Override
+		public Message<?> preSend(Message<?> message, MessageChannel channel) {
+			String codec = codecName(message.getHeaders().get(BinderHeaders.CONTENT_ENCODING));
+			if (message.getPayload() instanceof List<?> batch) {
+				return decodeBatch(message, batch, codec);
+			}
+			if (codec == null) {
+				return message;
+			}
+			byte[] decoded;
+			if (message instanceof PayloadRegionMessage regionMessage) {
+				// read in place, rather than copying the payload out of the record first
+				decoded = getPayloadCodecs().decode(codec, regionMessage.getPayloadAsInputStream(),
+						this.maxDecodedSize);
+			}
+			else if (message.getPayload() instanceof byte[] payload) {
+				decoded = getPayloadCodecs().decode(codec, payload, this.maxDecodedSize);
+			}
+			else {
+				return message;
+			}
+			return MessageBuilder.withPayload(decoded)
+					.copyHeaders(message.getHeaders())
+					.removeHeader(BinderHeaders.CONTENT_ENCODING)
+					.build();
+		}
+
+		/*
+		 * Each payload of a batch is decoded according to its own headers, when the binder
+		 * provides them, or else according to the headers of the batch. Batches with no
+		 * encoded payload are returned as is, without allocating anything.
+		 */
+		private Message<?> decodeBatch(Message<?> message, List<?> batch, @Nullable String codec) {
+			String batchHeadersName = getBatchHeadersName();
+			List<?> batchHeaders = batchHeadersName != null
+					? message.getHeaders().get(batchHeadersName, List.class) : null;
+			if (!hasEncodedPayload(batch, batchHeaders, codec != null)) {
+				return message;
+			}
+			List<Object> decodedBatch = new ArrayList<>(batch.size());
+			List<Object> decodedHeaders = batchHeaders != null ? new ArrayList<>(batchHeaders.size()) : null;
+			boolean decoded = false;
+			for (int i = 0; i < batch.size(); i++) {
+				Object headers = batchHeaders != null && i < batchHeaders.size() ? batchHeaders.get(i) : null;
+				String elementCodec = headers instanceof Map<?, ?> headersMap
+						? codecName(headersMap.get(BinderHeaders.CONTENT_ENCODING)) : codec;
+				if (elementCodec != null && batch.get(i) instanceof byte[] payload) {
+					decodedBatch.add(getPayloadCodecs().decode(elementCodec, payload, this.maxDecodedSize));
+					decoded = true;
+					if (headers instanceof Map<?, ?> headersMap) {
+						Map<Object, Object> elementHeaders = new LinkedHashMap<>(headersMap);
+						elementHeaders.remove(BinderHeaders.CONTENT_ENCODING);
+						headers = elementHeaders;
+					}
+				}
+				else {
+					decodedBatch.add(batch.get(i));
+				}
+				if (decodedHeaders != null) {
+					decodedHeaders.add(headers);
+				}
+			}
+			if (!decoded) {
+				return message;
+			}
+			MessageBuilder<List<Object>> builder = MessageBuilder.withPayload(decodedBatch)
+					.copyHeaders(message.getHeaders())
+					.removeHeader(BinderHeaders.CONTENT_ENCODING);
+			if (decodedHeaders != null) {
+				builder.setHeader(batchHeadersName, decodedHeaders);
+			}
+			return builder.build();
+		}
+
+		private boolean hasEncodedPayload(List<?> batch, @Nullable List<?> batchHeaders, boolean batchEncoded) {
+			for (int i = 0; i < batch.size(); i++) {
+				Object headers = batchHeaders != null && i < batchHeaders.size() ? batchHeaders.get(i) : null;
+				boolean encoded = headers instanceof Map<?, ?> headersMap
+						? headersMap.get(BinderHeaders.CONTENT_ENCODING) != null : batchEncoded;
+				if (encoded && batch.get(i) instanceof byte[]) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Nullable
+		private String codecName(@Nullable Object contentEncoding) {
+			if (contentEncoding == null) {
+				return null;
+			}
+			return contentEncoding instanceof byte[] bytes
+					? new String(bytes, StandardCharsets.UTF_8) : contentEncoding.toString();
+		}
+
+	}
+
 	protected static class PolledConsumerResources {
 
 		private final MessageSource<?> source;
@@ -1221,23 +1519,35 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 	}
 
 	private final class SendingHandler extends AbstractMessageHandler
-			implements Lifecycle {
+			implements Lifecycle, BulkMessageHandler, ConfirmingMessageHandler {
 
 		private final boolean embedHeaders;
 
+		private final boolean jsonEmbeddedHeaders;
+
 		private final String[] embeddedHeaders;
 
 		private final MessageHandler delegate;
 
 		private final boolean useNativeEncoding;
 
-		private SendingHandler(MessageHandler delegate, boolean embedHeaders,
-				String[] headersToEmbed, boolean useNativeEncoding) {
+		@Nullable
+		private final String contentEncoding;
+
+		private final int contentEncodingThreshold;
+
+		private SendingHandler(MessageHandler delegate, boolean embedHeaders, boolean jsonEmbeddedHeaders,
+				String[] headersToEmbed, boolean useNativeEncoding, @Nullable String contentEncoding,
+				int contentEncodingThreshold) {
 			this.delegate = delegate;
 			setBeanFactory(AbstractMessageChannelBinder.this.getBeanFactory());
 			this.embedHeaders = embedHeaders;
-			this.embeddedHeaders = headersToEmbed;
+			this.jsonEmbeddedHeaders = jsonEmbeddedHeaders;
+			this.embeddedHeaders = contentEncoding != null
+					? StringUtils.addStringToArray(headersToEmbed, BinderHeaders.CONTENT_ENCODING) : headersToEmbed;
 			this.useNativeEncoding = useNativeEncoding;
+			this.contentEncoding = contentEncoding;
+			this.contentEncodingThreshold = contentEncodingThreshold;
 		}
 
 		@Override
@@ -1247,8 +1557,55 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 			this.delegate.handleMessage(messageToSend);
 		}
 
+		@Override
+		public CompletableFuture<SendResult> handleMessageAsync(Message<?> message) {
+			Assert.state(this.delegate instanceof ConfirmingMessageHandler,
+					() -> "The producer message handler of the binder does not support send confirmations: " + this.delegate);
+			Message<?> messageToSend = (this.useNativeEncoding) ? message
+					: serializeAndEmbedHeadersIfApplicable(message);
+			return ((ConfirmingMessageHandler) this.delegate).handleMessageAsync(messageToSend);
+		}
+
+		@Override
+		public void handleMessages(List<? extends Message<?>> messages) {
+			List<Message<?>> messagesToSend = new ArrayList<>(messages.size());
+			for (Message<?> message : messages) {
+				messagesToSend.add(this.useNativeEncoding ? message : serializeAndEmbedHeadersIfApplicable(message));
+			}
+			if (this.delegate instanceof BulkMessageHandler bulkMessageHandler) {
+				bulkMessageHandler.handleMessages(messagesToSend);
+			}
+			else {
+				for (Message<?> messageToSend : messagesToSend) {
+					this.delegate.handleMessage(messageToSend);
+				}
+			}
+		}
+
 		private Message<?> serializeAndEmbedHeadersIfApplicable(Message<?> message) {
+			if (message instanceof OutboundMessage outboundMessage) {
+				// private copy created by the outbound pipeline of the channel, hence modified in place
+				byte[] encoded = encodeIfApplicable(outboundMessage.getPayload(), outboundMessage.getHeaders());
+				if (encoded != null) {
+					outboundMessage.setPayload(encoded);
+					outboundMessage.getHeaders().put(BinderHeaders.CONTENT_ENCODING, this.contentEncoding);
+				}
+				if (this.embedHeaders) {
+					Object contentType = outboundMessage.getHeaders().get(MessageHeaders.CONTENT_TYPE);
+					if (contentType != null) {
+						outboundMessage.getHeaders().put(MessageHeaders.CONTENT_TYPE, contentType.toString());
+					}
+					outboundMessage.setPayload(EmbeddedHeaderUtils.embedHeaders(outboundMessage,
+							this.jsonEmbeddedHeaders, this.embeddedHeaders));
+				}
+				return outboundMessage;
+			}
 			MessageValues transformed = new MessageValues(message);
+			byte[] encoded = encodeIfApplicable(transformed.getPayload(), transformed.getHeaders());
+			if (encoded != null) {
+				transformed.setPayload(encoded);
+				transformed.put(BinderHeaders.CONTENT_ENCODING, this.contentEncoding);
+			}
 			Object payload;
 			if (this.embedHeaders) {
 				Object contentType = transformed.get(MessageHeaders.CONTENT_TYPE);
@@ -1258,7 +1615,7 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 					transformed.put(MessageHeaders.CONTENT_TYPE, contentType.toString());
 				}
 				payload = EmbeddedHeaderUtils.embedHeaders(transformed,
-						this.embeddedHeaders);
+						this.jsonEmbeddedHeaders, this.embeddedHeaders);
 			}
 			else {
 				payload = transformed.getPayload();
@@ -1267,6 +1624,21 @@ public abstract class AbstractMessageChannelBinder<C extends ConsumerProperties,
 					.copyHeaders(transformed.getHeaders()).build();
 		}
 
+		/**
+		 * Encode the payload with the codec of the binding, unless it is too small or has
+		 * already been encoded.
+		 * @return the encoded payload or null if the payload is not to be encoded
+		 */
+		@Nullable
+		private byte[] encodeIfApplicable(Object payload, Map<String, Object> headers) {
+			if (this.contentEncoding == null || !(payload instanceof byte[] bytes)
+					|| bytes.length < this.contentEncodingThreshold
+					|| headers.containsKey(BinderHeaders.CONTENT_ENCODING)) {
+				return null;
+			}
+			return getPayloadCodecs().encode(this.contentEncoding, bytes);
+		}
+
 		@Override
 		public void start() {
 			if (this.delegate instanceof Lifecycle delegateWithLifecycle) {
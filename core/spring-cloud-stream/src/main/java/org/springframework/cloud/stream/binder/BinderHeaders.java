@@ -85,6 +85,12 @@ public final class BinderHeaders {
 	 */
 	public static final String SCST_VERSION = PREFIX + "version";
 
+	/**
+	 * Name of the {@link PayloadCodec} the payload of a message has been encoded with.
+	 * @since 5.0.1
+	 */
+	public static final String CONTENT_ENCODING = PREFIX + "contentEncoding";
+
 	private BinderHeaders() {
 		super();
 	}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder;
+
+import java.util.List;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+
+/**
+ * Extension of the {@link MessageHandler} which may be implemented by the producer message
+ * handlers of binders capable of sending a batch of messages in a single call, typically
+ * by taking advantage of the bulk operations of the underlying middleware client.
+ * <p>
+ * The messages are expected to be fully prepared (converted and partitioned) and must be
+ * sent to the target destination in the order they are provided.
+ *
+ * @since 5.0.1
+ * @see org.springframework.cloud.stream.function.StreamOperations#sendAll(String, java.util.Collection)
+ */
+public interface BulkMessageHandler extends MessageHandler {
+
+	/**
+	 * Handle all the given messages.
+	 * @param messages the messages to send
+	 */
+	void handleMessages(List<? extends Message<?>> messages);
+
+}
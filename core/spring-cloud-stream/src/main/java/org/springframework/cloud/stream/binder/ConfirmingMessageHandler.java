@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+
+/**
+ * Extension of the {@link MessageHandler} which may be implemented by the producer message
+ * handlers of binders capable of reporting the broker acknowledgement of a sent message
+ * (e.g. Kafka record metadata or RabbitMQ publisher confirms).
+ *
+ * @since 5.0.1
+ * @see org.springframework.cloud.stream.function.StreamOperations#sendAsync(String, Object)
+ */
+public interface ConfirmingMessageHandler extends MessageHandler {
+
+	/**
+	 * Send the given message without waiting for the broker acknowledgement.
+	 * @param message the message to send
+	 * @return future which is completed with the {@link SendResult} once the message is
+	 * acknowledged by the broker, or completed exceptionally if the send fails.
+	 * @throws IllegalStateException if the handler is not configured to receive
+	 * acknowledgements
+	 */
+	CompletableFuture<SendResult> handleMessageAsync(Message<?> message);
+
+}
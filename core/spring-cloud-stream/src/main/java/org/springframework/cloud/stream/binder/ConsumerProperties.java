@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import tools.jackson.databind.annotation.JsonSerialize;
 
+import org.springframework.expression.Expression;
 import org.springframework.messaging.Message;
 
 /**
@@ -179,6 +181,45 @@ public class ConsumerProperties {
 	 */
 	private boolean batchMode;
 
+	/**
+	 * A SpEL expression evaluated against each inbound message before its payload is
+	 * converted (typically referencing its headers only). Messages for which it does not
+	 * evaluate to {@code true} are acknowledged and dropped without being converted or
+	 * passed to the application. Ignored by pollable consumers.
+	 *
+	 * @since 5.0.1
+	 */
+	@JsonSerialize(using = ProducerProperties.ExpressionSerializer.class)
+	private Expression filterExpression;
+
+	/**
+	 * When set to true, the payload of the inbound messages passed to functions accepting a
+	 * {@link Message} is only converted when the function first accesses it. A message
+	 * returned as is, with its payload never accessed, is sent with the payload as
+	 * received. Ignored for functions not accepting a {@link Message}.
+	 *
+	 * @since 5.0.1
+	 */
+	private boolean lazyPayloadConversion;
+
+	/**
+	 * When set to true, the payload of the inbound messages carrying a
+	 * 'scst_contentEncoding' header is decoded with the codec it names before it is
+	 * converted. The decoding is not installed on the binding otherwise.
+	 *
+	 * @since 5.0.1
+	 */
+	private boolean contentDecoding;
+
+	/**
+	 * The maximum size, in bytes, of the payload of an inbound message once decoded
+	 * according to its 'scst_contentEncoding' header. Messages whose payload decodes into a
+	 * larger one fail, rather than exhausting the memory of the consumer.
+	 *
+	 * @since 5.0.1
+	 */
+	private int maxDecodedSize = 16 * 1024 * 1024;
+
 	public String getBindingName() {
 		return bindingName;
 	}
@@ -329,4 +370,36 @@ public class ConsumerProperties {
 		this.batchMode = batchMode;
 	}
 
+	public Expression getFilterExpression() {
+		return this.filterExpression;
+	}
+
+	public void setFilterExpression(Expression filterExpression) {
+		this.filterExpression = filterExpression;
+	}
+
+	public boolean isLazyPayloadConversion() {
+		return this.lazyPayloadConversion;
+	}
+
+	public void setLazyPayloadConversion(boolean lazyPayloadConversion) {
+		this.lazyPayloadConversion = lazyPayloadConversion;
+	}
+
+	public boolean isContentDecoding() {
+		return this.contentDecoding;
+	}
+
+	public void setContentDecoding(boolean contentDecoding) {
+		this.contentDecoding = contentDecoding;
+	}
+
+	public int getMaxDecodedSize() {
+		return this.maxDecodedSize;
+	}
+
+	public void setMaxDecodedSize(int maxDecodedSize) {
+		this.maxDecodedSize = maxDecodedSize;
+	}
+
 }
@@ -21,22 +21,39 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import tools.jackson.databind.ObjectMapper;
 
 import org.springframework.cloud.function.json.JacksonMapper;
 import org.springframework.cloud.function.json.JsonMapper;
+import org.springframework.cloud.stream.converter.MessageConverterUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
 import org.springframework.util.ObjectUtils;
 
 
 /**
- * Encodes requested headers into payload with format
- * {@code 0xff, n(1), [ [lenHdr(1), hdr, lenValue(4), value] ... ]}. The 0xff indicates
- * this new format; n is number of headers (max 255); for each header, the name length (1
- * byte) is followed by the name, followed by the value length (int) followed by the value
- * (json).
+ * Encodes requested headers into payload. Two formats are supported:
+ * <ul>
+ * <li>the binary format (since 5.0.1, written on demand only until it becomes the
+ * default in 6.0)
+ * {@code 0xfe, version(1), n(1), [ [lenHdr(1), hdr, type(1), value] ... ]}. The 0xfe
+ * indicates this format and the version is currently 2; n is the number of headers (max
+ * 255); for each header, the name length (1 byte) is followed by the (UTF-8) name, the
+ * type of the value (1 byte) and the value. Strings, numbers, booleans, {@link UUID}s,
+ * {@link MimeType}s and {@code byte[]} values are written in binary form (variable length
+ * values being preceded by their length as an int), other values as JSON.</li>
+ * <li>the JSON format (written by default)
+ * {@code 0xff, n(1), [ [lenHdr(1), hdr, lenValue(4), value] ... ]}.
+ * The 0xff indicates this format; n is number of headers (max 255); for each header, the
+ * name length (1 byte) is followed by the name, followed by the value length (int)
+ * followed by the value (json).</li>
+ * </ul>
+ * Both formats are read, so that applications written against either one of them can be
+ * upgraded one at a time.
  * <p>
  * Previously, there was no leading 0xff; the value length was 1 byte and only String
  * header values were supported (no JSON conversion).
@@ -49,6 +66,36 @@ import org.springframework.util.ObjectUtils;
  */
 public abstract class EmbeddedHeaderUtils {
 
+	private static final int JSON_FORMAT_MAGIC = 0xff;
+
+	private static final int BINARY_FORMAT_MAGIC = 0xfe;
+
+	private static final int BINARY_FORMAT_VERSION = 2;
+
+	private static final byte TYPE_STRING = 1;
+
+	private static final byte TYPE_INT = 2;
+
+	private static final byte TYPE_LONG = 3;
+
+	private static final byte TYPE_SHORT = 4;
+
+	private static final byte TYPE_BYTE = 5;
+
+	private static final byte TYPE_DOUBLE = 6;
+
+	private static final byte TYPE_FLOAT = 7;
+
+	private static final byte TYPE_BOOLEAN = 8;
+
+	private static final byte TYPE_UUID = 9;
+
+	private static final byte TYPE_MIME_TYPE = 10;
+
+	private static final byte TYPE_BYTES = 11;
+
+	private static final byte TYPE_JSON = 12;
+
 	//private static final Jackson2JsonObjectMapper objectMapper = new Jackson2JsonObjectMapper();
 	private static final JsonMapper jsonMapper = new JacksonMapper(new ObjectMapper());
 
@@ -65,13 +112,65 @@ public abstract class EmbeddedHeaderUtils {
 	 * @return a new message
 	 */
 	public static byte[] embedHeaders(MessageValues original, String... headers) {
+		return embedHeaders(original, true, headers);
+	}
+
+	/**
+	 * Return a new message where some of the original headers of {@code original} have
+	 * been embedded into the new message payload.
+	 *
+	 * @param original original message
+	 * @param jsonFormat whether to use the JSON format (readable by applications older
+	 * than 5.0.1) rather than the binary format
+	 * @param headers  headers to embed
+	 * @return a new message
+	 * @since 5.0.1
+	 */
+	public static byte[] embedHeaders(MessageValues original, boolean jsonFormat, String... headers) {
+		// the payload may be a region of a larger array, which is read in place
+		ByteBuffer payload = original.getPayloadAsByteBuffer();
+		return jsonFormat ? embedHeadersAsJson(payload, original, headers)
+				: embedHeadersAsBinary(payload, original, headers);
+	}
+
+	/**
+	 * Return a payload where some of the headers of {@code original} have been embedded
+	 * into its (byte[]) payload, in the JSON format.
+	 *
+	 * @param original original message
+	 * @param headers  headers to embed
+	 * @return the new payload
+	 * @since 5.0.1
+	 */
+	public static byte[] embedHeaders(Message<?> original, String... headers) {
+		return embedHeaders(original, true, headers);
+	}
+
+	/**
+	 * Return a payload where some of the headers of {@code original} have been embedded
+	 * into its (byte[]) payload.
+	 *
+	 * @param original original message
+	 * @param jsonFormat whether to use the JSON format (readable by applications older
+	 * than 5.0.1) rather than the binary format
+	 * @param headers  headers to embed
+	 * @return the new payload
+	 * @since 5.0.1
+	 */
+	public static byte[] embedHeaders(Message<?> original, boolean jsonFormat, String... headers) {
+		return jsonFormat ? embedHeadersAsJson(original.getPayload(), original.getHeaders(), headers)
+				: embedHeadersAsBinary(original.getPayload(), original.getHeaders(), headers);
+	}
+
+	private static byte[] embedHeadersAsJson(Object payload, Map<?, Object> originalHeaders, String... headers) {
 		try {
+			ByteBuffer payloadBuffer = payloadBuffer(payload);
 			byte[][] headerValues = new byte[headers.length][];
 			int n = 0;
 			int headerCount = 0;
 			int headersLength = 0;
 			for (String header : headers) {
-				Object value = original.get(header);
+				Object value = originalHeaders.get(header);
 				if (value != null) {
 					String json = jsonMapper.toString(value);
 					headerValues[n] = json.getBytes(StandardCharsets.UTF_8);
@@ -82,10 +181,10 @@ public abstract class EmbeddedHeaderUtils {
 				}
 			}
 			// 0xff, n(1), [ [lenHdr(1), hdr, lenValue(4), value] ... ]
-			byte[] newPayload = new byte[((byte[]) original.getPayload()).length
+			byte[] newPayload = new byte[payloadBuffer.remaining()
 				+ headersLength + headerCount * 5 + 2];
 			ByteBuffer byteBuffer = ByteBuffer.wrap(newPayload);
-			byteBuffer.put((byte) 0xff); // signal new format
+			byteBuffer.put((byte) JSON_FORMAT_MAGIC); // signal new format
 			byteBuffer.put((byte) headerCount);
 			for (int i = 0; i < headers.length; i++) {
 				if (headerValues[i] != null) {
@@ -96,7 +195,7 @@ public abstract class EmbeddedHeaderUtils {
 				}
 			}
 
-			byteBuffer.put((byte[]) original.getPayload());
+			byteBuffer.put(payloadBuffer);
 			return byteBuffer.array();
 		} catch (Exception e) {
 			throw new IllegalStateException(e);
@@ -104,6 +203,168 @@ public abstract class EmbeddedHeaderUtils {
 
 	}
 
+	private static byte[] embedHeadersAsBinary(Object payload, Map<?, Object> originalHeaders, String... headers) {
+		try {
+			ByteBuffer payloadBuffer = payloadBuffer(payload);
+			byte[][] names = new byte[headers.length][];
+			Object[] values = new Object[headers.length];
+			byte[] types = new byte[headers.length];
+			int headerCount = 0;
+			int headersLength = 0;
+			for (int i = 0; i < headers.length; i++) {
+				String header = headers[i];
+				Object value = originalHeaders.get(header);
+				if (value != null) {
+					names[i] = header.getBytes(StandardCharsets.UTF_8);
+					Assert.isTrue(names[i].length <= 0xff, () -> "Header name is too long to be embedded: " + header);
+					types[i] = typeOf(value);
+					values[i] = encodedValue(types[i], value);
+					headerCount++;
+					headersLength += 2 + names[i].length + encodedLength(types[i], values[i]);
+				}
+			}
+			Assert.isTrue(headerCount <= 0xff, "Too many headers to be embedded");
+			// 0xfe, version(1), n(1), [ [lenHdr(1), hdr, type(1), value] ... ]
+			byte[] newPayload = new byte[payloadBuffer.remaining() + headersLength + 3];
+			ByteBuffer byteBuffer = ByteBuffer.wrap(newPayload);
+			byteBuffer.put((byte) BINARY_FORMAT_MAGIC);
+			byteBuffer.put((byte) BINARY_FORMAT_VERSION);
+			byteBuffer.put((byte) headerCount);
+			for (int i = 0; i < headers.length; i++) {
+				if (names[i] != null) {
+					byteBuffer.put((byte) names[i].length);
+					byteBuffer.put(names[i]);
+					byteBuffer.put(types[i]);
+					writeValue(byteBuffer, types[i], values[i]);
+				}
+			}
+			byteBuffer.put(payloadBuffer);
+			return newPayload;
+		}
+		catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static ByteBuffer payloadBuffer(Object payload) {
+		return payload instanceof ByteBuffer byteBuffer ? byteBuffer.duplicate() : ByteBuffer.wrap((byte[]) payload);
+	}
+
+	private static byte typeOf(Object value) {
+		if (value instanceof String) {
+			return TYPE_STRING;
+		}
+		else if (value instanceof Integer) {
+			return TYPE_INT;
+		}
+		else if (value instanceof Long) {
+			return TYPE_LONG;
+		}
+		else if (value instanceof Short) {
+			return TYPE_SHORT;
+		}
+		else if (value instanceof Byte) {
+			return TYPE_BYTE;
+		}
+		else if (value instanceof Double) {
+			return TYPE_DOUBLE;
+		}
+		else if (value instanceof Float) {
+			return TYPE_FLOAT;
+		}
+		else if (value instanceof Boolean) {
+			return TYPE_BOOLEAN;
+		}
+		else if (value instanceof UUID) {
+			return TYPE_UUID;
+		}
+		else if (value instanceof MimeType) {
+			return TYPE_MIME_TYPE;
+		}
+		else if (value instanceof byte[]) {
+			return TYPE_BYTES;
+		}
+		return TYPE_JSON;
+	}
+
+	/**
+	 * Return the value to write: the UTF-8 bytes of strings, MIME types and JSON, the
+	 * value itself otherwise.
+	 */
+	private static Object encodedValue(byte type, Object value) {
+		return switch (type) {
+			case TYPE_STRING -> ((String) value).getBytes(StandardCharsets.UTF_8);
+			case TYPE_MIME_TYPE -> value.toString().getBytes(StandardCharsets.UTF_8);
+			case TYPE_JSON -> jsonMapper.toString(value).getBytes(StandardCharsets.UTF_8);
+			default -> value;
+		};
+	}
+
+	private static int encodedLength(byte type, Object value) {
+		return switch (type) {
+			case TYPE_INT, TYPE_FLOAT -> 4;
+			case TYPE_LONG, TYPE_DOUBLE -> 8;
+			case TYPE_SHORT -> 2;
+			case TYPE_BYTE, TYPE_BOOLEAN -> 1;
+			case TYPE_UUID -> 16;
+			default -> 4 + ((byte[]) value).length;
+		};
+	}
+
+	private static void writeValue(ByteBuffer byteBuffer, byte type, Object value) {
+		switch (type) {
+			case TYPE_INT -> byteBuffer.putInt((Integer) value);
+			case TYPE_LONG -> byteBuffer.putLong((Long) value);
+			case TYPE_SHORT -> byteBuffer.putShort((Short) value);
+			case TYPE_BYTE -> byteBuffer.put((Byte) value);
+			case TYPE_DOUBLE -> byteBuffer.putDouble((Double) value);
+			case TYPE_FLOAT -> byteBuffer.putFloat((Float) value);
+			case TYPE_BOOLEAN -> byteBuffer.put((byte) ((Boolean) value ? 1 : 0));
+			case TYPE_UUID -> byteBuffer.putLong(((UUID) value).getMostSignificantBits())
+					.putLong(((UUID) value).getLeastSignificantBits());
+			default -> byteBuffer.putInt(((byte[]) value).length).put((byte[]) value);
+		}
+	}
+
+	private static Object readValue(ByteBuffer byteBuffer, byte[] payload, byte type) {
+		switch (type) {
+			case TYPE_INT:
+				return byteBuffer.getInt();
+			case TYPE_LONG:
+				return byteBuffer.getLong();
+			case TYPE_SHORT:
+				return byteBuffer.getShort();
+			case TYPE_BYTE:
+				return byteBuffer.get();
+			case TYPE_DOUBLE:
+				return byteBuffer.getDouble();
+			case TYPE_FLOAT:
+				return byteBuffer.getFloat();
+			case TYPE_BOOLEAN:
+				return byteBuffer.get() != 0;
+			case TYPE_UUID:
+				return new UUID(byteBuffer.getLong(), byteBuffer.getLong());
+			default:
+				break;
+		}
+		int len = byteBuffer.getInt();
+		Assert.isTrue(len >= 0 && len <= byteBuffer.remaining(), "Invalid embedded header length");
+		int offset = byteBuffer.position();
+		byteBuffer.position(offset + len);
+		switch (type) {
+			case TYPE_STRING:
+				return new String(payload, offset, len, StandardCharsets.UTF_8);
+			case TYPE_MIME_TYPE:
+				return MessageConverterUtils.parseMimeType(new String(payload, offset, len, StandardCharsets.UTF_8));
+			case TYPE_BYTES:
+				return Arrays.copyOfRange(payload, offset, offset + len);
+			case TYPE_JSON:
+				return jsonMapper.fromJson(new String(payload, offset, len, StandardCharsets.UTF_8), Object.class);
+			default:
+				throw new IllegalStateException("Unknown embedded header type: " + type);
+		}
+	}
+
 	/**
 	 * Return a message where headers, that were originally embedded into the payload,
 	 * have been promoted back to actual headers. The new payload is now the original
@@ -125,7 +386,7 @@ public abstract class EmbeddedHeaderUtils {
 												boolean copyRequestHeaders, MessageHeaders requestHeaders) throws Exception {
 		ByteBuffer byteBuffer = ByteBuffer.wrap(payload);
 		int headerCount = byteBuffer.get() & 0xff;
-		if (headerCount == 0xff) {
+		if (headerCount == JSON_FORMAT_MAGIC) {
 			headerCount = byteBuffer.get() & 0xff;
 			Map<String, Object> headers = new HashMap<String, Object>();
 			for (int i = 0; i < headerCount; i++) {
@@ -140,12 +401,25 @@ public abstract class EmbeddedHeaderUtils {
 				headers.put(headerName, headerContent);
 				byteBuffer.position(byteBuffer.position() + len);
 			}
-			byte[] newPayload = new byte[byteBuffer.remaining()];
-			byteBuffer.get(newPayload);
-			return buildMessageValues(newPayload, headers, copyRequestHeaders,
+			return buildMessageValues(payload, byteBuffer.position(), headers, copyRequestHeaders,
 				requestHeaders);
-		} else {
-			return buildMessageValues(payload, new HashMap<>(), copyRequestHeaders,
+		}
+		else if (headerCount == BINARY_FORMAT_MAGIC && payload.length > 2
+				&& (payload[1] & 0xff) == BINARY_FORMAT_VERSION) {
+			byteBuffer.get();
+			headerCount = byteBuffer.get() & 0xff;
+			Map<String, Object> headers = new HashMap<>(headerCount * 2);
+			for (int i = 0; i < headerCount; i++) {
+				int len = byteBuffer.get() & 0xff;
+				Assert.isTrue(len < byteBuffer.remaining(), "Invalid embedded header name length");
+				String headerName = new String(payload, byteBuffer.position(), len, StandardCharsets.UTF_8);
+				byteBuffer.position(byteBuffer.position() + len);
+				headers.put(headerName, readValue(byteBuffer, payload, byteBuffer.get()));
+			}
+			return buildMessageValues(payload, byteBuffer.position(), headers, copyRequestHeaders, requestHeaders);
+		}
+		else {
+			return buildMessageValues(payload, 0, new HashMap<>(), copyRequestHeaders,
 				requestHeaders);
 		}
 	}
@@ -163,10 +437,11 @@ public abstract class EmbeddedHeaderUtils {
 		return extractHeaders(payload, false, null);
 	}
 
-	private static MessageValues buildMessageValues(byte[] payload,
+	private static MessageValues buildMessageValues(byte[] payload, int offset,
 													Map<String, Object> headers, boolean copyRequestHeaders,
 													MessageHeaders requestHeaders) {
-		MessageValues messageValues = new MessageValues(payload, headers);
+		// the original payload follows the headers; it is not copied out of the array
+		MessageValues messageValues = new MessageValues(payload, offset, payload.length - offset, headers);
 		if (copyRequestHeaders && requestHeaders != null) {
 			messageValues.copyHeadersIfAbsent(requestHeaders);
 		}
@@ -190,13 +465,28 @@ public abstract class EmbeddedHeaderUtils {
 
 	/**
 	 * Return true if the bytes might have embedded headers. (First byte is 0xff and long
-	 * enough for at least one header).
+	 * enough for at least one header, or first bytes are 0xfe and the version of the
+	 * binary format).
 	 *
 	 * @param bytes the array.
 	 * @return true if it may have embedded headers.
 	 */
 	public static boolean mayHaveEmbeddedHeaders(byte[] bytes) {
-		return bytes.length > 8 && (bytes[0] & 0xff) == 0xff;
+		return (bytes.length > 8 && (bytes[0] & 0xff) == JSON_FORMAT_MAGIC)
+				|| (bytes.length > 2 && (bytes[0] & 0xff) == BINARY_FORMAT_MAGIC
+						&& (bytes[1] & 0xff) == BINARY_FORMAT_VERSION);
+	}
+
+	/**
+	 * Return true if the bytes have headers embedded in the JSON format (as written by
+	 * applications older than 5.0.1).
+	 *
+	 * @param bytes the array.
+	 * @return true if the headers are embedded in the JSON format.
+	 * @since 5.0.1
+	 */
+	public static boolean isJsonFormat(byte[] bytes) {
+		return bytes.length > 0 && (bytes[0] & 0xff) == JSON_FORMAT_MAGIC;
 	}
 
 }
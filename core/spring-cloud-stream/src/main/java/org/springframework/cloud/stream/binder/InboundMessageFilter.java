@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.integration.StaticMessageHeaderAccessor;
+import org.springframework.integration.acks.AcknowledgmentCallback;
+import org.springframework.integration.support.management.metrics.CounterFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MessageChannel} placed by the binder between a consumer endpoint and the input
+ * channel of the binding, dropping the inbound messages the
+ * {@link ConsumerProperties#getFilterExpression() filter expression} of the binding does
+ * not accept. Since the messages are evaluated before they reach the input channel, the
+ * payload of the dropped messages is never converted. The
+ * {@link #addInterceptor(ChannelInterceptor) interceptors} of the filter (e.g., the
+ * extraction of embedded headers) are applied before the expression is evaluated, so
+ * that it sees the messages as the input channel would.
+ * <p>
+ * Dropped messages are reported as sent, so that the binder acknowledges them as it would
+ * acknowledge a processed message. When the acknowledgment is left to the application
+ * (manual acknowledgment), dropped messages are acknowledged by the filter: through their
+ * {@link AcknowledgmentCallback}, if any, and through the
+ * {@link #setDiscardCallback(Consumer) discard callback}, which binders use to
+ * acknowledge them in their own way.
+ *
+ * @since 5.0.1
+ */
+public class InboundMessageFilter implements MessageChannel {
+
+	/**
+	 * Name of the counter of the messages dropped by the filter of a binding.
+	 */
+	public static final String FILTERED_METRIC_NAME = "spring.cloud.stream.binding.filtered";
+
+	private static final Log logger = LogFactory.getLog(InboundMessageFilter.class);
+
+	private final String bindingName;
+
+	private final Expression filterExpression;
+
+	private final EvaluationContext evaluationContext;
+
+	private final MessageChannel outputChannel;
+
+	private final List<ChannelInterceptor> interceptors = new CopyOnWriteArrayList<>();
+
+	private final LongAdder filtered = new LongAdder();
+
+	@Nullable
+	private volatile Consumer<Message<?>> discardCallback;
+
+	@Nullable
+	private volatile CounterFacade filteredCounter;
+
+	public InboundMessageFilter(String bindingName, Expression filterExpression,
+			EvaluationContext evaluationContext, MessageChannel outputChannel) {
+		Assert.notNull(filterExpression, "'filterExpression' cannot be null");
+		Assert.notNull(evaluationContext, "'evaluationContext' cannot be null");
+		Assert.notNull(outputChannel, "'outputChannel' cannot be null");
+		this.bindingName = bindingName;
+		this.filterExpression = filterExpression;
+		this.evaluationContext = evaluationContext;
+		this.outputChannel = outputChannel;
+	}
+
+	/**
+	 * Add an interceptor whose {@link ChannelInterceptor#preSend(Message, MessageChannel)}
+	 * is applied to the messages before the filter expression is evaluated.
+	 * @param interceptor the interceptor
+	 */
+	public void addInterceptor(ChannelInterceptor interceptor) {
+		this.interceptors.add(interceptor);
+	}
+
+	/**
+	 * Set the callback invoked with each dropped message, e.g. to acknowledge it.
+	 * @param discardCallback the callback
+	 */
+	public void setDiscardCallback(Consumer<Message<?>> discardCallback) {
+		this.discardCallback = discardCallback;
+	}
+
+	/**
+	 * Count the dropped messages through the given captor as well.
+	 * @param metricsCaptor the metrics captor
+	 */
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		this.filteredCounter = metricsCaptor.counterBuilder(FILTERED_METRIC_NAME)
+			.tag("binding", this.bindingName)
+			.description("Number of inbound messages dropped by the filter expression of the binding")
+			.build();
+	}
+
+	@Override
+	public boolean send(Message<?> message, long timeout) {
+		Message<?> intercepted = message;
+		for (ChannelInterceptor interceptor : this.interceptors) {
+			intercepted = interceptor.preSend(intercepted, this);
+			if (intercepted == null) {
+				return false;
+			}
+		}
+		if (Boolean.TRUE.equals(this.filterExpression.getValue(this.evaluationContext, intercepted, Boolean.class))) {
+			return this.outputChannel.send(intercepted, timeout);
+		}
+		acknowledge(intercepted);
+		this.filtered.increment();
+		CounterFacade filteredCounter = this.filteredCounter;
+		if (filteredCounter != null) {
+			filteredCounter.increment();
+		}
+		if (logger.isTraceEnabled()) {
+			logger.trace("Message dropped by the filter of binding '" + this.bindingName + "': " + message);
+		}
+		return true;
+	}
+
+	private void acknowledge(Message<?> message) {
+		AcknowledgmentCallback ackCallback = StaticMessageHeaderAccessor.getAcknowledgmentCallback(message);
+		if (ackCallback != null && !ackCallback.isAutoAck() && !ackCallback.isAcknowledged()) {
+			ackCallback.acknowledge(AcknowledgmentCallback.Status.ACCEPT);
+		}
+		Consumer<Message<?>> discardCallback = this.discardCallback;
+		if (discardCallback != null) {
+			discardCallback.accept(message);
+		}
+	}
+
+	/**
+	 * @return the number of messages dropped by this filter
+	 */
+	public long getFilteredCount() {
+		return this.filtered.sum();
+	}
+
+	/**
+	 * Remove the counter registered through {@link #registerMetricsCaptor(MetricsCaptor)}, if
+	 * any.
+	 */
+	public void destroy() {
+		CounterFacade filteredCounter = this.filteredCounter;
+		if (filteredCounter != null) {
+			filteredCounter.remove();
+			this.filteredCounter = null;
+		}
+	}
+
+}
@@ -19,6 +19,7 @@ package org.springframework.cloud.stream.binder;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.springframework.cloud.stream.converter.MessageConverterUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
@@ -65,8 +66,8 @@ public abstract class JavaClassMimeTypeUtils {
 				// Wrap in quotes to handle the illegal '[' character
 				modifiedClassName = "\"" + modifiedClassName + "\"";
 			}
-			mimeType = MimeType
-					.valueOf("application/x-java-object;type=" + modifiedClassName);
+			mimeType = MessageConverterUtils
+					.parseMimeType("application/x-java-object;type=" + modifiedClassName);
 			mimeTypesCache.put(className, mimeType);
 		}
 		return mimeType;
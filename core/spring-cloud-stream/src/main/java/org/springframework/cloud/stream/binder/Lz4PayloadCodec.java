@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+/**
+ * {@link PayloadCodec} compressing payloads in the LZ4 frame format, registered under the
+ * {@value #NAME} name when {@code org.lz4:lz4-java} is on the classpath.
+ *
+ * @since 5.0.1
+ */
+public final class Lz4PayloadCodec extends PayloadCodecs.StreamPayloadCodec {
+
+	/**
+	 * Name of the codec.
+	 */
+	public static final String NAME = "lz4";
+
+	/**
+	 * Create a codec named {@value #NAME}.
+	 */
+	public Lz4PayloadCodec() {
+		super(NAME);
+	}
+
+	@Override
+	OutputStream encoder(OutputStream output) throws IOException {
+		return new LZ4FrameOutputStream(output);
+	}
+
+	@Override
+	InputStream decoder(InputStream input) throws IOException {
+		return new LZ4FrameInputStream(input);
+	}
+
+}
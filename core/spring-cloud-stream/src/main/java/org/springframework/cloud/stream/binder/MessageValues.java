@@ -16,6 +16,10 @@
 
 package org.springframework.cloud.stream.binder;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -23,12 +27,20 @@ import java.util.Set;
 
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.integration.support.MessageBuilderFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 
 /**
  * A mutable type for allowing {@link Binder} implementations to transform and enrich
  * message content more efficiently.
+ * <p>
+ * A {@code byte[]} payload may be a view over a region of a larger array (e.g., the
+ * original payload of a message whose headers were embedded in it), in which case it is
+ * only copied into an exact {@code byte[]} when {@link #getPayload()} is called; it can
+ * be read in place through {@link #getPayloadAsByteBuffer()} or
+ * {@link #getPayloadAsInputStream()}, and is carried as is by the
+ * {@link PayloadRegionMessage} returned by {@link #toMessage()}.
  *
  * @author David Turanski
  * @author Marius Bogoevici
@@ -39,6 +51,16 @@ public class MessageValues implements Map<String, Object> {
 
 	private Object payload;
 
+	/**
+	 * The array the payload is a region of, until the payload is copied out of it.
+	 */
+	@Nullable
+	private byte[] payloadArray;
+
+	private int payloadOffset;
+
+	private int payloadLength;
+
 	/**
 	 * Create an instance from a {@link Message}.
 	 * @param message the message
@@ -56,12 +78,73 @@ public class MessageValues implements Map<String, Object> {
 	}
 
 	/**
+	 * Create an instance whose payload is a region of the given array, which is not copied.
+	 * @param payload the array holding the payload
+	 * @param offset the offset of the payload in the array
+	 * @param length the length of the payload
+	 * @param headers the headers
+	 * @since 5.0.1
+	 */
+	public MessageValues(byte[] payload, int offset, int length, Map<String, Object> headers) {
+		Assert.isTrue(offset >= 0 && length >= 0 && offset + length <= payload.length,
+				"The payload region must be within the array");
+		if (offset == 0 && length == payload.length) {
+			this.payload = payload;
+		}
+		else {
+			this.payloadArray = payload;
+			this.payloadOffset = offset;
+			this.payloadLength = length;
+		}
+		this.headers.putAll(headers);
+	}
+
+	/**
+	 * Return the payload. If the payload is a region of a larger array, it is copied into
+	 * an exact {@code byte[]} (once).
 	 * @return the payload
 	 */
 	public Object getPayload() {
+		byte[] payloadArray = this.payloadArray;
+		if (payloadArray != null) {
+			this.payload = Arrays.copyOfRange(payloadArray, this.payloadOffset,
+					this.payloadOffset + this.payloadLength);
+			this.payloadArray = null;
+		}
 		return this.payload;
 	}
 
+	/**
+	 * Return a read-only view of a {@code byte[]} payload, without copying it.
+	 * @return the payload as a byte buffer
+	 * @throws IllegalStateException if the payload is not a {@code byte[]}
+	 * @since 5.0.1
+	 */
+	public ByteBuffer getPayloadAsByteBuffer() {
+		byte[] payloadArray = this.payloadArray;
+		if (payloadArray != null) {
+			return ByteBuffer.wrap(payloadArray, this.payloadOffset, this.payloadLength).slice()
+					.asReadOnlyBuffer();
+		}
+		Assert.state(this.payload instanceof byte[], "The payload is not a byte[]");
+		return ByteBuffer.wrap((byte[]) this.payload).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Return a stream reading a {@code byte[]} payload, without copying it.
+	 * @return the payload as an input stream
+	 * @throws IllegalStateException if the payload is not a {@code byte[]}
+	 * @since 5.0.1
+	 */
+	public InputStream getPayloadAsInputStream() {
+		byte[] payloadArray = this.payloadArray;
+		if (payloadArray != null) {
+			return new ByteArrayInputStream(payloadArray, this.payloadOffset, this.payloadLength);
+		}
+		Assert.state(this.payload instanceof byte[], "The payload is not a byte[]");
+		return new ByteArrayInputStream((byte[]) this.payload);
+	}
+
 	/**
 	 * Set the payload.
 	 * @param payload any non null object.
@@ -69,6 +152,7 @@ public class MessageValues implements Map<String, Object> {
 	public void setPayload(Object payload) {
 		Assert.notNull(payload, "'payload' cannot be null");
 		this.payload = payload;
+		this.payloadArray = null;
 	}
 
 	public Map<String, Object> getHeaders() {
@@ -82,17 +166,23 @@ public class MessageValues implements Map<String, Object> {
 	 * @return the Message
 	 */
 	public Message<?> toMessage(MessageBuilderFactory messageBuilderFactory) {
-		return messageBuilderFactory.withPayload(this.payload).copyHeaders(this.headers)
+		return messageBuilderFactory.withPayload(getPayload()).copyHeaders(this.headers)
 				.build();
 	}
 
 	/**
 	 * Convert to a {@link Message} using a the default
-	 * {@link org.springframework.integration.support.MessageBuilder}.
+	 * {@link org.springframework.integration.support.MessageBuilder}. If the payload is a
+	 * region of a larger array, the message is a {@link PayloadRegionMessage} which only
+	 * copies it when its payload is requested.
 	 * @return the Message
 	 */
 	public Message<?> toMessage() {
-		return MessageBuilder.withPayload(this.payload).copyHeaders(this.headers).build();
+		byte[] payloadArray = this.payloadArray;
+		if (payloadArray != null) {
+			return new PayloadRegionMessage(payloadArray, this.payloadOffset, this.payloadLength, this.headers);
+		}
+		return MessageBuilder.withPayload(getPayload()).copyHeaders(this.headers).build();
 	}
 
 	@Override
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.stream.binder;
+
+import org.springframework.integration.support.MutableMessageHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * Mutable copy of a message being sent to a producer binding, created once by the
+ * {@link OutboundMessagePipeline} of the binding and then modified in place by each of
+ * its {@link OutboundMessageStage stages}.
+ *
+ * @since 5.0.1
+ */
+public final class OutboundMessage implements Message<Object> {
+
+	private Object payload;
+
+	private final MutableMessageHeaders headers;
+
+	OutboundMessage(Message<?> message) {
+		this.payload = message.getPayload();
+		this.headers = new MutableMessageHeaders(message.getHeaders());
+	}
+
+	@Override
+	public Object getPayload() {
+		return this.payload;
+	}
+
+	/**
+	 * Set the payload.
+	 * @param payload any non null object.
+	 */
+	public void setPayload(Object payload) {
+		Assert.notNull(payload, "'payload' cannot be null");
+		this.payload = payload;
+	}
+
+	@Override
+	public MutableMessageHeaders getHeaders() {
+		return this.headers;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [payload=" + this.payload + ", headers=" + this.headers + "]";
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.stream.binder;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ErrorMessage;
+
+/**
+ * Precompiled outbound pipeline of a producer binding, applying the
+ * {@link OutboundMessageStage stages} of the binding in a single pass to one
+ * {@link OutboundMessage mutable copy} of each message sent.
+ * <p>
+ * The pipeline is itself the single {@link ChannelInterceptor} of the output channel,
+ * in place of the interceptors it was compiled from, so that the channel keeps
+ * maintaining the message history, the metrics, the observations and the other
+ * interceptor callbacks of the sends.
+ *
+ * @since 5.0.1
+ * @see org.springframework.cloud.stream.messaging.DirectWithAttributesChannel#enableOutboundPipeline()
+ */
+public final class OutboundMessagePipeline implements ChannelInterceptor {
+
+	private final List<ChannelInterceptor> interceptors;
+
+	private final OutboundMessageStage[] stages;
+
+	private OutboundMessagePipeline(List<ChannelInterceptor> interceptors, OutboundMessageStage[] stages) {
+		this.interceptors = interceptors;
+		this.stages = stages;
+	}
+
+	/**
+	 * Compile the pipeline equivalent to the given channel interceptors.
+	 * @param interceptors the interceptors of the output channel, in order
+	 * @return the pipeline or null if any of the interceptors is not an
+	 * {@link OutboundMessageStage} (e.g., a user interceptor), in which case the
+	 * interceptors must be applied individually
+	 */
+	@Nullable
+	public static OutboundMessagePipeline of(List<ChannelInterceptor> interceptors) {
+		OutboundMessageStage[] stages = new OutboundMessageStage[interceptors.size()];
+		for (int i = 0; i < stages.length; i++) {
+			if (!(interceptors.get(i) instanceof OutboundMessageStage stage)) {
+				return null;
+			}
+			stages[i] = stage;
+		}
+		return new OutboundMessagePipeline(List.copyOf(interceptors), stages);
+	}
+
+	/**
+	 * @return the interceptors this pipeline was compiled from, in order
+	 */
+	public List<ChannelInterceptor> getInterceptors() {
+		return this.interceptors;
+	}
+
+	/**
+	 * Apply all stages to a copy of the message.
+	 * @param message the message being sent (left untouched)
+	 * @return the message to hand over to the producer
+	 */
+	public OutboundMessage process(Message<?> message) {
+		OutboundMessage outboundMessage = new OutboundMessage(message);
+		for (OutboundMessageStage stage : this.stages) {
+			stage.process(outboundMessage);
+		}
+		return outboundMessage;
+	}
+
+	/**
+	 * Apply all stages to a copy of the message, except for error messages which are
+	 * passed to the {@code preSend} method of each interceptor in turn.
+	 */
+	@Override
+	@Nullable
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		if (!(message instanceof ErrorMessage)) {
+			return this.process(message);
+		}
+		Message<?> messageToSend = message;
+		for (int i = 0; i < this.interceptors.size() && messageToSend != null; i++) {
+			messageToSend = this.interceptors.get(i).preSend(messageToSend, channel);
+		}
+		return messageToSend;
+	}
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.stream.binder;
+
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * A step of the {@link OutboundMessagePipeline} of a producer binding.
+ * <p>
+ * The {@link ChannelInterceptor}s which the framework and the binders add to output
+ * channels (content type conversion, partition selection, key evaluation) implement this
+ * contract in addition to {@link ChannelInterceptor#preSend}. As long as all the
+ * interceptors of an output channel do so, they are applied in a single pass to one
+ * mutable copy of the message rather than each of them creating its own copy.
+ * Implementations must produce the same result as their {@code preSend} method and must
+ * not rely on the other callbacks of {@link ChannelInterceptor}.
+ *
+ * @since 5.0.1
+ */
+public interface OutboundMessageStage {
+
+	/**
+	 * Apply this stage to the message being sent.
+	 * @param message the mutable copy of the message
+	 */
+	void process(OutboundMessage message);
+
+}
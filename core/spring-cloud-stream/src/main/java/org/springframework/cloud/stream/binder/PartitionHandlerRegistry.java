@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.integration.expression.ExpressionUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Registry of {@link PartitionHandler}s per output binding.
+ * <p>
+ * Creating a {@link PartitionHandler} involves the creation of an evaluation context as
+ * well as the lookup of the {@link PartitionKeyExtractorStrategy} and
+ * {@link PartitionSelectorStrategy} beans. This registry ensures that this happens once
+ * per binding instead of once per message. A registered handler is replaced when the
+ * producer properties of the binding are replaced or when their partition count changes,
+ * and all handlers are discarded when the environment is refreshed.
+ *
+ * @since 5.0.1
+ */
+public class PartitionHandlerRegistry implements ApplicationListener<ApplicationEvent> {
+
+	private final ConfigurableListableBeanFactory beanFactory;
+
+	private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+
+	public PartitionHandlerRegistry(ConfigurableListableBeanFactory beanFactory) {
+		Assert.notNull(beanFactory, "'beanFactory' must not be null");
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * Return the {@link PartitionHandler} for the given binding, creating it if necessary.
+	 * @param bindingName the name of the output binding
+	 * @param producerProperties the (partitioned) producer properties of the binding
+	 * @return the partition handler
+	 */
+	public PartitionHandler getPartitionHandler(String bindingName, ProducerProperties producerProperties) {
+		Registration registration = this.registrations.get(bindingName);
+		if (registration == null || !registration.isValidFor(producerProperties)) {
+			registration = this.registrations.compute(bindingName, (key, existing) ->
+					existing != null && existing.isValidFor(producerProperties) ? existing
+							: new Registration(producerProperties, producerProperties.getPartitionCount(),
+									new PartitionHandler(ExpressionUtils.createStandardEvaluationContext(this.beanFactory),
+											producerProperties, this.beanFactory)));
+		}
+		return registration.partitionHandler();
+	}
+
+	/**
+	 * Discard the {@link PartitionHandler} of the given binding (e.g., when it is unbound).
+	 * @param bindingName the name of the output binding
+	 */
+	public void invalidate(String bindingName) {
+		this.registrations.remove(bindingName);
+	}
+
+	/**
+	 * Discard all registered {@link PartitionHandler}s.
+	 */
+	public void invalidateAll() {
+		this.registrations.clear();
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationEvent event) {
+		// we need to do it by String to avoid cloud-bus and context dependencies
+		String eventClassName = event.getClass().getName();
+		if (eventClassName.equals("org.springframework.cloud.bus.event.RefreshRemoteApplicationEvent")
+				|| eventClassName.equals("org.springframework.cloud.context.environment.EnvironmentChangeEvent")) {
+			this.invalidateAll();
+		}
+	}
+
+	private record Registration(ProducerProperties producerProperties, int partitionCount,
+			PartitionHandler partitionHandler) {
+
+		boolean isValidFor(ProducerProperties producerProperties) {
+			return this.producerProperties == producerProperties
+					&& this.partitionCount == producerProperties.getPartitionCount();
+		}
+	}
+
+}
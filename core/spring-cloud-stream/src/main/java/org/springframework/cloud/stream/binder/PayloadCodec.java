@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Strategy encoding (typically compressing) the converted payload of outbound messages
+ * and decoding the payload of inbound messages, selected by the
+ * {@link ProducerProperties#getContentEncoding() contentEncoding} of a producer binding.
+ * The name of the codec travels with the message in the
+ * {@link BinderHeaders#CONTENT_ENCODING} header, so that the payload is decoded on the
+ * consumer side whatever the binder.
+ * <p>
+ * Beans of this type are registered with the binders in addition to the codecs of
+ * {@link PayloadCodecs}, and take precedence over those of the same name.
+ *
+ * @since 5.0.1
+ */
+public interface PayloadCodec {
+
+	/**
+	 * @return the name of the codec, used as value of the
+	 * {@link BinderHeaders#CONTENT_ENCODING} header
+	 */
+	String getName();
+
+	/**
+	 * Encode the given payload.
+	 * @param payload the payload
+	 * @return the encoded payload
+	 * @throws IOException if the payload could not be encoded
+	 */
+	byte[] encode(byte[] payload) throws IOException;
+
+	/**
+	 * Decode the given payload.
+	 * @param payload the encoded payload
+	 * @return the decoded payload
+	 * @throws IOException if the payload could not be decoded
+	 */
+	byte[] decode(byte[] payload) throws IOException;
+
+	/**
+	 * Decode the payload read from the given stream, such as a payload read in place from
+	 * a {@link PayloadRegionMessage}. The default implementation reads the whole payload
+	 * and delegates to {@link #decode(byte[])}.
+	 * @param payload the stream of the encoded payload
+	 * @return the decoded payload
+	 * @throws IOException if the payload could not be decoded
+	 */
+	default byte[] decode(InputStream payload) throws IOException {
+		return decode(payload.readAllBytes());
+	}
+
+	/**
+	 * Decode the payload read from the given stream, failing if the decoded payload is
+	 * larger than the given size, so that a small payload decoding into a huge one (a
+	 * "compression bomb") cannot exhaust the memory of the consumer. The default
+	 * implementation checks the size once the payload is decoded: codecs able to do so
+	 * should stop decoding as soon as the size is exceeded instead.
+	 * @param payload the stream of the encoded payload
+	 * @param maxDecodedSize the maximum size, in bytes, of the decoded payload
+	 * @return the decoded payload
+	 * @throws IOException if the payload could not be decoded or is too large once decoded
+	 */
+	default byte[] decode(InputStream payload, int maxDecodedSize) throws IOException {
+		byte[] decoded = decode(payload);
+		if (decoded.length > maxDecodedSize) {
+			throw PayloadCodecs.decodedSizeExceeded(maxDecodedSize);
+		}
+		return decoded;
+	}
+
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.support.management.metrics.TimerFacade;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * The {@link PayloadCodec codecs} known to a binder, by name, recording the time spent
+ * encoding and decoding payloads as well as the ratio between the encoded and original
+ * sizes of the payloads.
+ * <p>
+ * The {@link #GZIP gzip} and {@link #DEFLATE deflate} codecs are always available. The
+ * {@link ZstdPayloadCodec zstd}, {@link Lz4PayloadCodec lz4} and
+ * {@link SnappyPayloadCodec snappy} codecs are available when their (optional) libraries
+ * are on the classpath; other codecs, or these codecs configured differently (such as a
+ * zstd codec with a trained dictionary), are plugged in as {@link PayloadCodec} beans.
+ *
+ * @since 5.0.1
+ */
+public class PayloadCodecs {
+
+	/**
+	 * Prefix of the names of the meters of the codecs.
+	 */
+	public static final String METRIC_PREFIX = "spring.cloud.stream.codec";
+
+	/**
+	 * Codec compressing payloads in the GZIP format.
+	 */
+	public static final PayloadCodec GZIP = new StreamPayloadCodec("gzip") {
+
+		@Override
+		OutputStream encoder(OutputStream output) throws IOException {
+			return new GZIPOutputStream(output);
+		}
+
+		@Override
+		InputStream decoder(InputStream input) throws IOException {
+			return new GZIPInputStream(input);
+		}
+
+	};
+
+	/**
+	 * Codec compressing payloads in the ZLIB (deflate) format.
+	 */
+	public static final PayloadCodec DEFLATE = new StreamPayloadCodec("deflate") {
+
+		@Override
+		OutputStream encoder(OutputStream output) {
+			return new DeflaterOutputStream(output);
+		}
+
+		@Override
+		InputStream decoder(InputStream input) {
+			return new InflaterInputStream(input);
+		}
+
+	};
+
+	private static final String ZSTD_CLASS_NAME = "com.github.luben.zstd.ZstdOutputStream";
+
+	private static final String LZ4_CLASS_NAME = "net.jpountz.lz4.LZ4FrameOutputStream";
+
+	private static final String SNAPPY_CLASS_NAME = "org.xerial.snappy.SnappyFramedOutputStream";
+
+	private final Map<String, RecordingCodec> codecs = new LinkedHashMap<>();
+
+	/**
+	 * Create an instance with the given codecs in addition to the built-in ones.
+	 * @param codecs the additional codecs, overriding the built-in ones of the same name
+	 */
+	public PayloadCodecs(Collection<? extends PayloadCodec> codecs) {
+		for (PayloadCodec codec : List.of(GZIP, DEFLATE)) {
+			this.codecs.put(codec.getName(), new RecordingCodec(codec));
+		}
+		ClassLoader classLoader = PayloadCodecs.class.getClassLoader();
+		if (ClassUtils.isPresent(ZSTD_CLASS_NAME, classLoader)) {
+			this.codecs.put(ZstdPayloadCodec.NAME, new RecordingCodec(new ZstdPayloadCodec()));
+		}
+		if (ClassUtils.isPresent(LZ4_CLASS_NAME, classLoader)) {
+			this.codecs.put(Lz4PayloadCodec.NAME, new RecordingCodec(new Lz4PayloadCodec()));
+		}
+		if (ClassUtils.isPresent(SNAPPY_CLASS_NAME, classLoader)) {
+			this.codecs.put(SnappyPayloadCodec.NAME, new RecordingCodec(new SnappyPayloadCodec()));
+		}
+		for (PayloadCodec codec : codecs) {
+			this.codecs.put(codec.getName(), new RecordingCodec(codec));
+		}
+	}
+
+	/**
+	 * Record the metrics of the codecs through the given captor.
+	 * @param metricsCaptor the metrics captor
+	 */
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		this.codecs.values().forEach(codec -> codec.registerMetricsCaptor(metricsCaptor));
+	}
+
+	/**
+	 * @param name the name of a codec
+	 * @return whether a codec of that name is known
+	 */
+	public boolean hasCodec(String name) {
+		return this.codecs.containsKey(name);
+	}
+
+	/**
+	 * Encode the given payload with the codec of the given name.
+	 * @param name the name of the codec
+	 * @param payload the payload
+	 * @return the encoded payload
+	 */
+	public byte[] encode(String name, byte[] payload) {
+		return getCodec(name).encode(payload);
+	}
+
+	/**
+	 * Decode the given payload with the codec of the given name.
+	 * @param name the name of the codec
+	 * @param payload the encoded payload
+	 * @param maxDecodedSize the maximum size, in bytes, of the decoded payload
+	 * @return the decoded payload
+	 * @throws IllegalStateException if the payload could not be decoded or is larger than
+	 * the maximum size once decoded
+	 */
+	public byte[] decode(String name, byte[] payload, int maxDecodedSize) {
+		return getCodec(name).decode(new ByteArrayInputStream(payload), maxDecodedSize);
+	}
+
+	/**
+	 * Decode the payload read from the given stream with the codec of the given name.
+	 * @param name the name of the codec
+	 * @param payload the stream of the encoded payload
+	 * @param maxDecodedSize the maximum size, in bytes, of the decoded payload
+	 * @return the decoded payload
+	 * @throws IllegalStateException if the payload could not be decoded or is larger than
+	 * the maximum size once decoded
+	 */
+	public byte[] decode(String name, InputStream payload, int maxDecodedSize) {
+		return getCodec(name).decode(payload, maxDecodedSize);
+	}
+
+	static IOException decodedSizeExceeded(int maxDecodedSize) {
+		return new IOException("The decoded payload exceeds the maximum size of " + maxDecodedSize + " bytes");
+	}
+
+	private RecordingCodec getCodec(String name) {
+		RecordingCodec codec = this.codecs.get(name);
+		Assert.isTrue(codec != null, () -> "Unknown content encoding '" + name + "'; known encodings are "
+				+ this.codecs.keySet());
+		return codec;
+	}
+
+	/**
+	 * Codec delegating to a codec and recording its activity.
+	 */
+	private static final class RecordingCodec {
+
+		private final PayloadCodec codec;
+
+		private final LongAdder originalBytes = new LongAdder();
+
+		private final LongAdder encodedBytes = new LongAdder();
+
+		@Nullable
+		private volatile TimerFacade encodeTimer;
+
+		@Nullable
+		private volatile TimerFacade decodeTimer;
+
+		RecordingCodec(PayloadCodec codec) {
+			this.codec = codec;
+		}
+
+		void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+			String name = this.codec.getName();
+			this.encodeTimer = metricsCaptor.timerBuilder(METRIC_PREFIX + ".encode")
+				.tag("codec", name)
+				.description("Time spent encoding payloads")
+				.build();
+			this.decodeTimer = metricsCaptor.timerBuilder(METRIC_PREFIX + ".decode")
+				.tag("codec", name)
+				.description("Time spent decoding payloads")
+				.build();
+			metricsCaptor.gaugeBuilder(METRIC_PREFIX + ".compression.ratio", this,
+					codec -> ((RecordingCodec) codec).compressionRatio())
+				.tag("codec", name)
+				.description("Ratio between the encoded and original sizes of the encoded payloads")
+				.build();
+		}
+
+		byte[] encode(byte[] payload) {
+			long start = System.nanoTime();
+			byte[] encoded;
+			try {
+				encoded = this.codec.encode(payload);
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException("Failed to encode payload with codec '" + this.codec.getName() + "'", ex);
+			}
+			record(this.encodeTimer, start);
+			this.originalBytes.add(payload.length);
+			this.encodedBytes.add(encoded.length);
+			return encoded;
+		}
+
+		byte[] decode(InputStream payload, int maxDecodedSize) {
+			long start = System.nanoTime();
+			byte[] decoded;
+			try {
+				decoded = this.codec.decode(payload, maxDecodedSize);
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException("Failed to decode payload with codec '" + this.codec.getName() + "'", ex);
+			}
+			record(this.decodeTimer, start);
+			return decoded;
+		}
+
+		private static void record(@Nullable TimerFacade timer, long start) {
+			if (timer != null) {
+				timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		}
+
+		private double compressionRatio() {
+			long original = this.originalBytes.sum();
+			return original == 0 ? 0 : (double) this.encodedBytes.sum() / original;
+		}
+
+	}
+
+	/**
+	 * Codec based on compression streams.
+	 */
+	abstract static class StreamPayloadCodec implements PayloadCodec {
+
+		private final String name;
+
+		StreamPayloadCodec(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		abstract OutputStream encoder(OutputStream output) throws IOException;
+
+		abstract InputStream decoder(InputStream input) throws IOException;
+
+		@Override
+		public byte[] encode(byte[] payload) throws IOException {
+			ByteArrayOutputStream output = new ByteArrayOutputStream(payload.length / 2 + 32);
+			try (OutputStream encoder = encoder(output)) {
+				encoder.write(payload);
+			}
+			return output.toByteArray();
+		}
+
+		@Override
+		public byte[] decode(byte[] payload) throws IOException {
+			return decode(new ByteArrayInputStream(payload));
+		}
+
+		@Override
+		public byte[] decode(InputStream payload) throws IOException {
+			try (InputStream decoder = decoder(payload)) {
+				return decoder.readAllBytes();
+			}
+		}
+
+		/*
+		 * Stops decoding as soon as the maximum size is exceeded, rather than inflating the
+		 * whole payload first.
+		 */
+		@Override
+		public byte[] decode(InputStream payload, int maxDecodedSize) throws IOException {
+			try (InputStream decoder = decoder(payload)) {
+				byte[] decoded = decoder.readNBytes(maxDecodedSize);
+				if (decoder.read() != -1) {
+					throw decodedSizeExceeded(maxDecodedSize);
+				}
+				return decoded;
+			}
+		}
+
+		@Override
+		public String toString() {
+			return this.name;
+		}
+
+	}
+
+}
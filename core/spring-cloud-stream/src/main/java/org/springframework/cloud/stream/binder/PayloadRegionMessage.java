@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Message} whose {@code byte[]} payload is a region of a larger array, such as the
+ * payload following the headers embedded in an inbound message.
+ * <p>
+ * The region is only copied into an exact {@code byte[]} the first time
+ * {@link #getPayload()} is called. Converters and interceptors which can read the payload
+ * in place use {@link #getPayloadAsByteBuffer()} or {@link #getPayloadAsInputStream()}
+ * instead, so that the copy is never made.
+ *
+ * @since 5.0.1
+ * @see MessageValues#toMessage()
+ */
+public final class PayloadRegionMessage implements Message<byte[]> {
+
+	private final byte[] array;
+
+	private final int offset;
+
+	private final int length;
+
+	private final MessageHeaders headers;
+
+	@Nullable
+	private volatile byte[] payload;
+
+	/**
+	 * Create an instance whose payload is a region of the given array, which is not copied.
+	 * @param array the array holding the payload
+	 * @param offset the offset of the payload in the array
+	 * @param length the length of the payload
+	 * @param headers the headers
+	 */
+	public PayloadRegionMessage(byte[] array, int offset, int length, Map<String, Object> headers) {
+		Assert.isTrue(offset >= 0 && length >= 0 && offset + length <= array.length,
+				"The payload region must be within the array");
+		this.array = array;
+		this.offset = offset;
+		this.length = length;
+		this.headers = new MessageHeaders(headers);
+	}
+
+	/**
+	 * Return the payload, copying the region into an exact {@code byte[]} (once).
+	 * @return the payload
+	 */
+	@Override
+	public byte[] getPayload() {
+		byte[] payload = this.payload;
+		if (payload == null) {
+			payload = Arrays.copyOfRange(this.array, this.offset, this.offset + this.length);
+			this.payload = payload;
+		}
+		return payload;
+	}
+
+	@Override
+	public MessageHeaders getHeaders() {
+		return this.headers;
+	}
+
+	/**
+	 * @return a read-only view of the payload, which is not copied
+	 */
+	public ByteBuffer getPayloadAsByteBuffer() {
+		return ByteBuffer.wrap(this.array, this.offset, this.length).slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * @return a stream reading the payload, which is not copied
+	 */
+	public InputStream getPayloadAsInputStream() {
+		return new ByteArrayInputStream(this.array, this.offset, this.length);
+	}
+
+	/**
+	 * @return the length of the payload
+	 */
+	public int getPayloadLength() {
+		return this.length;
+	}
+
+	/**
+	 * @return whether the payload has been copied out of the array
+	 */
+	public boolean isPayloadCopied() {
+		return this.payload != null;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [payload=byte[" + this.length + "], headers=" + this.headers + "]";
+	}
+
+}
@@ -75,6 +75,42 @@ public class ProducerProperties {
 
 	private HeaderMode headerMode;
 
+	/**
+	 * When 'headerMode' is 'embeddedHeaders', whether to embed the headers in the JSON
+	 * format rather than in the binary format. The JSON format is the only one understood by
+	 * applications older than 5.0.1, so the binary format is opt-in until the default
+	 * changes to false in 6.0. Default: true
+	 */
+	private boolean jsonEmbeddedHeaders = true;
+
+	/**
+	 * Name of the {@link PayloadCodec} (e.g., 'gzip' or 'deflate') to encode the converted
+	 * payloads with. The name is sent in the 'scst_contentEncoding' header, so that the
+	 * payload is decoded transparently on the consumer side. Default: none
+	 */
+	private String contentEncoding;
+
+	/**
+	 * Size (in bytes) below which payloads are not encoded with the 'contentEncoding'
+	 * codec, since compressing small payloads rarely pays off. Default: 1024
+	 */
+	private int contentEncodingThreshold = 1024;
+
+	/**
+	 * Patterns of the names of the headers of an inbound message which are propagated to
+	 * the messages a function produces in response (e.g., 'traceparent,b3,X-B3-*'),
+	 * evaluated in order and negated with a leading '!'; '@tracing' stands for the W3C and
+	 * B3 tracing headers. Headers matching no pattern are not propagated. Default: none
+	 * (all headers are propagated)
+	 */
+	private String[] propagatedHeaders;
+
+	/**
+	 * Whether to expose the average size of the headers sent to this binding, and of the
+	 * inbound headers not propagated, per message. Default: false
+	 */
+	private boolean headerMetricsEnabled = false;
+
 	private boolean useNativeEncoding = false;
 
 	private boolean errorChannelEnabled = false;
@@ -83,6 +119,18 @@ public class ProducerProperties {
 
 	private boolean dynamicPartitionUpdatesEnabled = false;
 
+	/**
+	 * Maximum number of asynchronous sends (see 'StreamBridge.sendAsync') which are awaiting
+	 * the broker acknowledgement for this binding. Once reached, the callers block until an
+	 * acknowledgement is received. A value less than or equal to 0 disables the limit. Default: 1000
+	 */
+	private int maxInFlightAsyncSends = 1000;
+
+	/**
+	 * Executor used to send messages for this binding when 'StreamBridge' is in async mode.
+	 */
+	private AsyncProperties async;
+
 	public String getBindingName() {
 		return bindingName;
 	}
@@ -149,6 +197,46 @@ public class ProducerProperties {
 		this.headerMode = headerMode;
 	}
 
+	public boolean isJsonEmbeddedHeaders() {
+		return this.jsonEmbeddedHeaders;
+	}
+
+	public void setJsonEmbeddedHeaders(boolean jsonEmbeddedHeaders) {
+		this.jsonEmbeddedHeaders = jsonEmbeddedHeaders;
+	}
+
+	public String getContentEncoding() {
+		return this.contentEncoding;
+	}
+
+	public void setContentEncoding(String contentEncoding) {
+		this.contentEncoding = contentEncoding;
+	}
+
+	public int getContentEncodingThreshold() {
+		return this.contentEncodingThreshold;
+	}
+
+	public void setContentEncodingThreshold(int contentEncodingThreshold) {
+		this.contentEncodingThreshold = contentEncodingThreshold;
+	}
+
+	public String[] getPropagatedHeaders() {
+		return this.propagatedHeaders;
+	}
+
+	public void setPropagatedHeaders(String[] propagatedHeaders) {
+		this.propagatedHeaders = propagatedHeaders;
+	}
+
+	public boolean isHeaderMetricsEnabled() {
+		return this.headerMetricsEnabled;
+	}
+
+	public void setHeaderMetricsEnabled(boolean headerMetricsEnabled) {
+		this.headerMetricsEnabled = headerMetricsEnabled;
+	}
+
 	public boolean isUseNativeEncoding() {
 		return this.useNativeEncoding;
 	}
@@ -215,6 +303,22 @@ public class ProducerProperties {
 		this.dynamicPartitionUpdatesEnabled = enabled;
 	}
 
+	public int getMaxInFlightAsyncSends() {
+		return this.maxInFlightAsyncSends;
+	}
+
+	public void setMaxInFlightAsyncSends(int maxInFlightAsyncSends) {
+		this.maxInFlightAsyncSends = maxInFlightAsyncSends;
+	}
+
+	public AsyncProperties getAsync() {
+		return this.async;
+	}
+
+	public void setAsync(AsyncProperties async) {
+		this.async = async;
+	}
+
 	public static class ExpressionSerializer extends StdSerializer<Expression> {
 		public ExpressionSerializer() {
 			super(Expression.class);
@@ -273,4 +377,102 @@ public class ProducerProperties {
 		}
 	}
 
+	/**
+	 * Properties of the executor used by 'StreamBridge' in async mode.
+	 */
+	public static class AsyncProperties {
+
+		/**
+		 * Type of executor used to send messages. Default: cached (shared, unbounded thread pool).
+		 */
+		private ExecutorType executor = ExecutorType.CACHED;
+
+		/**
+		 * Number of threads of a 'bounded' executor. Default: 10
+		 */
+		private int poolSize = 10;
+
+		/**
+		 * Maximum number of sends waiting for a thread of a 'bounded' executor. Default: 1000
+		 */
+		private int queueCapacity = 1000;
+
+		/**
+		 * What to do when the queue of a 'bounded' executor is full. Default: caller-runs
+		 */
+		private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+		public ExecutorType getExecutor() {
+			return this.executor;
+		}
+
+		public void setExecutor(ExecutorType executor) {
+			this.executor = executor;
+		}
+
+		public int getPoolSize() {
+			return this.poolSize;
+		}
+
+		public void setPoolSize(int poolSize) {
+			this.poolSize = poolSize;
+		}
+
+		public int getQueueCapacity() {
+			return this.queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+		public RejectionPolicy getRejectionPolicy() {
+			return this.rejectionPolicy;
+		}
+
+		public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+			this.rejectionPolicy = rejectionPolicy;
+		}
+
+		/**
+		 * Types of executor available for async sends.
+		 */
+		public enum ExecutorType {
+
+			/**
+			 * Unbounded, cached thread pool shared by all bindings.
+			 */
+			CACHED,
+
+			/**
+			 * A new virtual thread per send (requires Java 21 or later).
+			 */
+			VIRTUAL,
+
+			/**
+			 * Fixed size pool of platform threads with a bounded queue, dedicated to the binding.
+			 */
+			BOUNDED
+
+		}
+
+		/**
+		 * Policies applied when the queue of a bounded executor is full.
+		 */
+		public enum RejectionPolicy {
+
+			/**
+			 * The send is performed by the calling thread.
+			 */
+			CALLER_RUNS,
+
+			/**
+			 * The calling thread blocks until there is room in the queue.
+			 */
+			BLOCK
+
+		}
+
+	}
+
 }
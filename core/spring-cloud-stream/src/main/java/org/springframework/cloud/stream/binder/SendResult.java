@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder;
+
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+
+/**
+ * Result of a send which was acknowledged by the broker.
+ * <p>
+ * The metadata is binder specific and represents the acknowledgement provided by the
+ * middleware client, e.g. {@code org.apache.kafka.clients.producer.RecordMetadata} for
+ * the Kafka binder, {@code org.springframework.amqp.rabbit.connection.CorrelationData.Confirm}
+ * for the RabbitMQ binder and {@code org.apache.pulsar.client.api.MessageId} for the
+ * Pulsar binder.
+ *
+ * @param message the message which was sent (as handed over to the binder)
+ * @param metadata binder specific acknowledgement metadata
+ * @since 5.0.1
+ * @see ConfirmingMessageHandler
+ */
+public record SendResult(Message<?> message, @Nullable Object metadata) {
+
+	/**
+	 * Return the acknowledgement metadata as the given type.
+	 * @param type the expected type of the metadata
+	 * @param <T> the expected type of the metadata
+	 * @return the metadata or null if there is no metadata of the given type
+	 */
+	@Nullable
+	public <T> T metadata(Class<T> type) {
+		return type.isInstance(this.metadata) ? type.cast(this.metadata) : null;
+	}
+
+}
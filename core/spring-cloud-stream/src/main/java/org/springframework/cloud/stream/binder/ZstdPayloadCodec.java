@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link PayloadCodec} compressing payloads in the Zstandard format, optionally with a
+ * dictionary trained on representative payloads, which greatly improves the compression
+ * of small payloads. Requires {@code com.github.luben:zstd-jni}.
+ * <p>
+ * A codec without dictionary is registered under the {@value #NAME} name when the library
+ * is on the classpath. A codec with a dictionary is declared as a {@link PayloadCodec}
+ * bean, typically under its own name, since the consumers must decode the payloads with
+ * the same dictionary.
+ *
+ * @since 5.0.1
+ */
+public final class ZstdPayloadCodec extends PayloadCodecs.StreamPayloadCodec {
+
+	/**
+	 * Name of the codec without dictionary.
+	 */
+	public static final String NAME = "zstd";
+
+	/**
+	 * Default compression level.
+	 */
+	public static final int DEFAULT_LEVEL = 3;
+
+	private final int level;
+
+	@Nullable
+	private final ZstdDictCompress compressionDictionary;
+
+	@Nullable
+	private final ZstdDictDecompress decompressionDictionary;
+
+	/**
+	 * Create a codec without dictionary, named {@value #NAME}, compressing with the
+	 * {@link #DEFAULT_LEVEL default level}.
+	 */
+	public ZstdPayloadCodec() {
+		this(NAME, DEFAULT_LEVEL, null);
+	}
+
+	/**
+	 * Create a codec compressing with the given level and dictionary.
+	 * @param name the name of the codec
+	 * @param level the compression level
+	 * @param dictionary the dictionary, or null for none
+	 */
+	public ZstdPayloadCodec(String name, int level, @Nullable byte[] dictionary) {
+		super(name);
+		Assert.isTrue(dictionary == null || dictionary.length > 0, "The dictionary must not be empty");
+		this.level = level;
+		this.compressionDictionary = dictionary != null ? new ZstdDictCompress(dictionary, level) : null;
+		this.decompressionDictionary = dictionary != null ? new ZstdDictDecompress(dictionary) : null;
+	}
+
+	@Override
+	OutputStream encoder(OutputStream output) throws IOException {
+		ZstdOutputStream encoder = new ZstdOutputStream(output, this.level);
+		if (this.compressionDictionary != null) {
+			encoder.setDict(this.compressionDictionary);
+		}
+		return encoder;
+	}
+
+	@Override
+	InputStream decoder(InputStream input) throws IOException {
+		ZstdInputStream decoder = new ZstdInputStream(input);
+		if (this.decompressionDictionary != null) {
+			decoder.setDict(this.decompressionDictionary);
+		}
+		return decoder;
+	}
+
+}
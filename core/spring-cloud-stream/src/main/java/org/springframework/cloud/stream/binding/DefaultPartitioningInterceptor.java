@@ -18,6 +18,8 @@ package org.springframework.cloud.stream.binding;
 
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.cloud.stream.binder.BinderHeaders;
+import org.springframework.cloud.stream.binder.OutboundMessage;
+import org.springframework.cloud.stream.binder.OutboundMessageStage;
 import org.springframework.cloud.stream.binder.PartitionHandler;
 import org.springframework.cloud.stream.config.BindingProperties;
 import org.springframework.integration.expression.ExpressionUtils;
@@ -32,7 +34,7 @@ import org.springframework.messaging.support.ChannelInterceptor;
  * @since 3.1
  *
  */
-public class DefaultPartitioningInterceptor implements ChannelInterceptor {
+public class DefaultPartitioningInterceptor implements ChannelInterceptor, OutboundMessageStage {
 
 	private final PartitionHandler partitionHandler;
 
@@ -64,5 +66,11 @@ public class DefaultPartitioningInterceptor implements ChannelInterceptor {
 		}
 	}
 
-}
+	@Override
+	public void process(OutboundMessage message) {
+		Object partitionOverride = message.getHeaders().remove(BinderHeaders.PARTITION_OVERRIDE);
+		message.getHeaders().put(BinderHeaders.PARTITION_HEADER,
+				partitionOverride != null ? partitionOverride : this.partitionHandler.determinePartition(message));
+	}
 
+}
@@ -29,6 +29,8 @@ import org.springframework.cloud.stream.binder.BinderHeaders;
 import org.springframework.cloud.stream.binder.ConsumerProperties;
 import org.springframework.cloud.stream.binder.DefaultPollableMessageSource;
 import org.springframework.cloud.stream.binder.JavaClassMimeTypeUtils;
+import org.springframework.cloud.stream.binder.OutboundMessage;
+import org.springframework.cloud.stream.binder.OutboundMessageStage;
 import org.springframework.cloud.stream.binder.PartitionHandler;
 import org.springframework.cloud.stream.binder.PollableMessageSource;
 import org.springframework.cloud.stream.binder.ProducerProperties;
@@ -42,6 +44,7 @@ import org.springframework.integration.channel.AbstractMessageChannel;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.support.MessageBuilderFactory;
 import org.springframework.integration.support.MutableMessageBuilderFactory;
+import org.springframework.integration.support.MutableMessageHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHeaders;
@@ -251,7 +254,7 @@ public class MessageConverterConfigurer
 			}
 			else if (message.getHeaders()
 					.get(MessageHeaders.CONTENT_TYPE) instanceof String) {
-				headersMap.put(MessageHeaders.CONTENT_TYPE, MimeType.valueOf(
+				headersMap.put(MessageHeaders.CONTENT_TYPE, MessageConverterUtils.parseMimeType(
 						(String) message.getHeaders().get(MessageHeaders.CONTENT_TYPE)));
 			}
 
@@ -268,7 +271,7 @@ public class MessageConverterConfigurer
 	 * (i.e., byte[]).
 	 */
 	private final class OutboundContentTypeConvertingInterceptor
-			extends AbstractContentTypeInterceptor {
+			extends AbstractContentTypeInterceptor implements OutboundMessageStage {
 
 		private final MessageConverter messageConverter;
 
@@ -315,11 +318,45 @@ public class MessageConverterConfigurer
 				Map<String, Object> headersMap = (Map<String, Object>) ReflectionUtils
 						.getField(MessageConverterConfigurer.this.headersField,
 								outboundMessage.getHeaders());
-				headersMap.put(MessageHeaders.CONTENT_TYPE, MimeType.valueOf(ct));
+				headersMap.put(MessageHeaders.CONTENT_TYPE, MessageConverterUtils.parseMimeType(ct));
 			}
 			return outboundMessage;
 		}
 
+		@Override
+		public void process(OutboundMessage message) {
+			MutableMessageHeaders headers = message.getHeaders();
+			Object payload = message.getPayload();
+			Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+			if (payload instanceof byte[] && contentType != null) {
+				return;
+			}
+
+			String oct = contentType != null ? contentType.toString() : null;
+			String ct = payload instanceof String
+					? JavaClassMimeTypeUtils.mimeTypeFromObject(payload, ObjectUtils.nullSafeToString(oct)).toString()
+					: oct;
+
+			if (contentType == null) {
+				headers.put(MessageHeaders.CONTENT_TYPE, this.mimeType);
+			}
+
+			if (!(payload instanceof byte[])) {
+				Message<?> converted = this.messageConverter.toMessage(payload, headers);
+				if (converted == null) {
+					throw new IllegalStateException("Failed to convert message: '" + message
+							+ "' to outbound message.");
+				}
+				message.setPayload(converted.getPayload());
+				// including the new id and timestamp, as preSend sends the converted message
+				headers.putAll(converted.getHeaders());
+			}
+
+			if (ct != null && !ct.equals(oct) && oct != null) {
+				headers.put(MessageHeaders.CONTENT_TYPE, MessageConverterUtils.parseMimeType(ct));
+			}
+		}
+
 	}
 
 	/**
@@ -347,7 +384,7 @@ public class MessageConverterConfigurer
 	/**
 	 * Partitioning channel interceptor.
 	 */
-	public final class PartitioningInterceptor implements ChannelInterceptor {
+	public final class PartitioningInterceptor implements ChannelInterceptor, OutboundMessageStage {
 
 		private final BindingProperties bindingProperties;
 
@@ -383,6 +420,13 @@ public class MessageConverterConfigurer
 			}
 		}
 
+		@Override
+		public void process(OutboundMessage message) {
+			Object partitionOverride = message.getHeaders().remove(BinderHeaders.PARTITION_OVERRIDE);
+			message.getHeaders().put(BinderHeaders.PARTITION_HEADER,
+					partitionOverride != null ? partitionOverride : this.partitionHandler.determinePartition(message));
+		}
+
 	}
 
 }
@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.stream.config;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -42,6 +43,7 @@ import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.integration.support.utils.IntegrationUtils;
 import org.springframework.util.Assert;
 
@@ -130,6 +132,24 @@ public class BindingServiceProperties
 	 */
 	private int dynamicDestinationCacheSize = 10;
 
+	/**
+	 * The time after which a dynamic destination which has not been used is removed from the
+	 * cache (and unbound). Default: none (destinations are only evicted once the cache size
+	 * is exceeded).
+	 */
+	private Duration dynamicDestinationCacheTtl;
+
+	/**
+	 * Compiler mode of the SpEL expressions of bindings (e.g., partition key, message key or
+	 * routing key expressions), which are evaluated for every message. In 'mixed' mode, an
+	 * expression is compiled once it has been evaluated a number of times and reverts to
+	 * interpreted mode if it cannot be compiled or if the compiled form fails. Compilation
+	 * is opt-in: a compiled expression is tied to the types it was first evaluated with and
+	 * must be loadable from the class loader of the application, which changes how existing
+	 * expressions behave. Default: off.
+	 */
+	private SpelCompilerMode expressionCompilerMode = SpelCompilerMode.OFF;
+
 	/**
 	 * Retry interval (in seconds) used to schedule binding attempts. Default: 30 sec.
 	 */
@@ -312,6 +332,22 @@ public class BindingServiceProperties
 		this.dynamicDestinationCacheSize = dynamicDestinationCacheSize;
 	}
 
+	public Duration getDynamicDestinationCacheTtl() {
+		return this.dynamicDestinationCacheTtl;
+	}
+
+	public void setDynamicDestinationCacheTtl(Duration dynamicDestinationCacheTtl) {
+		this.dynamicDestinationCacheTtl = dynamicDestinationCacheTtl;
+	}
+
+	public SpelCompilerMode getExpressionCompilerMode() {
+		return this.expressionCompilerMode;
+	}
+
+	public void setExpressionCompilerMode(SpelCompilerMode expressionCompilerMode) {
+		this.expressionCompilerMode = expressionCompilerMode;
+	}
+
 	public String getInputBindings() {
 		return inputBindings;
 	}
@@ -20,6 +20,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.context.properties.ConfigurationPropertiesBinding;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,15 +28,19 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Role;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.support.ConfigurableConversionService;
+import org.springframework.core.env.Environment;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.integration.config.IntegrationConverter;
 import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.integration.expression.SpelPropertyAccessorRegistrar;
 import org.springframework.integration.json.JacksonPropertyAccessor;
+import org.springframework.lang.Nullable;
 
 /**
  * Adds a Converter from String to SpEL Expression in the context.
@@ -48,6 +53,41 @@ import org.springframework.integration.json.JacksonPropertyAccessor;
 @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 public class SpelExpressionConverterConfiguration {
 
+	/**
+	 * Property setting the {@link SpelCompilerMode} of the expressions of bindings.
+	 * @see BindingServiceProperties#getExpressionCompilerMode()
+	 */
+	public static final String EXPRESSION_COMPILER_MODE_PROPERTY = "spring.cloud.stream.expression-compiler-mode";
+
+	/**
+	 * Create the parser of the expressions of bindings.
+	 * @param compilerMode the compiler mode of the parsed expressions
+	 * @param classLoader the class loader used to load the compiled expressions (it must
+	 * see the types the expressions are evaluated against)
+	 * @return the parser
+	 * @since 5.0.1
+	 */
+	public static SpelExpressionParser createExpressionParser(SpelCompilerMode compilerMode,
+			@Nullable ClassLoader classLoader) {
+		return new SpelExpressionParser(new SpelParserConfiguration(compilerMode, classLoader));
+	}
+
+	/**
+	 * Resolve the compiler mode of the expressions of bindings, the same way
+	 * {@link BindingServiceProperties#getExpressionCompilerMode()} is bound. It is bound
+	 * from the environment directly since the expressions are converted while the
+	 * {@link BindingServiceProperties} themselves are being bound; the binders use the
+	 * bound property instead.
+	 * @param environment the environment
+	 * @return the compiler mode (off unless configured otherwise)
+	 * @since 5.0.1
+	 */
+	public static SpelCompilerMode getExpressionCompilerMode(Environment environment) {
+		return Binder.get(environment)
+				.bind(EXPRESSION_COMPILER_MODE_PROPERTY, SpelCompilerMode.class)
+				.orElse(SpelCompilerMode.OFF);
+	}
+
 	/**
 	 * Provide a {@link SpelPropertyAccessorRegistrar} supplied with the
 	 * {@link org.springframework.integration.json.JacksonPropertyAccessor}. This bean is used
@@ -67,12 +107,14 @@ public class SpelExpressionConverterConfiguration {
 	@ConfigurationPropertiesBinding
 	@IntegrationConverter
 	public Converter<String, Expression> spelConverter(ConfigurableApplicationContext context) {
-		SpelConverter converter = new SpelConverter();
+		SpelExpressionParser parser = createExpressionParser(getExpressionCompilerMode(context.getEnvironment()),
+				context.getClassLoader());
+		SpelConverter converter = new SpelConverter(parser);
 		ConfigurableConversionService cs = (ConfigurableConversionService) context.getBeanFactory().getConversionService();
 		if (cs != null) {
 			cs.addConverter(converter);
-			cs.addConverter(new NumberToStringSpelConverter());
-			cs.addConverter(new BooleanToStringSpelConverter());
+			cs.addConverter(new NumberToStringSpelConverter(parser));
+			cs.addConverter(new BooleanToStringSpelConverter(parser));
 		}
 		return converter;
 	}
@@ -83,6 +125,14 @@ public class SpelExpressionConverterConfiguration {
 	 * @author Eric Bottard
 	 */
 	public static class SpelConverter extends AbstractSpelConverter<String> {
+
+		public SpelConverter() {
+		}
+
+		public SpelConverter(SpelExpressionParser parser) {
+			super(parser);
+		}
+
 		@Override
 		public Expression convert(String source) {
 			return this.doConvert(source);
@@ -90,6 +140,14 @@ public class SpelExpressionConverterConfiguration {
 	}
 
 	public static class NumberToStringSpelConverter extends AbstractSpelConverter<Number> {
+
+		public NumberToStringSpelConverter() {
+		}
+
+		public NumberToStringSpelConverter(SpelExpressionParser parser) {
+			super(parser);
+		}
+
 		@Override
 		public Expression convert(Number source) {
 			String value = source.toString();
@@ -98,6 +156,14 @@ public class SpelExpressionConverterConfiguration {
 	}
 
 	public static class BooleanToStringSpelConverter extends AbstractSpelConverter<Boolean> {
+
+		public BooleanToStringSpelConverter() {
+		}
+
+		public BooleanToStringSpelConverter(SpelExpressionParser parser) {
+			super(parser);
+		}
+
 		@Override
 		public Expression convert(Boolean source) {
 			String value = source.toString();
@@ -107,13 +173,21 @@ public class SpelExpressionConverterConfiguration {
 
 	public static abstract class AbstractSpelConverter<T> implements Converter<T, Expression> {
 
-		private SpelExpressionParser parser = new SpelExpressionParser();
+		private final SpelExpressionParser parser;
 
 		@Autowired
 		@Qualifier(IntegrationContextUtils.INTEGRATION_EVALUATION_CONTEXT_BEAN_NAME)
 		@Lazy
 		private EvaluationContext evaluationContext;
 
+		protected AbstractSpelConverter() {
+			this(new SpelExpressionParser());
+		}
+
+		protected AbstractSpelConverter(SpelExpressionParser parser) {
+			this.parser = parser;
+		}
+
 		public Expression doConvert(String source) {
 			try {
 				Expression expression = this.parser.parseExpression((String) source);
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.converter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.cloud.stream.binder.PayloadRegionMessage;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.converter.SmartMessageConverter;
+
+/**
+ * {@link CompositeMessageConverter} remembering which of its converters converted a
+ * message, keyed by the payload type, the target type, the content type and the
+ * conversion hint, so that subsequent messages of the same kind go straight to that
+ * converter instead of probing every converter in turn.
+ * <p>
+ * To preserve the first-match semantics of the composite, a converter is only
+ * remembered when all the converters preceding it are
+ * {@link ContentTypeBasedMessageConverter}s, which would decline any other message of
+ * the same kind as well. The kinds of messages no converter could convert are not
+ * remembered, since converters may decline a message because of its payload.
+ * <p>
+ * Should the remembered converter fail to convert a message, the converters are probed
+ * as usual. The cache is cleared whenever the list of converters is modified.
+ *
+ * @since 5.0.1
+ */
+public class CachingCompositeMessageConverter extends CompositeMessageConverter {
+
+	/**
+	 * Maximum number of remembered resolutions. Keys are expected to be few (they do not
+	 * depend on the payloads themselves), so this only guards against unbounded growth.
+	 */
+	static final int MAX_RESOLUTIONS = 1024;
+
+	private final List<MessageConverter> converters = new InvalidatingConverterList();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private volatile Map<ResolutionKey, MessageConverter> resolutions = new ConcurrentHashMap<>();
+
+	public CachingCompositeMessageConverter(Collection<MessageConverter> converters) {
+		super(converters);
+	}
+
+	/**
+	 * Return the converters. Modifying the returned list clears the resolution cache.
+	 */
+	@Override
+	public List<MessageConverter> getConverters() {
+		return this.converters;
+	}
+
+	@Override
+	@Nullable
+	public Object fromMessage(Message<?> message, Class<?> targetClass) {
+		return convert(ResolutionKey.from(message, targetClass, null),
+				converter -> converter.fromMessage(message, targetClass));
+	}
+
+	@Override
+	@Nullable
+	public Object fromMessage(Message<?> message, Class<?> targetClass, @Nullable Object conversionHint) {
+		return convert(ResolutionKey.from(message, targetClass, conversionHint),
+				converter -> converter instanceof SmartMessageConverter smartConverter
+						? smartConverter.fromMessage(message, targetClass, conversionHint)
+						: converter.fromMessage(message, targetClass));
+	}
+
+	@Override
+	@Nullable
+	public Message<?> toMessage(Object payload, @Nullable MessageHeaders headers) {
+		return convert(ResolutionKey.to(payload, headers, null),
+				converter -> converter.toMessage(payload, headers));
+	}
+
+	@Override
+	@Nullable
+	public Message<?> toMessage(Object payload, @Nullable MessageHeaders headers, @Nullable Object conversionHint) {
+		return convert(ResolutionKey.to(payload, headers, conversionHint),
+				converter -> converter instanceof SmartMessageConverter smartConverter
+						? smartConverter.toMessage(payload, headers, conversionHint)
+						: converter.toMessage(payload, headers));
+	}
+
+	/**
+	 * @return the number of conversions which did not require the converters to be probed
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * @return the number of conversions which required the converters to be probed
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * @return the number of remembered resolutions
+	 */
+	public int getCacheSize() {
+		return this.resolutions.size();
+	}
+
+	/**
+	 * Forget all the remembered resolutions.
+	 */
+	public void clearCache() {
+		this.resolutions = new ConcurrentHashMap<>();
+	}
+
+	@Nullable
+	private <T> T convert(ResolutionKey key, Function<MessageConverter, T> conversion) {
+		Map<ResolutionKey, MessageConverter> resolutions = this.resolutions;
+		MessageConverter resolved = resolutions.get(key);
+		if (resolved != null) {
+			T result = conversion.apply(resolved);
+			if (result != null) {
+				this.hits.increment();
+				return result;
+			}
+		}
+		this.misses.increment();
+		boolean rememberable = true;
+		for (MessageConverter converter : super.getConverters()) {
+			if (converter != resolved) {
+				T result = conversion.apply(converter);
+				if (result != null) {
+					if (rememberable) {
+						remember(resolutions, key, converter);
+					}
+					else if (resolved != null) {
+						resolutions.remove(key, resolved);
+					}
+					return result;
+				}
+			}
+			rememberable &= converter instanceof ContentTypeBasedMessageConverter;
+		}
+		if (resolved != null) {
+			resolutions.remove(key, resolved);
+		}
+		return null;
+	}
+
+	private static void remember(Map<ResolutionKey, MessageConverter> resolutions, ResolutionKey key,
+			MessageConverter converter) {
+		if (resolutions.size() < MAX_RESOLUTIONS || resolutions.containsKey(key)) {
+			resolutions.put(key, converter);
+		}
+	}
+
+	/**
+	 * Key of a resolution. The content type header is used as is (rather than resolved)
+	 * since resolving it is part of the work the cache saves.
+	 */
+	private record ResolutionKey(boolean inbound, @Nullable Class<?> payloadType, @Nullable Class<?> targetType,
+			@Nullable Object contentType, @Nullable Object conversionHint) {
+
+		static ResolutionKey from(Message<?> message, Class<?> targetClass, @Nullable Object conversionHint) {
+			// the payload of a region message is not requested, since that would copy it
+			Class<?> payloadType = message instanceof PayloadRegionMessage ? byte[].class
+					: message.getPayload().getClass();
+			return new ResolutionKey(true, payloadType, targetClass, contentType(message.getHeaders()),
+					conversionHint);
+		}
+
+		static ResolutionKey to(@Nullable Object payload, @Nullable MessageHeaders headers,
+				@Nullable Object conversionHint) {
+			return new ResolutionKey(false, payload != null ? payload.getClass() : null, null,
+					contentType(headers), conversionHint);
+		}
+
+		@Nullable
+		private static Object contentType(@Nullable MessageHeaders headers) {
+			Object contentType = headers != null ? headers.get(MessageHeaders.CONTENT_TYPE) : null;
+			return contentType instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : contentType;
+		}
+
+	}
+
+	/**
+	 * View of the converters clearing the resolution cache when modified.
+	 */
+	private final class InvalidatingConverterList extends AbstractList<MessageConverter> {
+
+		@Override
+		public MessageConverter get(int index) {
+			return CachingCompositeMessageConverter.super.getConverters().get(index);
+		}
+
+		@Override
+		public int size() {
+			return CachingCompositeMessageConverter.super.getConverters().size();
+		}
+
+		@Override
+		public MessageConverter set(int index, MessageConverter converter) {
+			MessageConverter previous = CachingCompositeMessageConverter.super.getConverters().set(index, converter);
+			clearCache();
+			return previous;
+		}
+
+		@Override
+		public void add(int index, MessageConverter converter) {
+			CachingCompositeMessageConverter.super.getConverters().add(index, converter);
+			clearCache();
+		}
+
+		@Override
+		public MessageConverter remove(int index) {
+			MessageConverter removed = CachingCompositeMessageConverter.super.getConverters().remove(index);
+			clearCache();
+			return removed;
+		}
+
+	}
+
+}
@@ -19,9 +19,7 @@ package org.springframework.cloud.stream.converter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -81,14 +79,17 @@ public class CompositeMessageConverterFactory {
 		DefaultContentTypeResolver resolver = new DefaultContentTypeResolver() {
 			@Override
 			public MimeType resolve(@Nullable MessageHeaders headers) {
-				Map<String, Object> messageHeaders = new HashMap<>(headers);
-				Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
-				if (contentType instanceof byte[]) {
-					contentType = new String((byte[]) contentType, StandardCharsets.UTF_8);
-					contentType = ((String) contentType).replace("\"", "");
-					messageHeaders.put(MessageHeaders.CONTENT_TYPE, contentType);
+				Object contentType = headers != null ? headers.get(MessageHeaders.CONTENT_TYPE) : null;
+				if (contentType instanceof MimeType mimeType) {
+					return mimeType;
 				}
-				return super.resolve(new MessageHeaders(messageHeaders));
+				if (contentType instanceof byte[] bytes) {
+					contentType = new String(bytes, StandardCharsets.UTF_8).replace("\"", "");
+				}
+				if (contentType instanceof String value) {
+					return MessageConverterUtils.parseMimeType(value);
+				}
+				return super.resolve(headers);
 			}
 		};
 		resolver.setDefaultMimeType(BindingProperties.DEFAULT_CONTENT_TYPE);
@@ -163,7 +164,13 @@ public class CompositeMessageConverterFactory {
 		}
 	}
 
+	/**
+	 * Creation method.
+	 * @return a converter delegating to all the registered converters, which remembers
+	 * the converter resolved for each kind of message
+	 * @see CachingCompositeMessageConverter
+	 */
 	public CompositeMessageConverter getMessageConverterForAllRegistered() {
-		return new CompositeMessageConverter(new ArrayList<>(this.converters));
+		return new CachingCompositeMessageConverter(new ArrayList<>(this.converters));
 	}
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.converter;
+
+import org.springframework.messaging.converter.MessageConverter;
+
+/**
+ * Marker for the {@link MessageConverter}s whose decision to convert a message or not
+ * depends only on the type of the payload, the target type, the content type and the
+ * conversion hint, never on the payload itself or on other headers.
+ * <p>
+ * A {@link CachingCompositeMessageConverter} only remembers the converter which
+ * converted a kind of message when all the converters preceding it are such
+ * converters, since only then is it certain that none of them would have converted
+ * another message of the same kind.
+ *
+ * @since 5.0.1
+ */
+public interface ContentTypeBasedMessageConverter extends MessageConverter {
+
+}
@@ -31,9 +31,9 @@ public class CustomMimeTypeConverter implements Converter<String, MimeType> {
 	@Override
 	public MimeType convert(String source) {
 		if (!source.contains("/")) {
-			return MimeType.valueOf("application/x-java-object;type=" + source);
+			return MessageConverterUtils.parseMimeType("application/x-java-object;type=" + source);
 		}
-		return MimeType.valueOf(source);
+		return MessageConverterUtils.parseMimeType(source);
 	}
 
 }
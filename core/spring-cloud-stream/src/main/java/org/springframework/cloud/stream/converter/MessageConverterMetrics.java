@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.converter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.messaging.converter.CompositeMessageConverter;
+
+/**
+ * {@link MeterBinder} exposing the state of the resolution cache of a
+ * {@link CachingCompositeMessageConverter}. Nothing is bound for other converters.
+ *
+ * @since 5.0.1
+ */
+public class MessageConverterMetrics implements MeterBinder {
+
+	/**
+	 * Prefix of the names of the meters of the resolution cache.
+	 */
+	public static final String METRIC_PREFIX = "spring.cloud.stream.converter.resolution";
+
+	private final CompositeMessageConverter messageConverter;
+
+	public MessageConverterMetrics(CompositeMessageConverter messageConverter) {
+		this.messageConverter = messageConverter;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (!(this.messageConverter instanceof CachingCompositeMessageConverter converter)) {
+			return;
+		}
+		Gauge.builder(METRIC_PREFIX + ".cache.size", converter, CachingCompositeMessageConverter::getCacheSize)
+			.description("Number of kinds of messages whose converter has been resolved")
+			.register(registry);
+		FunctionCounter.builder(METRIC_PREFIX + ".cache.gets", converter, CachingCompositeMessageConverter::getHitCount)
+			.tag("result", "hit")
+			.description("Number of conversions which used the previously resolved converter")
+			.register(registry);
+		FunctionCounter.builder(METRIC_PREFIX + ".cache.gets", converter, CachingCompositeMessageConverter::getMissCount)
+			.tag("result", "miss")
+			.description("Number of conversions which required the converters to be probed")
+			.register(registry);
+		Gauge.builder(METRIC_PREFIX + ".cache.hit.ratio", converter, MessageConverterMetrics::hitRatio)
+			.description("Ratio of the conversions which used the previously resolved converter")
+			.register(registry);
+	}
+
+	private static double hitRatio(CachingCompositeMessageConverter converter) {
+		long hits = converter.getHitCount();
+		long total = hits + converter.getMissCount();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+}
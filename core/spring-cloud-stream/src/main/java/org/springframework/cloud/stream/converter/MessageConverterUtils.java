@@ -18,6 +18,7 @@ package org.springframework.cloud.stream.converter;
 
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.MimeType;
 import org.springframework.util.StringUtils;
 
@@ -42,6 +43,29 @@ public abstract class MessageConverterUtils {
 	public static final MimeType X_JAVA_SERIALIZED_OBJECT = MimeType
 			.valueOf("application/x-java-serialized-object");
 
+	/**
+	 * Maximum number of content types kept parsed by {@link #parseMimeType(String)}.
+	 */
+	private static final int MIME_TYPE_CACHE_CAPACITY = 256;
+
+	private static final ConcurrentLruCache<String, MimeType> MIME_TYPE_CACHE = new ConcurrentLruCache<>(
+			MIME_TYPE_CACHE_CAPACITY, MimeType::valueOf);
+
+	/**
+	 * Parse the given content type, such as the value of a {@code contentType} header.
+	 * Parsed content types are cached (within a bounded capacity), so that a given
+	 * content type is parsed once and the same {@link MimeType} instance is returned for
+	 * it, which also lets equality checks short-circuit.
+	 * @param mimeType the content type to parse
+	 * @return the MIME type
+	 * @throws org.springframework.util.InvalidMimeTypeException if the content type cannot
+	 * be parsed
+	 * @since 5.0.1
+	 */
+	public static MimeType parseMimeType(String mimeType) {
+		return MIME_TYPE_CACHE.get(mimeType);
+	}
+
 	/**
 	 * Get the java Object type for the MimeType X_JAVA_OBJECT.
 	 * @param contentType content type
@@ -67,7 +91,7 @@ public abstract class MessageConverterUtils {
 	 * @return the MIME type
 	 */
 	public static MimeType javaObjectMimeType(Class<?> clazz) {
-		return MimeType.valueOf("application/x-java-object;type=" + clazz.getName());
+		return parseMimeType("application/x-java-object;type=" + clazz.getName());
 	}
 
 	public static MimeType getMimeType(String contentTypeString) {
@@ -91,7 +115,7 @@ public abstract class MessageConverterUtils {
 			Class<?> javaType = resolveJavaType(type);
 			return javaObjectMimeType(javaType);
 		}
-		return MimeType.valueOf(type);
+		return parseMimeType(type);
 	}
 
 	public static Class<?> resolveJavaType(String type)
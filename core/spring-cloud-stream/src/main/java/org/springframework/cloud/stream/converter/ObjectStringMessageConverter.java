@@ -20,6 +20,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.stream.Collectors;
 
+import org.springframework.cloud.stream.binder.PayloadRegionMessage;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
@@ -38,7 +39,7 @@ import org.springframework.util.MimeType;
  * @author Byungjun You
  * @since 1.2
  */
-public class ObjectStringMessageConverter extends AbstractMessageConverter {
+public class ObjectStringMessageConverter extends AbstractMessageConverter implements ContentTypeBasedMessageConverter {
 
 	public ObjectStringMessageConverter() {
 		super(new MimeType("text", "*", StandardCharsets.UTF_8));
@@ -74,6 +75,10 @@ public class ObjectStringMessageConverter extends AbstractMessageConverter {
 	protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
 
 //		Assert.isTrue(String.class.isAssignableFrom(targetClass) || targetClass == Object.class, "This converter can only convert byte[] to String");
+		if (message instanceof PayloadRegionMessage regionMessage && !byte[].class.isAssignableFrom(targetClass)) {
+			// decoded in place, without copying the payload first
+			return StandardCharsets.UTF_8.decode(regionMessage.getPayloadAsByteBuffer()).toString();
+		}
 		if (message.getPayload() != null) {
 			if (message.getPayload() instanceof byte[] payloadAsBytes) {
 				if (byte[].class.isAssignableFrom(targetClass)) {
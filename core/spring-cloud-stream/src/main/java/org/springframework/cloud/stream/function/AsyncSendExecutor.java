@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.function;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cloud.stream.binder.ProducerProperties.AsyncProperties;
+import org.springframework.cloud.stream.binder.ProducerProperties.AsyncProperties.RejectionPolicy;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * {@link Executor} used by the output channel of a binding when {@link StreamBridge} is
+ * in async mode. Keeps track of the sends which are waiting for a thread, as well as of
+ * the time they spent waiting.
+ *
+ * @since 5.0.1
+ */
+final class AsyncSendExecutor implements Executor {
+
+	private final String bindingName;
+
+	private final Executor delegate;
+
+	@Nullable
+	private final ExecutorService ownedExecutorService;
+
+	private final AtomicInteger queued = new AtomicInteger();
+
+	private final LongAdder started = new LongAdder();
+
+	private final LongAdder waitTime = new LongAdder();
+
+	/**
+	 * @param bindingName the name of the binding using this executor
+	 * @param delegate the executor performing the sends
+	 * @param ownedExecutorService the executor service to shut down with this executor
+	 * (null if the delegate is shared or does not need to be shut down)
+	 */
+	AsyncSendExecutor(String bindingName, Executor delegate, @Nullable ExecutorService ownedExecutorService) {
+		this.bindingName = bindingName;
+		this.delegate = delegate;
+		this.ownedExecutorService = ownedExecutorService;
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		long submitted = System.nanoTime();
+		this.queued.incrementAndGet();
+		try {
+			this.delegate.execute(() -> {
+				this.queued.decrementAndGet();
+				this.started.increment();
+				this.waitTime.add(System.nanoTime() - submitted);
+				task.run();
+			});
+		}
+		catch (RuntimeException ex) {
+			this.queued.decrementAndGet();
+			throw ex;
+		}
+	}
+
+	/**
+	 * @return the name of the binding using this executor
+	 */
+	String getBindingName() {
+		return this.bindingName;
+	}
+
+	/**
+	 * @return the number of sends waiting for a thread
+	 */
+	int getQueueDepth() {
+		return this.queued.get();
+	}
+
+	/**
+	 * @return the number of sends which have been picked up by a thread
+	 */
+	long getStartedCount() {
+		return this.started.sum();
+	}
+
+	/**
+	 * @return the total time (in nanoseconds) the started sends have been waiting for a thread
+	 */
+	double getTotalWaitTimeNanos() {
+		return this.waitTime.sum();
+	}
+
+	void shutdown() {
+		if (this.ownedExecutorService != null) {
+			this.ownedExecutorService.shutdown();
+		}
+	}
+
+	/**
+	 * Creates the pool of platform threads of a 'bounded' executor.
+	 * @param bindingName the name of the binding (used as thread name prefix)
+	 * @param asyncProperties the async properties of the binding
+	 * @return the thread pool
+	 */
+	static ThreadPoolExecutor createBoundedPool(String bindingName, AsyncProperties asyncProperties) {
+		RejectedExecutionHandler rejectedExecutionHandler = asyncProperties.getRejectionPolicy() == RejectionPolicy.BLOCK
+				? AsyncSendExecutor::blockUntilQueued : new ThreadPoolExecutor.CallerRunsPolicy();
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(asyncProperties.getPoolSize(), asyncProperties.getPoolSize(),
+				60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(asyncProperties.getQueueCapacity()),
+				new CustomizableThreadFactory(bindingName + "-async-"), rejectedExecutionHandler);
+		pool.allowCoreThreadTimeOut(true);
+		return pool;
+	}
+
+	private static void blockUntilQueued(Runnable task, ThreadPoolExecutor pool) {
+		if (pool.isShutdown()) {
+			throw new RejectedExecutionException("Executor has been shut down");
+		}
+		try {
+			pool.getQueue().put(task);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new RejectedExecutionException("Interrupted while waiting for the executor queue", ex);
+		}
+	}
+
+}
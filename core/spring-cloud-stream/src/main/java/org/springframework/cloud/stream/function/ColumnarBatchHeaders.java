@@ -0,0 +1,302 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.function;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Columnar representation of the headers of the messages of a batch, as stored in the
+ * {@link org.springframework.cloud.stream.binder.BinderHeaders#BATCH_HEADERS} header.
+ * <p>
+ * Rather than a map per message, the names of the headers are kept once for the whole
+ * batch, in a dictionary mapping each name to a column, and the values in one array per
+ * column, indexed by the position of the message in the batch. The header map of a
+ * message is a view over its row, so iterating a batch of a few hundred messages
+ * allocates a few arrays instead of as many maps and entries.
+ * <p>
+ * Header values are looked up in their column directly; the entries of a view are only
+ * materialized when it is iterated. Views are modifiable, writing through to the columns.
+ * <p>
+ * Unlike a plain list of maps, the maps given to {@link #add(Object) add} and
+ * {@link #set(int, Map) set} are copied into the columns and not retained: later changes
+ * to these maps are not reflected in the batch, and {@link #get(int)} returns a new view,
+ * equal to but not the same as the map which was added. Null values are not supported, as
+ * for {@link org.springframework.messaging.MessageHeaders}: headers with a null value are
+ * dropped when added, and reading a header absent from a message returns null.
+ * <p>
+ * These headers are built by {@link StandardBatchUtils.BatchMessageBuilder}; the batches
+ * produced by the binders themselves (e.g., the Kafka batch listener) keep the headers of
+ * their messages in the form of their own converter.
+ *
+ * @since 5.0.1
+ */
+public final class ColumnarBatchHeaders extends AbstractList<Map<String, Object>>
+		implements RandomAccess, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final Map<String, Integer> columnIndexes = new LinkedHashMap<>();
+
+	private final List<String> columnNames = new ArrayList<>();
+
+	private final List<Object[]> columns = new ArrayList<>();
+
+	private int capacity;
+
+	private int size;
+
+	public ColumnarBatchHeaders() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create an instance sized for the given number of messages.
+	 * @param capacity the expected number of messages in the batch
+	 */
+	public ColumnarBatchHeaders(int capacity) {
+		Assert.isTrue(capacity >= 0, "'capacity' must not be negative");
+		this.capacity = capacity;
+	}
+
+	@Override
+	public Map<String, Object> get(int index) {
+		checkIndex(index);
+		return new RowHeaders(index);
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Append the headers of a message to the batch; the given map is copied into the
+	 * columns and not retained.
+	 */
+	@Override
+	public void add(int index, Map<String, Object> headers) {
+		Assert.isTrue(index == this.size, "Headers can only be appended to a batch");
+		if (this.size == this.capacity) {
+			grow();
+		}
+		int row = this.size++;
+		for (Map.Entry<String, Object> header : headers.entrySet()) {
+			if (header.getValue() != null) {
+				column(header.getKey(), true)[row] = header.getValue();
+			}
+		}
+		this.modCount++;
+	}
+
+	@Override
+	public Map<String, Object> set(int index, Map<String, Object> headers) {
+		checkIndex(index);
+		Map<String, Object> previous = new LinkedHashMap<>(get(index));
+		for (Object[] column : this.columns) {
+			column[index] = null;
+		}
+		for (Map.Entry<String, Object> header : headers.entrySet()) {
+			if (header.getValue() != null) {
+				column(header.getKey(), true)[index] = header.getValue();
+			}
+		}
+		return previous;
+	}
+
+	/**
+	 * @return the names of the headers of the messages of the batch, in the order they
+	 * were first seen
+	 */
+	public Set<String> getHeaderNames() {
+		return this.columnIndexes.keySet();
+	}
+
+	@Nullable
+	private Object[] column(Object name, boolean create) {
+		Integer index = this.columnIndexes.get(name);
+		if (index != null) {
+			return this.columns.get(index);
+		}
+		if (!create) {
+			return null;
+		}
+		Object[] column = new Object[this.capacity];
+		this.columnIndexes.put((String) name, this.columns.size());
+		this.columnNames.add((String) name);
+		this.columns.add(column);
+		return column;
+	}
+
+	private void grow() {
+		this.capacity = Math.max(DEFAULT_CAPACITY, this.capacity + (this.capacity >> 1));
+		this.columns.replaceAll(column -> Arrays.copyOf(column, this.capacity));
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index " + index + " is out of bounds as there are only "
+					+ this.size + " messages in the batch");
+		}
+	}
+
+	/**
+	 * View over the headers of one message of the batch.
+	 */
+	private final class RowHeaders extends AbstractMap<String, Object> {
+
+		private final int row;
+
+		RowHeaders(int row) {
+			this.row = row;
+		}
+
+		@Override
+		public Object get(Object key) {
+			Object[] column = column(key, false);
+			return column != null ? column[this.row] : null;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return get(key) != null;
+		}
+
+		@Override
+		public Object put(String key, Object value) {
+			Assert.notNull(value, "Batch headers cannot have null values");
+			Object[] column = column(key, true);
+			Object previous = column[this.row];
+			column[this.row] = value;
+			return previous;
+		}
+
+		@Override
+		public Object remove(Object key) {
+			Object[] column = column(key, false);
+			if (column == null) {
+				return null;
+			}
+			Object previous = column[this.row];
+			column[this.row] = null;
+			return previous;
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return new AbstractSet<>() {
+
+				@Override
+				public Iterator<Entry<String, Object>> iterator() {
+					return new RowIterator(RowHeaders.this.row);
+				}
+
+				@Override
+				public int size() {
+					int size = 0;
+					for (Object[] column : ColumnarBatchHeaders.this.columns) {
+						if (column[RowHeaders.this.row] != null) {
+							size++;
+						}
+					}
+					return size;
+				}
+
+			};
+		}
+
+	}
+
+	/**
+	 * Iterates over the columns having a value for a row.
+	 */
+	private final class RowIterator implements Iterator<Map.Entry<String, Object>> {
+
+		private final int row;
+
+		private int next;
+
+		private int current = -1;
+
+		RowIterator(int row) {
+			this.row = row;
+			this.next = advance(0);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.next < ColumnarBatchHeaders.this.columns.size();
+		}
+
+		@Override
+		public Map.Entry<String, Object> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			this.current = this.next;
+			this.next = advance(this.next + 1);
+			Object[] column = ColumnarBatchHeaders.this.columns.get(this.current);
+			return new AbstractMap.SimpleEntry<>(ColumnarBatchHeaders.this.columnNames.get(this.current),
+					column[this.row]) {
+
+				@Override
+				public Object setValue(Object value) {
+					Assert.notNull(value, "Batch headers cannot have null values");
+					column[RowIterator.this.row] = value;
+					return super.setValue(value);
+				}
+
+			};
+		}
+
+		@Override
+		public void remove() {
+			Assert.state(this.current >= 0, "next() has not been called");
+			ColumnarBatchHeaders.this.columns.get(this.current)[this.row] = null;
+			this.current = -1;
+		}
+
+		private int advance(int from) {
+			List<Object[]> columns = ColumnarBatchHeaders.this.columns;
+			int index = from;
+			while (index < columns.size() && columns.get(index)[this.row] == null) {
+				index++;
+			}
+			return index;
+		}
+
+	}
+
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.function;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Bounded cache of the dynamic destinations (output bindings created on demand) of
+ * {@link StreamBridge}.
+ * <p>
+ * Eviction is based on access order (least recently used destination first) once the
+ * {@link BindingServiceProperties#getDynamicDestinationCacheSize() maximum size} is
+ * exceeded and, optionally, on idle time once a destination has not been used for longer
+ * than {@link BindingServiceProperties#getDynamicDestinationCacheTtl() the TTL}.
+ * Recording an access is lock-free, so it can be done on every send. Evicted
+ * destinations are unbound on a separate thread so that senders never wait for a
+ * producer to be torn down; a destination which is requested again before its pending
+ * unbind has happened is unbound by the requesting thread first.
+ * <p>
+ * Binding and unbinding are not thread-safe, hence all mutations happen while holding
+ * the binding lock provided by {@link StreamBridge}.
+ *
+ * @since 5.0.1
+ */
+final class DynamicDestinationCache {
+
+	private static final long MIN_EXPIRATION_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final Map<String, CachedDestination> destinations = new ConcurrentHashMap<>();
+
+	private final Map<String, CachedDestination> pendingEvictions = new ConcurrentHashMap<>();
+
+	private final BindingServiceProperties bindingServiceProperties;
+
+	private final Lock bindingLock;
+
+	private final Consumer<String> unbinder;
+
+	private final Consumer<CachedDestination> evictionListener;
+
+	private final ScheduledExecutorService evictionExecutor;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder sizeEvictions = new LongAdder();
+
+	private final LongAdder expirations = new LongAdder();
+
+	private final LongAdder binds = new LongAdder();
+
+	private final LongAdder bindTime = new LongAdder();
+
+	private boolean expirationScheduled;
+
+	/**
+	 * @param bindingServiceProperties provides the maximum size and TTL of the cache
+	 * @param bindingLock lock guarding the binding and unbinding of destinations
+	 * @param unbinder unbinds the producer of the destination with the given cache key
+	 * @param evictionListener invoked with a destination as soon as it is evicted (before it is unbound)
+	 */
+	DynamicDestinationCache(BindingServiceProperties bindingServiceProperties, Lock bindingLock,
+			Consumer<String> unbinder, Consumer<CachedDestination> evictionListener) {
+		this.bindingServiceProperties = bindingServiceProperties;
+		this.bindingLock = bindingLock;
+		this.unbinder = unbinder;
+		this.evictionListener = evictionListener;
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("stream-bridge-eviction-");
+		threadFactory.setDaemon(true);
+		this.evictionExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+	}
+
+	@Nullable
+	MessageChannel get(String key) {
+		CachedDestination destination = this.destinations.get(key);
+		if (destination == null) {
+			return null;
+		}
+		destination.touch();
+		return destination.channel();
+	}
+
+	@Nullable
+	CachedDestination getDestination(String key) {
+		return this.destinations.get(key);
+	}
+
+	boolean contains(CachedDestination destination) {
+		return this.destinations.get(destination.key()) == destination;
+	}
+
+	/**
+	 * Must be invoked while holding the binding lock before (re)binding the destination with
+	 * the given key, to make sure that a pending unbind of that destination does not tear
+	 * down the new binding.
+	 * @param key the cache key of the destination about to be bound
+	 */
+	void awaitPendingEviction(String key) {
+		if (this.pendingEvictions.remove(key) != null) {
+			this.unbind(key);
+		}
+	}
+
+	/**
+	 * Adds a newly bound destination, evicting the least recently used destinations if the
+	 * cache exceeds its maximum size. Must be invoked while holding the binding lock.
+	 * @param key the cache key of the destination
+	 * @param channel the bound message channel
+	 * @param bindTimeNanos time it took to bind the destination
+	 */
+	void put(String key, MessageChannel channel, long bindTimeNanos) {
+		this.misses.increment();
+		this.binds.increment();
+		this.bindTime.add(bindTimeNanos);
+		this.destinations.put(key, new CachedDestination(key, channel));
+		// linear scan, but this only happens when a new destination has been bound
+		while (this.destinations.size() > this.bindingServiceProperties.getDynamicDestinationCacheSize()) {
+			CachedDestination leastRecentlyUsed = null;
+			for (CachedDestination destination : this.destinations.values()) {
+				if (leastRecentlyUsed == null || destination.lastAccess - leastRecentlyUsed.lastAccess < 0) {
+					leastRecentlyUsed = destination;
+				}
+			}
+			if (leastRecentlyUsed == null || !this.evict(leastRecentlyUsed)) {
+				break;
+			}
+			this.sizeEvictions.increment();
+		}
+		this.scheduleExpirationIfNecessary();
+	}
+
+	/**
+	 * Forgets all destinations without unbinding them.
+	 */
+	void clear() {
+		this.destinations.clear();
+	}
+
+	/**
+	 * Unbinds all destinations (including the ones pending eviction) and stops the eviction
+	 * thread. Must be invoked while holding the binding lock.
+	 */
+	void destroy() {
+		this.evictionExecutor.shutdownNow();
+		this.destinations.keySet().forEach(this::unbind);
+		this.destinations.clear();
+		this.pendingEvictions.keySet().forEach(this::unbind);
+		this.pendingEvictions.clear();
+	}
+
+	int size() {
+		return this.destinations.size();
+	}
+
+	long hitCount() {
+		return this.hits.sum();
+	}
+
+	long missCount() {
+		return this.misses.sum();
+	}
+
+	long sizeEvictionCount() {
+		return this.sizeEvictions.sum();
+	}
+
+	long expirationCount() {
+		return this.expirations.sum();
+	}
+
+	long bindCount() {
+		return this.binds.sum();
+	}
+
+	double totalBindTimeNanos() {
+		return this.bindTime.sum();
+	}
+
+	private boolean evict(CachedDestination destination) {
+		if (!this.destinations.remove(destination.key(), destination)) {
+			return false;
+		}
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Removing message channel from cache " + destination.key());
+		}
+		this.evictionListener.accept(destination);
+		this.pendingEvictions.put(destination.key(), destination);
+		try {
+			this.evictionExecutor.execute(() -> this.unbindEvicted(destination));
+		}
+		catch (RejectedExecutionException ex) {
+			// the cache is being destroyed
+			this.unbindEvicted(destination);
+		}
+		return true;
+	}
+
+	private void unbindEvicted(CachedDestination destination) {
+		this.bindingLock.lock();
+		try {
+			if (this.pendingEvictions.remove(destination.key(), destination)) {
+				this.unbind(destination.key());
+			}
+		}
+		finally {
+			this.bindingLock.unlock();
+		}
+	}
+
+	private void unbind(String key) {
+		try {
+			this.unbinder.accept(key);
+		}
+		catch (Exception ex) {
+			this.logger.warn("Failed to unbind evicted dynamic destination " + key, ex);
+		}
+	}
+
+	private void scheduleExpirationIfNecessary() {
+		Duration ttl = this.bindingServiceProperties.getDynamicDestinationCacheTtl();
+		if (this.expirationScheduled || ttl == null || ttl.isZero() || ttl.isNegative()) {
+			return;
+		}
+		long ttlNanos = ttl.toNanos();
+		long interval = Math.max(ttlNanos / 2, MIN_EXPIRATION_INTERVAL);
+		this.evictionExecutor.scheduleWithFixedDelay(() -> this.expire(ttlNanos), interval, interval,
+				TimeUnit.NANOSECONDS);
+		this.expirationScheduled = true;
+	}
+
+	private void expire(long ttlNanos) {
+		long now = System.nanoTime();
+		for (CachedDestination destination : this.destinations.values()) {
+			if (now - destination.lastAccess > ttlNanos) {
+				this.bindingLock.lock();
+				try {
+					// re-check while holding the lock since the destination may have been used meanwhile
+					if (System.nanoTime() - destination.lastAccess > ttlNanos && this.evict(destination)) {
+						this.expirations.increment();
+					}
+				}
+				finally {
+					this.bindingLock.unlock();
+				}
+			}
+		}
+	}
+
+	/**
+	 * A cached destination along with the time it has last been used.
+	 */
+	final class CachedDestination {
+
+		private final String key;
+
+		private final MessageChannel channel;
+
+		private volatile long lastAccess = System.nanoTime();
+
+		CachedDestination(String key, MessageChannel channel) {
+			this.key = key;
+			this.channel = channel;
+		}
+
+		String key() {
+			return this.key;
+		}
+
+		MessageChannel channel() {
+			return this.channel;
+		}
+
+		/**
+		 * Records the use of this destination.
+		 */
+		void touch() {
+			this.lastAccess = System.nanoTime();
+			DynamicDestinationCache.this.hits.increment();
+		}
+	}
+
+}
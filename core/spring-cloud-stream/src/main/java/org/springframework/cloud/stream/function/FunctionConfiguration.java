@@ -48,12 +48,15 @@ import reactor.util.function.Tuples;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.cloud.function.cloudevent.CloudEventMessageUtils;
@@ -69,11 +72,10 @@ import org.springframework.cloud.function.context.message.MessageUtils;
 import org.springframework.cloud.stream.binder.BinderFactory;
 import org.springframework.cloud.stream.binder.BinderHeaders;
 import org.springframework.cloud.stream.binder.ConsumerProperties;
-import org.springframework.cloud.stream.binder.PartitionHandler;
+import org.springframework.cloud.stream.binder.PartitionHandlerRegistry;
 import org.springframework.cloud.stream.binder.ProducerProperties;
 import org.springframework.cloud.stream.binder.ProducerProperties.PollerProperties;
 import org.springframework.cloud.stream.binding.BindableProxyFactory;
-import org.springframework.cloud.stream.binding.DefaultPartitioningInterceptor;
 import org.springframework.cloud.stream.binding.NewDestinationBindingCallback;
 import org.springframework.cloud.stream.binding.SupportedBindableFeatures;
 import org.springframework.cloud.stream.config.BinderFactoryAutoConfiguration;
@@ -86,25 +88,27 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.core.type.MethodMetadata;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.integration.StaticMessageHeaderAccessor;
 import org.springframework.integration.channel.AbstractMessageChannel;
 import org.springframework.integration.channel.AbstractSubscribableChannel;
 import org.springframework.integration.channel.FluxMessageChannel;
+import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.integration.core.MessagingTemplate;
 import org.springframework.integration.dsl.IntegrationFlow;
 import org.springframework.integration.dsl.IntegrationFlowBuilder;
-import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.handler.AbstractMessageHandler;
 import org.springframework.integration.scheduling.PollerMetadata;
 import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.integration.util.IntegrationReactiveUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
@@ -112,6 +116,8 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MessageConversionException;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.Trigger;
@@ -149,14 +155,19 @@ public class FunctionConfiguration {
 		"io.micrometer.context.ContextSnapshot", FunctionConfiguration.class.getClassLoader());
 
 
+	@Bean
+	public PartitionHandlerRegistry partitionHandlerRegistry(ConfigurableApplicationContext applicationContext) {
+		return new PartitionHandlerRegistry(applicationContext.getBeanFactory());
+	}
+
 	@SuppressWarnings("rawtypes")
 	@Bean
 	public StreamBridge streamBridgeUtils(FunctionCatalog functionCatalog,
 			BindingServiceProperties bindingServiceProperties, ConfigurableApplicationContext applicationContext,
 			@Nullable NewDestinationBindingCallback callback,
-			ObjectProvider<ObservationRegistry> observationRegistries) {
+			ObjectProvider<ObservationRegistry> observationRegistries, PartitionHandlerRegistry partitionHandlerRegistry) {
 		return new StreamBridge(functionCatalog, bindingServiceProperties, applicationContext, callback,
-				observationRegistries);
+				observationRegistries, partitionHandlerRegistry);
 	}
 
 	@Bean
@@ -169,9 +180,10 @@ public class FunctionConfiguration {
 	public InitializingBean functionInitializer(FunctionCatalog functionCatalog,
 												StreamFunctionProperties functionProperties,
 												BindingServiceProperties serviceProperties, ConfigurableApplicationContext applicationContext,
-												StreamBridge streamBridge) {
+												StreamBridge streamBridge, PartitionHandlerRegistry partitionHandlerRegistry,
+												@Qualifier(IntegrationContextUtils.ARGUMENT_RESOLVER_MESSAGE_CONVERTER_BEAN_NAME) CompositeMessageConverter messageConverter) {
 		return new FunctionToDestinationBinder(functionCatalog, functionProperties,
-				serviceProperties, streamBridge);
+				serviceProperties, streamBridge, partitionHandlerRegistry, messageConverter);
 	}
 
 	/*
@@ -248,7 +260,7 @@ public class FunctionConfiguration {
 
 						if (functionWrapper != null) {
 							FunctionInvocationWrapper postProcessor = functionWrapper;
-							IntegrationFlow integrationFlow = integrationFlowFromProvidedSupplier(new PartitionAwareFunctionWrapper(functionWrapper, context, producerProperties),
+							IntegrationFlow integrationFlow = integrationFlowFromProvidedSupplier(new PartitionAwareFunctionWrapper(functionWrapper, context, producerProperties, outputName),
 									pollable, context, taskScheduler, producerProperties, outputName)
 									.intercept(new ChannelInterceptor() {
 										public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
@@ -270,7 +282,7 @@ public class FunctionConfiguration {
 							});
 						}
 						else {
-							IntegrationFlow integrationFlow = integrationFlowFromProvidedSupplier(new PartitionAwareFunctionWrapper(supplier, context, producerProperties),
+							IntegrationFlow integrationFlow = integrationFlowFromProvidedSupplier(new PartitionAwareFunctionWrapper(supplier, context, producerProperties, outputName),
 									pollable, context, taskScheduler, producerProperties, outputName)
 									.channel(c -> c.direct())
 									.fluxTransform((Function<? super Flux<Message<Object>>, ? extends Publisher<Object>>) function)
@@ -401,6 +413,9 @@ public class FunctionConfiguration {
 	}
 
 	private static <P> Message<P> sanitize(Message<P> inputMessage) {
+		if (!inputMessage.getHeaders().containsKey("spring.cloud.stream.sendto.destination")) {
+			return inputMessage;
+		}
 		return MessageBuilder
 			.fromMessage(inputMessage)
 			.removeHeader("spring.cloud.stream.sendto.destination")
@@ -425,12 +440,19 @@ public class FunctionConfiguration {
 
 		private final StreamBridge streamBridge;
 
+		private final PartitionHandlerRegistry partitionHandlerRegistry;
+
+		private final CompositeMessageConverter messageConverter;
+
 		FunctionToDestinationBinder(FunctionCatalog functionCatalog, StreamFunctionProperties functionProperties,
-				BindingServiceProperties serviceProperties, StreamBridge streamBridge) {
+				BindingServiceProperties serviceProperties, StreamBridge streamBridge,
+				PartitionHandlerRegistry partitionHandlerRegistry, CompositeMessageConverter messageConverter) {
 			this.functionCatalog = functionCatalog;
 			this.functionProperties = functionProperties;
 			this.serviceProperties = serviceProperties;
 			this.streamBridge = streamBridge;
+			this.partitionHandlerRegistry = partitionHandlerRegistry;
+			this.messageConverter = messageConverter;
 		}
 
 		@Override
@@ -548,12 +570,14 @@ public class FunctionConfiguration {
 
 				Function functionToInvoke = function;
 				if (!CollectionUtils.isEmpty(outputBindingNames)) {
-					BindingProperties bindingProperties = this.serviceProperties.getBindings().get(outputBindingNames.iterator().next());
+					String outputBindingName = outputBindingNames.iterator().next();
+					BindingProperties bindingProperties = this.serviceProperties.getBindings().get(outputBindingName);
 					ProducerProperties producerProperties = bindingProperties == null ? null : bindingProperties.getProducer();
 					if (producerProperties != null) {
 						function.setSkipOutputConversion(producerProperties.isUseNativeEncoding());
 					}
-					functionToInvoke = new PartitionAwareFunctionWrapper(function, this.applicationContext, producerProperties);
+					functionToInvoke = new PartitionAwareFunctionWrapper(function, this.applicationContext, producerProperties,
+							outputBindingName);
 					// If we have a multi-output scenario, we will do any message enrichment (aka, determining the outbound
 					// partition) via the corresponding reactive Flux types. Currently, we support multiple output
 					// bindings for reactive types only (Tuples).
@@ -636,12 +660,9 @@ public class FunctionConfiguration {
 		private Integer determinePartitionForOutputBinding(String outputBinding, Object message) {
 			BindingProperties bindingProperties = FunctionToDestinationBinder.this.serviceProperties.getBindings().get(outputBinding);
 			ProducerProperties producerProperties = bindingProperties == null ? null : bindingProperties.getProducer();
-			if (producerProperties != null && producerProperties.isPartitioned()) {
-				StandardEvaluationContext evaluationContext = ExpressionUtils.createStandardEvaluationContext(this.applicationContext.getBeanFactory());
-				PartitionHandler partitionHandler = new PartitionHandler(evaluationContext, producerProperties, this.applicationContext.getBeanFactory());
-				if (message instanceof Message) {
-					return partitionHandler.determinePartition((Message<?>) message);
-				}
+			if (producerProperties != null && producerProperties.isPartitioned() && message instanceof Message) {
+				return this.partitionHandlerRegistry.getPartitionHandler(outputBinding, producerProperties)
+						.determinePartition((Message<?>) message);
 			}
 			return null;
 		}
@@ -656,12 +677,42 @@ public class FunctionConfiguration {
 							: null;
 
 			FunctionWrapper functionInvocationWrapper = (new FunctionWrapper(function, consumerProperties,
-					producerProperties, applicationContext, this.determineTargetProtocol(outputChannelName)));
+					producerProperties, outputChannelName, applicationContext, this.determineTargetProtocol(outputChannelName),
+					this.messageConverter));
 
+			AbstractMessageHandler handler = function.isConsumer()
+					? createConsumerHandler(functionInvocationWrapper)
+							: createOutputHandler(function, functionInvocationWrapper, producerProperties, outputChannelName);
+			handler.setBeanFactory(this.applicationContext);
+			handler.afterPropertiesSet();
+			return handler;
+		}
+
+		/*
+		 * Consumers never produce output, hence there is nothing to route or send.
+		 */
+		private AbstractMessageHandler createConsumerHandler(FunctionWrapper functionInvocationWrapper) {
+			return new AbstractMessageHandler() {
+				@SuppressWarnings("unchecked")
+				@Override
+				public void handleMessageInternal(Message<?> message) throws MessagingException {
+					functionInvocationWrapper.apply((Message<byte[]>) message);
+				}
+			};
+		}
+
+		private AbstractMessageHandler createOutputHandler(FunctionInvocationWrapper function,
+				FunctionWrapper functionInvocationWrapper, ProducerProperties producerProperties, String outputChannelName) {
 			MessagingTemplate template = new MessagingTemplate();
 			template.setBeanFactory(applicationContext.getBeanFactory());
+			boolean hasOutputChannel = StringUtils.hasText(outputChannelName);
+			HeaderPropagationPolicy headerPropagationPolicy = createHeaderPropagationPolicy(
+					hasOutputChannel ? outputChannelName : function.getFunctionDefinition() + "-out-0", producerProperties);
+
+			return new AbstractMessageHandler() {
+
+				private volatile MessageChannel outputChannel;
 
-			AbstractMessageHandler handler = new AbstractMessageHandler() {
 				@SuppressWarnings("unchecked")
 				@Override
 				public void handleMessageInternal(Message<?> message) throws MessagingException {
@@ -686,40 +737,70 @@ public class FunctionConfiguration {
 				}
 
 				private void doSendMessage(Object result, Message<?> requestMessage) {
+					if (result instanceof LazyPayloadMessage lazyPayloadMessage) {
+						result = lazyPayloadMessage.unwrap();
+					}
 					if (result instanceof Message<?> messageResult && messageResult.getHeaders().get("spring.cloud.stream.sendto.destination") != null) {
 						String destinationName = (String) messageResult.getHeaders().get("spring.cloud.stream.sendto.destination");
-						MessageChannel outputChannel = streamBridge.resolveDestination(destinationName, producerProperties, null);
-						BindingProperties bindingProperties = serviceProperties.getBindingProperties(destinationName);
-						ProducerProperties sendToBindingProducerProperties = bindingProperties.getProducer();
-						if (sendToBindingProducerProperties != null && sendToBindingProducerProperties.isPartitioned()) {
-							((AbstractMessageChannel) outputChannel)
-								.addInterceptor(new DefaultPartitioningInterceptor(bindingProperties, applicationContext.getBeanFactory()));
-						}
 						if (logger.isInfoEnabled()) {
 							logger.info("Output message is sent to '" + destinationName + "' destination");
 						}
-						outputChannel.send(messageResult);
+						streamBridge.sendToDestination(destinationName,
+								applyHeaderPropagationPolicy(messageResult, requestMessage), producerProperties);
 					}
-					else if (StringUtils.hasText(outputChannelName)) {
+					else if (hasOutputChannel) {
 						if (!(result instanceof Message)) {
 							result = MessageBuilder.withPayload(result).copyHeadersIfAbsent(requestMessage.getHeaders()).build();
 						}
-						template.send(outputChannelName, (Message<?>) result);
+						template.send(this.getOutputChannel(), applyHeaderPropagationPolicy((Message<?>) result, requestMessage));
 					}
 					else if (function.isRoutingFunction()) {
 						if (!(result instanceof Message)) {
 							result = MessageBuilder.withPayload(result).copyHeadersIfAbsent(requestMessage.getHeaders()).build();
 						}
-						streamBridge.send(function.getFunctionDefinition() + "-out-0", result);
+						streamBridge.send(function.getFunctionDefinition() + "-out-0",
+								applyHeaderPropagationPolicy((Message<?>) result, requestMessage));
 					}
 					function.postProcess();
 				}
 
+				private Message<?> applyHeaderPropagationPolicy(Message<?> message, Message<?> requestMessage) {
+					return headerPropagationPolicy != null ? headerPropagationPolicy.apply(message, requestMessage) : message;
+				}
+
+				// resolved once rather than looked up in the bean factory for every message
+				private MessageChannel getOutputChannel() {
+					MessageChannel channel = this.outputChannel;
+					if (channel == null) {
+						channel = applicationContext.getBean(outputChannelName, MessageChannel.class);
+						this.outputChannel = channel;
+					}
+					return channel;
+				}
+
 			};
+		}
 
-			handler.setBeanFactory(this.applicationContext);
-			handler.afterPropertiesSet();
-			return handler;
+		/*
+		 * Null unless propagated headers are configured or the header metrics are enabled
+		 * for the binding, so that the messages are otherwise sent untouched (and their
+		 * headers are not measured just because metrics happen to be available).
+		 */
+		@Nullable
+		private HeaderPropagationPolicy createHeaderPropagationPolicy(String bindingName,
+				@Nullable ProducerProperties producerProperties) {
+			if (producerProperties == null) {
+				return null;
+			}
+			HeaderPropagationPolicy policy = new HeaderPropagationPolicy(bindingName,
+					producerProperties.getPropagatedHeaders());
+			if (producerProperties.isHeaderMetricsEnabled()) {
+				MetricsCaptor metricsCaptor = this.applicationContext.getBeanProvider(MetricsCaptor.class).getIfUnique();
+				if (metricsCaptor != null) {
+					policy.registerMetricsCaptor(metricsCaptor);
+				}
+			}
+			return policy.isActive() ? policy : null;
 		}
 
 		private String determineTargetProtocol(String outputBindingName) {
@@ -801,50 +882,159 @@ public class FunctionConfiguration {
 
 		private final boolean isRoutingFunction;
 
+		private final boolean isConsumer;
+
 		private final String targetProtocol;
 
+		/**
+		 * Type of the payload converted lazily, null if the payload is converted before the
+		 * function is invoked.
+		 */
+		@Nullable
+		private final ResolvableType lazyPayloadType;
+
+		/**
+		 * Content type of the output binding, null unless the output of a function whose
+		 * payload is converted lazily needs to be converted.
+		 */
+		@Nullable
+		private final String lazyOutputContentType;
+
+		/**
+		 * Converter of the payloads converted lazily, the same one the binders use.
+		 */
+		private final CompositeMessageConverter messageConverter;
+
 		FunctionWrapper(Function function, ConsumerProperties consumerProperties,
-				ProducerProperties producerProperties, ConfigurableApplicationContext applicationContext, String targetProtocol) {
+				ProducerProperties producerProperties, String outputBindingName,
+				ConfigurableApplicationContext applicationContext, String targetProtocol,
+				CompositeMessageConverter messageConverter) {
 
 			isRoutingFunction = ((FunctionInvocationWrapper) function).getTarget() instanceof RoutingFunction;
+			isConsumer = ((FunctionInvocationWrapper) function).isConsumer();
 			this.applicationContext = applicationContext;
-			this.function = new PartitionAwareFunctionWrapper(function, this.applicationContext, producerProperties);
+			this.function = new PartitionAwareFunctionWrapper(function, this.applicationContext, producerProperties,
+					outputBindingName);
 			this.consumerProperties = consumerProperties;
+			this.lazyPayloadType = lazyPayloadType((FunctionInvocationWrapper) function, consumerProperties);
 			if (this.consumerProperties != null) {
-				((FunctionInvocationWrapper) function).setSkipInputConversion(this.consumerProperties.isUseNativeDecoding());
+				((FunctionInvocationWrapper) function).setSkipInputConversion(this.consumerProperties.isUseNativeDecoding()
+						|| this.lazyPayloadType != null);
 			}
 			this.producerProperties = producerProperties;
 			if (this.producerProperties != null) {
-				((FunctionInvocationWrapper) function).setSkipOutputConversion(this.producerProperties.isUseNativeEncoding());
+				((FunctionInvocationWrapper) function).setSkipOutputConversion(this.producerProperties.isUseNativeEncoding()
+						|| this.lazyPayloadType != null);
 			}
+			this.lazyOutputContentType = this.lazyPayloadType != null && this.producerProperties != null
+					&& !this.producerProperties.isUseNativeEncoding()
+							? applicationContext.getBean(BindingServiceProperties.class)
+									.getBindingProperties(outputBindingName).getContentType()
+							: null;
 			this.headersField = ReflectionUtils.findField(MessageHeaders.class, "headers");
 			this.headersField.setAccessible(true);
 			this.targetProtocol = targetProtocol;
+			this.messageConverter = messageConverter;
 		}
 
 		@SuppressWarnings("unchecked")
 		@Override
 		public Object apply(Message<byte[]> message) {
-			message = sanitize(message);
-			setHeadersIfNeeded(message);
-			Object result = function.apply(message);
+			Message<?> input = prepareInput(message);
+			if (this.lazyPayloadType != null) {
+				input = new LazyPayloadMessage(input, this.messageConverter, this.lazyPayloadType.toClass(),
+						this.lazyPayloadType.getType());
+			}
+			Object result = function.apply(input);
+			if (this.isConsumer) {
+				return result;
+			}
 			if (result instanceof Publisher && this.isRoutingFunction) {
 				throw new IllegalStateException("Routing to functions that return Publisher "
 						+ "is not supported in the context of Spring Cloud Stream.");
 			}
+			if (this.lazyPayloadType != null && result != null) {
+				result = convertLazyOutput(result, input);
+			}
 			if (result instanceof Message<?> resultMessage) {
 				setHeadersIfNeeded(resultMessage);
 			}
 			return result;
 		}
 
+		/*
+		 * Lazy conversion only applies to functions accepting a Message, since the others
+		 * access the payload anyway. Routing functions do not convert the payload themselves
+		 * (the target function does), and batches and natively decoded payloads are not
+		 * converted by the framework in the first place.
+		 */
+		@Nullable
+		private static ResolvableType lazyPayloadType(FunctionInvocationWrapper function,
+				@Nullable ConsumerProperties consumerProperties) {
+			if (consumerProperties == null || !consumerProperties.isLazyPayloadConversion()
+					|| consumerProperties.isUseNativeDecoding() || consumerProperties.isBatchMode()
+					|| function.getTarget() instanceof RoutingFunction) {
+				return null;
+			}
+			ResolvableType inputType = ResolvableType.forType(function.getInputType());
+			if (!Message.class.isAssignableFrom(inputType.toClass())) {
+				return null;
+			}
+			return inputType.as(Message.class).getGeneric(0);
+		}
+
+		/*
+		 * The function does not convert its output when the payload is converted lazily, since
+		 * that would access (and therefore convert) the payload of a returned inbound message.
+		 * Such a message is sent as received and the other results are converted here, the way
+		 * the function would have converted them.
+		 */
+		private Object convertLazyOutput(Object result, Message<?> input) {
+			Object output = result instanceof LazyPayloadMessage lazyPayloadMessage ? lazyPayloadMessage.unwrap() : result;
+			if (this.lazyOutputContentType == null || output instanceof Publisher
+					|| (output instanceof Message<?> message && message.getPayload() instanceof byte[])) {
+				return output;
+			}
+			Message<?> message = output instanceof Message<?> outputMessage ? outputMessage
+					: MessageBuilder.withPayload(output).copyHeadersIfAbsent(input.getHeaders()).build();
+			MessageHeaders headers = MessageBuilder.fromMessage(message)
+					.setHeader(MessageHeaders.CONTENT_TYPE, this.lazyOutputContentType)
+					.build()
+					.getHeaders();
+			Message<?> converted = this.messageConverter.toMessage(message.getPayload(), headers);
+			if (converted == null) {
+				throw new MessageConversionException(message,
+						"Failed to convert the output of the function to " + this.lazyOutputContentType);
+			}
+			return converted;
+		}
+
+		/*
+		 * Same as sanitize(..) followed by setHeadersIfNeeded(..), except that the inbound
+		 * message is only copied (once) if any of its headers actually needs to change.
+		 */
+		private static Message<byte[]> prepareInput(Message<byte[]> message) {
+			boolean sendTo = message.getHeaders().containsKey("spring.cloud.stream.sendto.destination");
+			boolean cloudEvent = !message.getHeaders().containsKey(MessageUtils.MESSAGE_TYPE)
+					&& CloudEventMessageUtils.isCloudEvent(message);
+			if (!sendTo && !cloudEvent) {
+				return message;
+			}
+			MessageBuilder<byte[]> builder = MessageBuilder.fromMessage(message)
+					.removeHeader("spring.cloud.stream.sendto.destination");
+			if (cloudEvent) {
+				builder.setHeader(MessageUtils.MESSAGE_TYPE, CloudEventMessageUtils.CLOUDEVENT_VALUE);
+			}
+			return builder.build();
+		}
+
 		private void setHeadersIfNeeded(Message message) {
-			Map<String, Object> headersMap = (Map<String, Object>) ReflectionUtils
-				.getField(this.headersField, message.getHeaders());
 //			if (StringUtils.hasText(targetProtocol)) {
 //				headersMap.putIfAbsent(MessageUtils.TARGET_PROTOCOL, targetProtocol);
 //			}
 			if (CloudEventMessageUtils.isCloudEvent(message)) {
+				Map<String, Object> headersMap = (Map<String, Object>) ReflectionUtils
+					.getField(this.headersField, message.getHeaders());
 				headersMap.putIfAbsent(MessageUtils.MESSAGE_TYPE, CloudEventMessageUtils.CLOUDEVENT_VALUE);
 			}
 		}
@@ -1061,6 +1251,18 @@ public class FunctionConfiguration {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+	protected static class StreamBridgeMetricsConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public StreamBridgeMetrics streamBridgeMetrics(StreamBridge streamBridge) {
+			return new StreamBridgeMetrics(streamBridge);
+		}
+
+	}
+
 	private static final class ContextSnapshotHelper {
 
 		private static final ContextSnapshotFactory CONTEXT_SNAPSHOT_FACTORY = ContextSnapshotFactory.builder().build();
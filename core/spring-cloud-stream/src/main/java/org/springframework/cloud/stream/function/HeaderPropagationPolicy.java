@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.function;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.PatternMatchUtils;
+
+/**
+ * Removes from the messages produced by a function the headers propagated from the
+ * inbound message which do not match the
+ * {@link org.springframework.cloud.stream.binder.ProducerProperties#getPropagatedHeaders()
+ * propagated headers} of the output binding, before they are serialized by the binder.
+ * Headers set by the function itself (i.e., absent from the inbound message or set to a
+ * different value) are always kept. The {@value #TRACING_PRESET} pattern stands for the
+ * {@link #TRACING_HEADERS tracing headers}, so that {@code @tracing} alone propagates
+ * nothing but them.
+ * <p>
+ * When {@link #registerMetricsCaptor(MetricsCaptor) registered}, the average size of the
+ * headers sent and dropped per message is exposed through the {@link MetricsCaptor}.
+ *
+ * @since 5.0.1
+ */
+final class HeaderPropagationPolicy {
+
+	/**
+	 * Name of the gauges of the average size (in bytes) of the headers per message.
+	 */
+	static final String HEADER_BYTES_METRIC_NAME = "spring.cloud.stream.binding.headers.bytes";
+
+	/**
+	 * Pattern standing for the {@link #TRACING_HEADERS tracing headers}.
+	 */
+	static final String TRACING_PRESET = "@tracing";
+
+	/**
+	 * Patterns of the W3C (trace context and baggage) and B3 (single and multiple)
+	 * tracing headers.
+	 */
+	static final List<String> TRACING_HEADERS = List.of("traceparent", "tracestate", "baggage", "b3", "X-B3-*");
+
+	private static final Set<String> ALWAYS_PROPAGATED = Set.of(MessageHeaders.ID, MessageHeaders.TIMESTAMP,
+			MessageHeaders.CONTENT_TYPE, "spring.cloud.stream.sendto.destination");
+
+	// header names are usually a small, fixed set; guard against unbounded ones anyway
+	private static final int MAX_CACHED_DECISIONS = 1024;
+
+	private final String bindingName;
+
+	@Nullable
+	private final String[] patterns;
+
+	private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
+
+	private final LongAdder messages = new LongAdder();
+
+	private final LongAdder sentBytes = new LongAdder();
+
+	private final LongAdder droppedBytes = new LongAdder();
+
+	private volatile boolean recordSizes;
+
+	HeaderPropagationPolicy(String bindingName, @Nullable String[] patterns) {
+		this.bindingName = bindingName;
+		this.patterns = ObjectUtils.isEmpty(patterns) ? null : expand(patterns);
+	}
+
+	private static String[] expand(String[] patterns) {
+		List<String> expanded = new ArrayList<>(patterns.length);
+		for (String pattern : patterns) {
+			if (TRACING_PRESET.equals(pattern.trim())) {
+				expanded.addAll(TRACING_HEADERS);
+			}
+			else {
+				expanded.add(pattern);
+			}
+		}
+		return expanded.toArray(new String[0]);
+	}
+
+	/**
+	 * Expose the average size of the headers per message through the given captor.
+	 * @param metricsCaptor the metrics captor
+	 */
+	void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		metricsCaptor.gaugeBuilder(HEADER_BYTES_METRIC_NAME, this,
+				policy -> ((HeaderPropagationPolicy) policy).averageSentBytes())
+			.tag("binding", this.bindingName)
+			.tag("result", "sent")
+			.description("Average size of the headers of the messages sent to the binding")
+			.build();
+		metricsCaptor.gaugeBuilder(HEADER_BYTES_METRIC_NAME, this,
+				policy -> ((HeaderPropagationPolicy) policy).averageDroppedBytes())
+			.tag("binding", this.bindingName)
+			.tag("result", "dropped")
+			.description("Average size of the inbound headers not propagated to the messages sent to the binding")
+			.build();
+		this.recordSizes = true;
+	}
+
+	/**
+	 * @return whether this policy may modify or record messages at all
+	 */
+	boolean isActive() {
+		return this.patterns != null || this.recordSizes;
+	}
+
+	/**
+	 * Apply this policy to a message produced by a function.
+	 * @param message the message produced by the function
+	 * @param requestMessage the inbound message the function was invoked with
+	 * @return the message to send
+	 */
+	Message<?> apply(Message<?> message, Message<?> requestMessage) {
+		List<String> dropped = null;
+		if (this.patterns != null) {
+			MessageHeaders headers = message.getHeaders();
+			for (Map.Entry<String, Object> header : requestMessage.getHeaders().entrySet()) {
+				String name = header.getKey();
+				if (!isPropagated(name) && ObjectUtils.nullSafeEquals(headers.get(name), header.getValue())) {
+					if (dropped == null) {
+						dropped = new ArrayList<>();
+					}
+					dropped.add(name);
+				}
+			}
+		}
+		Message<?> result = message;
+		if (dropped != null) {
+			MessageBuilder<?> builder = MessageBuilder.fromMessage(message);
+			for (String name : dropped) {
+				builder.removeHeader(name);
+			}
+			result = builder.build();
+		}
+		if (this.recordSizes) {
+			this.messages.increment();
+			this.sentBytes.add(sizeOf(result.getHeaders(), null));
+			if (dropped != null) {
+				this.droppedBytes.add(sizeOf(message.getHeaders(), dropped));
+			}
+		}
+		return result;
+	}
+
+	private boolean isPropagated(String name) {
+		if (ALWAYS_PROPAGATED.contains(name)) {
+			return true;
+		}
+		Boolean propagated = this.decisions.get(name);
+		if (propagated == null) {
+			propagated = match(name);
+			if (this.decisions.size() < MAX_CACHED_DECISIONS) {
+				this.decisions.put(name, propagated);
+			}
+		}
+		return propagated;
+	}
+
+	private boolean match(String name) {
+		for (String pattern : this.patterns) {
+			boolean negated = pattern.startsWith("!");
+			if (PatternMatchUtils.simpleMatch(negated ? pattern.substring(1) : pattern, name)) {
+				return !negated;
+			}
+		}
+		return false;
+	}
+
+	double averageSentBytes() {
+		return average(this.sentBytes);
+	}
+
+	double averageDroppedBytes() {
+		return average(this.droppedBytes);
+	}
+
+	private double average(LongAdder bytes) {
+		long messages = this.messages.sum();
+		return messages == 0 ? 0 : (double) bytes.sum() / messages;
+	}
+
+	/*
+	 * An estimate of the size of the headers once serialized, since the actual size
+	 * depends on the header mapper of the binder.
+	 */
+	private static long sizeOf(Map<String, Object> headers, @Nullable List<String> names) {
+		long size = 0;
+		for (Map.Entry<String, Object> header : headers.entrySet()) {
+			if (names == null || names.contains(header.getKey())) {
+				size += header.getKey().length() + sizeOf(header.getValue());
+			}
+		}
+		return size;
+	}
+
+	private static int sizeOf(@Nullable Object value) {
+		if (value == null) {
+			return 0;
+		}
+		if (value instanceof byte[] bytes) {
+			return bytes.length;
+		}
+		if (value instanceof CharSequence chars) {
+			return chars.length();
+		}
+		if (value instanceof Number || value instanceof Boolean) {
+			return 8;
+		}
+		return value.toString().length();
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.function;
+
+import java.lang.reflect.Type;
+
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.converter.SmartMessageConverter;
+
+/**
+ * {@link Message} whose payload is converted from the payload of an inbound message the
+ * first time it is accessed, rather than before the function is invoked. Functions which
+ * only read the headers never pay for the conversion and, when the payload has not been
+ * accessed (or did not need to be converted), a message returned as is is sent with the
+ * payload as received.
+ *
+ * @since 5.0.1
+ */
+final class LazyPayloadMessage implements Message<Object> {
+
+	private final Message<?> message;
+
+	private final MessageConverter messageConverter;
+
+	private final Class<?> targetClass;
+
+	private final Type targetType;
+
+	@Nullable
+	private volatile Object payload;
+
+	LazyPayloadMessage(Message<?> message, MessageConverter messageConverter, Class<?> targetClass,
+			Type targetType) {
+		this.message = message;
+		this.messageConverter = messageConverter;
+		this.targetClass = targetClass;
+		this.targetType = targetType;
+	}
+
+	@Override
+	public Object getPayload() {
+		Object payload = this.payload;
+		if (payload == null) {
+			payload = convert();
+			this.payload = payload;
+		}
+		return payload;
+	}
+
+	@Override
+	public MessageHeaders getHeaders() {
+		return this.message.getHeaders();
+	}
+
+	/**
+	 * @return whether the payload has been accessed
+	 */
+	boolean isPayloadConverted() {
+		return this.payload != null;
+	}
+
+	/**
+	 * Return the inbound message if the payload has not been accessed, or was the same as
+	 * received, so that it is sent as received; this message otherwise.
+	 * @return the message to send
+	 */
+	Message<?> unwrap() {
+		Object payload = this.payload;
+		return payload == null || payload == this.message.getPayload() ? this.message : this;
+	}
+
+	private Object convert() {
+		Object rawPayload = this.message.getPayload();
+		if (this.targetClass.isInstance(rawPayload)) {
+			return rawPayload;
+		}
+		Object converted = this.messageConverter instanceof SmartMessageConverter smartMessageConverter
+				? smartMessageConverter.fromMessage(this.message, this.targetClass, this.targetType)
+				: this.messageConverter.fromMessage(this.message, this.targetClass);
+		if (converted == null) {
+			throw new MessageConversionException(this.message,
+					"Failed to convert the payload of the message to " + this.targetType.getTypeName());
+		}
+		return converted;
+	}
+
+	@Override
+	public String toString() {
+		Object payload = this.payload;
+		return getClass().getSimpleName() + " [payload=" + (payload != null ? payload : "<not converted>")
+				+ ", headers=" + getHeaders() + "]";
+	}
+
+}
@@ -25,10 +25,9 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
 import org.springframework.cloud.stream.binder.BinderHeaders;
 import org.springframework.cloud.stream.binder.PartitionHandler;
+import org.springframework.cloud.stream.binder.PartitionHandlerRegistry;
 import org.springframework.cloud.stream.binder.ProducerProperties;
 import org.springframework.context.ConfigurableApplicationContext;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
-import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
 import org.springframework.util.ObjectUtils;
@@ -53,12 +52,12 @@ class PartitionAwareFunctionWrapper implements Function<Object, Object>, Supplie
 
 	private boolean messageEnricherEnabled = true;
 
-	PartitionAwareFunctionWrapper(Function<?, ?> function, ConfigurableApplicationContext context, ProducerProperties producerProperties) {
+	PartitionAwareFunctionWrapper(Function<?, ?> function, ConfigurableApplicationContext context,
+			ProducerProperties producerProperties, String bindingName) {
 		this.function = function;
 
 		if (producerProperties != null && producerProperties.isPartitioned()) {
-			StandardEvaluationContext evaluationContext = ExpressionUtils.createStandardEvaluationContext(context.getBeanFactory());
-			PartitionHandler partitionHandler = new PartitionHandler(evaluationContext, producerProperties, context.getBeanFactory());
+			PartitionHandlerRegistry partitionHandlerRegistry = context.getBean(PartitionHandlerRegistry.class);
 
 			this.outputMessageEnricher = output -> {
 				if ((ObjectUtils.isArray(output) && !(output instanceof byte[])) || output instanceof Iterable) {
@@ -67,7 +66,8 @@ class PartitionAwareFunctionWrapper implements Function<Object, Object>, Supplie
 				else if (!(output instanceof Message)) {
 					output = MessageBuilder.withPayload(output).build();
 				}
-				return toMessageWithPartitionHeader((Message<?>) output, partitionHandler);
+				return toMessageWithPartitionHeader((Message<?>) output,
+						partitionHandlerRegistry.getPartitionHandler(bindingName, producerProperties));
 			};
 		}
 		else {
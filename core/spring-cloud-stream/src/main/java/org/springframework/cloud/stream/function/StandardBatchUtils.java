@@ -90,14 +90,44 @@ public final class StandardBatchUtils {
 		};
 	}
 
+	/**
+	 * Builds a batch {@link Message} whose {@link BinderHeaders#BATCH_HEADERS} are stored
+	 * as {@link ColumnarBatchHeaders}, so that the headers of the individual messages do
+	 * not require a map each.
+	 * <p>
+	 * Since 5.0.1, the headers given to {@link #addMessage(Object, Map)} are copied (without
+	 * their null values) rather than retained; see {@link ColumnarBatchHeaders}.
+	 */
 	public static class BatchMessageBuilder {
 
-		private final List<Object> payloads = new ArrayList<>();
+		private final List<Object> payloads;
 
-		private final List<Map<String, Object>> batchHeaders = new ArrayList<>();
+		private final ColumnarBatchHeaders batchHeaders;
 
 		private final Map<String, Object> headers = new HashMap<>();
 
+		public BatchMessageBuilder() {
+			this.payloads = new ArrayList<>();
+			this.batchHeaders = new ColumnarBatchHeaders();
+		}
+
+		/**
+		 * Create a builder sized for the given number of messages.
+		 * @param expectedSize the expected number of messages in the batch
+		 * @since 5.0.1
+		 */
+		public BatchMessageBuilder(int expectedSize) {
+			this.payloads = new ArrayList<>(expectedSize);
+			this.batchHeaders = new ColumnarBatchHeaders(expectedSize);
+		}
+
+		/**
+		 * Add a message to the batch.
+		 * @param payload the payload of the message
+		 * @param batchHeaders the headers of the message, which are copied into the batch
+		 * (without their null values) and not retained
+		 * @return this builder
+		 */
 		public BatchMessageBuilder addMessage(Object payload, Map<String, Object> batchHeaders) {
 			this.payloads.add(payload);
 			this.batchHeaders.add(batchHeaders);
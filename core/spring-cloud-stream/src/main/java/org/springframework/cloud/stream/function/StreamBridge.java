@@ -17,11 +17,17 @@
 package org.springframework.cloud.stream.function;
 
 import java.lang.reflect.Type;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
@@ -31,6 +37,10 @@ import io.micrometer.context.ContextSnapshotFactory;
 import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.ObjectProvider;
@@ -43,18 +53,27 @@ import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry
 import org.springframework.cloud.function.core.FunctionInvocationHelper;
 import org.springframework.cloud.stream.binder.Binder;
 import org.springframework.cloud.stream.binder.BinderFactory;
+import org.springframework.cloud.stream.binder.BinderHeaders;
 import org.springframework.cloud.stream.binder.BinderWrapper;
+import org.springframework.cloud.stream.binder.PartitionHandler;
+import org.springframework.cloud.stream.binder.PartitionHandlerRegistry;
 import org.springframework.cloud.stream.binder.ProducerProperties;
+import org.springframework.cloud.stream.binder.ProducerProperties.AsyncProperties;
+import org.springframework.cloud.stream.binder.ProducerProperties.AsyncProperties.ExecutorType;
+import org.springframework.cloud.stream.binder.SendResult;
 import org.springframework.cloud.stream.binding.BindingService;
 import org.springframework.cloud.stream.binding.DefaultPartitioningInterceptor;
 import org.springframework.cloud.stream.binding.NewDestinationBindingCallback;
 import org.springframework.cloud.stream.config.BindingProperties;
 import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.cloud.stream.converter.MessageConverterUtils;
 import org.springframework.cloud.stream.messaging.DirectWithAttributesChannel;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
 import org.springframework.integration.channel.AbstractMessageChannel;
 import org.springframework.integration.channel.AbstractSubscribableChannel;
 import org.springframework.integration.channel.ExecutorChannel;
@@ -63,6 +82,7 @@ import org.springframework.integration.support.MessageBuilder;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.support.GenericMessage;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -101,7 +121,7 @@ public final class StreamBridge implements StreamOperations, SmartInitializingSi
 
 	private final Log logger = LogFactory.getLog(getClass());
 
-	private final Map<String, MessageChannel> channelCache;
+	private final DynamicDestinationCache channelCache;
 
 	private final FunctionCatalog functionCatalog;
 
@@ -121,23 +141,39 @@ public final class StreamBridge implements StreamOperations, SmartInitializingSi
 
 	private final FunctionInvocationHelper<?> functionInvocationHelper;
 
+	private final PartitionHandlerRegistry partitionHandlerRegistry;
+
 	private ExecutorService executorService;
 
 	private static final boolean isContextPropagationPresent = ClassUtils.isPresent(
 			"io.micrometer.context.ContextSnapshotFactory", StreamBridge.class.getClassLoader());
 
+	private static final boolean virtualThreadsSupported = Runtime.version().feature() >= 21;
+
 	private static final ReentrantLock lock = new ReentrantLock();
 
+	private final Map<String, SendPlan> sendPlans = new ConcurrentHashMap<>();
+
+	private final Map<String, SendToRoute> sendToRoutes = new ConcurrentHashMap<>();
+
+	private final Map<String, ReentrantLock> sendPlanLocks = new ConcurrentHashMap<>();
+
+	// keyed by the channel cache key of the binding
+	private final Map<String, AsyncSendExecutor> asyncExecutors = new ConcurrentHashMap<>();
+
+	private final List<AsyncExecutorListener> asyncExecutorListeners = new CopyOnWriteArrayList<>();
+
 	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 	/**
 	 *
 	 * @param functionCatalog instance of {@link FunctionCatalog}
 	 * @param bindingServiceProperties instance of {@link BindingServiceProperties}
 	 * @param applicationContext instance of {@link ConfigurableApplicationContext}
+	 * @param partitionHandlerRegistry instance of {@link PartitionHandlerRegistry}
 	 */
-	@SuppressWarnings("serial")
 	StreamBridge(FunctionCatalog functionCatalog, BindingServiceProperties bindingServiceProperties,
-		ConfigurableApplicationContext applicationContext, @Nullable NewDestinationBindingCallback destinationBindingCallback, ObjectProvider<ObservationRegistry> observationRegistries) {
+		ConfigurableApplicationContext applicationContext, @Nullable NewDestinationBindingCallback destinationBindingCallback,
+		ObjectProvider<ObservationRegistry> observationRegistries, PartitionHandlerRegistry partitionHandlerRegistry) {
 		this.executorService = Executors.newCachedThreadPool();
 		Assert.notNull(functionCatalog, "'functionCatalog' must not be null");
 		Assert.notNull(applicationContext, "'applicationContext' must not be null");
@@ -147,19 +183,15 @@ public final class StreamBridge implements StreamOperations, SmartInitializingSi
 		this.applicationContext = applicationContext;
 		this.bindingServiceProperties = bindingServiceProperties;
 		this.destinationBindingCallback = destinationBindingCallback;
-		this.channelCache = new LinkedHashMap<String, MessageChannel>() {
-			@Override
-			protected boolean removeEldestEntry(Map.Entry<String, MessageChannel> eldest) {
-				boolean remove = size() > bindingServiceProperties.getDynamicDestinationCacheSize();
-				if (remove) {
-					if (logger.isDebugEnabled()) {
-						logger.debug("Removing message channel from cache " + eldest.getKey());
-					}
-					bindingService.unbindProducers(eldest.getKey());
-				}
-				return remove;
-			}
-		};
+		this.partitionHandlerRegistry = partitionHandlerRegistry;
+		this.channelCache = new DynamicDestinationCache(bindingServiceProperties, lock, this.bindingService::unbindProducers,
+				evicted -> {
+					// send plans are keyed by the cache key of their channel
+					this.sendPlans.remove(evicted.key());
+					this.sendPlanLocks.remove(evicted.key());
+					this.sendToRoutes.values().removeIf(route -> evicted.key().equals(route.channelCacheKey()));
+					this.removeAsyncExecutor(evicted.key());
+				});
 		this.functionInvocationHelper = applicationContext.getBean(FunctionInvocationHelper.class);
 		this.streamBridgeFunctionCache = new ConcurrentHashMap<>();
 		observationRegistries.ifAvailable(registry -> this.observationRegistry = registry);
@@ -167,8 +199,7 @@ public final class StreamBridge implements StreamOperations, SmartInitializingSi
 
 	@Override
 	public boolean send(String bindingName, Object data) {
-		var contentType = determineContentType(bindingName, this.bindingServiceProperties);
-		return this.send(bindingName, data, contentType);
+		return this.doSend(bindingName, null, data, null);
 	}
 
 	@Override
@@ -177,46 +208,147 @@ public final class StreamBridge implements StreamOperations, SmartInitializingSi
 	}
 	@Override
 	public boolean send(String bindingName, @Nullable String binderName, Object data) {
-		var contentType = determineContentType(bindingName, this.bindingServiceProperties);
-		return this.send(bindingName, binderName, data, contentType);
+		return this.doSend(bindingName, binderName, data, null);
 	}
 
 	private static MimeType determineContentType(String bindingName, BindingServiceProperties bindingServiceProperties) {
 		var bindingProperties = bindingServiceProperties.getBindingProperties(bindingName);
 		return StringUtils.hasText(bindingProperties.getContentType()) ?
-			MimeType.valueOf(bindingProperties.getContentType()) : MimeTypeUtils.APPLICATION_JSON;
+			MessageConverterUtils.parseMimeType(bindingProperties.getContentType()) : MimeTypeUtils.APPLICATION_JSON;
 	}
 
 	@Override
-	@SuppressWarnings({ "unchecked"})
 	public boolean send(String bindingName, @Nullable String binderName, Object data, MimeType outputContentType) {
+		return this.doSend(bindingName, binderName, data, outputContentType);
+	}
+
+	@Override
+	public boolean sendAll(String bindingName, Collection<?> data) {
 		if (!this.initialized) {
 			this.afterSingletonsInstantiated();
 		}
-		ProducerProperties producerProperties = this.bindingServiceProperties.getProducerProperties(bindingName);
-		MessageChannel messageChannel = this.resolveDestination(bindingName, producerProperties, binderName);
+		SendPlan sendPlan = this.getSendPlan(bindingName, null);
+		List<Message<?>> messagesToSend = new ArrayList<>(data.size());
+		for (Object element : data) {
+			messagesToSend.add(this.toOutputMessage(sendPlan, sendPlan.function(), element));
+		}
+		return sendPlan.messageChannel() instanceof DirectWithAttributesChannel directChannel
+				? directChannel.sendAll(messagesToSend)
+						: this.sendEach(sendPlan.messageChannel(), messagesToSend);
+	}
 
-		Function functionToInvoke = this.getStreamBridgeFunction(outputContentType.toString(), producerProperties);
+	@Override
+	public boolean sendAll(String bindingName, List<? extends Message<?>> messages) {
+		return this.sendAll(bindingName, (Collection<?>) messages);
+	}
 
-		if (producerProperties != null && producerProperties.isPartitioned()) {
-			functionToInvoke = new PartitionAwareFunctionWrapper(functionToInvoke, this.applicationContext, producerProperties);
+	@Override
+	public CompletableFuture<SendResult> sendAsync(String bindingName, Object data) {
+		if (!this.initialized) {
+			this.afterSingletonsInstantiated();
 		}
+		SendPlan sendPlan = this.getSendPlan(bindingName, null);
+		DirectWithAttributesChannel messageChannel = this.asyncChannel(bindingName, sendPlan);
+		Message<?> messageToSend = this.toOutputMessage(sendPlan, sendPlan.function(), data);
 
-//		String targetType = this.resolveBinderTargetType(bindingName, binderName, MessageChannel.class,
-//			this.applicationContext.getBean(BinderFactory.class));
+		Semaphore inFlightPermits = sendPlan.inFlightPermits();
+		if (inFlightPermits == null) {
+			return messageChannel.sendAsync(messageToSend);
+		}
+		try {
+			inFlightPermits.acquire();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return CompletableFuture.failedFuture(new MessageDeliveryException(messageToSend,
+					"Interrupted while waiting for in-flight sends to binding '" + bindingName + "' to be acknowledged"));
+		}
+		return this.sendWithPermit(messageChannel, messageToSend, inFlightPermits);
+	}
 
-		Message<?> messageToSend = data instanceof Message messageData
-				? MessageBuilder.fromMessage(messageData).build()
-						: new GenericMessage<>(data);
+	@Override
+	public Flux<SendResult> sendPublisher(String bindingName, Publisher<?> data) {
+		return Flux.defer(() -> {
+			if (!this.initialized) {
+				this.afterSingletonsInstantiated();
+			}
+			int maxInFlightSends = this.getSendPlan(bindingName, null).producerProperties().getMaxInFlightAsyncSends();
+			return Flux.from(data).flatMapSequential(element -> this.sendElement(bindingName, element),
+					maxInFlightSends > 0 ? maxInFlightSends : Integer.MAX_VALUE, 1);
+		});
+	}
 
-		Message<?> resultMessage;
-		lock.lock();
+	/*
+	 * The in-flight sends of a subscription are bounded by its demand, yet they also take the permits
+	 * used by sendAsync so that the limit of the binding holds across all asynchronous senders.
+	 */
+	private Mono<SendResult> sendElement(String bindingName, Object element) {
+		return Mono.defer(() -> {
+			// resolved per element since the plan of a dynamic destination may be evicted meanwhile
+			SendPlan sendPlan = this.getSendPlan(bindingName, null);
+			DirectWithAttributesChannel messageChannel = this.asyncChannel(bindingName, sendPlan);
+			Message<?> messageToSend = this.toOutputMessage(sendPlan, sendPlan.function(), element);
+			Semaphore inFlightPermits = sendPlan.inFlightPermits();
+			if (inFlightPermits == null) {
+				return Mono.fromFuture(messageChannel.sendAsync(messageToSend));
+			}
+			if (inFlightPermits.tryAcquire()) {
+				return Mono.fromFuture(this.sendWithPermit(messageChannel, messageToSend, inFlightPermits));
+			}
+			// the permit is waited for (and the message sent as soon as it is acquired) on another thread,
+			// rather than blocking the emitting one
+			return Mono.fromCallable(() -> {
+				inFlightPermits.acquire();
+				return this.sendWithPermit(messageChannel, messageToSend, inFlightPermits);
+			}).subscribeOn(Schedulers.boundedElastic()).flatMap(Mono::fromFuture);
+		});
+	}
+
+	private CompletableFuture<SendResult> sendWithPermit(DirectWithAttributesChannel messageChannel,
+			Message<?> messageToSend, Semaphore inFlightPermits) {
+
+		CompletableFuture<SendResult> result;
 		try {
-			resultMessage = (Message<byte[]>) functionToInvoke.apply(messageToSend);
+			result = messageChannel.sendAsync(messageToSend);
 		}
-		finally {
-			lock.unlock();
+		catch (RuntimeException ex) {
+			inFlightPermits.release();
+			throw ex;
 		}
+		return result.whenComplete((sendResult, ex) -> inFlightPermits.release());
+	}
+
+	private DirectWithAttributesChannel asyncChannel(String bindingName, SendPlan sendPlan) {
+		Assert.state(sendPlan.messageChannel() instanceof DirectWithAttributesChannel,
+				() -> "Asynchronous sends are not supported for binding '" + bindingName
+						+ "' since it is not bound to a binder (or StreamBridge is in async mode)");
+		return (DirectWithAttributesChannel) sendPlan.messageChannel();
+	}
+
+	private boolean doSend(String bindingName, @Nullable String binderName, Object data, @Nullable MimeType outputContentType) {
+		if (!this.initialized) {
+			this.afterSingletonsInstantiated();
+		}
+		SendPlan sendPlan = this.getSendPlan(bindingName, binderName);
+
+		Function functionToInvoke = outputContentType == null || outputContentType.equals(sendPlan.contentType())
+				? sendPlan.function()
+						: this.getStreamBridgeFunction(outputContentType.toString(), sendPlan.producerProperties());
+
+//		String targetType = this.resolveBinderTargetType(bindingName, binderName, MessageChannel.class,
+//			this.applicationContext.getBean(BinderFactory.class));
+
+		return sendPlan.messageChannel().send(this.toOutputMessage(sendPlan, functionToInvoke, data));
+	}
+
+	@SuppressWarnings({ "unchecked"})
+	private Message<?> toOutputMessage(SendPlan sendPlan, Function functionToInvoke, Object data) {
+		PartitionHandler partitionHandler = sendPlan.producerProperties().isPartitioned()
+				? this.partitionHandlerRegistry.getPartitionHandler(sendPlan.bindingName(), sendPlan.producerProperties())
+						: null;
+		Message<?> messageToSend = sendPlan.toMessage(data, partitionHandler);
+
+		Message<?> resultMessage = (Message<byte[]>) functionToInvoke.apply(messageToSend);
 
 		if (resultMessage == null) {
 			if (((Message) messageToSend).getPayload().getClass().getName().equals("org.springframework.kafka.support.KafkaNull")) {
@@ -227,9 +359,66 @@ public final class StreamBridge implements StreamOperations, SmartInitializingSi
 			}
 		}
 
-		resultMessage = (Message<?>) this.functionInvocationHelper.postProcessResult(resultMessage, null);
+		return (Message<?>) this.functionInvocationHelper.postProcessResult(resultMessage, null);
+	}
+
+	private boolean sendEach(MessageChannel messageChannel, List<Message<?>> messages) {
+		boolean sent = true;
+		for (Message<?> message : messages) {
+			sent &= messageChannel.send(message);
+		}
+		return sent;
+	}
 
-		return messageChannel.send(resultMessage);
+	/**
+	 * Returns the {@link SendPlan} for the given binding, creating (and binding) it if necessary.
+	 * The lookup itself is lock-free; only the thread(s) creating a plan for the same key
+	 * contend on the per-key lock.
+	 */
+	private SendPlan getSendPlan(String bindingName, @Nullable String binderName) {
+		String sendPlanKey = createChannelCacheKey(binderName, bindingName, this.bindingServiceProperties);
+		SendPlan sendPlan = this.sendPlans.get(sendPlanKey);
+		if (sendPlan == null) {
+			sendPlan = this.createSendPlan(sendPlanKey, bindingName, binderName,
+					this.bindingServiceProperties.getProducerProperties(bindingName));
+		}
+		else if (sendPlan.cachedDestination() != null) {
+			sendPlan.cachedDestination().touch();
+		}
+		return sendPlan;
+	}
+
+	private SendPlan createSendPlan(String sendPlanKey, String bindingName, @Nullable String binderName,
+			ProducerProperties channelProducerProperties) {
+		ReentrantLock sendPlanLock = this.sendPlanLocks.computeIfAbsent(sendPlanKey, key -> new ReentrantLock());
+		sendPlanLock.lock();
+		try {
+			SendPlan sendPlan = this.sendPlans.get(sendPlanKey);
+			if (sendPlan == null) {
+				String channelCacheKey = this.applicationContext.containsBean(bindingName) ? null : sendPlanKey;
+				MessageChannel messageChannel = this.doResolveDestination(bindingName, channelProducerProperties, binderName);
+
+				ProducerProperties producerProperties = this.bindingServiceProperties.getProducerProperties(bindingName);
+				MimeType contentType = determineContentType(bindingName, this.bindingServiceProperties);
+				FunctionInvocationWrapper function = this.getStreamBridgeFunction(contentType.toString(), producerProperties);
+				Semaphore inFlightPermits = producerProperties.getMaxInFlightAsyncSends() > 0
+						? new Semaphore(producerProperties.getMaxInFlightAsyncSends()) : null;
+				DynamicDestinationCache.CachedDestination cachedDestination = channelCacheKey == null
+						? null : this.channelCache.getDestination(channelCacheKey);
+				sendPlan = new SendPlan(bindingName, channelCacheKey, cachedDestination, messageChannel, producerProperties,
+						contentType, function, inFlightPermits);
+				this.sendPlans.put(sendPlanKey, sendPlan);
+				if (channelCacheKey != null && (cachedDestination == null || !this.channelCache.contains(cachedDestination))) {
+					// evicted meanwhile, so neither the plan nor its lock must outlive this send
+					this.sendPlans.remove(sendPlanKey, sendPlan);
+					this.sendPlanLocks.remove(sendPlanKey, sendPlanLock);
+				}
+			}
+			return sendPlan;
+		}
+		finally {
+			sendPlanLock.unlock();
+		}
 	}
 
 	private int hashProducerProperties(ProducerProperties producerProperties, String outputContentType) {
@@ -266,14 +455,78 @@ public final class StreamBridge implements StreamOperations, SmartInitializingSi
 
 		Type functionType = ResolvableType.forClassWithGenerics(Function.class, Object.class, Object.class).getType();
 		((FunctionRegistry) this.functionCatalog).register(fr.type(functionType));
+		for (Map.Entry<String, BindingProperties> binding : this.bindingServiceProperties.getBindings().entrySet()) {
+			ProducerProperties producerProperties = binding.getValue().getProducer();
+			if (producerProperties != null && producerProperties.getAsync() != null) {
+				assertAsyncExecutorSupported(binding.getKey(), producerProperties.getAsync());
+			}
+		}
 		this.initialized = true;
 	}
 
-	@SuppressWarnings({ "unchecked"})
 	MessageChannel resolveDestination(String destinationName, ProducerProperties producerProperties, String binderName) {
+		String sendPlanKey = createChannelCacheKey(binderName, destinationName, this.bindingServiceProperties);
+		SendPlan sendPlan = this.sendPlans.get(sendPlanKey);
+		if (sendPlan == null) {
+			sendPlan = this.createSendPlan(sendPlanKey, destinationName, binderName, producerProperties);
+		}
+		return sendPlan.messageChannel();
+	}
+
+	/**
+	 * Sends a message to the destination named by its {@code spring.cloud.stream.sendto.destination}
+	 * header. The channel, producer properties and partition handler of each such destination are
+	 * resolved once and kept in a routing table, hence routing a message only costs a single lookup.
+	 * Partitioning is performed according to the producer properties of the destination itself.
+	 * @param destinationName the name of the destination
+	 * @param message the message to send
+	 * @param producerProperties the producer properties used to bind the destination if necessary
+	 * @return true if the message was sent
+	 */
+	boolean sendToDestination(String destinationName, Message<?> message, ProducerProperties producerProperties) {
+		SendToRoute route = this.sendToRoutes.get(destinationName);
+		if (route == null || !route.isCurrent()) {
+			route = this.createSendToRoute(destinationName, producerProperties);
+		}
+		else if (route.cachedDestination() != null) {
+			route.cachedDestination().touch();
+		}
+		return route.messageChannel().send(route.toMessage(message));
+	}
+
+	private SendToRoute createSendToRoute(String destinationName, ProducerProperties producerProperties) {
+		String sendPlanKey = createChannelCacheKey(null, destinationName, this.bindingServiceProperties);
+		SendPlan sendPlan = this.sendPlans.get(sendPlanKey);
+		if (sendPlan == null) {
+			sendPlan = this.createSendPlan(sendPlanKey, destinationName, null, producerProperties);
+		}
+		ProducerProperties destinationProducerProperties = this.bindingServiceProperties
+				.getBindingProperties(destinationName).getProducer();
+		PartitionHandler partitionHandler = destinationProducerProperties != null && destinationProducerProperties.isPartitioned()
+				? this.partitionHandlerRegistry.getPartitionHandler(destinationName, destinationProducerProperties)
+						: null;
+		SendToRoute route = new SendToRoute(sendPlan.channelCacheKey(), sendPlan.cachedDestination(),
+				sendPlan.messageChannel(), destinationProducerProperties, partitionHandler,
+				partitionHandler == null ? 0 : destinationProducerProperties.getPartitionCount());
+		this.sendToRoutes.put(destinationName, route);
+		if (route.channelCacheKey() != null
+				&& (route.cachedDestination() == null || !this.channelCache.contains(route.cachedDestination()))) {
+			// evicted meanwhile, so the route must not outlive this send
+			this.sendToRoutes.remove(destinationName, route);
+		}
+		return route;
+	}
+
+	/*
+	 * Binding of new destinations (as well as the bounded channel cache) is not thread-safe, hence the global lock.
+	 * This is only reached on a send plan cache miss.
+	 */
+	@SuppressWarnings({ "unchecked"})
+	private MessageChannel doResolveDestination(String destinationName, ProducerProperties producerProperties, String binderName) {
 		lock.lock();
 		try {
-			MessageChannel messageChannel = this.channelCache.get(createChannelCacheKey(binderName, destinationName, bindingServiceProperties));
+			String channelCacheKey = createChannelCacheKey(binderName, destinationName, this.bindingServiceProperties);
+			MessageChannel messageChannel = this.channelCache.get(channelCacheKey);
 			if (messageChannel == null) {
 				if (this.applicationContext.containsBean(destinationName)) {
 					messageChannel = this.applicationContext.getBean(destinationName, MessageChannel.class);
@@ -287,11 +540,15 @@ public final class StreamBridge implements StreamOperations, SmartInitializingSi
 					}
 				}
 				else {
-					messageChannel = this.isAsync() ? new ExecutorChannel(this.executorService) : new DirectWithAttributesChannel();
+					messageChannel = this.isAsync()
+							? new ExecutorChannel(this.getAsyncExecutor(channelCacheKey, destinationName, producerProperties))
+									: new DirectWithAttributesChannel();
 					((AbstractSubscribableChannel) messageChannel).setApplicationContext(applicationContext);
 					((AbstractSubscribableChannel) messageChannel).setComponentName(destinationName);
 
+					long bindStart = System.nanoTime();
 					BinderWrapper binderWrapper = bindingService.createBinderWrapper(binderName, destinationName, messageChannel.getClass());
+					this.channelCache.awaitPendingEviction(binderWrapper.cacheKey());
 					((AbstractSubscribableChannel) messageChannel).registerObservationRegistry(observationRegistry);
 					if (this.destinationBindingCallback != null) {
 						Object extendedProducerProperties = this.bindingService
@@ -304,7 +561,7 @@ public final class StreamBridge implements StreamOperations, SmartInitializingSi
 					addGlobalChannelInterceptorProcessor((AbstractMessageChannel) messageChannel, destinationName);
 
 					this.bindingService.bindProducer(messageChannel, true, binderWrapper);
-					this.channelCache.put(binderWrapper.cacheKey(), messageChannel);
+					this.channelCache.put(binderWrapper.cacheKey(), messageChannel, System.nanoTime() - bindStart);
 				}
 			}
 
@@ -315,6 +572,77 @@ public final class StreamBridge implements StreamOperations, SmartInitializingSi
 		}
 	}
 
+	private AsyncSendExecutor getAsyncExecutor(String channelCacheKey, String destinationName,
+			@Nullable ProducerProperties producerProperties) {
+
+		AsyncSendExecutor asyncExecutor = this.asyncExecutors.get(channelCacheKey);
+		if (asyncExecutor == null) {
+			asyncExecutor = this.createAsyncExecutor(destinationName, producerProperties);
+			this.asyncExecutors.put(channelCacheKey, asyncExecutor);
+			for (AsyncExecutorListener listener : this.asyncExecutorListeners) {
+				listener.executorAdded(asyncExecutor);
+			}
+		}
+		return asyncExecutor;
+	}
+
+	/*
+	 * Invoked while holding the binding lock once the dynamic destination using the executor is evicted.
+	 */
+	private void removeAsyncExecutor(String channelCacheKey) {
+		AsyncSendExecutor asyncExecutor = this.asyncExecutors.remove(channelCacheKey);
+		if (asyncExecutor != null) {
+			for (AsyncExecutorListener listener : this.asyncExecutorListeners) {
+				listener.executorRemoved(asyncExecutor);
+			}
+			asyncExecutor.shutdown();
+		}
+	}
+
+	private AsyncSendExecutor createAsyncExecutor(String destinationName, @Nullable ProducerProperties producerProperties) {
+		AsyncProperties asyncProperties = producerProperties != null && producerProperties.getAsync() != null
+				? producerProperties.getAsync() : new AsyncProperties();
+		assertAsyncExecutorSupported(destinationName, asyncProperties);
+		if (asyncProperties.getExecutor() == ExecutorType.VIRTUAL) {
+			ExecutorService virtualThreadExecutor = new ExecutorServiceAdapter(
+					new VirtualThreadTaskExecutor(destinationName + "-async-"));
+			return new AsyncSendExecutor(destinationName, this.propagateContext(virtualThreadExecutor), null);
+		}
+		else if (asyncProperties.getExecutor() == ExecutorType.BOUNDED) {
+			ThreadPoolExecutor boundedPool = AsyncSendExecutor.createBoundedPool(destinationName, asyncProperties);
+			return new AsyncSendExecutor(destinationName, this.propagateContext(boundedPool), boundedPool);
+		}
+		// the shared executor is already wrapped for context propagation (see setAsync)
+		return new AsyncSendExecutor(destinationName, this.executorService, null);
+	}
+
+	private static void assertAsyncExecutorSupported(String bindingName, AsyncProperties asyncProperties) {
+		Assert.state(asyncProperties.getExecutor() != ExecutorType.VIRTUAL || virtualThreadsSupported,
+				() -> "The 'virtual' async executor of binding '" + bindingName + "' requires Java 21 or later, "
+						+ "but the application runs on Java " + Runtime.version().feature()
+						+ "; use the 'bounded' or 'cached' executor instead");
+	}
+
+	private ExecutorService propagateContext(ExecutorService executorService) {
+		return isContextPropagationPresent ? ContextPropagationHelper.wrap(executorService) : executorService;
+	}
+
+	/**
+	 * Registers a listener notified of every executor used by a binding in async mode,
+	 * including the ones which have already been created.
+	 * @param listener the listener
+	 */
+	void addAsyncExecutorListener(AsyncExecutorListener listener) {
+		lock.lock();
+		try {
+			this.asyncExecutorListeners.add(listener);
+			this.asyncExecutors.values().forEach(listener::executorAdded);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
 	private void addPartitioningInterceptorIfNeedBe(ProducerProperties producerProperties, String destinationName, AbstractMessageChannel messageChannel) {
 		// since we already perform the partition finding algorithm once via StreamBridge#send we don't need to
 		// do the following, unless the conversion is handled natively on the middleware.
@@ -349,8 +677,22 @@ public final class StreamBridge implements StreamOperations, SmartInitializingSi
 
 		this.executorService = null;
 		this.async = false;
-		channelCache.keySet().forEach(bindingService::unbindProducers);
-		channelCache.clear();
+		lock.lock();
+		try {
+			this.channelCache.destroy();
+			this.sendPlans.clear();
+			this.sendPlanLocks.clear();
+			this.sendToRoutes.clear();
+			this.asyncExecutors.values().forEach(AsyncSendExecutor::shutdown);
+			this.asyncExecutors.clear();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	DynamicDestinationCache getDynamicDestinationCache() {
+		return this.channelCache;
 	}
 
 	public boolean isAsync() {
@@ -369,10 +711,108 @@ public final class StreamBridge implements StreamOperations, SmartInitializingSi
 	public void onApplicationEvent(ApplicationEvent event) {
 		// we need to do it by String to avoid cloud-bus and context dependencies
 		if (event.getClass().getName().equals("org.springframework.cloud.bus.event.RefreshRemoteApplicationEvent")) {
-			this.channelCache.clear();
+			lock.lock();
+			try {
+				this.channelCache.clear();
+				this.sendPlans.clear();
+				this.sendPlanLocks.clear();
+				this.sendToRoutes.clear();
+			}
+			finally {
+				lock.unlock();
+			}
 		}
 	}
 
+	/**
+	 * Immutable, per-binding send plan which captures everything that could be resolved once
+	 * (message channel, producer properties, default content type and conversion function)
+	 * so that the hot path of {@link #send(String, Object)} requires no locking. The partition handler
+	 * is obtained from the {@link PartitionHandlerRegistry} since it depends on the current partition count.
+	 *
+	 * @param bindingName name of the output binding
+	 * @param channelCacheKey key of the dynamic destination in the channel cache (null if not a dynamic destination)
+	 * @param cachedDestination the dynamic destination, used to record its usage (null if not a dynamic destination)
+	 * @param messageChannel resolved (bound) message channel
+	 * @param producerProperties producer properties of the binding
+	 * @param contentType default output content type of the binding
+	 * @param function stream bridge function used for output conversion of the default content type
+	 * @param inFlightPermits permits bounding the asynchronous sends awaiting acknowledgement (null if unbounded)
+	 */
+	private record SendPlan(String bindingName, @Nullable String channelCacheKey,
+			@Nullable DynamicDestinationCache.CachedDestination cachedDestination, MessageChannel messageChannel,
+			ProducerProperties producerProperties, MimeType contentType, FunctionInvocationWrapper function,
+			@Nullable Semaphore inFlightPermits) {
+
+		/*
+		 * Creates the message to be sent and, for partitioned bindings, sets the partition header.
+		 * Partitioning is performed on the message before the output conversion which is consistent
+		 * with what PartitionAwareFunctionWrapper does for functions.
+		 */
+		@SuppressWarnings("rawtypes")
+		Message<?> toMessage(Object data, @Nullable PartitionHandler partitionHandler) {
+			Object payload = data instanceof Message messageData ? messageData.getPayload() : data;
+			if (partitionHandler == null || payload instanceof Iterable
+					|| (ObjectUtils.isArray(payload) && !(payload instanceof byte[]))) {
+				return data instanceof Message messageData
+						? MessageBuilder.fromMessage(messageData).build()
+								: new GenericMessage<>(data);
+			}
+			Message<?> message = data instanceof Message messageData ? messageData : new GenericMessage<>(data);
+			int partitionId = partitionHandler.determinePartition(message);
+			return MessageBuilder.fromMessage(message).setHeader(BinderHeaders.PARTITION_HEADER, partitionId).build();
+		}
+	}
+
+	/*
+	 * Entry of the routing table of the destinations resolved from the
+	 * 'spring.cloud.stream.sendto.destination' header.
+	 */
+	private record SendToRoute(@Nullable String channelCacheKey,
+			@Nullable DynamicDestinationCache.CachedDestination cachedDestination, MessageChannel messageChannel,
+			@Nullable ProducerProperties producerProperties, @Nullable PartitionHandler partitionHandler,
+			int partitionCount) {
+
+		/*
+		 * The partition count of a destination may be updated by the binder once it is bound.
+		 */
+		boolean isCurrent() {
+			return this.partitionHandler == null || this.producerProperties.getPartitionCount() == this.partitionCount;
+		}
+
+		Message<?> toMessage(Message<?> message) {
+			if (this.partitionHandler == null) {
+				return message;
+			}
+			Object partitionOverride = message.getHeaders().get(BinderHeaders.PARTITION_OVERRIDE);
+			return MessageBuilder.fromMessage(message)
+				.setHeader(BinderHeaders.PARTITION_HEADER,
+						partitionOverride != null ? partitionOverride : this.partitionHandler.determinePartition(message))
+				.removeHeader(BinderHeaders.PARTITION_OVERRIDE)
+				.build();
+		}
+	}
+
+	/**
+	 * Listener of the executors used by the bindings in async mode.
+	 */
+	interface AsyncExecutorListener {
+
+		/**
+		 * Invoked once an executor has been created for a binding.
+		 * @param executor the executor
+		 */
+		void executorAdded(AsyncSendExecutor executor);
+
+		/**
+		 * Invoked when the dynamic destination using an executor has been evicted, right
+		 * before the executor is shut down.
+		 * @param executor the executor
+		 */
+		void executorRemoved(AsyncSendExecutor executor);
+
+	}
+
 	private static final class ContextPropagationHelper {
 		static ExecutorService wrap(ExecutorService executorService) {
 			return ContextExecutorService.wrap(executorService, () -> ContextSnapshotFactory.builder().build().captureAll());
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.function;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link MeterBinder} exposing the state of the dynamic destination cache of
+ * {@link StreamBridge}, so that it can be sized according to the actual usage, as well
+ * as the queue depth and wait time of the executors used in async mode.
+ *
+ * @since 5.0.1
+ */
+public class StreamBridgeMetrics implements MeterBinder {
+
+	/**
+	 * Prefix of the names of the meters of the dynamic destination cache.
+	 */
+	public static final String METRIC_PREFIX = "spring.cloud.stream.bridge.destination";
+
+	/**
+	 * Prefix of the names of the meters of the executors used in async mode.
+	 */
+	public static final String ASYNC_METRIC_PREFIX = "spring.cloud.stream.bridge.async";
+
+	private final StreamBridge streamBridge;
+
+	public StreamBridgeMetrics(StreamBridge streamBridge) {
+		this.streamBridge = streamBridge;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		DynamicDestinationCache cache = this.streamBridge.getDynamicDestinationCache();
+
+		Gauge.builder(METRIC_PREFIX + ".cache.size", cache, DynamicDestinationCache::size)
+			.description("Number of dynamic destinations currently bound")
+			.register(registry);
+		FunctionCounter.builder(METRIC_PREFIX + ".cache.gets", cache, DynamicDestinationCache::hitCount)
+			.tag("result", "hit")
+			.description("Number of sends to an already bound dynamic destination")
+			.register(registry);
+		FunctionCounter.builder(METRIC_PREFIX + ".cache.gets", cache, DynamicDestinationCache::missCount)
+			.tag("result", "miss")
+			.description("Number of sends which required a dynamic destination to be bound")
+			.register(registry);
+		FunctionCounter.builder(METRIC_PREFIX + ".cache.evictions", cache, DynamicDestinationCache::sizeEvictionCount)
+			.tag("cause", "size")
+			.description("Number of dynamic destinations evicted because the maximum cache size was exceeded")
+			.register(registry);
+		FunctionCounter.builder(METRIC_PREFIX + ".cache.evictions", cache, DynamicDestinationCache::expirationCount)
+			.tag("cause", "expired")
+			.description("Number of dynamic destinations evicted because they were idle for longer than the TTL")
+			.register(registry);
+		FunctionTimer.builder(METRIC_PREFIX + ".bind", cache, DynamicDestinationCache::bindCount,
+				DynamicDestinationCache::totalBindTimeNanos, TimeUnit.NANOSECONDS)
+			.description("Time spent binding dynamic destinations")
+			.register(registry);
+
+		this.streamBridge.addAsyncExecutorListener(new StreamBridge.AsyncExecutorListener() {
+
+			// the meters of an evicted destination must not be reused for a new executor of the same binding
+			private final Map<AsyncSendExecutor, List<Meter>> meters = new ConcurrentHashMap<>();
+
+			@Override
+			public void executorAdded(AsyncSendExecutor executor) {
+				Gauge queued = Gauge.builder(ASYNC_METRIC_PREFIX + ".queued", executor, AsyncSendExecutor::getQueueDepth)
+					.tag("binding", executor.getBindingName())
+					.description("Number of sends waiting for a thread of the async executor")
+					.register(registry);
+				FunctionTimer wait = FunctionTimer.builder(ASYNC_METRIC_PREFIX + ".wait", executor,
+						AsyncSendExecutor::getStartedCount, AsyncSendExecutor::getTotalWaitTimeNanos, TimeUnit.NANOSECONDS)
+					.tag("binding", executor.getBindingName())
+					.description("Time sends spent waiting for a thread of the async executor")
+					.register(registry);
+				this.meters.put(executor, List.of(queued, wait));
+			}
+
+			@Override
+			public void executorRemoved(AsyncSendExecutor executor) {
+				List<Meter> executorMeters = this.meters.remove(executor);
+				if (executorMeters != null) {
+					executorMeters.forEach(registry::remove);
+				}
+			}
+
+		});
+	}
+
+}
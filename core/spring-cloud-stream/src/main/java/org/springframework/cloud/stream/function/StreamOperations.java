@@ -16,7 +16,17 @@
 
 package org.springframework.cloud.stream.function;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.stream.binder.SendResult;
 import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
 import org.springframework.util.MimeType;
 
 /**
@@ -107,4 +117,87 @@ public interface StreamOperations {
 	 */
 	boolean send(String bindingName, @Nullable String binderName, Object data, MimeType outputContentType);
 
+	/**
+	 * Sends all elements of 'data' to an output binding specified by 'bindingName' argument while
+	 * using default content type to deal with output type conversion (if necessary).
+	 * Each element can be a POJO or a {@link Message} and is treated the same way as if it was sent via
+	 * {@link #send(String, Object)}. However, the output binding, content type and partitioning
+	 * are resolved only once for the entire batch, and the converted messages are handed over to the binder in
+	 * a single call, allowing binders that support it to take advantage of native bulk sends.
+	 * <br>
+	 * The default implementation simply invokes {@link #send(String, Object)} for each element.
+	 *
+	 * @param bindingName the name of the output binding (see {@link #send(String, Object)} for more details).
+	 * @param data the collection of data elements to send
+	 * @return true if all elements were sent successfully, otherwise false or throws an exception.
+	 * @since 5.0.1
+	 */
+	default boolean sendAll(String bindingName, Collection<?> data) {
+		boolean sent = true;
+		for (Object element : data) {
+			sent &= this.send(bindingName, element);
+		}
+		return sent;
+	}
+
+	/**
+	 * Sends all 'messages' to an output binding specified by 'bindingName' argument.
+	 * This is a {@link Message} specific variant of {@link #sendAll(String, Collection)}.
+	 *
+	 * @param bindingName the name of the output binding (see {@link #send(String, Object)} for more details).
+	 * @param messages the messages to send
+	 * @return true if all messages were sent successfully, otherwise false or throws an exception.
+	 * @since 5.0.1
+	 */
+	default boolean sendAll(String bindingName, List<? extends Message<?>> messages) {
+		return this.sendAll(bindingName, (Collection<?>) messages);
+	}
+
+	/**
+	 * Sends 'data' to an output binding specified by 'bindingName' argument exactly as {@link #send(String, Object)}
+	 * does, however without waiting for (or ignoring) the acknowledgement of the broker. Instead, the returned
+	 * future is completed once the message is acknowledged by the broker (e.g., Kafka record metadata,
+	 * RabbitMQ publisher confirm, Pulsar message id) or completed exceptionally if the send fails.
+	 * <br>
+	 * The number of sends awaiting the acknowledgement is bounded per binding (see
+	 * 'spring.cloud.stream.bindings.[bindingName].producer.max-in-flight-async-sends'); once reached, this
+	 * method blocks until one of the in-flight sends is acknowledged.
+	 * <br>
+	 * The default implementation does not support asynchronous sends and throws an
+	 * {@link UnsupportedOperationException}.
+	 *
+	 * @param bindingName the name of the output binding (see {@link #send(String, Object)} for more details).
+	 * @param data the data to send
+	 * @return future which is completed with the {@link SendResult} once the message is acknowledged by the broker.
+	 * @throws UnsupportedOperationException if this implementation does not support asynchronous sends
+	 * @throws IllegalStateException if the binder of the output binding does not support send confirmations
+	 * @since 5.0.1
+	 */
+	default CompletableFuture<SendResult> sendAsync(String bindingName, Object data) {
+		throw new UnsupportedOperationException("Asynchronous sends are not supported by " + getClass().getName());
+	}
+
+	/**
+	 * Sends each element emitted by 'data' to an output binding specified by 'bindingName' argument the same
+	 * way {@link #sendAsync(String, Object)} does, without ever blocking the calling (or emitting) thread.
+	 * Elements are requested from 'data' only as fast as the sends are acknowledged by the broker, within the
+	 * number of in-flight sends configured for the binding (see
+	 * 'spring.cloud.stream.bindings.[bindingName].producer.max-in-flight-async-sends'), a limit which is shared
+	 * with the other asynchronous sends to the binding.
+	 * <br>
+	 * Unlike {@link #send(String, Object)}, which sends a {@link Publisher} as the payload of a single message,
+	 * this method sends each element of the publisher.
+	 * <br>
+	 * The default implementation sends one element at a time via {@link #sendAsync(String, Object)}.
+	 *
+	 * @param bindingName the name of the output binding (see {@link #send(String, Object)} for more details).
+	 * @param data the publisher of the data to send
+	 * @return {@link Flux} emitting the {@link SendResult} of each element (in the order of the elements)
+	 * once it is acknowledged by the broker, or an error if one of the sends fails.
+	 * @since 5.0.1
+	 */
+	default Flux<SendResult> sendPublisher(String bindingName, Publisher<?> data) {
+		return Flux.from(data).concatMap(element -> Mono.fromFuture(() -> this.sendAsync(bindingName, element)));
+	}
+
 }
@@ -16,12 +16,29 @@
 
 package org.springframework.cloud.stream.messaging;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.cloud.stream.binder.BulkMessageHandler;
+import org.springframework.cloud.stream.binder.ConfirmingMessageHandler;
+import org.springframework.cloud.stream.binder.OutboundMessagePipeline;
+import org.springframework.cloud.stream.binder.SendResult;
 import org.springframework.integration.channel.AbstractMessageChannel;
 import org.springframework.integration.channel.DirectChannel;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.util.Assert;
 
 /**
  * @author Oleg Zhurakousky
@@ -36,6 +53,21 @@ public class DirectWithAttributesChannel extends DirectChannel {
 
 	private final Map<String, Object> attributes = new HashMap<>();
 
+	private volatile MessageHandler subscribedHandler;
+
+	private volatile boolean observed;
+
+	private volatile boolean outboundPipelineEnabled;
+
+	@Nullable
+	private volatile OutboundMessagePipeline outboundPipeline;
+
+	/*
+	 * Replaces the dispatch of the message being sent by sendAll or sendAsync to the
+	 * subscribed handler, once the message went through the regular send bookkeeping.
+	 */
+	private final ThreadLocal<Consumer<Message<?>>> handOver = new ThreadLocal<>();
+
 	public void setAttribute(String key, Object value) {
 		this.attributes.put(key, value);
 	}
@@ -60,6 +92,210 @@ public class DirectWithAttributesChannel extends DirectChannel {
 
 	@Override
 	public boolean subscribe(MessageHandler handler) {
-		return this.getDispatcher().getHandlerCount() == 1 ? false : super.subscribe(handler);
+		boolean subscribed = this.getDispatcher().getHandlerCount() == 1 ? false : super.subscribe(handler);
+		if (subscribed) {
+			this.subscribedHandler = handler;
+		}
+		return subscribed;
+	}
+
+	@Override
+	public boolean unsubscribe(MessageHandler handler) {
+		if (this.subscribedHandler == handler) {
+			this.subscribedHandler = null;
+		}
+		return super.unsubscribe(handler);
+	}
+
+	@Override
+	public void registerObservationRegistry(ObservationRegistry observationRegistry) {
+		super.registerObservationRegistry(observationRegistry);
+		this.observed = !ObservationRegistry.NOOP.equals(observationRegistry);
 	}
+
+	/**
+	 * Apply the interceptors of this channel through a single {@link OutboundMessagePipeline}
+	 * rather than one after the other, as long as all of them are
+	 * {@link org.springframework.cloud.stream.binder.OutboundMessageStage stages} of such
+	 * pipeline. The pipeline then replaces these interceptors as the single interceptor of
+	 * this channel and is recompiled whenever the interceptors change; as soon as a user
+	 * interceptor is added, the interceptors are applied individually again. Invoked by the
+	 * binder once the producer has been bound to this channel.
+	 * @since 5.0.1
+	 */
+	public void enableOutboundPipeline() {
+		this.outboundPipelineEnabled = true;
+		this.fuseInterceptors();
+	}
+
+	/**
+	 * @return the pipeline applied to the messages sent to this channel or null if the
+	 * interceptors are applied individually
+	 * @since 5.0.1
+	 */
+	@Nullable
+	public OutboundMessagePipeline getOutboundPipeline() {
+		return this.outboundPipeline;
+	}
+
+	/**
+	 * @return the interceptors of this channel, including the ones which are applied
+	 * through the {@link #getOutboundPipeline() outbound pipeline}
+	 */
+	@Override
+	public List<ChannelInterceptor> getInterceptors() {
+		OutboundMessagePipeline pipeline = this.outboundPipeline;
+		return pipeline != null ? pipeline.getInterceptors() : super.getInterceptors();
+	}
+
+	@Override
+	public void setInterceptors(List<ChannelInterceptor> interceptors) {
+		this.unfuseInterceptors();
+		super.setInterceptors(interceptors);
+		this.fuseInterceptors();
+	}
+
+	@Override
+	public void addInterceptor(ChannelInterceptor interceptor) {
+		this.unfuseInterceptors();
+		super.addInterceptor(interceptor);
+		this.fuseInterceptors();
+	}
+
+	@Override
+	public void addInterceptor(int index, ChannelInterceptor interceptor) {
+		this.unfuseInterceptors();
+		super.addInterceptor(index, interceptor);
+		this.fuseInterceptors();
+	}
+
+	@Override
+	public boolean removeInterceptor(ChannelInterceptor interceptor) {
+		this.unfuseInterceptors();
+		boolean removed = super.removeInterceptor(interceptor);
+		this.fuseInterceptors();
+		return removed;
+	}
+
+	@Override
+	@Nullable
+	public ChannelInterceptor removeInterceptor(int index) {
+		this.unfuseInterceptors();
+		ChannelInterceptor removed = super.removeInterceptor(index);
+		this.fuseInterceptors();
+		return removed;
+	}
+
+	private void fuseInterceptors() {
+		if (this.outboundPipelineEnabled) {
+			List<ChannelInterceptor> interceptors = super.getInterceptors();
+			OutboundMessagePipeline pipeline = interceptors.isEmpty() ? null : OutboundMessagePipeline.of(interceptors);
+			if (pipeline != null) {
+				this.replaceInterceptors(List.of(pipeline));
+				this.outboundPipeline = pipeline;
+			}
+		}
+	}
+
+	private void unfuseInterceptors() {
+		OutboundMessagePipeline pipeline = this.outboundPipeline;
+		if (pipeline != null) {
+			this.outboundPipeline = null;
+			this.replaceInterceptors(pipeline.getInterceptors());
+		}
+	}
+
+	/*
+	 * Unlike setInterceptors(), keeps the given interceptors in order rather than sorting them.
+	 */
+	private void replaceInterceptors(List<ChannelInterceptor> interceptors) {
+		for (ChannelInterceptor interceptor : new ArrayList<>(super.getInterceptors())) {
+			super.removeInterceptor(interceptor);
+		}
+		for (ChannelInterceptor interceptor : interceptors) {
+			super.addInterceptor(interceptor);
+		}
+	}
+
+	/**
+	 * Send all messages to the subscribed handler. If such handler is a {@link BulkMessageHandler}
+	 * (e.g., the producer binding of a binder supporting bulk sends), each message goes through
+	 * the regular send of this channel (interceptors, message history and metrics), except that
+	 * it is added to a bulk send instead of being dispatched; the messages are then handed over to
+	 * the handler in a single call. The send of each message is thus recorded as completed once it
+	 * was added to the bulk send, while a failure of the bulk send is thrown to the caller.
+	 * Otherwise, as well as when this channel is observed, each message is sent individually
+	 * via {@link #send(Message)}.
+	 * @param messages the messages to send
+	 * @return true if all messages were sent
+	 * @since 5.0.1
+	 */
+	public boolean sendAll(List<? extends Message<?>> messages) {
+		if (!(this.subscribedHandler instanceof BulkMessageHandler bulkMessageHandler) || this.observed) {
+			boolean sent = true;
+			for (Message<?> message : messages) {
+				sent &= this.send(message);
+			}
+			return sent;
+		}
+
+		List<Message<?>> messagesToSend = new ArrayList<>(messages.size());
+		for (Message<?> message : messages) {
+			this.sendAndHandOver(message, messagesToSend::add);
+		}
+		try {
+			bulkMessageHandler.handleMessages(messagesToSend);
+		}
+		catch (RuntimeException ex) {
+			throw ex instanceof MessagingException ? ex
+					: new MessagingException("Failed to send batch of messages to channel '" + this.getFullChannelName() + "'", ex);
+		}
+		return messagesToSend.size() == messages.size();
+	}
+
+	/**
+	 * Send the message to the subscribed handler without waiting for the broker acknowledgement.
+	 * The message goes through the regular send of this channel (interceptors, message history,
+	 * metrics and observation); however, since the completion is only signalled by the returned
+	 * future, the send is recorded as completed once the message was handed over to the handler.
+	 * @param message the message to send
+	 * @return future which is completed once the message is acknowledged by the broker
+	 * @throws IllegalStateException if the subscribed handler does not support send confirmations
+	 * @since 5.0.1
+	 * @see ConfirmingMessageHandler
+	 */
+	public CompletableFuture<SendResult> sendAsync(Message<?> message) {
+		Assert.state(this.subscribedHandler instanceof ConfirmingMessageHandler,
+				() -> "Channel '" + this.getFullChannelName() + "' is not bound to a producer supporting send confirmations");
+		ConfirmingMessageHandler confirmingMessageHandler = (ConfirmingMessageHandler) this.subscribedHandler;
+		AtomicReference<CompletableFuture<SendResult>> result = new AtomicReference<>();
+		if (!this.sendAndHandOver(message,
+				messageToSend -> result.set(confirmingMessageHandler.handleMessageAsync(messageToSend)))) {
+			return CompletableFuture.failedFuture(new MessageDeliveryException(message,
+					"Message was rejected by a channel interceptor of '" + this.getFullChannelName() + "'"));
+		}
+		return result.get();
+	}
+
+	private boolean sendAndHandOver(Message<?> message, Consumer<Message<?>> handOver) {
+		this.handOver.set(handOver);
+		try {
+			return this.send(message);
+		}
+		finally {
+			this.handOver.remove();
+		}
+	}
+
+	@Override
+	protected boolean doSend(Message<?> message, long timeout) {
+		Consumer<Message<?>> handOver = this.handOver.get();
+		if (handOver == null) {
+			return super.doSend(message, timeout);
+		}
+		this.handOver.remove();
+		handOver.accept(message);
+		return true;
+	}
+
 }
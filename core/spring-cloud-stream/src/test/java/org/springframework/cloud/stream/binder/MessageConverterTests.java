@@ -17,15 +17,24 @@
 package org.springframework.cloud.stream.binder;
 
 import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.cloud.stream.converter.CachingCompositeMessageConverter;
+import org.springframework.cloud.stream.converter.ObjectStringMessageConverter;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.support.GenericMessage;
+import org.springframework.util.MimeTypeUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.fail;
 
 /**
@@ -123,6 +132,143 @@ class MessageConverterTests {
 				.isEqualTo("\u0001\u0003foo\u0000\u0000\u0000\u0005\"bar\"Hello");
 	}
 
+	@Test
+	void binaryHeaderEmbedding() throws Exception {
+		UUID uuid = UUID.randomUUID();
+		Message<byte[]> message = MessageBuilder.withPayload("Hello".getBytes())
+				.setHeader("string", "ØØØØ")
+				.setHeader("int", 42)
+				.setHeader("long", 42L)
+				.setHeader("short", (short) 42)
+				.setHeader("byte", (byte) 42)
+				.setHeader("double", 4.2d)
+				.setHeader("float", 4.2f)
+				.setHeader("boolean", true)
+				.setHeader("uuid", uuid)
+				.setHeader("mimeType", MimeTypeUtils.APPLICATION_JSON)
+				.setHeader("bytes", new byte[] { 1, 2, 3 })
+				.setHeader("json", Collections.singletonMap("foo", "bar"))
+				.build();
+		String[] headers = { "string", "int", "long", "short", "byte", "double", "float", "boolean", "uuid",
+				"mimeType", "bytes", "json", "missing" };
+		byte[] embedded = EmbeddedHeaderUtils.embedHeaders(message, false, headers);
+		assertThat(embedded[0] & 0xff).isEqualTo(0xfe);
+		assertThat(embedded[1]).isEqualTo((byte) 2);
+		assertThat(embedded[2]).isEqualTo((byte) 12);
+		assertThat(EmbeddedHeaderUtils.mayHaveEmbeddedHeaders(embedded)).isTrue();
+		assertThat(EmbeddedHeaderUtils.isJsonFormat(embedded)).isFalse();
+
+		MessageValues extracted = EmbeddedHeaderUtils
+				.extractHeaders(MessageBuilder.withPayload(embedded).build(), false);
+		assertThat(new String((byte[]) extracted.getPayload())).isEqualTo("Hello");
+		assertThat(extracted.get("string")).isEqualTo("ØØØØ");
+		assertThat(extracted.get("int")).isEqualTo(42);
+		assertThat(extracted.get("long")).isEqualTo(42L);
+		assertThat(extracted.get("short")).isEqualTo((short) 42);
+		assertThat(extracted.get("byte")).isEqualTo((byte) 42);
+		assertThat(extracted.get("double")).isEqualTo(4.2d);
+		assertThat(extracted.get("float")).isEqualTo(4.2f);
+		assertThat(extracted.get("boolean")).isEqualTo(true);
+		assertThat(extracted.get("uuid")).isEqualTo(uuid);
+		assertThat(extracted.get("mimeType")).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+		assertThat(extracted.get("bytes")).isEqualTo(new byte[] { 1, 2, 3 });
+		assertThat(extracted.get("json")).isEqualTo(Collections.singletonMap("foo", "bar"));
+		assertThat(extracted.containsKey("missing")).isFalse();
+	}
+
+	@Test
+	void binaryHeaderEmbeddingWithoutHeaders() throws Exception {
+		Message<byte[]> message = MessageBuilder.withPayload("Hi".getBytes()).build();
+		byte[] embedded = EmbeddedHeaderUtils.embedHeaders(message, false, "foo");
+		assertThat(embedded).containsExactly(0xfe, 2, 0, 'H', 'i');
+		assertThat(EmbeddedHeaderUtils.mayHaveEmbeddedHeaders(embedded)).isTrue();
+		assertThat(new String((byte[]) EmbeddedHeaderUtils.extractHeaders(embedded).getPayload()))
+				.isEqualTo("Hi");
+	}
+
+	@Test
+	void jsonFormatIsDetected() {
+		Message<byte[]> message = MessageBuilder.withPayload("Hello".getBytes())
+				.setHeader("foo", "bar").build();
+		assertThat(EmbeddedHeaderUtils.isJsonFormat(
+				EmbeddedHeaderUtils.embedHeaders(message, true, "foo"))).isTrue();
+		assertThat(EmbeddedHeaderUtils.isJsonFormat(
+				EmbeddedHeaderUtils.embedHeaders(message, false, "foo"))).isFalse();
+	}
+
+	@Test
+	void extractedPayloadIsNotCopied() throws Exception {
+		Message<byte[]> message = MessageBuilder.withPayload("Hello".getBytes())
+				.setHeader("foo", "bar").build();
+		byte[] embedded = EmbeddedHeaderUtils.embedHeaders(message, "foo");
+		MessageValues extracted = EmbeddedHeaderUtils.extractHeaders(embedded);
+		embedded[embedded.length - 5] = 'J';
+
+		ByteBuffer buffer = extracted.getPayloadAsByteBuffer();
+		assertThat(buffer.isReadOnly()).isTrue();
+		byte[] read = new byte[buffer.remaining()];
+		buffer.get(read);
+		assertThat(new String(read)).isEqualTo("Jello");
+		assertThat(new String(extracted.getPayloadAsInputStream().readAllBytes())).isEqualTo("Jello");
+
+		byte[] payload = (byte[]) extracted.getPayload();
+		assertThat(payload).isEqualTo("Jello".getBytes());
+		assertThat(extracted.getPayload()).isSameAs(payload);
+		embedded[embedded.length - 5] = 'M';
+		assertThat(new String(payload)).isEqualTo("Jello");
+	}
+
+	@Test
+	void extractedPayloadIsConvertedInPlace() throws Exception {
+		Message<byte[]> message = MessageBuilder.withPayload("Hello".getBytes())
+				.setHeader(MessageHeaders.CONTENT_TYPE, "text/plain").build();
+		Message<?> extracted = EmbeddedHeaderUtils
+				.extractHeaders(EmbeddedHeaderUtils.embedHeaders(message, MessageHeaders.CONTENT_TYPE))
+				.toMessage();
+		assertThat(extracted).isInstanceOf(PayloadRegionMessage.class);
+		PayloadRegionMessage regionMessage = (PayloadRegionMessage) extracted;
+
+		CachingCompositeMessageConverter converter = new CachingCompositeMessageConverter(
+				List.of(new ObjectStringMessageConverter()));
+		assertThat(converter.fromMessage(extracted, String.class)).isEqualTo("Hello");
+		assertThat(regionMessage.isPayloadCopied()).isFalse();
+		assertThat(extracted.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo("text/plain");
+
+		assertThat(regionMessage.getPayload()).isEqualTo("Hello".getBytes());
+		assertThat(regionMessage.isPayloadCopied()).isTrue();
+		assertThat(regionMessage.getPayload()).isSameAs(regionMessage.getPayload());
+	}
+
+	@Test
+	void extractedPayloadIsReembeddedInPlace() throws Exception {
+		Message<byte[]> message = MessageBuilder.withPayload("Hello".getBytes())
+				.setHeader("foo", "bar").build();
+		MessageValues extracted = EmbeddedHeaderUtils
+				.extractHeaders(EmbeddedHeaderUtils.embedHeaders(message, "foo"));
+		extracted.put("baz", 42);
+
+		for (boolean jsonFormat : new boolean[] { false, true }) {
+			MessageValues reextracted = EmbeddedHeaderUtils.extractHeaders(
+					EmbeddedHeaderUtils.embedHeaders(extracted, jsonFormat, "foo", "baz"));
+			assertThat(new String((byte[]) reextracted.getPayload())).isEqualTo("Hello");
+			assertThat(reextracted.get("foo")).isEqualTo("bar");
+			assertThat(reextracted.get("baz")).isEqualTo(42);
+		}
+	}
+
+	@Test
+	void payloadRegionMustBeWithinArray() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> new MessageValues(new byte[3], 2, 2, Collections.emptyMap()));
+	}
+
+	@Test
+	void badBinaryDecode() {
+		byte[] bytes = new byte[] { (byte) 0xfe, 2, 1, 3, 'f', 'o', 'o', 1, 0, 0, 0, 9 };
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> EmbeddedHeaderUtils.extractHeaders(new GenericMessage<>(bytes), false));
+	}
+
 	@Test
 	void badDecode() throws Exception {
 		byte[] bytes = new byte[] { (byte) 0xff, 99 };
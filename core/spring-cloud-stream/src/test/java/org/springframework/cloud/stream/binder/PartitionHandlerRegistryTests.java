@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PartitionHandlerRegistryTests {
+
+	@Test
+	void partitionHandlerIsCreatedOncePerBinding() {
+		DefaultListableBeanFactory beanFactory = spy(new DefaultListableBeanFactory());
+		PartitionHandlerRegistry registry = new PartitionHandlerRegistry(beanFactory);
+		ProducerProperties producerProperties = partitionedProducerProperties(4);
+
+		PartitionHandler partitionHandler = registry.getPartitionHandler("foo", producerProperties);
+		for (int i = 0; i < 10; i++) {
+			assertThat(registry.getPartitionHandler("foo", producerProperties)).isSameAs(partitionHandler);
+		}
+		assertThat(partitionHandler.determinePartition(MessageBuilder.withPayload("a").setHeader("key", 6).build()))
+			.isEqualTo(2);
+		verify(beanFactory, times(1)).getBeansOfType(PartitionKeyExtractorStrategy.class);
+		verify(beanFactory, times(1)).getBeansOfType(PartitionSelectorStrategy.class);
+
+		assertThat(registry.getPartitionHandler("bar", partitionedProducerProperties(4))).isNotSameAs(partitionHandler);
+	}
+
+	@Test
+	void partitionHandlerIsReplacedWhenPartitionCountOrPropertiesChange() {
+		PartitionHandlerRegistry registry = new PartitionHandlerRegistry(new DefaultListableBeanFactory());
+		ProducerProperties producerProperties = partitionedProducerProperties(4);
+		PartitionHandler partitionHandler = registry.getPartitionHandler("foo", producerProperties);
+
+		producerProperties.setPartitionCount(5);
+		PartitionHandler updatedPartitionHandler = registry.getPartitionHandler("foo", producerProperties);
+		assertThat(updatedPartitionHandler).isNotSameAs(partitionHandler);
+		assertThat(updatedPartitionHandler.determinePartition(MessageBuilder.withPayload("a").setHeader("key", 6).build()))
+			.isEqualTo(1);
+
+		ProducerProperties refreshedProducerProperties = partitionedProducerProperties(5);
+		assertThat(registry.getPartitionHandler("foo", refreshedProducerProperties)).isNotSameAs(updatedPartitionHandler);
+	}
+
+	@Test
+	void partitionHandlersAreDiscardedOnRefresh() {
+		PartitionHandlerRegistry registry = new PartitionHandlerRegistry(new DefaultListableBeanFactory());
+		ProducerProperties producerProperties = partitionedProducerProperties(4);
+		PartitionHandler partitionHandler = registry.getPartitionHandler("foo", producerProperties);
+
+		registry.onApplicationEvent(new ApplicationEvent(this) { });
+		assertThat(registry.getPartitionHandler("foo", producerProperties)).isSameAs(partitionHandler);
+
+		registry.invalidateAll();
+		assertThat(registry.getPartitionHandler("foo", producerProperties)).isNotSameAs(partitionHandler);
+	}
+
+	private static ProducerProperties partitionedProducerProperties(int partitionCount) {
+		ProducerProperties producerProperties = new ProducerProperties();
+		producerProperties.setPartitionKeyExpression(new SpelExpressionParser().parseExpression("headers['key']"));
+		producerProperties.setPartitionCount(partitionCount);
+		return producerProperties;
+	}
+
+}
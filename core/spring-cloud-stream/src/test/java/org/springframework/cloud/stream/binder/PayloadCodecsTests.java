@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.support.management.micrometer.MicrometerMetricsCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class PayloadCodecsTests {
+
+	private static final byte[] PAYLOAD = "hello hello hello hello hello hello hello hello"
+		.getBytes(StandardCharsets.UTF_8);
+
+	private static final int MAX_DECODED_SIZE = 1024;
+
+	@Test
+	void builtInCodecsRoundTrip() {
+		PayloadCodecs codecs = new PayloadCodecs(List.of());
+		for (String name : List.of("gzip", "deflate", "zstd", "lz4", "snappy")) {
+			byte[] encoded = codecs.encode(name, PAYLOAD);
+			assertThat(encoded).isNotEqualTo(PAYLOAD);
+			assertThat(codecs.decode(name, encoded, MAX_DECODED_SIZE)).isEqualTo(PAYLOAD);
+			assertThat(codecs.decode(name, new ByteArrayInputStream(encoded), MAX_DECODED_SIZE)).isEqualTo(PAYLOAD);
+		}
+	}
+
+	@Test
+	void payloadsDecodingBeyondTheMaximumSizeAreRejected() {
+		PayloadCodecs codecs = new PayloadCodecs(List.of());
+		byte[] bomb = new byte[MAX_DECODED_SIZE * 64];
+		for (String name : List.of("gzip", "deflate", "zstd", "lz4", "snappy")) {
+			byte[] encoded = codecs.encode(name, bomb);
+			assertThat(encoded.length).isLessThan(bomb.length / 8);
+			assertThatIllegalStateException().isThrownBy(() -> codecs.decode(name, encoded, MAX_DECODED_SIZE))
+				.withMessageContaining(name)
+				.withStackTraceContaining("maximum size of " + MAX_DECODED_SIZE);
+			assertThat(codecs.decode(name, encoded, bomb.length)).isEqualTo(bomb);
+		}
+	}
+
+	@Test
+	void customCodecsDecodingBeyondTheMaximumSizeAreRejected() {
+		PayloadCodecs codecs = new PayloadCodecs(List.of(new ReversingCodec("reverse")));
+		byte[] payload = new byte[MAX_DECODED_SIZE + 1];
+		assertThatIllegalStateException()
+			.isThrownBy(() -> codecs.decode("reverse", payload, MAX_DECODED_SIZE))
+			.withStackTraceContaining("maximum size of " + MAX_DECODED_SIZE);
+	}
+
+	@Test
+	void unknownCodecIsRejected() {
+		PayloadCodecs codecs = new PayloadCodecs(List.of());
+		assertThat(codecs.hasCodec("brotli")).isFalse();
+		assertThatIllegalArgumentException().isThrownBy(() -> codecs.encode("brotli", PAYLOAD))
+			.withMessageContaining("brotli");
+	}
+
+	@Test
+	void zstdCodecWithDictionaryRoundTrip() throws IOException {
+		ZstdPayloadCodec codec = new ZstdPayloadCodec("zstd-hello", ZstdPayloadCodec.DEFAULT_LEVEL, PAYLOAD);
+		PayloadCodecs codecs = new PayloadCodecs(List.of(codec));
+
+		byte[] encoded = codecs.encode("zstd-hello", PAYLOAD);
+		assertThat(encoded.length).isLessThan(new ZstdPayloadCodec().encode(PAYLOAD).length);
+		assertThat(codecs.decode("zstd-hello", encoded, MAX_DECODED_SIZE)).isEqualTo(PAYLOAD);
+		assertThat(codecs.decode("zstd-hello", new ByteArrayInputStream(encoded), MAX_DECODED_SIZE)).isEqualTo(PAYLOAD);
+	}
+
+	@Test
+	void customCodecOverridesBuiltInCodec() {
+		PayloadCodecs codecs = new PayloadCodecs(List.of(new ReversingCodec("gzip")));
+		byte[] encoded = codecs.encode("gzip", "abc".getBytes(StandardCharsets.UTF_8));
+		assertThat(new String(encoded, StandardCharsets.UTF_8)).isEqualTo("cba");
+		assertThat(new String(codecs.decode("gzip", encoded, MAX_DECODED_SIZE), StandardCharsets.UTF_8)).isEqualTo("abc");
+	}
+
+	@Test
+	void metricsAreRecorded() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		PayloadCodecs codecs = new PayloadCodecs(List.of());
+		codecs.registerMetricsCaptor(new MicrometerMetricsCaptor(registry));
+
+		codecs.decode("gzip", codecs.encode("gzip", PAYLOAD), MAX_DECODED_SIZE);
+
+		assertThat(registry.get(PayloadCodecs.METRIC_PREFIX + ".encode").tag("codec", "gzip").timer().count())
+			.isEqualTo(1);
+		assertThat(registry.get(PayloadCodecs.METRIC_PREFIX + ".decode").tag("codec", "gzip").timer().count())
+			.isEqualTo(1);
+		assertThat(registry.get(PayloadCodecs.METRIC_PREFIX + ".compression.ratio").tag("codec", "gzip").gauge()
+			.value()).isGreaterThan(0).isLessThan(1);
+	}
+
+	private static final class ReversingCodec implements PayloadCodec {
+
+		private final String name;
+
+		ReversingCodec(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public byte[] encode(byte[] payload) {
+			byte[] reversed = new byte[payload.length];
+			for (int i = 0; i < payload.length; i++) {
+				reversed[i] = payload[payload.length - 1 - i];
+			}
+			return reversed;
+		}
+
+		@Override
+		public byte[] decode(byte[] payload) {
+			return encode(payload);
+		}
+
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.config;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for the compilation of the expressions of bindings.
+ */
+class BindingExpressionCompilationTests {
+
+	/**
+	 * Enables {@link #benchmark()}, which is too long to run as part of the build.
+	 */
+	private static final String BENCHMARK_PROPERTY = "spring.cloud.stream.benchmark";
+
+	/**
+	 * More than the number of interpreted evaluations after which an expression is
+	 * compiled in mixed mode.
+	 */
+	private static final int EVALUATIONS_BEFORE_COMPILATION = 200;
+
+	private final EvaluationContext evaluationContext = new StandardEvaluationContext();
+
+	private final Message<String> message = MessageBuilder.withPayload("hello")
+		.setHeader("key", "someKey")
+		.build();
+
+	@Test
+	void expressionIsCompiledInMixedMode() {
+		Expression expression = parse(SpelCompilerMode.MIXED, "headers['key']");
+		for (int i = 0; i < EVALUATIONS_BEFORE_COMPILATION; i++) {
+			assertThat(expression.getValue(this.evaluationContext, this.message)).isEqualTo("someKey");
+		}
+		assertThat(isCompiled(expression)).isTrue();
+	}
+
+	@Test
+	void expressionIsNotCompiledWhenCompilerIsOff() {
+		Expression expression = parse(SpelCompilerMode.OFF, "headers['key']");
+		for (int i = 0; i < EVALUATIONS_BEFORE_COMPILATION; i++) {
+			assertThat(expression.getValue(this.evaluationContext, this.message)).isEqualTo("someKey");
+		}
+		assertThat(isCompiled(expression)).isFalse();
+	}
+
+	@Test
+	void compiledExpressionFallsBackToInterpretedMode() {
+		Expression expression = parse(SpelCompilerMode.MIXED, "payload.toString()");
+		for (int i = 0; i < EVALUATIONS_BEFORE_COMPILATION; i++) {
+			assertThat(expression.getValue(this.evaluationContext, this.message)).isEqualTo("hello");
+		}
+		assertThat(isCompiled(expression)).isTrue();
+
+		// the compiled form assumes a String payload
+		assertThat(expression.getValue(this.evaluationContext, MessageBuilder.withPayload(42).build()))
+			.isEqualTo("42");
+		assertThat(isCompiled(expression)).isFalse();
+	}
+
+	@Test
+	void binderWideCompilerModeDefaultsToOff() {
+		assertThat(new BindingServiceProperties().getExpressionCompilerMode()).isEqualTo(SpelCompilerMode.OFF);
+		assertThat(SpelExpressionConverterConfiguration.getExpressionCompilerMode(new MockEnvironment()))
+			.isEqualTo(SpelCompilerMode.OFF);
+		assertThat(SpelExpressionConverterConfiguration.getExpressionCompilerMode(new MockEnvironment()
+			.withProperty(SpelExpressionConverterConfiguration.EXPRESSION_COMPILER_MODE_PROPERTY, "mixed")))
+			.isEqualTo(SpelCompilerMode.MIXED);
+	}
+
+	@Test
+	void benchmark() {
+		assumeTrue(Boolean.getBoolean(BENCHMARK_PROPERTY), "Set -D" + BENCHMARK_PROPERTY + "=true to run");
+		String expressionString = "headers['key']";
+		int iterations = 5_000_000;
+		long interpreted = Long.MAX_VALUE;
+		long compiled = Long.MAX_VALUE;
+		for (int round = 0; round < 3; round++) {
+			interpreted = Math.min(interpreted, measure(parse(SpelCompilerMode.OFF, expressionString), iterations));
+			compiled = Math.min(compiled, measure(parse(SpelCompilerMode.MIXED, expressionString), iterations));
+		}
+		assertThat(compiled).isLessThan(interpreted);
+	}
+
+	private long measure(Expression expression, int iterations) {
+		for (int i = 0; i < iterations / 10; i++) {
+			expression.getValue(this.evaluationContext, this.message);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			expression.getValue(this.evaluationContext, this.message);
+		}
+		return System.nanoTime() - start;
+	}
+
+	private static Expression parse(SpelCompilerMode compilerMode, String expression) {
+		return SpelExpressionConverterConfiguration
+			.createExpressionParser(compilerMode, BindingExpressionCompilationTests.class.getClassLoader())
+			.parseExpression(expression);
+	}
+
+	private static boolean isCompiled(Expression expression) {
+		return TestUtils.getPropertyValue(expression, "compiledAst") != null;
+	}
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.converter;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CachingCompositeMessageConverter}.
+ */
+class CachingCompositeMessageConverterTests {
+
+	private final Message<String> message = MessageBuilder.withPayload("hello")
+		.setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.TEXT_PLAIN)
+		.build();
+
+	@Test
+	void resolvedConverterIsRemembered() {
+		CountingConverter declining = new ContentTypeBasedCountingConverter(false);
+		CountingConverter converting = new CountingConverter(true);
+		CachingCompositeMessageConverter converter = new CachingCompositeMessageConverter(List.of(declining, converting));
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(converter.fromMessage(this.message, String.class)).isEqualTo("converted");
+			assertThat(converter.toMessage("hello", this.message.getHeaders())).isNotNull();
+		}
+
+		assertThat(declining.invocations).hasValue(2);
+		assertThat(converting.invocations).hasValue(6);
+		assertThat(converter.getMissCount()).isEqualTo(2);
+		assertThat(converter.getHitCount()).isEqualTo(4);
+		assertThat(converter.getCacheSize()).isEqualTo(2);
+	}
+
+	@Test
+	void kindsOfMessagesWithoutConverterAreNotRemembered() {
+		CountingConverter declining = new ContentTypeBasedCountingConverter(false);
+		CachingCompositeMessageConverter converter = new CachingCompositeMessageConverter(List.of(declining));
+
+		assertThat(converter.fromMessage(this.message, String.class)).isNull();
+		assertThat(converter.fromMessage(this.message, String.class)).isNull();
+
+		assertThat(declining.invocations).hasValue(2);
+		assertThat(converter.getHitCount()).isZero();
+		assertThat(converter.getCacheSize()).isZero();
+	}
+
+	@Test
+	void converterIsNotRememberedBehindConvertersDecidingOnThePayload() {
+		CountingConverter declining = new CountingConverter(false);
+		CountingConverter converting = new CountingConverter(true);
+		CachingCompositeMessageConverter converter = new CachingCompositeMessageConverter(List.of(declining, converting));
+
+		assertThat(converter.fromMessage(this.message, String.class)).isEqualTo("converted");
+		declining.converts = true;
+		assertThat(converter.fromMessage(this.message, String.class)).isEqualTo("converted");
+
+		assertThat(declining.invocations).hasValue(2);
+		assertThat(converting.invocations).hasValue(1);
+		assertThat(converter.getHitCount()).isZero();
+	}
+
+	@Test
+	void resolutionsAreKeyedByTargetAndContentType() {
+		CountingConverter converting = new CountingConverter(true);
+		CachingCompositeMessageConverter converter = new CachingCompositeMessageConverter(List.of(converting));
+
+		converter.fromMessage(this.message, String.class);
+		converter.fromMessage(this.message, Object.class);
+		converter.fromMessage(MessageBuilder.fromMessage(this.message)
+			.setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+			.build(), String.class);
+
+		assertThat(converter.getMissCount()).isEqualTo(3);
+		assertThat(converter.getCacheSize()).isEqualTo(3);
+	}
+
+	@Test
+	void convertersAreProbedWhenResolvedConverterDeclines() {
+		CountingConverter first = new ContentTypeBasedCountingConverter(true);
+		CountingConverter second = new CountingConverter(true);
+		CachingCompositeMessageConverter converter = new CachingCompositeMessageConverter(List.of(first, second));
+
+		converter.fromMessage(this.message, String.class);
+		first.converts = false;
+
+		assertThat(converter.fromMessage(this.message, String.class)).isEqualTo("converted");
+		assertThat(second.invocations).hasValue(1);
+		assertThat(converter.getMissCount()).isEqualTo(2);
+
+		assertThat(converter.fromMessage(this.message, String.class)).isEqualTo("converted");
+		assertThat(first.invocations).hasValue(2);
+		assertThat(second.invocations).hasValue(2);
+	}
+
+	@Test
+	void cacheIsClearedWhenConvertersAreModified() {
+		CountingConverter converting = new CountingConverter(true);
+		CachingCompositeMessageConverter converter = new CachingCompositeMessageConverter(List.of(converting));
+		converter.fromMessage(this.message, String.class);
+		assertThat(converter.getCacheSize()).isEqualTo(1);
+
+		CountingConverter added = new CountingConverter(true);
+		converter.getConverters().add(0, added);
+
+		assertThat(converter.getCacheSize()).isZero();
+		converter.fromMessage(this.message, String.class);
+		assertThat(added.invocations).hasValue(1);
+		assertThat(converting.invocations).hasValue(1);
+	}
+
+	@Test
+	void cacheStateIsExposedAsMetrics() {
+		CachingCompositeMessageConverter converter = new CachingCompositeMessageConverter(
+				List.of(new CountingConverter(true)));
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new MessageConverterMetrics(converter).bindTo(registry);
+
+		for (int i = 0; i < 4; i++) {
+			converter.fromMessage(this.message, String.class);
+		}
+
+		assertThat(registry.get(MessageConverterMetrics.METRIC_PREFIX + ".cache.gets").tag("result", "hit")
+			.functionCounter().count()).isEqualTo(3);
+		assertThat(registry.get(MessageConverterMetrics.METRIC_PREFIX + ".cache.gets").tag("result", "miss")
+			.functionCounter().count()).isEqualTo(1);
+		assertThat(registry.get(MessageConverterMetrics.METRIC_PREFIX + ".cache.hit.ratio").gauge().value())
+			.isEqualTo(0.75);
+	}
+
+	private static class CountingConverter implements MessageConverter {
+
+		private final AtomicInteger invocations = new AtomicInteger();
+
+		private volatile boolean converts;
+
+		CountingConverter(boolean converts) {
+			this.converts = converts;
+		}
+
+		@Override
+		@Nullable
+		public Object fromMessage(Message<?> message, Class<?> targetClass) {
+			this.invocations.incrementAndGet();
+			return this.converts ? "converted" : null;
+		}
+
+		@Override
+		@Nullable
+		public Message<?> toMessage(Object payload, @Nullable MessageHeaders headers) {
+			this.invocations.incrementAndGet();
+			return this.converts ? MessageBuilder.withPayload(payload).build() : null;
+		}
+
+	}
+
+	private static final class ContentTypeBasedCountingConverter extends CountingConverter
+			implements ContentTypeBasedMessageConverter {
+
+		ContentTypeBasedCountingConverter(boolean converts) {
+			super(converts);
+		}
+
+	}
+
+}
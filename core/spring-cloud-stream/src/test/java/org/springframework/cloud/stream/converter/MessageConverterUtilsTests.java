@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.converter;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link MessageConverterUtils}.
+ */
+class MessageConverterUtilsTests {
+
+	@Test
+	void parsedMimeTypesAreShared() {
+		MimeType mimeType = MessageConverterUtils.parseMimeType("application/json;charset=UTF-8");
+
+		assertThat(mimeType).isEqualTo(MimeType.valueOf("application/json;charset=UTF-8"));
+		assertThat(MessageConverterUtils.parseMimeType(new String("application/json;charset=UTF-8")))
+			.isSameAs(mimeType);
+		assertThat(MessageConverterUtils.getMimeType("application/json;charset=UTF-8")).isSameAs(mimeType);
+	}
+
+	@Test
+	void javaTypeShorthandIsShared() {
+		MimeType mimeType = MessageConverterUtils.getMimeType("java.lang.String");
+
+		assertThat(mimeType).isEqualTo(MessageConverterUtils.javaObjectMimeType(String.class));
+		assertThat(MessageConverterUtils.getMimeType("java.lang.String")).isSameAs(mimeType);
+	}
+
+	@Test
+	void invalidMimeTypeIsRejected() {
+		assertThatExceptionOfType(InvalidMimeTypeException.class)
+			.isThrownBy(() -> MessageConverterUtils.parseMimeType("text"));
+	}
+
+	@Test
+	void contentTypeHeaderIsResolvedWhateverItsType() {
+		var converter = new CompositeMessageConverterFactory().getMessageConverterForAllRegistered();
+		byte[] payload = "hello".getBytes(StandardCharsets.UTF_8);
+
+		for (Object contentType : new Object[] { "text/plain", MimeType.valueOf("text/plain"),
+				"\"text/plain\"".getBytes(StandardCharsets.UTF_8) }) {
+			Message<byte[]> message = MessageBuilder.withPayload(payload)
+				.setHeader(MessageHeaders.CONTENT_TYPE, contentType)
+				.build();
+			assertThat(converter.fromMessage(message, String.class)).isEqualTo("hello");
+		}
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.function;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.stream.binder.BinderHeaders;
+import org.springframework.cloud.stream.function.StandardBatchUtils.BatchMessageBuilder;
+import org.springframework.messaging.Message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ColumnarBatchHeadersTests {
+
+	@Test
+	void rowsShareColumns() {
+		ColumnarBatchHeaders headers = new ColumnarBatchHeaders(2);
+		for (int i = 0; i < 100; i++) {
+			headers.add(Map.of("kafka_offset", (long) i, "kafka_receivedTopic", "orders"));
+		}
+		headers.add(Map.of("kafka_offset", 100L, "tenant", "acme"));
+
+		assertThat(headers).hasSize(101);
+		assertThat(headers.getHeaderNames()).containsExactlyInAnyOrder("kafka_offset", "kafka_receivedTopic", "tenant");
+		assertThat(headers.get(42)).isEqualTo(Map.of("kafka_offset", 42L, "kafka_receivedTopic", "orders"));
+		assertThat(headers.get(100)).isEqualTo(Map.of("kafka_offset", 100L, "tenant", "acme"));
+		assertThat(headers.get(100).get("kafka_receivedTopic")).isNull();
+		assertThat(headers.get(0).containsKey("tenant")).isFalse();
+	}
+
+	@Test
+	void rowsAreModifiable() {
+		ColumnarBatchHeaders headers = new ColumnarBatchHeaders();
+		Map<String, Object> first = new LinkedHashMap<>();
+		first.put("a", "1");
+		first.put("b", "2");
+		headers.add(first);
+		headers.add(Map.of("a", "3"));
+
+		Map<String, Object> row = headers.get(1);
+		row.put("c", "4");
+		row.remove("a");
+
+		assertThat(headers.get(1)).isEqualTo(Map.of("c", "4"));
+		assertThat(headers.get(0)).isEqualTo(Map.of("a", "1", "b", "2"));
+
+		Iterator<Map.Entry<String, Object>> entries = headers.get(0).entrySet().iterator();
+		entries.next().setValue("5");
+		entries.next();
+		entries.remove();
+		assertThat(headers.get(0)).isEqualTo(Map.of("a", "5"));
+	}
+
+	@Test
+	void headersCanOnlyBeAppended() {
+		ColumnarBatchHeaders headers = new ColumnarBatchHeaders();
+		headers.add(Map.of("a", "1"));
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> headers.add(0, Map.of()));
+		assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> headers.get(1));
+	}
+
+	@Test
+	void addedHeadersAreCopiedWithoutNullValues() {
+		ColumnarBatchHeaders headers = new ColumnarBatchHeaders();
+		Map<String, Object> added = new LinkedHashMap<>();
+		added.put("a", "1");
+		added.put("b", null);
+		headers.add(added);
+		added.put("a", "2");
+
+		assertThat(headers.get(0)).isEqualTo(Map.of("a", "1")).isNotSameAs(added);
+		assertThat(headers.get(0).containsKey("b")).isFalse();
+	}
+
+	@Test
+	void rowsCanBeReplaced() {
+		ColumnarBatchHeaders headers = new ColumnarBatchHeaders();
+		headers.add(Map.of("a", "1"));
+		Map<String, Object> previous = headers.set(0, new LinkedHashMap<>(Map.of("b", "2")));
+		assertThat(previous).isEqualTo(Map.of("a", "1"));
+		assertThat(headers.get(0)).isEqualTo(Map.of("b", "2"));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void batchMessageBuilderUsesColumnarHeaders() {
+		Message<List<Object>> batchMessage = new BatchMessageBuilder(2)
+			.addMessage("foo", Map.of("key", "foo"))
+			.addMessage("bar", Map.of("key", "bar"))
+			.build();
+
+		List<Map<String, Object>> batchHeaders = (List<Map<String, Object>>) batchMessage.getHeaders()
+			.get(BinderHeaders.BATCH_HEADERS);
+		assertThat(batchHeaders).isInstanceOf(ColumnarBatchHeaders.class);
+		assertThat(StandardBatchUtils.getMessageByIndex(batchMessage, 1).getValue()).containsEntry("key", "bar");
+	}
+
+}
@@ -16,9 +16,7 @@
 
 package org.springframework.cloud.stream.schema.registry.avro;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-
+import org.springframework.cloud.stream.converter.MessageConverterUtils;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.converter.ContentTypeResolver;
 import org.springframework.util.MimeType;
@@ -35,8 +33,6 @@ class OriginalContentTypeResolver implements ContentTypeResolver {
 
 	private static final String BINDER_ORIGINAL_CONTENT_TYPE = "originalContentType";
 
-	private ConcurrentMap<String, MimeType> mimeTypeCache = new ConcurrentHashMap<>();
-
 	@Override
 	public MimeType resolve(MessageHeaders headers) {
 		Object contentType = headers
@@ -48,11 +44,7 @@ class OriginalContentTypeResolver implements ContentTypeResolver {
 			mimeType = mimeContentType;
 		}
 		else if (contentType instanceof String valueAsString) {
-			mimeType = this.mimeTypeCache.get(contentType);
-			if (mimeType == null) {
-				mimeType = MimeType.valueOf(valueAsString);
-				this.mimeTypeCache.put(valueAsString, mimeType);
-			}
+			mimeType = MessageConverterUtils.parseMimeType(valueAsString);
 		}
 		return mimeType;
 	}